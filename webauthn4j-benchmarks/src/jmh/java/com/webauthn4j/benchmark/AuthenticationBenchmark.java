@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.authenticator.AuthenticatorImpl;
+import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.CollectedClientDataConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.AuthenticationRequest;
+import com.webauthn4j.data.attestation.authenticator.*;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.attestation.statement.NoneAttestationStatement;
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.util.ECUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.RSAUtil;
+import com.webauthn4j.util.SignatureUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.concurrent.TimeUnit;
+
+import static com.webauthn4j.data.attestation.authenticator.AuthenticatorData.BIT_UP;
+import static com.webauthn4j.data.attestation.authenticator.AuthenticatorData.BIT_UV;
+
+/**
+ * Measures the authentication ceremony for every supported COSE algorithm.
+ * <p>
+ * {@link com.webauthn4j.test.authenticator.webauthn.WebAuthnModelAuthenticator} only issues ES256 credentials,
+ * so assertions are assembled here in the same way the model authenticator does it, with a credential key pair
+ * of the benchmarked algorithm.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthenticationBenchmark {
+
+    @Param({"ES256", "ES384", "ES512", "RS1", "RS256", "RS384", "RS512"})
+    private String algorithm;
+
+    private WebAuthnManager webAuthnManager;
+    private AuthenticationRequest authenticationRequest;
+    private AuthenticationParameters authenticationParameters;
+    private AuthenticationData authenticationData;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        ObjectConverter objectConverter = new ObjectConverter();
+        webAuthnManager = WebAuthnManager.createNonStrictWebAuthnManager(objectConverter);
+
+        String rpId = "example.com";
+        Origin origin = new Origin("https://example.com");
+        Challenge challenge = new DefaultChallenge();
+        COSEAlgorithmIdentifier coseAlgorithmIdentifier = getCOSEAlgorithmIdentifier(algorithm);
+
+        KeyPair credentialKeyPair = createKeyPair(coseAlgorithmIdentifier);
+        COSEKey coseKey = createCOSEKey(credentialKeyPair, coseAlgorithmIdentifier);
+        byte[] credentialId = new byte[32];
+        AttestedCredentialData attestedCredentialData = new AttestedCredentialData(AAGUID.ZERO, credentialId, coseKey);
+        Authenticator authenticator = new AuthenticatorImpl(attestedCredentialData, new NoneAttestationStatement(), 0);
+
+        byte[] rpIdHash = MessageDigestUtil.createSHA256().digest(rpId.getBytes(StandardCharsets.UTF_8));
+        // signCount is fixed to zero as the validator updates the stored counter and the same assertion is replayed
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorDataObject =
+                new AuthenticatorData<>(rpIdHash, (byte) (BIT_UP | BIT_UV), 0);
+        byte[] authenticatorData = new AuthenticatorDataConverter(objectConverter).convert(authenticatorDataObject);
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.WEBAUTHN_GET, challenge, origin, null);
+        byte[] clientDataJSON = new CollectedClientDataConverter(objectConverter).convertToBytes(collectedClientData);
+        byte[] clientDataHash = MessageDigestUtil.createSHA256().digest(clientDataJSON);
+        byte[] signedData = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
+
+        Signature signer = SignatureUtil.createSignature(coseAlgorithmIdentifier.toSignatureAlgorithm().getJcaName());
+        signer.initSign(credentialKeyPair.getPrivate());
+        signer.update(signedData);
+        byte[] signature = signer.sign();
+
+        authenticationRequest = new AuthenticationRequest(credentialId, authenticatorData, clientDataJSON, signature);
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+        authenticationParameters = new AuthenticationParameters(serverProperty, authenticator, null, true);
+        authenticationData = webAuthnManager.parse(authenticationRequest);
+        // fail fast on a broken fixture rather than benchmarking the exception path
+        webAuthnManager.validate(authenticationData, authenticationParameters);
+    }
+
+    @Benchmark
+    public AuthenticationData parse() {
+        return webAuthnManager.parse(authenticationRequest);
+    }
+
+    @Benchmark
+    public AuthenticationData validate() {
+        return webAuthnManager.validate(authenticationData, authenticationParameters);
+    }
+
+    @Benchmark
+    public AuthenticationData parseAndValidate() {
+        return webAuthnManager.validate(authenticationRequest, authenticationParameters);
+    }
+
+    private static COSEAlgorithmIdentifier getCOSEAlgorithmIdentifier(String name) {
+        switch (name) {
+            case "ES256":
+                return COSEAlgorithmIdentifier.ES256;
+            case "ES384":
+                return COSEAlgorithmIdentifier.ES384;
+            case "ES512":
+                return COSEAlgorithmIdentifier.ES512;
+            case "RS1":
+                return COSEAlgorithmIdentifier.RS1;
+            case "RS256":
+                return COSEAlgorithmIdentifier.RS256;
+            case "RS384":
+                return COSEAlgorithmIdentifier.RS384;
+            case "RS512":
+                return COSEAlgorithmIdentifier.RS512;
+            default:
+                throw new IllegalArgumentException("Unknown COSE algorithm: " + name);
+        }
+    }
+
+    private static KeyPair createKeyPair(COSEAlgorithmIdentifier alg) {
+        if (COSEAlgorithmIdentifier.ES256.equals(alg)) {
+            return ECUtil.createKeyPair(ECUtil.P_256_SPEC);
+        }
+        else if (COSEAlgorithmIdentifier.ES384.equals(alg)) {
+            return ECUtil.createKeyPair(ECUtil.P_384_SPEC);
+        }
+        else if (COSEAlgorithmIdentifier.ES512.equals(alg)) {
+            return ECUtil.createKeyPair(ECUtil.P_521_SPEC);
+        }
+        else {
+            return RSAUtil.createKeyPair();
+        }
+    }
+
+    private static COSEKey createCOSEKey(KeyPair keyPair, COSEAlgorithmIdentifier alg) {
+        if (keyPair.getPublic() instanceof ECPublicKey) {
+            return EC2COSEKey.create((ECPublicKey) keyPair.getPublic(), alg);
+        }
+        else {
+            return RSACOSEKey.create((RSAPublicKey) keyPair.getPublic(), alg);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.anchor.SimpleTrustAnchorsProvider;
+import com.webauthn4j.anchor.TrustAnchorsResolverImpl;
+import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientInput;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.EmulatorUtil;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.test.authenticator.AuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.webauthn.WebAuthnAuthenticatorAdaptor;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.validator.attestation.statement.androidkey.AndroidKeyAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.androidsafetynet.AndroidSafetyNetAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.none.NoneAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.packed.PackedAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.tpm.TPMAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.u2f.FIDOU2FAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.certpath.TrustAnchorCertPathTrustworthinessValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.self.DefaultSelfAttestationTrustworthinessValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.cert.TrustAnchor;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the registration ceremony for every attestation statement format the test authenticators can emit.
+ * Attestation certificate paths are verified against the 2-tier and 3-tier test root CAs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistrationBenchmark {
+
+    @Param({"none", "packed", "fido-u2f", "android-key", "android-safetynet", "tpm"})
+    private String format;
+
+    private WebAuthnManager webAuthnManager;
+    private RegistrationRequest registrationRequest;
+    private RegistrationParameters registrationParameters;
+    private RegistrationData registrationData;
+
+    @Setup
+    public void setup() {
+        ObjectConverter objectConverter = new ObjectConverter();
+
+        AndroidSafetyNetAttestationStatementValidator androidSafetyNetAttestationStatementValidator = new AndroidSafetyNetAttestationStatementValidator();
+        // the SafetyNet response is generated once in setup, so it must stay fresh for the whole run
+        androidSafetyNetAttestationStatementValidator.setBackwardThreshold((int) TimeUnit.DAYS.toSeconds(1));
+        Set<TrustAnchor> trustAnchors = new HashSet<>();
+        trustAnchors.add(new TrustAnchor(TestAttestationUtil.load2tierTestRootCACertificate(), null));
+        trustAnchors.add(new TrustAnchor(TestAttestationUtil.load3tierTestRootCACertificate(), null));
+        webAuthnManager = new WebAuthnManager(
+                Arrays.asList(
+                        new NoneAttestationStatementValidator(),
+                        new PackedAttestationStatementValidator(),
+                        new FIDOU2FAttestationStatementValidator(),
+                        new AndroidKeyAttestationStatementValidator(),
+                        androidSafetyNetAttestationStatementValidator,
+                        new TPMAttestationStatementValidator()
+                ),
+                new TrustAnchorCertPathTrustworthinessValidator(new TrustAnchorsResolverImpl(new SimpleTrustAnchorsProvider(trustAnchors))),
+                new DefaultSelfAttestationTrustworthinessValidator(),
+                objectConverter
+        );
+
+        String rpId = "example.com";
+        Origin origin = new Origin("http://localhost");
+        Challenge challenge = new DefaultChallenge();
+        ClientPlatform clientPlatform = new ClientPlatform(origin, createAuthenticatorAdaptor(format));
+        AttestationConveyancePreference attestationConveyancePreference =
+                "none".equals(format) ? AttestationConveyancePreference.NONE : AttestationConveyancePreference.DIRECT;
+
+        AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
+                new AuthenticatorSelectionCriteria(
+                        AuthenticatorAttachment.CROSS_PLATFORM,
+                        true,
+                        UserVerificationRequirement.REQUIRED);
+        PublicKeyCredentialParameters publicKeyCredentialParameters = new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256);
+        AuthenticationExtensionsClientInputs<RegistrationExtensionClientInput> extensions = new AuthenticationExtensionsClientInputs<>();
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(rpId, "example.com"),
+                new PublicKeyCredentialUserEntity(new byte[32], "username", "displayName"),
+                challenge,
+                Collections.singletonList(publicKeyCredentialParameters),
+                null,
+                Collections.emptyList(),
+                authenticatorSelectionCriteria,
+                attestationConveyancePreference,
+                extensions
+        );
+
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential = clientPlatform.create(credentialCreationOptions);
+        AuthenticatorAttestationResponse authenticatorAttestationResponse = credential.getAuthenticatorResponse();
+        String clientExtensionJSON = new AuthenticationExtensionsClientOutputsConverter(objectConverter).convertToString(credential.getClientExtensionResults());
+        registrationRequest = new RegistrationRequest(
+                authenticatorAttestationResponse.getAttestationObject(),
+                authenticatorAttestationResponse.getClientDataJSON(),
+                clientExtensionJSON,
+                Collections.emptySet()
+        );
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+        registrationParameters = new RegistrationParameters(serverProperty, null, false, true);
+        registrationData = webAuthnManager.parse(registrationRequest);
+        // fail fast on a broken fixture rather than benchmarking the exception path
+        webAuthnManager.validate(registrationData, registrationParameters);
+    }
+
+    @Benchmark
+    public RegistrationData parse() {
+        return webAuthnManager.parse(registrationRequest);
+    }
+
+    @Benchmark
+    public RegistrationData validate() {
+        return webAuthnManager.validate(registrationData, registrationParameters);
+    }
+
+    @Benchmark
+    public RegistrationData parseAndValidate() {
+        return webAuthnManager.validate(registrationRequest, registrationParameters);
+    }
+
+    private static AuthenticatorAdaptor createAuthenticatorAdaptor(String format) {
+        switch (format) {
+            case "none":
+            case "packed":
+                return new WebAuthnAuthenticatorAdaptor(EmulatorUtil.PACKED_AUTHENTICATOR);
+            case "fido-u2f":
+                return new FIDOU2FAuthenticatorAdaptor(EmulatorUtil.FIDO_U2F_AUTHENTICATOR);
+            case "android-key":
+                return new WebAuthnAuthenticatorAdaptor(EmulatorUtil.ANDROID_KEY_AUTHENTICATOR);
+            case "android-safetynet":
+                return new WebAuthnAuthenticatorAdaptor(EmulatorUtil.ANDROID_SAFETY_NET_AUTHENTICATOR);
+            case "tpm":
+                return new WebAuthnAuthenticatorAdaptor(EmulatorUtil.TPM_AUTHENTICATOR);
+            default:
+                throw new IllegalArgumentException("Unknown attestation statement format: " + format);
+        }
+    }
+}
@@ -21,6 +21,8 @@ import com.webauthn4j.converter.AuthenticatorDataConverter;
 import com.webauthn4j.converter.CollectedClientDataConverter;
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationBatchItem;
+import com.webauthn4j.data.AuthenticationBatchResult;
 import com.webauthn4j.data.AuthenticationData;
 import com.webauthn4j.data.AuthenticationParameters;
 import com.webauthn4j.data.AuthenticationRequest;
@@ -35,8 +37,16 @@ import com.webauthn4j.validator.CustomAuthenticationValidator;
 import com.webauthn4j.validator.exception.ValidationException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 
 public class WebAuthnAuthenticationManager {
 
@@ -109,6 +119,32 @@ public class WebAuthnAuthenticationManager {
         return authenticationData;
     }
 
+    /**
+     * Parses and validates the authentication request asynchronously on the specified {@link Executor}.
+     * If the request is invalid, the returned {@link CompletionStage} completes exceptionally with the {@link DataConversionException}
+     * or {@link ValidationException} itself; its dependent stages receive it wrapped in a {@link java.util.concurrent.CompletionException}.
+     * Authentication validation is CPU bound (signature verification), but custom authentication validators may do I/O, so
+     * pass an executor suitable for the validators configured on this manager.
+     *
+     * @param authenticationRequest authentication request
+     * @param authenticationParameters authentication parameters
+     * @param executor executor to run parsing and validation on
+     * @return {@link CompletionStage} of the validated {@link AuthenticationData}
+     */
+    public @NonNull CompletionStage<AuthenticationData> validateAsync(@NonNull AuthenticationRequest authenticationRequest, @NonNull AuthenticationParameters authenticationParameters, @NonNull Executor executor) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        CompletableFuture<AuthenticationData> future = new CompletableFuture<>();
+        // completed directly, so that the stage itself carries the unwrapped exception
+        executor.execute(() -> {
+            try {
+                future.complete(validate(authenticationRequest, authenticationParameters));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
     @SuppressWarnings("squid:S1130")
     public @NonNull AuthenticationData validate(
             @NonNull AuthenticationData authenticationData,
@@ -117,6 +153,70 @@ public class WebAuthnAuthenticationManager {
         return authenticationData;
     }
 
+    /**
+     * Parses and validates a batch of authentication requests in parallel on {@link ForkJoinPool#commonPool()}.
+     *
+     * @param items pairs of {@link AuthenticationRequest} and {@link AuthenticationParameters}
+     * @return per-item results in the same order as {@code items}
+     * @see #validateBatch(List, Executor)
+     */
+    public @NonNull List<AuthenticationBatchResult> validateBatch(@NonNull List<AuthenticationBatchItem> items) {
+        return validateBatch(items, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses and validates a batch of authentication requests in parallel on the specified {@link Executor}.
+     * Each item is validated independently: a {@link DataConversionException}, {@link ValidationException} or any other
+     * {@link RuntimeException} thrown for one item is captured in its {@link AuthenticationBatchResult} and does not affect
+     * the other items. Items the executor rejects are captured the same way, while {@link Error}s are propagated.
+     * As the counter of the {@link com.webauthn4j.authenticator.Authenticator} is updated during validation,
+     * items sharing the same {@link com.webauthn4j.authenticator.Authenticator} instance should not be in the same batch.
+     *
+     * @param items    pairs of {@link AuthenticationRequest} and {@link AuthenticationParameters}
+     * @param executor executor to run validations on. On Java 21 or later, a virtual thread per task executor can be passed.
+     * @return per-item results in the same order as {@code items}
+     */
+    public @NonNull List<AuthenticationBatchResult> validateBatch(@NonNull List<AuthenticationBatchItem> items, @NonNull Executor executor) {
+        AssertUtil.notNull(items, "items must not be null");
+        AssertUtil.notNull(executor, "executor must not be null");
+
+        // checked up front, so that no item is submitted when the batch is rejected
+        for (AuthenticationBatchItem item : items) {
+            AssertUtil.notNull(item, "items must not contain null");
+        }
+        List<CompletableFuture<AuthenticationBatchResult>> futures = new ArrayList<>(items.size());
+        for (AuthenticationBatchItem item : items) {
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> validateBatchItem(item), executor));
+            } catch (RejectedExecutionException e) {
+                futures.add(CompletableFuture.completedFuture(AuthenticationBatchResult.failure(e)));
+            }
+        }
+        List<AuthenticationBatchResult> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<AuthenticationBatchResult> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                // validateBatchItem captures RuntimeExceptions, so only Errors complete the future exceptionally
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            } catch (CancellationException e) {
+                results.add(AuthenticationBatchResult.failure(e));
+            }
+        }
+        return results;
+    }
+
+    private @NonNull AuthenticationBatchResult validateBatchItem(@NonNull AuthenticationBatchItem item) {
+        try {
+            return AuthenticationBatchResult.success(validate(item.getAuthenticationRequest(), item.getAuthenticationParameters()));
+        } catch (RuntimeException e) {
+            return AuthenticationBatchResult.failure(e);
+        }
+    }
+
     public @NonNull AuthenticationDataValidator getAuthenticationDataValidator() {
         return authenticationDataValidator;
     }
@@ -41,6 +41,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class WebAuthnManager {
 
@@ -156,6 +158,10 @@ public class WebAuthnManager {
         return this.webAuthnRegistrationManager.validate(registrationRequest, registrationParameters);
     }
 
+    public @NonNull CompletionStage<RegistrationData> validateAsync(@NonNull RegistrationRequest registrationRequest, @NonNull RegistrationParameters registrationParameters, @NonNull Executor executor) {
+        return this.webAuthnRegistrationManager.validateAsync(registrationRequest, registrationParameters, executor);
+    }
+
     @SuppressWarnings("squid:S1130")
     public @NonNull RegistrationData validate(@NonNull RegistrationData registrationData, @NonNull RegistrationParameters registrationParameters) throws ValidationException {
         return this.webAuthnRegistrationManager.validate(registrationData, registrationParameters);
@@ -171,11 +177,22 @@ public class WebAuthnManager {
         return this.webAuthnAuthenticationManager.validate(authenticationRequest, authenticationParameters);
     }
 
+    public @NonNull CompletionStage<AuthenticationData> validateAsync(@NonNull AuthenticationRequest authenticationRequest, @NonNull AuthenticationParameters authenticationParameters, @NonNull Executor executor) {
+        return this.webAuthnAuthenticationManager.validateAsync(authenticationRequest, authenticationParameters, executor);
+    }
+
     @SuppressWarnings("squid:S1130")
     public @NonNull AuthenticationData validate(@NonNull AuthenticationData authenticationData, @NonNull AuthenticationParameters authenticationParameters) throws ValidationException {
         return this.webAuthnAuthenticationManager.validate(authenticationData, authenticationParameters);
     }
 
+    public @NonNull List<AuthenticationBatchResult> validateBatch(@NonNull List<AuthenticationBatchItem> items) {
+        return this.webAuthnAuthenticationManager.validateBatch(items);
+    }
+
+    public @NonNull List<AuthenticationBatchResult> validateBatch(@NonNull List<AuthenticationBatchItem> items, @NonNull Executor executor) {
+        return this.webAuthnAuthenticationManager.validateBatch(items, executor);
+    }
 
     public @NonNull RegistrationDataValidator getRegistrationDataValidator() {
         return this.webAuthnRegistrationManager.getRegistrationDataValidator();
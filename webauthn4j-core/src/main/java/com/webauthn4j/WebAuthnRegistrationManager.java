@@ -52,6 +52,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class WebAuthnRegistrationManager {
 
@@ -199,6 +202,32 @@ public class WebAuthnRegistrationManager {
         return registrationData;
     }
 
+    /**
+     * Parses and validates the registration request asynchronously on the specified {@link Executor}.
+     * If the request is invalid, the returned {@link CompletionStage} completes exceptionally with the {@link DataConversionException}
+     * or {@link ValidationException} itself; its dependent stages receive it wrapped in a {@link java.util.concurrent.CompletionException}.
+     * Attestation trustworthiness validation may block on the configured trust anchor or metadata providers while they load
+     * or refresh, so pass an executor suitable for blocking work rather than an event-loop.
+     *
+     * @param registrationRequest registration request
+     * @param registrationParameters registration parameters
+     * @param executor executor to run parsing and validation on
+     * @return {@link CompletionStage} of the validated {@link RegistrationData}
+     */
+    public @NonNull CompletionStage<RegistrationData> validateAsync(@NonNull RegistrationRequest registrationRequest, @NonNull RegistrationParameters registrationParameters, @NonNull Executor executor) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        CompletableFuture<RegistrationData> future = new CompletableFuture<>();
+        // completed directly, so that the stage itself carries the unwrapped exception
+        executor.execute(() -> {
+            try {
+                future.complete(validate(registrationRequest, registrationParameters));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
     @SuppressWarnings("squid:S1130")
     public @NonNull RegistrationData validate(@NonNull RegistrationData registrationData, @NonNull RegistrationParameters registrationParameters) throws ValidationException {
         registrationDataValidator.validate(registrationData, registrationParameters);
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.*;
+
+/**
+ * Immutable index which resolves, for an {@link AAGUID}, the union of the elements registered for {@link AAGUID#NULL}
+ * and the elements registered for the {@link AAGUID} itself.
+ * Merged sets are precomputed on construction and looked up with an open addressing table keyed on the two {@code long}
+ * halves of the AAGUID, so a lookup is a single hash probe without allocation.
+ *
+ * @param <E> element type
+ */
+public final class AAGUIDIndex<E> {
+
+    private final Map<AAGUID, ? extends Collection<E>> source;
+    private final int sourceSize;
+    private final Set<E> commonElements;
+    private final long[] mostSignificantBits;
+    private final long[] leastSignificantBits;
+    private final Object[] mergedElements;
+    private final int mask;
+
+    private AAGUIDIndex(@NonNull Map<AAGUID, ? extends Collection<E>> source) {
+        this.source = source;
+        this.sourceSize = source.size();
+        Collection<E> common = source.get(AAGUID.NULL);
+        this.commonElements = common == null ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(common));
+
+        int capacity = Integer.highestOneBit(Math.max(source.size(), 1) * 2 - 1) << 1;
+        this.mostSignificantBits = new long[capacity];
+        this.leastSignificantBits = new long[capacity];
+        this.mergedElements = new Object[capacity];
+        this.mask = capacity - 1;
+
+        for (Map.Entry<AAGUID, ? extends Collection<E>> entry : source.entrySet()) {
+            // null keys are never matched by lookups, as before the index was introduced
+            if (entry.getKey() == null || entry.getKey().getValue() == null) {
+                continue;
+            }
+            UUID uuid = entry.getKey().getValue();
+            Set<E> merged = new HashSet<>(commonElements);
+            merged.addAll(entry.getValue());
+            int slot = findSlot(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+            mostSignificantBits[slot] = uuid.getMostSignificantBits();
+            leastSignificantBits[slot] = uuid.getLeastSignificantBits();
+            mergedElements[slot] = Collections.unmodifiableSet(merged);
+        }
+    }
+
+    /**
+     * Builds an index from an {@link AAGUID} key element {@link Collection} value {@link Map}
+     *
+     * @param source source map
+     * @param <E>    element type
+     * @return index
+     */
+    public static <E> @NonNull AAGUIDIndex<E> create(@NonNull Map<AAGUID, ? extends Collection<E>> source) {
+        AssertUtil.notNull(source, "source must not be null");
+        return new AAGUIDIndex<>(source);
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Returns the unmodifiable union of the elements for {@link AAGUID#NULL} and the elements for the specified {@link AAGUID}
+     *
+     * @param aaguid {@link AAGUID}
+     * @return merged elements
+     */
+    @SuppressWarnings("unchecked")
+    public @NonNull Set<E> get(@NonNull AAGUID aaguid) {
+        UUID uuid = aaguid.getValue();
+        if (uuid == null) {
+            return commonElements;
+        }
+        Object merged = mergedElements[findSlot(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits())];
+        return merged == null ? commonElements : (Set<E>) merged;
+    }
+
+    /**
+     * Returns the map this index was built from, which can be used to detect a new snapshot by identity
+     *
+     * @return source map
+     */
+    public @NonNull Map<AAGUID, ? extends Collection<E>> getSource() {
+        return source;
+    }
+
+    /**
+     * Returns whether this index is still up to date for the map returned by a provider. A different map instance is
+     * a new snapshot; a changed size is a cheap guard against providers which mutate their map in place.
+     *
+     * @param map map returned by the provider
+     * @return true if this index was built from the map and its size is unchanged
+     */
+    public boolean isBuiltFrom(@NonNull Map<AAGUID, ? extends Collection<E>> map) {
+        return source == map && sourceSize == map.size();
+    }
+
+    private int findSlot(long msb, long lsb) {
+        long hash = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while (mergedElements[slot] != null && (mostSignificantBits[slot] != msb || leastSignificantBits[slot] != lsb)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
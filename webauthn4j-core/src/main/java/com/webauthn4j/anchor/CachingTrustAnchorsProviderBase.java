@@ -17,21 +17,37 @@
 package com.webauthn4j.anchor;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.security.cert.TrustAnchor;
-import java.util.Map;
-import java.util.Set;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * An abstract {@link TrustAnchorsProvider} implementation that provides caching functionality
+ * An abstract {@link TrustAnchorsProvider} implementation that provides caching functionality.
+ * Loaded {@link TrustAnchor}s are held as an immutable, versioned snapshot. The first load is performed exactly once
+ * even under contention, and {@link #refresh()} publishes a new snapshot with an atomic swap, so readers never block
+ * on a refresh nor see a half-built map. When refreshes overlap, a load started earlier never replaces the result of a
+ * load started later.
  */
 public abstract class CachingTrustAnchorsProviderBase implements TrustAnchorsProvider {
 
     // ~ Instance fields
     // ================================================================================================
 
-    private Map<AAGUID, Set<TrustAnchor>> cachedTrustAnchors;
+    private final Logger logger = LoggerFactory.getLogger(CachingTrustAnchorsProviderBase.class);
+
+    private final Object loadLock = new Object();
+    private final AtomicLong loadSequence = new AtomicLong();
+    private final AtomicReference<CompletableFuture<Map<AAGUID, Set<TrustAnchor>>>> ongoingRefresh = new AtomicReference<>();
+    private volatile @Nullable Snapshot snapshot;
 
     // ~ Methods
     // ========================================================================================================
@@ -43,12 +59,104 @@ public abstract class CachingTrustAnchorsProviderBase implements TrustAnchorsPro
      */
     @Override
     public @NonNull Map<AAGUID, Set<TrustAnchor>> provide() {
-        if (cachedTrustAnchors == null) {
-            synchronized (this) {
-                cachedTrustAnchors = loadTrustAnchors();
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (loadLock) {
+                current = snapshot;
+                if (current == null) {
+                    long sequence = loadSequence.incrementAndGet();
+                    current = new Snapshot(1, sequence, loadTrustAnchors());
+                    snapshot = current;
+                }
+            }
+        }
+        return current.trustAnchors;
+    }
+
+    /**
+     * Reloads {@link TrustAnchor}s on the calling thread and publishes them as a new snapshot.
+     * If loading fails, the current snapshot is kept and the exception is propagated. If a refresh started later has
+     * already published its result, the result of this one is discarded and the current snapshot is returned.
+     *
+     * @return the current {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map} after the refresh
+     */
+    public @NonNull Map<AAGUID, Set<TrustAnchor>> refresh() {
+        // the sequence is taken before loading, so that overlapping refreshes are published in the order they started
+        long sequence = loadSequence.incrementAndGet();
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = loadTrustAnchors();
+        synchronized (loadLock) {
+            Snapshot current = snapshot;
+            if (current != null && current.loadSequence > sequence) {
+                return current.trustAnchors;
             }
+            Snapshot next = new Snapshot(current == null ? 1 : current.version + 1, sequence, trustAnchors);
+            snapshot = next;
+            return next.trustAnchors;
+        }
+    }
+
+    /**
+     * Reloads {@link TrustAnchor}s on the specified {@link Executor} and publishes them as a new snapshot.
+     * While a refresh is in flight, further calls join it instead of starting another load.
+     *
+     * @param executor {@link Executor} to run the load on
+     * @return {@link CompletableFuture} completed with the newly published map, or exceptionally if loading fails
+     */
+    public @NonNull CompletableFuture<Map<AAGUID, Set<TrustAnchor>>> refreshAsync(@NonNull Executor executor) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        CompletableFuture<Map<AAGUID, Set<TrustAnchor>>> future = new CompletableFuture<>();
+        while (!ongoingRefresh.compareAndSet(null, future)) {
+            CompletableFuture<Map<AAGUID, Set<TrustAnchor>>> ongoing = ongoingRefresh.get();
+            if (ongoing != null) {
+                return ongoing;
+            }
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(refresh());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    ongoingRefresh.compareAndSet(future, null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            ongoingRefresh.compareAndSet(future, null);
+            future.completeExceptionally(e);
         }
-        return cachedTrustAnchors;
+        return future;
+    }
+
+    /**
+     * Schedules periodic background refresh. A failed refresh is logged and the current snapshot is kept.
+     *
+     * @param scheduler {@link ScheduledExecutorService} to run refresh on
+     * @param interval  refresh interval
+     * @return {@link ScheduledFuture} which can be used to cancel the periodic refresh
+     */
+    public @NonNull ScheduledFuture<?> scheduleRefresh(@NonNull ScheduledExecutorService scheduler, @NonNull Duration interval) {
+        AssertUtil.notNull(scheduler, "scheduler must not be null");
+        AssertUtil.notNull(interval, "interval must not be null");
+        AssertUtil.isTrue(!interval.isNegative() && !interval.isZero(), "interval must be positive");
+        long intervalMillis = interval.toMillis();
+        return scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to refresh TrustAnchors", e);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the version of the current snapshot, which is incremented on every successful refresh
+     *
+     * @return snapshot version, or 0 if nothing has been loaded yet
+     */
+    public long getSnapshotVersion() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.version;
     }
 
     /**
@@ -57,4 +165,19 @@ public abstract class CachingTrustAnchorsProviderBase implements TrustAnchorsPro
      * @return {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map}
      */
     protected abstract @NonNull Map<AAGUID, Set<TrustAnchor>> loadTrustAnchors();
+
+    private static class Snapshot {
+
+        private final long version;
+        private final long loadSequence;
+        private final Map<AAGUID, Set<TrustAnchor>> trustAnchors;
+
+        Snapshot(long version, long loadSequence, @NonNull Map<AAGUID, Set<TrustAnchor>> trustAnchors) {
+            this.version = version;
+            this.loadSequence = loadSequence;
+            Map<AAGUID, Set<TrustAnchor>> map = new HashMap<>();
+            trustAnchors.forEach((aaguid, set) -> map.put(aaguid, Collections.unmodifiableSet(new HashSet<>(set))));
+            this.trustAnchors = Collections.unmodifiableMap(map);
+        }
+    }
 }
@@ -22,11 +22,13 @@ import com.webauthn4j.util.CertificateUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -72,14 +74,25 @@ public class CertFileTrustAnchorsProvider extends CachingTrustAnchorsProviderBas
 
     private @NonNull TrustAnchor loadTrustAnchor(@NonNull Path certificate) {
         AssertUtil.notNull(certificate, CERTIFICATES_MUST_NOT_BE_NULL);
-        try {
-            X509Certificate x509Certificate = CertificateUtil.generateX509Certificate(Files.newInputStream(certificate));
+        try (InputStream inputStream = Files.newInputStream(certificate)) {
+            X509Certificate x509Certificate = CertificateUtil.generateX509Certificate(inputStream);
             return new TrustAnchor(x509Certificate, null);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Starts watching the certificate files and refreshes in the background when they change
+     *
+     * @param debounce quiet period to wait for after the last change before refreshing
+     * @return {@link FileWatchingReloader}, which exposes reload metrics and must be closed to stop watching
+     */
+    public @NonNull FileWatchingReloader watch(@NonNull Duration debounce) {
+        checkConfig();
+        return new FileWatchingReloader(certificates, this::refresh, debounce);
+    }
+
     public @NonNull List<Path> getCertificates() {
         return certificates;
     }
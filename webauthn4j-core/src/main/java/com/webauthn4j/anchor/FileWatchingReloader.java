@@ -0,0 +1,189 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Watches files with {@link WatchService} and runs a reload action on a background thread when they change.
+ * Bursts of change events, like an editor writing a file in several steps, are debounced into a single reload.
+ * The reload action is expected to publish its result atomically, so that the validation path never waits for it.
+ */
+public class FileWatchingReloader implements Closeable {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Logger logger = LoggerFactory.getLogger(FileWatchingReloader.class);
+
+    private final Map<Path, Set<Path>> watchedFileNames = new HashMap<>();
+    private final Runnable reloadAction;
+    private final long debounceMillis;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private final AtomicLong reloadCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private volatile @Nullable Duration lastReloadLatency;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    /**
+     * Starts watching the specified files
+     *
+     * @param files        files to watch
+     * @param reloadAction action to run when any of the files is created, modified or deleted
+     * @param debounce     quiet period to wait for after the last change event before reloading
+     */
+    public FileWatchingReloader(@NonNull Collection<Path> files, @NonNull Runnable reloadAction, @NonNull Duration debounce) {
+        AssertUtil.notNull(files, "files must not be null");
+        AssertUtil.notNull(reloadAction, "reloadAction must not be null");
+        AssertUtil.notNull(debounce, "debounce must not be null");
+        AssertUtil.isTrue(!debounce.isNegative(), "debounce must not be negative");
+        this.reloadAction = reloadAction;
+        this.debounceMillis = debounce.toMillis();
+
+        for (Path file : files) {
+            Path absolutePath = file.toAbsolutePath();
+            Path directory = absolutePath.getParent();
+            AssertUtil.notNull(directory, "files must have a parent directory");
+            watchedFileNames.computeIfAbsent(directory, key -> new HashSet<>()).add(absolutePath.getFileName());
+        }
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+            for (Path directory : watchedFileNames.keySet()) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to watch files", e);
+        }
+
+        this.thread = new Thread(this::watch, "webauthn4j-file-watching-reloader");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    private void watch() {
+        try {
+            while (true) {
+                if (!isRelevant(watchService.take())) {
+                    continue;
+                }
+                // wait until no relevant event arrives within the debounce period; unrelated files in the same
+                // directory must not postpone the reload
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0) {
+                    WatchKey watchKey = watchService.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (watchKey == null) {
+                        break;
+                    }
+                    if (isRelevant(watchKey)) {
+                        deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+                    }
+                }
+                reload();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private boolean isRelevant(@NonNull WatchKey watchKey) {
+        Set<Path> fileNames = watchedFileNames.getOrDefault((Path) watchKey.watchable(), Collections.emptySet());
+        boolean relevant = false;
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            // on overflow, events may have been lost, so reload to be safe
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileNames.contains((Path) event.context())) {
+                relevant = true;
+            }
+        }
+        watchKey.reset();
+        return relevant;
+    }
+
+    private void reload() {
+        long start = System.nanoTime();
+        try {
+            reloadAction.run();
+            reloadCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            failureCount.incrementAndGet();
+            logger.warn("Failed to reload watched files", e);
+        } finally {
+            lastReloadLatency = Duration.ofNanos(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns the number of successful reloads
+     *
+     * @return the number of successful reloads
+     */
+    public long getReloadCount() {
+        return reloadCount.get();
+    }
+
+    /**
+     * Returns the number of failed reloads. The previously loaded data is kept on failure.
+     *
+     * @return the number of failed reloads
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * Returns the duration of the last reload, regardless of its result
+     *
+     * @return the duration of the last reload, or null if no reload has run yet
+     */
+    public @Nullable Duration getLastReloadLatency() {
+        return lastReloadLatency;
+    }
+
+    /**
+     * Stops watching files
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
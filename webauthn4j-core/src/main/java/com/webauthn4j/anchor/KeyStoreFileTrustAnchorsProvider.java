@@ -31,6 +31,7 @@ import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.*;
 
 /**
@@ -74,6 +75,18 @@ public class KeyStoreFileTrustAnchorsProvider extends CachingTrustAnchorsProvide
         }
     }
 
+    /**
+     * Starts watching the keyStore file and refreshes in the background when it changes
+     *
+     * @param debounce quiet period to wait for after the last change before refreshing
+     * @return {@link FileWatchingReloader}, which exposes reload metrics and must be closed to stop watching
+     */
+    public @NonNull FileWatchingReloader watch(@NonNull Duration debounce) {
+        checkConfig();
+        //noinspection ConstantConditions as null check is already done in checkConfig
+        return new FileWatchingReloader(Collections.singletonList(getKeyStore()), this::refresh, debounce);
+    }
+
     private @NonNull KeyStore loadKeyStoreFromStream(@NonNull InputStream inputStream, @NonNull String password)
             throws CertificateException, NoSuchAlgorithmException, IOException {
         KeyStore keyStoreObject = CertificateUtil.createKeyStore();
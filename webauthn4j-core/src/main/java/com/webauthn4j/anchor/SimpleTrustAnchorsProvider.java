@@ -17,19 +17,29 @@
 package com.webauthn4j.anchor;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.security.cert.TrustAnchor;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * {@link TrustAnchorsProvider} which provides a fixed set of {@link TrustAnchor}s for any AAGUID.
+ * The set is copied on construction, so changes made to the passed set afterwards are not reflected.
+ * To change trust anchors at runtime, use a provider which publishes a new map on change, such as
+ * {@link CachingTrustAnchorsProviderBase} subclasses.
+ */
 public class SimpleTrustAnchorsProvider implements TrustAnchorsProvider {
 
     private final Map<AAGUID, Set<TrustAnchor>> trustAnchors;
 
     public SimpleTrustAnchorsProvider(Set<TrustAnchor> anchors) {
-        this.trustAnchors = Collections.singletonMap(AAGUID.NULL, anchors);
+        AssertUtil.notNull(anchors, "anchors must not be null");
+        // resolvers cache per map instance, so the set is snapshotted rather than referenced
+        this.trustAnchors = Collections.singletonMap(AAGUID.NULL, Collections.unmodifiableSet(new HashSet<>(anchors)));
     }
 
     @Override
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.security.cert.TrustAnchor;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link CachingTrustAnchorsProviderBase} which takes snapshots of another {@link TrustAnchorsProvider}.
+ * Useful for providers which rebuild the map on every call, like {@code MetadataStatementsTrustAnchorsProvider}.
+ * Providers extending {@link CachingTrustAnchorsProviderBase} don't need to be wrapped as they support refresh by themselves.
+ */
+public class SnapshotTrustAnchorsProvider extends CachingTrustAnchorsProviderBase {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final TrustAnchorsProvider trustAnchorsProvider;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    public SnapshotTrustAnchorsProvider(@NonNull TrustAnchorsProvider trustAnchorsProvider) {
+        AssertUtil.notNull(trustAnchorsProvider, "trustAnchorsProvider must not be null");
+        this.trustAnchorsProvider = trustAnchorsProvider;
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NonNull Map<AAGUID, Set<TrustAnchor>> loadTrustAnchors() {
+        return trustAnchorsProvider.provide();
+    }
+}
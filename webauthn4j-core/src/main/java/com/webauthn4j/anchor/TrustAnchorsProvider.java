@@ -29,7 +29,10 @@ import java.util.Set;
 public interface TrustAnchorsProvider {
 
     /**
-     * Provides {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map}
+     * Provides {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map}.
+     * The returned map and its sets must not be modified afterwards; return a new map to publish changes. Consumers
+     * such as {@link TrustAnchorsResolverImpl} detect a new snapshot by the identity of the returned map, and only
+     * rebuild for a map modified in place when its size changes.
      *
      * @return {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map}
      */
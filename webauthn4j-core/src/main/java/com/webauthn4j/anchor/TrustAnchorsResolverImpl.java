@@ -19,15 +19,16 @@ package com.webauthn4j.anchor;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.security.cert.TrustAnchor;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
 /**
- * A {@link TrustAnchorsResolver} implementation that loads {@link TrustAnchor}s with {@link TrustAnchorsProvider}
+ * A {@link TrustAnchorsResolver} implementation that loads {@link TrustAnchor}s with {@link TrustAnchorsProvider}.
+ * Lookups are indexed per map instance returned by the provider, so a provider must return a new map to publish changes,
+ * as required by {@link TrustAnchorsProvider#provide()}.
  */
 public class TrustAnchorsResolverImpl implements TrustAnchorsResolver {
 
@@ -35,6 +36,7 @@ public class TrustAnchorsResolverImpl implements TrustAnchorsResolver {
     // ================================================================================================
 
     private final TrustAnchorsProvider trustAnchorsProvider;
+    private volatile @Nullable AAGUIDIndex<TrustAnchor> trustAnchorsIndex;
 
     // ~ Constructor
     // ========================================================================================================
@@ -56,10 +58,13 @@ public class TrustAnchorsResolverImpl implements TrustAnchorsResolver {
 
         Map<AAGUID, Set<TrustAnchor>> trustAnchors = trustAnchorsProvider.provide();
 
-        HashSet<TrustAnchor> set = new HashSet<>();
-        set.addAll(trustAnchors.getOrDefault(AAGUID.NULL, Collections.emptySet()));
-        set.addAll(trustAnchors.getOrDefault(aaguid, Collections.emptySet()));
-        return set;
+        // merged sets are precomputed once per snapshot published by the provider
+        AAGUIDIndex<TrustAnchor> index = trustAnchorsIndex;
+        if (index == null || !index.isBuiltFrom(trustAnchors)) {
+            index = AAGUIDIndex.create(trustAnchors);
+            trustAnchorsIndex = index;
+        }
+        return index.get(aaguid);
     }
 
 }
@@ -88,16 +88,13 @@ public class AttestedCredentialDataConverter implements Serializable {
             int length = UnsignedNumberUtil.getUnsignedShort(attestedCredentialData);
             byte[] credentialId = new byte[length];
             attestedCredentialData.get(credentialId, 0, length);
-            byte[] remaining = new byte[attestedCredentialData.remaining()];
-            attestedCredentialData.get(remaining);
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
-            COSEKeyEnvelope coseKeyEnvelope = convertToCredentialPublicKey(byteArrayInputStream);
+            // credentialPublicKey is read in place, and the buffer is advanced by the length Jackson actually consumed
+            InputStream inputStream = ByteBufferInputStreamUtil.createInputStream(attestedCredentialData);
+            COSEKeyEnvelope coseKeyEnvelope = convertToCredentialPublicKey(inputStream);
             COSEKey coseKey = coseKeyEnvelope.getCOSEKey();
             assertCoseKey(coseKey);
-            AttestedCredentialData result = createAttestedCredentialData(aaguid, credentialId, coseKey);
-            int extensionsBufferLength = remaining.length - coseKeyEnvelope.getLength();
-            attestedCredentialData.position(attestedCredentialData.position() - extensionsBufferLength);
-            return result;
+            attestedCredentialData.position(attestedCredentialData.position() + coseKeyEnvelope.getLength());
+            return createAttestedCredentialData(aaguid, credentialId, coseKey);
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
         }
@@ -120,8 +117,7 @@ public class AttestedCredentialDataConverter implements Serializable {
      */
     public @NonNull byte[] extractCredentialId(@NonNull byte[] attestedCredentialData) {
         AssertUtil.notNull(attestedCredentialData, ATTESTED_CREDENTIAL_DATA_MUST_NOT_BE_NULL);
-        byte[] lengthBytes = Arrays.copyOfRange(attestedCredentialData, L_INDEX, CREDENTIAL_ID_INDEX);
-        int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(lengthBytes);
+        int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(ByteBuffer.wrap(attestedCredentialData, L_INDEX, L_LENGTH));
         return Arrays.copyOfRange(attestedCredentialData, CREDENTIAL_ID_INDEX, CREDENTIAL_ID_INDEX + credentialIdLength);
     }
 
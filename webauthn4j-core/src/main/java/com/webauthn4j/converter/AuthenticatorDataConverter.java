@@ -34,6 +34,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
@@ -154,12 +155,10 @@ public class AuthenticatorDataConverter {
      * @return the extracted attestedCredData byte array
      */
     public @NonNull byte[] extractAttestedCredentialData(@NonNull byte[] authenticatorData) {
-        byte[] lengthBytes = Arrays.copyOfRange(authenticatorData, L_INDEX, CREDENTIAL_ID_INDEX);
-        int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(lengthBytes);
+        int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(ByteBuffer.wrap(authenticatorData, L_INDEX, L_LENGTH));
         int credentialPublicKeyIndex = CREDENTIAL_ID_INDEX + credentialIdLength;
 
-        byte[] attestedCredentialDataBytes = Arrays.copyOfRange(authenticatorData, credentialPublicKeyIndex, authenticatorData.length);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(attestedCredentialDataBytes);
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(authenticatorData, credentialPublicKeyIndex, authenticatorData.length - credentialPublicKeyIndex);
         COSEKeyEnvelope coseKeyEnvelope = attestedCredentialDataConverter.convertToCredentialPublicKey(byteArrayInputStream);
         int credentialPublicKeyLength = coseKeyEnvelope.getLength();
         int attestedCredentialDataLength = AAGUID_LENGTH + L_LENGTH + credentialIdLength + credentialPublicKeyLength;
@@ -173,8 +172,7 @@ public class AuthenticatorDataConverter {
      * @return the extracted signCount
      */
     public long extractSignCount(@NonNull byte[] authenticatorData) {
-        byte[] counterBytes = Arrays.copyOfRange(authenticatorData, COUNTER_INDEX, COUNTER_INDEX + COUNTER_LENGTH);
-        return UnsignedNumberUtil.getUnsignedInt(counterBytes);
+        return UnsignedNumberUtil.getUnsignedInt(ByteBuffer.wrap(authenticatorData, COUNTER_INDEX, COUNTER_LENGTH));
     }
 
 
@@ -192,17 +190,16 @@ public class AuthenticatorDataConverter {
         if (byteBuffer.remaining() == 0) {
             return new AuthenticationExtensionsAuthenticatorOutputs<>();
         }
-        byte[] remaining = new byte[byteBuffer.remaining()];
-        byteBuffer.get(remaining);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
+        // extensions are read in place, and the buffer is advanced by the length Jackson actually consumed
+        InputStream inputStream = ByteBufferInputStreamUtil.createInputStream(byteBuffer);
         AuthenticationExtensionsAuthenticatorOutputsEnvelope<T> envelope =
-                cborConverter.readValue(byteArrayInputStream, new TypeReference<AuthenticationExtensionsAuthenticatorOutputsEnvelope<T>>() {
+                cborConverter.readValue(inputStream, new TypeReference<AuthenticationExtensionsAuthenticatorOutputsEnvelope<T>>() {
                 });
         if (envelope == null) {
+            byteBuffer.position(byteBuffer.limit());
             return null;
         }
-        int leftoverLength = remaining.length - envelope.getLength();
-        byteBuffer.position(byteBuffer.position() - leftoverLength);
+        byteBuffer.position(byteBuffer.position() + envelope.getLength());
         return envelope.getAuthenticationExtensionsAuthenticatorOutputs();
     }
 
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Utility for reading CBOR items embedded in the middle of a binary structure without copying the remaining bytes
+ */
+class ByteBufferInputStreamUtil {
+
+    private ByteBufferInputStreamUtil() {
+    }
+
+    /**
+     * Returns an {@link InputStream} over the remaining bytes of the buffer. The buffer position is not changed.
+     * When the buffer is backed by an accessible array, the stream reads from that array in place.
+     *
+     * @param byteBuffer source buffer
+     * @return {@link InputStream} over the remaining bytes
+     */
+    static @NonNull InputStream createInputStream(@NonNull ByteBuffer byteBuffer) {
+        if (byteBuffer.hasArray()) {
+            return new ByteArrayInputStream(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+        }
+        byte[] remaining = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(remaining);
+        return new ByteArrayInputStream(remaining);
+    }
+}
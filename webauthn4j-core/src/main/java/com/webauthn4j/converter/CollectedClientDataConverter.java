@@ -25,8 +25,6 @@ import com.webauthn4j.util.Base64UrlUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.nio.charset.StandardCharsets;
-
 /**
  * Converter for {@link CollectedClientData}
  */
@@ -73,8 +71,8 @@ public class CollectedClientDataConverter {
     public @Nullable CollectedClientData convert(@NonNull byte[] source) {
         try {
             AssertUtil.notNull(source, "source must not be null");
-            String jsonString = new String(source, StandardCharsets.UTF_8);
-            return jsonConverter.readValue(jsonString, CollectedClientData.class);
+            // parse the UTF-8 bytes directly to avoid decoding them into an intermediate String
+            return jsonConverter.readValue(source, CollectedClientData.class);
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
         }
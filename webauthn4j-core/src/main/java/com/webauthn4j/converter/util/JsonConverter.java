@@ -17,6 +17,7 @@
 package com.webauthn4j.converter.util;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -59,6 +60,16 @@ public class JsonConverter implements Serializable {
         }
     }
 
+    public <T> @Nullable T readValue(@NonNull byte[] src, @NonNull Class<T> valueType) {
+        try {
+            return jsonMapper.readValue(src, valueType);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public <T> @Nullable T readValue(@NonNull InputStream src, @NonNull Class<T> valueType) {
         try {
             return jsonMapper.readValue(src, valueType);
@@ -79,6 +90,16 @@ public class JsonConverter implements Serializable {
         }
     }
 
+    public <T> @Nullable T readValue(@NonNull byte[] src, @NonNull TypeReference<T> valueTypeRef) {
+        try {
+            return jsonMapper.readValue(src, valueTypeRef);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public <T> @Nullable T readValue(@NonNull InputStream src, @NonNull TypeReference<T> valueTypeRef) {
         try {
             return jsonMapper.readValue(src, valueTypeRef);
@@ -89,6 +110,20 @@ public class JsonConverter implements Serializable {
         }
     }
 
+    /**
+     * Creates a streaming {@link JsonParser} bound to this converter's configuration, for inputs too large to bind at once.
+     *
+     * @param src input stream
+     * @return {@link JsonParser}
+     */
+    public @NonNull JsonParser createParser(@NonNull InputStream src) {
+        try {
+            return jsonMapper.createParser(src);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public @NonNull byte[] writeValueAsBytes(@Nullable Object value) {
         try {
             return jsonMapper.writeValueAsBytes(value);
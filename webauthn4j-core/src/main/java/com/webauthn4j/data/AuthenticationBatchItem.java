@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data;
+
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A pair of {@link AuthenticationRequest} and {@link AuthenticationParameters} to be validated as a part of a batch
+ */
+public class AuthenticationBatchItem {
+
+    private final AuthenticationRequest authenticationRequest;
+    private final AuthenticationParameters authenticationParameters;
+
+    public AuthenticationBatchItem(@NonNull AuthenticationRequest authenticationRequest, @NonNull AuthenticationParameters authenticationParameters) {
+        AssertUtil.notNull(authenticationRequest, "authenticationRequest must not be null");
+        AssertUtil.notNull(authenticationParameters, "authenticationParameters must not be null");
+        this.authenticationRequest = authenticationRequest;
+        this.authenticationParameters = authenticationParameters;
+    }
+
+    public @NonNull AuthenticationRequest getAuthenticationRequest() {
+        return authenticationRequest;
+    }
+
+    public @NonNull AuthenticationParameters getAuthenticationParameters() {
+        return authenticationParameters;
+    }
+}
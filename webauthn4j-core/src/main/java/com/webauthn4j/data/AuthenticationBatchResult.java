@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data;
+
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Result of validating an {@link AuthenticationBatchItem}. Holds either the validated {@link AuthenticationData},
+ * or the exception thrown while parsing or validating the item.
+ */
+public class AuthenticationBatchResult {
+
+    private final AuthenticationData authenticationData;
+    private final RuntimeException exception;
+
+    private AuthenticationBatchResult(@Nullable AuthenticationData authenticationData, @Nullable RuntimeException exception) {
+        this.authenticationData = authenticationData;
+        this.exception = exception;
+    }
+
+    public static @NonNull AuthenticationBatchResult success(@NonNull AuthenticationData authenticationData) {
+        AssertUtil.notNull(authenticationData, "authenticationData must not be null");
+        return new AuthenticationBatchResult(authenticationData, null);
+    }
+
+    public static @NonNull AuthenticationBatchResult failure(@NonNull RuntimeException exception) {
+        AssertUtil.notNull(exception, "exception must not be null");
+        return new AuthenticationBatchResult(null, exception);
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * Returns the validated {@link AuthenticationData}
+     *
+     * @return the validated {@link AuthenticationData}, or null if the validation failed
+     */
+    public @Nullable AuthenticationData getAuthenticationData() {
+        return authenticationData;
+    }
+
+    /**
+     * Returns the exception thrown while parsing or validating the item
+     *
+     * @return the exception, or null if the validation succeeded
+     */
+    public @Nullable RuntimeException getException() {
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticationBatchResult(" +
+                "authenticationData=" + authenticationData +
+                ", exception=" + exception +
+                ')';
+    }
+}
@@ -59,6 +59,9 @@ public class EC2COSEKey extends AbstractCOSEKey implements Serializable {
     @JsonProperty("-4")
     private byte[] d;
 
+    // decoded lazily and kept transient as it can be rebuilt from x, y and curve after deserialization
+    private transient volatile PublicKey publicKey;
+
     /**
      * Constructor for key pair
      *
@@ -260,16 +263,29 @@ public class EC2COSEKey extends AbstractCOSEKey implements Serializable {
         return ArrayUtil.clone(d);
     }
 
+    /**
+     * Returns the decoded {@link PublicKey}. The key is decoded on first access and reused afterwards.
+     *
+     * @return decoded {@link PublicKey}, or null if this key doesn't have a public key part
+     */
     @Override
     public @Nullable PublicKey getPublicKey() {
-
         if (!hasPublicKey()) {
             return null;
         }
+        PublicKey value = publicKey;
+        if (value == null) {
+            // racy single-check: decoding is idempotent and PublicKey is immutable, so a duplicate decode is harmless
+            value = decodePublicKey();
+            publicKey = value;
+        }
+        return value;
+    }
 
+    private @NonNull PublicKey decodePublicKey() {
         ECPoint ecPoint = new ECPoint(
-                new BigInteger(1, getX()),
-                new BigInteger(1, getY())
+                new BigInteger(1, x),
+                new BigInteger(1, y)
         );
         if (curve == null) {
             throw new IllegalStateException(CURVE_NULL_CHECK_MESSAGE);
@@ -58,6 +58,9 @@ public class RSACOSEKey extends AbstractCOSEKey {
     @JsonProperty("-8")
     private byte[] qInv;
 
+    // decoded lazily and kept transient as it can be rebuilt from n and e after deserialization
+    private transient volatile PublicKey publicKey;
+
     /**
      * Constructor for key pair
      *
@@ -232,14 +235,29 @@ public class RSACOSEKey extends AbstractCOSEKey {
         return n != null && d != null;
     }
 
+    /**
+     * Returns the decoded {@link PublicKey}. The key is decoded on first access and reused afterwards.
+     *
+     * @return decoded {@link PublicKey}, or null if this key doesn't have a public key part
+     */
     @Override
     public @Nullable PublicKey getPublicKey() {
         if (!hasPublicKey()) {
             return null;
         }
+        PublicKey value = publicKey;
+        if (value == null) {
+            // racy single-check: decoding is idempotent and PublicKey is immutable, so a duplicate decode is harmless
+            value = decodePublicKey();
+            publicKey = value;
+        }
+        return value;
+    }
+
+    private @NonNull PublicKey decodePublicKey() {
         RSAPublicKeySpec spec = new RSAPublicKeySpec(
-                new BigInteger(1, getN()),
-                new BigInteger(1, getE())
+                new BigInteger(1, n),
+                new BigInteger(1, e)
         );
         return RSAUtil.createPublicKey(spec);
     }
@@ -18,7 +18,7 @@ package com.webauthn4j.data.jws;
 
 import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.Base64UrlUtil;
-import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.util.CryptoEnginePool;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,7 +75,7 @@ public class JWS<T extends Serializable> implements Serializable {
             if (header.getAlg() == null || header.getX5c() == null || header.getX5c().getCertificates().isEmpty()) {
                 return false;
             }
-            Signature signatureObj = SignatureUtil.createSignature(header.getAlg().getJcaName());
+            Signature signatureObj = CryptoEnginePool.getSignature(header.getAlg().getJcaName());
             PublicKey publicKey = header.getX5c().getCertificates().get(0).getPublicKey();
             signatureObj.initVerify(publicKey);
             signatureObj.update(signedData.getBytes());
@@ -17,15 +17,25 @@
 package com.webauthn4j.server;
 
 import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CryptoEnginePool;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CoreServerProperty implements Serializable {
 
+    // rpId has only a handful of distinct values per deployment while server properties are created per ceremony,
+    // so the hash is shared across instances. The cap only guards against misuse with unbounded rpId values.
+    private static final int RP_ID_HASH_CACHE_MAX_SIZE = 256;
+    private static final Map<String, byte[]> rpIdHashCache = new ConcurrentHashMap<>();
+
     private final String rpId;
     private final Challenge challenge;
 
@@ -44,6 +54,15 @@ public class CoreServerProperty implements Serializable {
         return rpId;
     }
 
+    /**
+     * Returns the SHA-256 hash of the rpId
+     *
+     * @return the SHA-256 hash of the rpId
+     */
+    public @NonNull byte[] getRpIdHash() {
+        return ArrayUtil.clone(getCachedRpIdHash(rpId));
+    }
+
     /**
      * Returns the {@link Challenge}
      *
@@ -53,6 +72,17 @@ public class CoreServerProperty implements Serializable {
         return challenge;
     }
 
+    private static @NonNull byte[] getCachedRpIdHash(@NonNull String rpId) {
+        byte[] rpIdHash = rpIdHashCache.get(rpId);
+        if (rpIdHash == null) {
+            rpIdHash = CryptoEnginePool.getSHA256().digest(rpId.getBytes(StandardCharsets.UTF_8));
+            if (rpIdHashCache.size() < RP_ID_HASH_CACHE_MAX_SIZE) {
+                rpIdHashCache.putIfAbsent(rpId, rpIdHash);
+            }
+        }
+        return rpIdHash;
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) return true;
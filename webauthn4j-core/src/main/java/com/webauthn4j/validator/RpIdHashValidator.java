@@ -18,12 +18,9 @@ package com.webauthn4j.validator;
 
 import com.webauthn4j.server.CoreServerProperty;
 import com.webauthn4j.util.AssertUtil;
-import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.validator.exception.BadRpIdException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.util.Arrays;
 
 /**
@@ -41,12 +38,9 @@ class RpIdHashValidator {
     public void validate(@NonNull byte[] rpIdHash, @NonNull CoreServerProperty serverProperty) {
         AssertUtil.notNull(rpIdHash, "rpIdHash must not be null");
         AssertUtil.notNull(serverProperty, "serverProperty must not be null");
-        String rpId = serverProperty.getRpId();
-        AssertUtil.notNull(rpId, "rpId must not be null");
+        AssertUtil.notNull(serverProperty.getRpId(), "rpId must not be null");
 
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
-        byte[] relyingPartyRpIdBytes = rpId.getBytes(StandardCharsets.UTF_8);
-        byte[] relyingPartyRpIdHash = messageDigest.digest(relyingPartyRpIdBytes);
+        byte[] relyingPartyRpIdHash = serverProperty.getRpIdHash();
         // As rpIdHash is known data to client side(potential attacker) because it is calculated from parts of a message,
         // there is no need to prevent timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
         if (!Arrays.equals(rpIdHash, relyingPartyRpIdHash)) {
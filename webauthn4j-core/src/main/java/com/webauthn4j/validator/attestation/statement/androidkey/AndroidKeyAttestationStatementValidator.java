@@ -22,7 +22,7 @@ import com.webauthn4j.data.attestation.statement.AttestationCertificatePath;
 import com.webauthn4j.data.attestation.statement.AttestationType;
 import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
 import com.webauthn4j.util.AssertUtil;
-import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.util.CryptoEnginePool;
 import com.webauthn4j.validator.CoreRegistrationObject;
 import com.webauthn4j.validator.attestation.statement.AbstractStatementValidator;
 import com.webauthn4j.validator.exception.BadAttestationStatementException;
@@ -98,7 +98,7 @@ public class AndroidKeyAttestationStatementValidator extends AbstractStatementVa
         try {
             String jcaName;
             jcaName = getJcaName(attestationStatement.getAlg());
-            Signature verifier = SignatureUtil.createSignature(jcaName);
+            Signature verifier = CryptoEnginePool.getSignature(jcaName);
             verifier.initVerify(publicKey);
             verifier.update(signedData);
             if (verifier.verify(signature)) {
@@ -23,7 +23,7 @@ import com.webauthn4j.data.attestation.statement.AttestationType;
 import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.data.attestation.statement.PackedAttestationStatement;
 import com.webauthn4j.util.AssertUtil;
-import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.util.CryptoEnginePool;
 import com.webauthn4j.util.UUIDUtil;
 import com.webauthn4j.validator.CoreRegistrationObject;
 import com.webauthn4j.validator.attestation.statement.AbstractStatementValidator;
@@ -145,7 +145,7 @@ public class PackedAttestationStatementValidator extends AbstractStatementValida
     private boolean verifySignature(@NonNull PublicKey publicKey, @NonNull COSEAlgorithmIdentifier algorithmIdentifier, @NonNull byte[] signature, @NonNull byte[] data) {
         try {
             String jcaName = getJcaName(algorithmIdentifier);
-            Signature verifier = SignatureUtil.createSignature(jcaName);
+            Signature verifier = CryptoEnginePool.getSignature(jcaName);
             verifier.initVerify(publicKey);
             verifier.update(data);
 
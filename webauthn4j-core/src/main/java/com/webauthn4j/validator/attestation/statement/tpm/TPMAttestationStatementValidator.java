@@ -22,8 +22,7 @@ import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.attestation.statement.*;
 import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
 import com.webauthn4j.util.AssertUtil;
-import com.webauthn4j.util.MessageDigestUtil;
-import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.util.CryptoEnginePool;
 import com.webauthn4j.util.UnsignedNumberUtil;
 import com.webauthn4j.validator.CoreRegistrationObject;
 import com.webauthn4j.validator.attestation.statement.AbstractStatementValidator;
@@ -127,7 +126,7 @@ public class TPMAttestationStatementValidator extends AbstractStatementValidator
         String algJcaName;
         algJcaName = getAlgJcaName(hashAlg);
 
-        byte[] pubAreaDigest = MessageDigestUtil.createMessageDigest(algJcaName).digest(pubArea.getBytes());
+        byte[] pubAreaDigest = CryptoEnginePool.getMessageDigest(algJcaName).digest(pubArea.getBytes());
         // As pubAreaDigest is known data to client side(potential attacker) because it is calculated from parts of a message,
         // there is no need to prevent timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
         if (!Arrays.equals(pubAreaDigest, certifyInfo.getName().getDigest())) {
@@ -170,7 +169,7 @@ public class TPMAttestationStatementValidator extends AbstractStatementValidator
     private MessageDigest getMessageDigest(COSEAlgorithmIdentifier alg) {
         try {
             SignatureAlgorithm signatureAlgorithm = alg.toSignatureAlgorithm();
-            return signatureAlgorithm.getMessageDigestAlgorithm().createMessageDigestObject();
+            return CryptoEnginePool.getMessageDigest(signatureAlgorithm.getMessageDigestAlgorithm().getJcaName());
         } catch (IllegalArgumentException e) {
             throw new BadAttestationStatementException("alg is not signature algorithm", e);
         }
@@ -182,7 +181,7 @@ public class TPMAttestationStatementValidator extends AbstractStatementValidator
 
         /// Verify the sig is a valid signature over certInfo using the attestation public key in aikCert with the algorithm specified in alg.
         String jcaName = getJcaName(attestationStatement.getAlg());
-        Signature certInfoSignature = SignatureUtil.createSignature(jcaName);
+        Signature certInfoSignature = CryptoEnginePool.getSignature(jcaName);
         try {
             certInfoSignature.initVerify(aikCert.getPublicKey());
             certInfoSignature.update(certInfo.getBytes());
@@ -23,18 +23,23 @@ import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.validator.exception.CertificateException;
 import com.webauthn4j.validator.exception.TrustAnchorNotFoundException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
 import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import java.util.Set;
 
 public abstract class CertPathTrustworthinessValidatorBase implements CertPathTrustworthinessValidator {
 
+    private static final int DEFAULT_VERIFIED_CERT_PATH_CACHE_SIZE = 1024;
+
     private boolean fullChainProhibited = false;
     private boolean revocationCheckEnabled = false;
     private boolean policyQualifiersRejected = false;
+    private @Nullable VerifiedCertPathCache verifiedCertPathCache = new VerifiedCertPathCache(DEFAULT_VERIFIED_CERT_PATH_CACHE_SIZE);
 
     public void validate(@NonNull AAGUID aaguid, @NonNull CertificateBaseAttestationStatement attestationStatement, @NonNull Instant timestamp) {
         AssertUtil.notNull(aaguid, "aaguid must not be null");
@@ -50,8 +55,33 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
             throw new TrustAnchorNotFoundException("TrustAnchors are not found for AAGUID: " + aaguid.toString());
         }
 
+        List<? extends Certificate> certificates = certPath.getCertificates();
+        VerifiedCertPathCache cache = verifiedCertPathCache;
+        VerifiedCertPathCache.Key cacheKey = null;
+        TrustAnchor trustAnchor = null;
+        // revocation status may change at any time, so results are not cached when revocation check is enabled
+        if (cache != null && !revocationCheckEnabled) {
+            cacheKey = VerifiedCertPathCache.createKey(certificates, trustAnchors, policyQualifiersRejected);
+            if (cacheKey != null) {
+                trustAnchor = cache.get(cacheKey, timestamp);
+            }
+        }
+
+        if (trustAnchor == null) {
+            trustAnchor = validateCertPath(aaguid, certPath, trustAnchors, timestamp);
+            if (cache != null && cacheKey != null) {
+                cache.put(cacheKey, certificates, trustAnchor);
+            }
+        }
+
+        if (fullChainProhibited && certificates.contains(trustAnchor.getTrustedCert())) {
+            throw new CertificateException("`certpath` must not contain full chain.");
+        }
+    }
+
+    private @NonNull TrustAnchor validateCertPath(@NonNull AAGUID aaguid, @NonNull CertPath certPath, @NonNull Set<TrustAnchor> trustAnchors, @NonNull Instant timestamp) {
         CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
-        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
+        PKIXParameters certPathParameters = createPKIXParameters(aaguid, trustAnchors);
         certPathParameters.setPolicyQualifiersRejected(policyQualifiersRejected);
 
         certPathParameters.setRevocationEnabled(revocationCheckEnabled);
@@ -65,13 +95,23 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
         } catch (CertPathValidatorException e) {
             throw new com.webauthn4j.validator.exception.CertificateException("invalid cert path", e);
         }
-        if (fullChainProhibited && certPath.getCertificates().contains(result.getTrustAnchor().getTrustedCert())) {
-            throw new CertificateException("`certpath` must not contain full chain.");
-        }
+        return result.getTrustAnchor();
     }
 
     protected abstract @NonNull Set<TrustAnchor> resolveTrustAnchors(@NonNull AAGUID aaguid);
 
+    /**
+     * Creates {@link PKIXParameters} for the {@link TrustAnchor} {@link Set} resolved for the {@link AAGUID}.
+     * The returned instance is modified by the caller, so it must not be shared.
+     *
+     * @param aaguid       {@link AAGUID} for authenticator
+     * @param trustAnchors {@link TrustAnchor} {@link Set} returned by {@link #resolveTrustAnchors(AAGUID)}
+     * @return {@link PKIXParameters}
+     */
+    protected @NonNull PKIXParameters createPKIXParameters(@NonNull AAGUID aaguid, @NonNull Set<TrustAnchor> trustAnchors) {
+        return CertificateUtil.createPKIXParameters(trustAnchors);
+    }
+
 
     public boolean isFullChainProhibited() {
         return fullChainProhibited;
@@ -96,4 +136,25 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
     public void setPolicyQualifiersRejected(boolean policyQualifiersRejected) {
         this.policyQualifiersRejected = policyQualifiersRejected;
     }
+
+    /**
+     * Returns the maximum number of verified certificate paths kept to skip repeated PKIX validation, or 0 if disabled
+     *
+     * @return the maximum number of cached certificate paths
+     */
+    public int getVerifiedCertPathCacheSize() {
+        return verifiedCertPathCache == null ? 0 : verifiedCertPathCache.getMaxSize();
+    }
+
+    /**
+     * Sets the maximum number of verified certificate paths kept to skip repeated PKIX validation.
+     * Attestation certificate paths of the same authenticator model are identical, so a small cache covers most registrations.
+     * Entries are bound to the resolved {@link TrustAnchor} set and are not used when revocation check is enabled.
+     *
+     * @param verifiedCertPathCacheSize the maximum number of cached certificate paths. 0 disables the cache.
+     */
+    public void setVerifiedCertPathCacheSize(int verifiedCertPathCacheSize) {
+        AssertUtil.isTrue(verifiedCertPathCacheSize >= 0, "verifiedCertPathCacheSize must not be negative");
+        this.verifiedCertPathCache = verifiedCertPathCacheSize == 0 ? null : new VerifiedCertPathCache(verifiedCertPathCacheSize);
+    }
 }
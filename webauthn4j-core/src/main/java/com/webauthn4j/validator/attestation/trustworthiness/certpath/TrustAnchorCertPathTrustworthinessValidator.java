@@ -21,16 +21,28 @@ import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.data.attestation.statement.AttestationStatement;
 import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.security.cert.PKIXParameters;
 import java.security.cert.TrustAnchor;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Validates the specified {@link AttestationStatement} x5c trustworthiness based on {@link TrustAnchor}
  */
 public class TrustAnchorCertPathTrustworthinessValidator extends CertPathTrustworthinessValidatorBase {
 
+    private static final int PKIX_PARAMETERS_TEMPLATE_CACHE_MAX_SIZE = 1024;
+
     private final TrustAnchorsResolver trustAnchorsResolver;
+    // keyed by the identity of the resolved set, as AAGUIDs without their own trust anchors share the same set
+    private final Map<TrustAnchorsKey, PKIXParameters> pkixParametersTemplates = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Set<TrustAnchor>> releasedTrustAnchors = new ReferenceQueue<>();
 
     public TrustAnchorCertPathTrustworthinessValidator(@NonNull TrustAnchorsResolver trustAnchorsResolver) {
         AssertUtil.notNull(trustAnchorsResolver, "trustAnchorsResolver must not be null");
@@ -42,4 +54,57 @@ public class TrustAnchorCertPathTrustworthinessValidator extends CertPathTrustwo
         AssertUtil.notNull(aaguid, "aaguid must not be null");
         return trustAnchorsResolver.resolve(aaguid);
     }
+
+    /**
+     * Clones a prebuilt {@link PKIXParameters} template instead of copying and checking the whole {@link TrustAnchor} {@link Set}
+     * on every call. One template is built per distinct {@link Set} instance returned by the {@link TrustAnchorsResolver},
+     * which {@link com.webauthn4j.anchor.TrustAnchorsResolverImpl} replaces only when its provider publishes a new snapshot.
+     * Templates are released together with the sets they were built from.
+     */
+    @Override
+    protected @NonNull PKIXParameters createPKIXParameters(@NonNull AAGUID aaguid, @NonNull Set<TrustAnchor> trustAnchors) {
+        expungeReleasedTemplates();
+        PKIXParameters template = pkixParametersTemplates.get(new TrustAnchorsKey(trustAnchors, null));
+        if (template == null) {
+            template = super.createPKIXParameters(aaguid, trustAnchors);
+            if (pkixParametersTemplates.size() < PKIX_PARAMETERS_TEMPLATE_CACHE_MAX_SIZE) {
+                pkixParametersTemplates.putIfAbsent(new TrustAnchorsKey(trustAnchors, releasedTrustAnchors), template);
+            }
+        }
+        return (PKIXParameters) template.clone();
+    }
+
+    int getPKIXParametersTemplateCount() {
+        return pkixParametersTemplates.size();
+    }
+
+    private void expungeReleasedTemplates() {
+        Reference<? extends Set<TrustAnchor>> reference;
+        while ((reference = releasedTrustAnchors.poll()) != null) {
+            pkixParametersTemplates.remove(reference);
+        }
+    }
+
+    private static class TrustAnchorsKey extends WeakReference<Set<TrustAnchor>> {
+
+        private final int hashCode;
+
+        TrustAnchorsKey(@NonNull Set<TrustAnchor> trustAnchors, @Nullable ReferenceQueue<Set<TrustAnchor>> queue) {
+            super(trustAnchors, queue);
+            this.hashCode = System.identityHashCode(trustAnchors);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TrustAnchorsKey)) return false;
+            Set<TrustAnchor> referent = get();
+            return referent != null && referent == ((TrustAnchorsKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.util.CryptoEnginePool;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Bounded LRU cache of certificate paths which have already passed PKIX validation.
+ * An entry is only reused while the validation timestamp is within the validity period shared by
+ * all certificates in the path, so date semantics are kept intact.
+ */
+class VerifiedCertPathCache {
+
+    private final int maxSize;
+    private final Map<Key, Entry> entries;
+
+    VerifiedCertPathCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Returns the {@link TrustAnchor} the certificate path was verified against, or null if there is no usable entry
+     */
+    @Nullable TrustAnchor get(@NonNull Key key, @NonNull Instant timestamp) {
+        long time = timestamp.toEpochMilli();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (time > entry.notAfter) {
+                entries.remove(key);
+                return null;
+            }
+        }
+        if (time < entry.notBefore) {
+            return null;
+        }
+        return entry.trustAnchor;
+    }
+
+    void put(@NonNull Key key, @NonNull List<? extends Certificate> certificates, @NonNull TrustAnchor trustAnchor) {
+        long notBefore = Long.MIN_VALUE;
+        long notAfter = Long.MAX_VALUE;
+        for (Certificate certificate : certificates) {
+            if (!(certificate instanceof X509Certificate)) {
+                return;
+            }
+            X509Certificate x509Certificate = (X509Certificate) certificate;
+            notBefore = Math.max(notBefore, x509Certificate.getNotBefore().getTime());
+            notAfter = Math.min(notAfter, x509Certificate.getNotAfter().getTime());
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry(trustAnchor, notBefore, notAfter));
+            if (entries.size() > maxSize) {
+                Iterator<Key> iterator = entries.keySet().iterator();
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    int getMaxSize() {
+        return maxSize;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Creates a cache key from the certificate path fingerprint, the identity of the trust anchor set and the validation
+     * options, or returns null if the certificates cannot be encoded. Trust anchor resolvers hand out the same set instance
+     * until their provider publishes a new snapshot, so keying on identity keeps lookups O(1) in the number of anchors.
+     */
+    static @Nullable Key createKey(@NonNull List<? extends Certificate> certificates, @NonNull Set<TrustAnchor> trustAnchors, boolean policyQualifiersRejected) {
+        MessageDigest messageDigest = CryptoEnginePool.getSHA256();
+        try {
+            for (Certificate certificate : certificates) {
+                byte[] encoded = certificate.getEncoded();
+                messageDigest.update(ByteBuffer.allocate(4).putInt(encoded.length).array());
+                messageDigest.update(encoded);
+            }
+        } catch (CertificateEncodingException e) {
+            return null;
+        }
+        return new Key(messageDigest.digest(), trustAnchors, policyQualifiersRejected);
+    }
+
+    static class Key {
+
+        private final byte[] fingerprint;
+        // the set is compared by identity and weakly referenced, so that entries of a replaced snapshot neither match
+        // nor keep its trust anchors reachable
+        private final WeakReference<Set<TrustAnchor>> trustAnchors;
+        private final boolean policyQualifiersRejected;
+        private final int hashCode;
+
+        Key(@NonNull byte[] fingerprint, @NonNull Set<TrustAnchor> trustAnchors, boolean policyQualifiersRejected) {
+            this.fingerprint = fingerprint;
+            this.trustAnchors = new WeakReference<>(trustAnchors);
+            this.policyQualifiersRejected = policyQualifiersRejected;
+            this.hashCode = Objects.hash(Arrays.hashCode(fingerprint), System.identityHashCode(trustAnchors), policyQualifiersRejected);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            Set<TrustAnchor> referent = trustAnchors.get();
+            return policyQualifiersRejected == key.policyQualifiersRejected &&
+                    referent != null && referent == key.trustAnchors.get() &&
+                    Arrays.equals(fingerprint, key.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class Entry {
+
+        private final TrustAnchor trustAnchor;
+        private final long notBefore;
+        private final long notAfter;
+
+        Entry(@NonNull TrustAnchor trustAnchor, long notBefore, long notAfter) {
+            this.trustAnchor = trustAnchor;
+            this.notBefore = notBefore;
+            this.notAfter = notAfter;
+        }
+    }
+}
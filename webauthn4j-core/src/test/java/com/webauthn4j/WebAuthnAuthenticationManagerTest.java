@@ -16,14 +16,23 @@
 
 package com.webauthn4j;
 
+import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.AuthenticationRequest;
 import com.webauthn4j.validator.CustomAuthenticationValidator;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
 
 class WebAuthnAuthenticationManagerTest {
 
@@ -36,5 +45,18 @@ class WebAuthnAuthenticationManagerTest {
         assertThatCode(() -> new WebAuthnAuthenticationManager(customAuthenticationValidators, objectConverter)).doesNotThrowAnyException();
     }
 
+    @Test
+    void validateAsync_with_malformed_request_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        AuthenticationRequest authenticationRequest = new AuthenticationRequest(new byte[32], new byte[]{0x01, 0x02}, new byte[0], (String) null, new byte[32]);
+        AuthenticationParameters authenticationParameters = mock(AuthenticationParameters.class);
+
+        CompletableFuture<AuthenticationData> future = target.validateAsync(authenticationRequest, authenticationParameters, Runnable::run).toCompletableFuture();
+
+        assertThat(future).isCompletedExceptionally();
+        assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(DataConversionException.class);
+        // the stage itself carries the unwrapped exception
+        assertThat(future.handle((result, throwable) -> throwable).join()).isInstanceOf(DataConversionException.class);
+    }
 
 }
\ No newline at end of file
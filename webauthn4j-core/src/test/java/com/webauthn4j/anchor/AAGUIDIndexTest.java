@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AAGUIDIndexTest {
+
+    @Test
+    void get_test() {
+        Map<AAGUID, Set<String>> source = new HashMap<>();
+        source.put(AAGUID.NULL, Collections.singleton("common"));
+        for (int i = 0; i < 100; i++) {
+            source.put(new AAGUID(new UUID(i, i)), Collections.singleton("item-" + i));
+        }
+        AAGUIDIndex<String> target = AAGUIDIndex.create(source);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(target.get(new AAGUID(new UUID(i, i)))).containsExactlyInAnyOrder("common", "item-" + i);
+        }
+        assertThat(target.get(new AAGUID(new UUID(100, 100)))).containsExactly("common");
+        assertThat(target.get(AAGUID.NULL)).containsExactly("common");
+        assertThat(target.get(new AAGUID(new UUID(1, 1)))).isSameAs(target.get(new AAGUID(new UUID(1, 1))));
+        assertThat(target.getSource()).isSameAs(source);
+        assertThat(target.isBuiltFrom(source)).isTrue();
+        assertThat(target.isBuiltFrom(new HashMap<>(source))).isFalse();
+        source.remove(AAGUID.NULL);
+        assertThat(target.isBuiltFrom(source)).isFalse();
+    }
+
+    @Test
+    void get_without_common_elements_test() {
+        AAGUIDIndex<String> target = AAGUIDIndex.create(Collections.singletonMap(AAGUID.ZERO, Collections.singleton("zero")));
+
+        assertThat(target.get(AAGUID.ZERO)).containsExactly("zero");
+        assertThat(target.get(AAGUID.NULL)).isEmpty();
+        assertThatThrownBy(() -> target.get(AAGUID.ZERO).add("other")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void create_with_empty_map_test() {
+        AAGUIDIndex<String> target = AAGUIDIndex.create(Collections.emptyMap());
+        assertThat(target.get(AAGUID.ZERO)).isEmpty();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.TrustAnchor;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingTrustAnchorsProviderBaseTest {
+
+    @Test
+    void provide_loads_once_under_contention_test() throws Exception {
+        CountingTrustAnchorsProvider target = new CountingTrustAnchorsProvider();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch startLatch = new CountDownLatch(1);
+            List<Future<Map<AAGUID, Set<TrustAnchor>>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return target.provide();
+                }));
+            }
+            startLatch.countDown();
+            Map<AAGUID, Set<TrustAnchor>> first = futures.get(0).get();
+            for (Future<Map<AAGUID, Set<TrustAnchor>>> future : futures) {
+                assertThat(future.get()).isSameAs(first);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(target.loadCount.get()).isEqualTo(1);
+        assertThat(target.getSnapshotVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void provide_returns_immutable_snapshot_test() {
+        CountingTrustAnchorsProvider target = new CountingTrustAnchorsProvider();
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = target.provide();
+        assertThatThrownBy(trustAnchors::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> trustAnchors.get(AAGUID.NULL).clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void refresh_test() {
+        CountingTrustAnchorsProvider target = new CountingTrustAnchorsProvider();
+        assertThat(target.getSnapshotVersion()).isZero();
+        Map<AAGUID, Set<TrustAnchor>> first = target.provide();
+        Map<AAGUID, Set<TrustAnchor>> refreshed = target.refresh();
+        assertThat(refreshed).isNotSameAs(first);
+        assertThat(target.provide()).isSameAs(refreshed);
+        assertThat(target.getSnapshotVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void refresh_failure_keeps_current_snapshot_test() {
+        CountingTrustAnchorsProvider target = new CountingTrustAnchorsProvider();
+        Map<AAGUID, Set<TrustAnchor>> first = target.provide();
+        target.failure = new IllegalStateException("load failure");
+        assertThatThrownBy(target::refresh).isInstanceOf(IllegalStateException.class);
+        assertThat(target.provide()).isSameAs(first);
+        assertThat(target.getSnapshotVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void refresh_discards_result_of_load_started_earlier_test() throws Exception {
+        CountingTrustAnchorsProvider target = new CountingTrustAnchorsProvider();
+        target.provide();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        target.blocker = () -> {
+            loading.countDown();
+            release.await();
+            return null;
+        };
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<Map<AAGUID, Set<TrustAnchor>>> earlier = executorService.submit(target::refresh);
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            target.blocker = null;
+            Map<AAGUID, Set<TrustAnchor>> later = target.refresh();
+            release.countDown();
+
+            assertThat(earlier.get()).isSameAs(later);
+            assertThat(target.provide()).isSameAs(later);
+            assertThat(target.getSnapshotVersion()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void refreshAsync_test() {
+        CountingTrustAnchorsProvider target = new CountingTrustAnchorsProvider();
+        target.provide();
+        List<Runnable> tasks = new ArrayList<>();
+        CompletableFuture<Map<AAGUID, Set<TrustAnchor>>> futureA = target.refreshAsync(tasks::add);
+        CompletableFuture<Map<AAGUID, Set<TrustAnchor>>> futureB = target.refreshAsync(tasks::add);
+        assertThat(futureB).isSameAs(futureA);
+        assertThat(tasks).hasSize(1);
+
+        tasks.get(0).run();
+        assertThat(futureA.join()).isSameAs(target.provide());
+        assertThat(target.loadCount.get()).isEqualTo(2);
+        assertThat(target.refreshAsync(Runnable::run)).isNotSameAs(futureA);
+    }
+
+    private static class CountingTrustAnchorsProvider extends CachingTrustAnchorsProviderBase {
+
+        private final AtomicInteger loadCount = new AtomicInteger();
+        private volatile RuntimeException failure;
+        private volatile Callable<Void> blocker;
+
+        @Override
+        protected @NonNull Map<AAGUID, Set<TrustAnchor>> loadTrustAnchors() {
+            if (failure != null) {
+                throw failure;
+            }
+            Callable<Void> currentBlocker = blocker;
+            if (currentBlocker != null) {
+                try {
+                    currentBlocker.call();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            loadCount.incrementAndGet();
+            return Collections.singletonMap(AAGUID.NULL, new HashSet<>());
+        }
+    }
+}
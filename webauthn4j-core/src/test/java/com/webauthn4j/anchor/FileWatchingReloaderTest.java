@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.anchor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileWatchingReloaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void reload_on_change_test() throws Exception {
+        Path file = Files.write(tempDir.resolve("watched.txt"), "v1".getBytes(StandardCharsets.UTF_8));
+        AtomicInteger reloads = new AtomicInteger();
+        try (FileWatchingReloader target = new FileWatchingReloader(Collections.singletonList(file), reloads::incrementAndGet, Duration.ofMillis(50))) {
+            assertThat(target.getLastReloadLatency()).isNull();
+            Files.write(tempDir.resolve("unrelated.txt"), "v1".getBytes(StandardCharsets.UTF_8));
+            Files.write(file, "v2".getBytes(StandardCharsets.UTF_8));
+            await(() -> target.getReloadCount() >= 1);
+            assertThat(reloads.get()).isPositive();
+            assertThat(target.getFailureCount()).isZero();
+            assertThat(target.getLastReloadLatency()).isNotNull();
+        }
+    }
+
+    @Test
+    void unrelated_changes_do_not_postpone_reload_test() throws Exception {
+        Path file = Files.write(tempDir.resolve("watched.txt"), "v1".getBytes(StandardCharsets.UTF_8));
+        Path unrelated = tempDir.resolve("unrelated.txt");
+        try (FileWatchingReloader target = new FileWatchingReloader(Collections.singletonList(file), () -> {
+        }, Duration.ofMillis(200))) {
+            Files.write(file, "v2".getBytes(StandardCharsets.UTF_8));
+            // keep touching an unrelated file more often than the debounce period
+            long deadline = System.currentTimeMillis() + 30_000;
+            while (target.getReloadCount() == 0) {
+                assertThat(System.currentTimeMillis()).as("reload is postponed by unrelated changes").isLessThan(deadline);
+                Files.write(unrelated, Long.toString(System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+                Thread.sleep(20);
+            }
+        }
+    }
+
+    @Test
+    void reload_failure_test() throws Exception {
+        Path file = Files.write(tempDir.resolve("watched.txt"), "v1".getBytes(StandardCharsets.UTF_8));
+        try (FileWatchingReloader target = new FileWatchingReloader(Collections.singletonList(file), () -> {
+            throw new IllegalStateException("reload failure");
+        }, Duration.ofMillis(50))) {
+            Files.write(file, "v2".getBytes(StandardCharsets.UTF_8));
+            await(() -> target.getFailureCount() >= 1);
+            assertThat(target.getReloadCount()).isZero();
+        }
+    }
+
+    @Test
+    void watch_CertFileTrustAnchorsProvider_test() throws Exception {
+        Path source = Paths.get(ClassLoader.getSystemResource("com/webauthn4j/anchor/CertFileTrustAnchorsProviderTest/test.crt").toURI());
+        Path certificate = Files.copy(source, tempDir.resolve("test.crt"));
+        CertFileTrustAnchorsProvider provider = new CertFileTrustAnchorsProvider(Collections.singletonList(certificate));
+        provider.provide();
+        try (FileWatchingReloader target = provider.watch(Duration.ofMillis(50))) {
+            Files.copy(source, certificate, StandardCopyOption.REPLACE_EXISTING);
+            await(() -> provider.getSnapshotVersion() >= 2);
+            assertThat(target.getReloadCount()).isPositive();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition is not met in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -41,4 +41,15 @@ class SimpleTrustAnchorsProviderTest {
         assertThat(trustAnchors.get(AAGUID.NULL)).hasSameElementsAs(trustAnchorSet);
     }
 
+    @Test
+    void provide_test_snapshots_passed_set() {
+        TrustAnchor trustAnchor = mock(TrustAnchor.class);
+        Set<TrustAnchor> trustAnchorSet = new HashSet<>();
+        trustAnchorSet.add(trustAnchor);
+        SimpleTrustAnchorsProvider target = new SimpleTrustAnchorsProvider(trustAnchorSet);
+
+        trustAnchorSet.add(mock(TrustAnchor.class));
+        assertThat(target.provide().get(AAGUID.NULL)).containsExactly(trustAnchor);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.test.TestAttestationUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.TrustAnchor;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SnapshotTrustAnchorsProviderTest {
+
+    @Test
+    void provide_test() {
+        TrustAnchor trustAnchor = new TrustAnchor(TestAttestationUtil.load2tierTestRootCACertificate(), null);
+        TrustAnchorsProvider trustAnchorsProvider = mock(TrustAnchorsProvider.class);
+        when(trustAnchorsProvider.provide()).thenReturn(Collections.singletonMap(AAGUID.NULL, Collections.singleton(trustAnchor)));
+        SnapshotTrustAnchorsProvider target = new SnapshotTrustAnchorsProvider(trustAnchorsProvider);
+
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = target.provide();
+        assertThat(trustAnchors.get(AAGUID.NULL)).containsExactly(trustAnchor);
+        assertThat(target.provide()).isSameAs(trustAnchors);
+        verify(trustAnchorsProvider, times(1)).provide();
+
+        target.refresh();
+        verify(trustAnchorsProvider, times(2)).provide();
+    }
+}
@@ -17,12 +17,18 @@
 package com.webauthn4j.anchor;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.test.TestAttestationUtil;
 import org.junit.jupiter.api.Test;
 
 import java.security.cert.TrustAnchor;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class TrustAnchorsResolverImplTest {
 
@@ -34,4 +40,37 @@ class TrustAnchorsResolverImplTest {
         Set<TrustAnchor> trustAnchorsB = target.resolve(AAGUID.ZERO);
         assertThat(trustAnchorsA).isEqualTo(trustAnchorsB);
     }
+
+    @Test
+    void resolve_reuses_set_until_new_snapshot_is_published_test() {
+        TrustAnchor commonTrustAnchor = new TrustAnchor(TestAttestationUtil.load2tierTestRootCACertificate(), null);
+        TrustAnchor specificTrustAnchor = new TrustAnchor(TestAttestationUtil.load3tierTestRootCACertificate(), null);
+        AAGUID aaguid = new AAGUID("fea37a71-08ce-4a2a-b45a-7e7e3d2e5bbd");
+        Map<AAGUID, Set<TrustAnchor>> snapshot = new HashMap<>();
+        snapshot.put(AAGUID.NULL, Collections.singleton(commonTrustAnchor));
+        snapshot.put(aaguid, Collections.singleton(specificTrustAnchor));
+        TrustAnchorsProvider trustAnchorsProvider = mock(TrustAnchorsProvider.class);
+        when(trustAnchorsProvider.provide()).thenReturn(snapshot);
+        TrustAnchorsResolverImpl target = new TrustAnchorsResolverImpl(trustAnchorsProvider);
+
+        Set<TrustAnchor> resolved = target.resolve(aaguid);
+        assertThat(resolved).containsExactlyInAnyOrder(commonTrustAnchor, specificTrustAnchor);
+        assertThat(target.resolve(aaguid)).isSameAs(resolved);
+        assertThat(target.resolve(AAGUID.ZERO)).containsExactly(commonTrustAnchor);
+
+        when(trustAnchorsProvider.provide()).thenReturn(new HashMap<>(snapshot));
+        assertThat(target.resolve(aaguid)).isNotSameAs(resolved).isEqualTo(resolved);
+    }
+
+    @Test
+    void resolve_rebuilds_when_map_size_changes_in_place_test() {
+        TrustAnchor trustAnchor = new TrustAnchor(TestAttestationUtil.load3tierTestRootCACertificate(), null);
+        AAGUID aaguid = new AAGUID("fea37a71-08ce-4a2a-b45a-7e7e3d2e5bbd");
+        Map<AAGUID, Set<TrustAnchor>> mutableMap = new HashMap<>();
+        TrustAnchorsResolverImpl target = new TrustAnchorsResolverImpl(() -> mutableMap);
+
+        assertThat(target.resolve(aaguid)).isEmpty();
+        mutableMap.put(aaguid, Collections.singleton(trustAnchor));
+        assertThat(target.resolve(aaguid)).containsExactly(trustAnchor);
+    }
 }
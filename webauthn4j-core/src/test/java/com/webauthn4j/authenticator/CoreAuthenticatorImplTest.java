@@ -18,9 +18,17 @@ package com.webauthn4j.authenticator;
 
 import com.webauthn4j.data.CoreRegistrationData;
 import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.statement.NoneAttestationStatement;
+import com.webauthn4j.test.SerializationUtil;
 import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.ECUtil;
 import org.junit.jupiter.api.Test;
 
+import java.security.interfaces.ECPublicKey;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class CoreAuthenticatorImplTest {
@@ -37,4 +45,17 @@ class CoreAuthenticatorImplTest {
         assertThat(authenticator.getCounter()).isEqualTo(attestationObject.getAuthenticatorData().getSignCount());
         assertThat(authenticator.getAuthenticatorExtensions()).isEqualTo(attestationObject.getAuthenticatorData().getExtensions());
     }
-}
\ No newline at end of file
+
+    @Test
+    void java_serialization_test() throws Exception {
+        ECPublicKey ecPublicKey = (ECPublicKey) ECUtil.createKeyPair().getPublic();
+        AttestedCredentialData attestedCredentialData = new AttestedCredentialData(AAGUID.ZERO, new byte[32], EC2COSEKey.create(ecPublicKey));
+        CoreAuthenticatorImpl original = new CoreAuthenticatorImpl(attestedCredentialData, new NoneAttestationStatement(), 0, null);
+        // decode and cache the public key before serialization
+        original.getAttestedCredentialData().getCOSEKey().getPublicKey();
+
+        CoreAuthenticator restored = SerializationUtil.roundTrip(original);
+        assertThat(restored.getAttestedCredentialData()).isEqualTo(attestedCredentialData);
+        assertThat(restored.getAttestedCredentialData().getCOSEKey().getPublicKey()).isEqualTo(ecPublicKey);
+    }
+}
@@ -45,6 +45,38 @@ class AttestedCredentialDataConverterTest {
 
     }
 
+    @Test
+    void convert_ByteBuffer_with_offset_and_trailing_data_test() {
+        //Given
+        //noinspection SpellCheckingInspection
+        byte[] input = Base64UrlUtil.decode("VQ5LVKpHQJ-alRq3bBMBMQAgcSLOLIaiEIVRz-EklkZ21K71OGcRvvgro1kLdT4pvCClAQIDJiABIVggLDjE-Yci-q4NHPYpTPLJCVkWFkxuL6Zz9jKUvWjnmM8iWCAZAjkRJgA59HxAzqq5NBKjKGNkRPzToDfI6gJR7YBYkQ");
+        byte[] trailing = new byte[]{0x01, 0x02, 0x03};
+        ByteBuffer source = ByteBuffer.allocate(4 + input.length + trailing.length);
+        source.position(4);
+        source.put(input).put(trailing);
+        source.position(4);
+
+        //When
+        AttestedCredentialData attestedCredentialData = target.convert(source.slice());
+        AttestedCredentialData fromReadOnlyBuffer = target.convert(ByteBuffer.wrap(input).asReadOnlyBuffer());
+
+        //Then
+        assertThat(attestedCredentialData).isEqualTo(target.convert(input));
+        assertThat(fromReadOnlyBuffer).isEqualTo(attestedCredentialData);
+    }
+
+    @Test
+    void convert_ByteBuffer_position_test() {
+        //noinspection SpellCheckingInspection
+        byte[] input = Base64UrlUtil.decode("VQ5LVKpHQJ-alRq3bBMBMQAgcSLOLIaiEIVRz-EklkZ21K71OGcRvvgro1kLdT4pvCClAQIDJiABIVggLDjE-Yci-q4NHPYpTPLJCVkWFkxuL6Zz9jKUvWjnmM8iWCAZAjkRJgA59HxAzqq5NBKjKGNkRPzToDfI6gJR7YBYkQ");
+        ByteBuffer source = ByteBuffer.allocate(input.length + 2).put(input).put(new byte[]{0x01, 0x02});
+        source.flip();
+
+        target.convert(source);
+
+        assertThat(source.remaining()).isEqualTo(2);
+    }
+
     @Test
     void convert_null_test() {
         assertThatThrownBy(() -> target.convert((AttestedCredentialData) null)).isInstanceOf(DataConversionException.class);
@@ -52,6 +52,19 @@ class CollectedClientDataConverterTest {
         );
     }
 
+    @Test
+    void convert_bytes_with_non_ascii_origin_test() {
+        //noinspection SpellCheckingInspection
+        String clientDataJson = "{\"type\":\"webauthn.get\",\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\",\"origin\":\"https://例え.jp\",\"crossOrigin\":false}";
+        CollectedClientData collectedClientData = target.convert(clientDataJson.getBytes(StandardCharsets.UTF_8));
+        assertAll(
+                () -> assertThat(collectedClientData.getType()).isEqualTo(ClientDataType.WEBAUTHN_GET),
+                () -> assertThat(collectedClientData.getChallenge()).isEqualTo(new DefaultChallenge("tk31UH1ETGGTPj33OhOMzw")),
+                () -> assertThat(collectedClientData.getOrigin()).isEqualTo(new Origin("https://例え.jp")),
+                () -> assertThat(collectedClientData.getCrossOrigin()).isFalse()
+        );
+    }
+
     @Test
     void convert_null_test() {
         assertThatThrownBy(() -> target.convert((String) null)).isInstanceOf(DataConversionException.class);
@@ -20,6 +20,7 @@ import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.JsonConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.test.SerializationUtil;
 import com.webauthn4j.test.TestDataUtil;
 import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.ECUtil;
@@ -92,7 +93,7 @@ class EC2COSEKeyTest {
         EC2COSEKey original = TestDataUtil.createEC2COSEPublicKey();
         byte[] serialized = cborConverter.writeValueAsBytes(original);
         COSEKey result = cborConverter.readValue(serialized, COSEKey.class);
-        assertThat(result).usingRecursiveComparison().isEqualTo(original);
+        assertThat(result).usingRecursiveComparison().ignoringFields("publicKey").isEqualTo(original);
     }
 
     @Test
@@ -100,7 +101,7 @@ class EC2COSEKeyTest {
         EC2COSEKey original = TestDataUtil.createEC2COSEPublicKey();
         String serialized = jsonConverter.writeValueAsString(original);
         COSEKey result = jsonConverter.readValue(serialized, COSEKey.class);
-        assertThat(result).usingRecursiveComparison().isEqualTo(original);
+        assertThat(result).usingRecursiveComparison().ignoringFields("publicKey").isEqualTo(original);
     }
 
     @Test
@@ -242,6 +243,23 @@ class EC2COSEKeyTest {
         assertThat(publicKey.getPublicKey()).isNotNull();
     }
 
+    @Test
+    void getPublicKey_returns_decoded_key_once_test() {
+        EC2COSEKey key = EC2COSEKey.create((ECPublicKey) ECUtil.createKeyPair().getPublic());
+        assertThat(key.getPublicKey()).isSameAs(key.getPublicKey());
+    }
+
+    @Test
+    void getPublicKey_after_java_serialization_test() throws Exception {
+        ECPublicKey ecPublicKey = (ECPublicKey) ECUtil.createKeyPair().getPublic();
+        EC2COSEKey original = EC2COSEKey.create(ecPublicKey, COSEAlgorithmIdentifier.ES256);
+        original.getPublicKey();
+
+        EC2COSEKey restored = SerializationUtil.roundTrip(original);
+        assertThat(restored).isEqualTo(original);
+        assertThat(restored.getPublicKey()).isEqualTo(ecPublicKey);
+    }
+
     @Test
     void getPrivateKey_test() {
         EC2COSEKey keyPair = EC2COSEKey.create(ECUtil.createKeyPair());
@@ -20,6 +20,7 @@ import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.JsonConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.test.SerializationUtil;
 import com.webauthn4j.test.TestDataUtil;
 import com.webauthn4j.util.RSAUtil;
 import com.webauthn4j.validator.exception.ConstraintViolationException;
@@ -75,7 +76,7 @@ class RSACOSEKeyTest {
         RSACOSEKey original = TestDataUtil.createRSACOSEPublicKey();
         byte[] serialized = cborConverter.writeValueAsBytes(original);
         RSACOSEKey result = cborConverter.readValue(serialized, RSACOSEKey.class);
-        assertThat(result).usingRecursiveComparison().isEqualTo(original);
+        assertThat(result).usingRecursiveComparison().ignoringFields("publicKey").isEqualTo(original);
     }
 
     @Test
@@ -83,7 +84,7 @@ class RSACOSEKeyTest {
         RSACOSEKey original = TestDataUtil.createRSACOSEPublicKey();
         String serialized = jsonConverter.writeValueAsString(original);
         RSACOSEKey result = jsonConverter.readValue(serialized, RSACOSEKey.class);
-        assertThat(result).usingRecursiveComparison().isEqualTo(original);
+        assertThat(result).usingRecursiveComparison().ignoringFields("publicKey").isEqualTo(original);
     }
 
     @Test
@@ -160,6 +161,23 @@ class RSACOSEKeyTest {
         assertThat(publicKey.getPublicKey()).isNotNull();
     }
 
+    @Test
+    void getPublicKey_returns_decoded_key_once_test() {
+        RSACOSEKey key = RSACOSEKey.create((RSAPublicKey) RSAUtil.createKeyPair().getPublic());
+        assertThat(key.getPublicKey()).isSameAs(key.getPublicKey());
+    }
+
+    @Test
+    void getPublicKey_after_java_serialization_test() throws Exception {
+        RSAPublicKey rsaPublicKey = (RSAPublicKey) RSAUtil.createKeyPair().getPublic();
+        RSACOSEKey original = RSACOSEKey.create(rsaPublicKey, COSEAlgorithmIdentifier.RS256);
+        original.getPublicKey();
+
+        RSACOSEKey restored = SerializationUtil.roundTrip(original);
+        assertThat(restored).isEqualTo(original);
+        assertThat(restored.getPublicKey()).isEqualTo(rsaPublicKey);
+    }
+
     @Test
     void getPrivateKey_test() {
         RSACOSEKey keyPair = RSACOSEKey.create(RSAUtil.createKeyPair());
@@ -20,6 +20,7 @@ import com.webauthn4j.data.client.Origin;
 import com.webauthn4j.data.client.challenge.Challenge;
 import com.webauthn4j.data.client.challenge.DefaultChallenge;
 import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.MessageDigestUtil;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
@@ -49,6 +50,18 @@ class ServerPropertyTest {
         );
     }
 
+    @Test
+    void getRpIdHash_test() {
+        ServerProperty serverProperty = new ServerProperty(webApp1Origin, rpId, null, null);
+        byte[] expected = MessageDigestUtil.createSHA256().digest(rpId.getBytes(StandardCharsets.UTF_8));
+
+        byte[] rpIdHash = serverProperty.getRpIdHash();
+        assertThat(rpIdHash).isEqualTo(expected);
+        rpIdHash[0] ^= 0x01;
+        assertThat(new ServerProperty(webApp2Origin, rpId, null, null).getRpIdHash()).isEqualTo(expected);
+        assertThat(new ServerProperty(webApp1Origin, "other." + rpId, null, null).getRpIdHash()).isNotEqualTo(expected);
+    }
+
     @Test
     void equals_hashCode_test() {
         Challenge challenge = new DefaultChallenge();
@@ -27,9 +27,12 @@ import com.webauthn4j.validator.exception.CertificateException;
 import com.webauthn4j.validator.exception.TrustAnchorNotFoundException;
 import org.junit.jupiter.api.Test;
 
+import java.security.cert.PKIXParameters;
 import java.security.cert.TrustAnchor;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -86,6 +89,89 @@ class TrustAnchorCertPathTrustworthinessValidatorTest {
         );
     }
 
+    @Test
+    void validate_with_cached_cert_path_and_expired_timestamp_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load2tierTestRootCACertificate()));
+        when(trustAnchorsResolver.resolve(aaguid)).thenReturn(trustAnchors);
+
+        AttestationCertificatePath attestationCertificatePath = TestAttestationUtil.load2tierTestAttestationCertificatePath();
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createFIDOU2FAttestationStatement(attestationCertificatePath);
+        Instant timestamp = attestationCertificatePath.get(0).getNotBefore().toInstant().plusSeconds(1);
+        target.validate(aaguid, attestationStatement, timestamp);
+        target.validate(aaguid, attestationStatement, timestamp);
+
+        Instant expired = attestationCertificatePath.get(0).getNotAfter().toInstant().plusSeconds(1);
+        assertThrows(CertificateException.class,
+                () -> target.validate(aaguid, attestationStatement, expired)
+        );
+    }
+
+    @Test
+    void validate_full_chain_with_cached_cert_path_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorsResolver.resolve(aaguid)).thenReturn(trustAnchors);
+
+        AttestationCertificatePath attestationCertificatePath
+                = new AttestationCertificatePath(Arrays.asList(
+                TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate(),
+                TestAttestationUtil.load3tierTestIntermediateCACertificate(),
+                TestAttestationUtil.load3tierTestRootCACertificate()));
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createFIDOU2FAttestationStatement(attestationCertificatePath);
+        target.validate(aaguid, attestationStatement);
+        target.setFullChainProhibited(true);
+        assertThrows(CertificateException.class,
+                () -> target.validate(aaguid, attestationStatement)
+        );
+    }
+
+    @Test
+    void validate_with_cache_disabled_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load2tierTestRootCACertificate()));
+        when(trustAnchorsResolver.resolve(aaguid)).thenReturn(trustAnchors);
+
+        target.setVerifiedCertPathCacheSize(0);
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createFIDOU2FAttestationStatement(TestAttestationUtil.load2tierTestAttestationCertificatePath());
+        target.validate(aaguid, attestationStatement);
+        target.validate(aaguid, attestationStatement);
+    }
+
+    @Test
+    void createPKIXParameters_test() {
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load2tierTestRootCACertificate()));
+
+        PKIXParameters pkixParametersA = target.createPKIXParameters(aaguid, trustAnchors);
+        pkixParametersA.setRevocationEnabled(false);
+        PKIXParameters pkixParametersB = target.createPKIXParameters(aaguid, trustAnchors);
+        assertThat(pkixParametersB).isNotSameAs(pkixParametersA);
+        assertThat(pkixParametersB.isRevocationEnabled()).isTrue();
+        assertThat(pkixParametersB.getTrustAnchors()).isEqualTo(trustAnchors);
+
+        Set<TrustAnchor> reloadedTrustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        assertThat(target.createPKIXParameters(aaguid, reloadedTrustAnchors).getTrustAnchors()).isEqualTo(reloadedTrustAnchors);
+    }
+
+    @Test
+    void createPKIXParameters_test_builds_one_template_per_trustAnchors_set() {
+        Set<TrustAnchor> commonTrustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load2tierTestRootCACertificate()));
+
+        target.createPKIXParameters(new AAGUID("fea37a71-08ce-4a2a-b45a-7e7e3d2e5bbd"), commonTrustAnchors);
+        target.createPKIXParameters(new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812"), commonTrustAnchors);
+        assertThat(target.getPKIXParametersTemplateCount()).isEqualTo(1);
+
+        target.createPKIXParameters(aaguid, new HashSet<>(commonTrustAnchors));
+        assertThat(target.getPKIXParametersTemplateCount()).isEqualTo(2);
+    }
+
     @Test
     void getter_setter_test() {
         target.setFullChainProhibited(true);
@@ -94,6 +180,10 @@ class TrustAnchorCertPathTrustworthinessValidatorTest {
         assertThat(target.isPolicyQualifiersRejected()).isTrue();
         target.setRevocationCheckEnabled(true);
         assertThat(target.isRevocationCheckEnabled()).isTrue();
+        target.setVerifiedCertPathCacheSize(16);
+        assertThat(target.getVerifiedCertPathCacheSize()).isEqualTo(16);
+        target.setVerifiedCertPathCacheSize(0);
+        assertThat(target.getVerifiedCertPathCacheSize()).isZero();
     }
 
     @Test
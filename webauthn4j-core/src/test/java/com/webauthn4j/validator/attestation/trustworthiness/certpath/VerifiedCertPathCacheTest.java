@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.CertificateUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedCertPathCacheTest {
+
+    private final List<X509Certificate> certificates = TestAttestationUtil.load2tierTestAttestationCertificatePath();
+    private final Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(Collections.singletonList(TestAttestationUtil.load2tierTestRootCACertificate()));
+    private final TrustAnchor trustAnchor = trustAnchors.iterator().next();
+    private final Instant validTimestamp = certificates.get(0).getNotBefore().toInstant().plusSeconds(1);
+
+    @Test
+    void get_test() {
+        VerifiedCertPathCache target = new VerifiedCertPathCache(16);
+        VerifiedCertPathCache.Key key = VerifiedCertPathCache.createKey(certificates, trustAnchors, false);
+        assertThat(target.get(key, validTimestamp)).isNull();
+        target.put(key, certificates, trustAnchor);
+        assertThat(target.get(VerifiedCertPathCache.createKey(certificates, trustAnchors, false), validTimestamp)).isSameAs(trustAnchor);
+    }
+
+    @Test
+    void get_outside_validity_period_test() {
+        VerifiedCertPathCache target = new VerifiedCertPathCache(16);
+        VerifiedCertPathCache.Key key = VerifiedCertPathCache.createKey(certificates, trustAnchors, false);
+        target.put(key, certificates, trustAnchor);
+
+        assertThat(target.get(key, certificates.get(0).getNotBefore().toInstant().minusSeconds(1))).isNull();
+        assertThat(target.size()).isEqualTo(1);
+        assertThat(target.get(key, certificates.get(0).getNotAfter().toInstant().plusSeconds(1))).isNull();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void key_with_different_trustAnchors_test() {
+        Set<TrustAnchor> reloadedTrustAnchors = CertificateUtil.generateTrustAnchors(Collections.singletonList(TestAttestationUtil.load2tierTestRootCACertificate()));
+        assertThat(VerifiedCertPathCache.createKey(certificates, trustAnchors, false))
+                .isEqualTo(VerifiedCertPathCache.createKey(certificates, trustAnchors, false))
+                .isNotEqualTo(VerifiedCertPathCache.createKey(certificates, reloadedTrustAnchors, false))
+                .isNotEqualTo(VerifiedCertPathCache.createKey(certificates, trustAnchors, true))
+                .isNotEqualTo(VerifiedCertPathCache.createKey(certificates.subList(0, 0), trustAnchors, false));
+    }
+
+    @Test
+    void key_with_equal_but_distinct_trustAnchors_set_test() {
+        Set<TrustAnchor> copiedTrustAnchors = new HashSet<>(trustAnchors);
+        assertThat(VerifiedCertPathCache.createKey(certificates, copiedTrustAnchors, false))
+                .isNotEqualTo(VerifiedCertPathCache.createKey(certificates, trustAnchors, false));
+    }
+
+    @Test
+    void eviction_test() {
+        VerifiedCertPathCache target = new VerifiedCertPathCache(1);
+        VerifiedCertPathCache.Key key1 = VerifiedCertPathCache.createKey(certificates, trustAnchors, false);
+        VerifiedCertPathCache.Key key2 = VerifiedCertPathCache.createKey(certificates, trustAnchors, true);
+        target.put(key1, certificates, trustAnchor);
+        target.put(key2, certificates, trustAnchor);
+        assertThat(target.size()).isEqualTo(1);
+        assertThat(target.get(key1, validTimestamp)).isNull();
+        assertThat(target.get(key2, validTimestamp)).isSameAs(trustAnchor);
+    }
+}
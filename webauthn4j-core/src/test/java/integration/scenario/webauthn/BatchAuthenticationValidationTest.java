@@ -0,0 +1,222 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package integration.scenario.webauthn;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientInput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.EmulatorUtil;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.validator.exception.BadChallengeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class BatchAuthenticationValidationTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+
+    private final Origin origin = new Origin("http://example.com");
+    private final String rpId = "example.com";
+    private final ClientPlatform clientPlatform = EmulatorUtil.createClientPlatform(EmulatorUtil.PACKED_AUTHENTICATOR);
+    private final WebAuthnManager target = WebAuthnManager.createNonStrictWebAuthnManager(objectConverter);
+
+    @Test
+    void validateBatch_test() {
+        List<AuthenticationBatchItem> items = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            items.add(createBatchItem(new DefaultChallenge()));
+        }
+
+        List<AuthenticationBatchResult> results = target.validateBatch(items);
+
+        assertThat(results).hasSize(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            AuthenticationBatchResult result = results.get(i);
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getException()).isNull();
+            assertThat(result.getAuthenticationData().getCredentialId()).isEqualTo(items.get(i).getAuthenticationRequest().getCredentialId());
+        }
+    }
+
+    @Test
+    void validateBatch_isolates_failures_test() {
+        AuthenticationBatchItem valid = createBatchItem(new DefaultChallenge());
+        AuthenticationBatchItem badChallenge = createBatchItem(new DefaultChallenge());
+        AuthenticationBatchItem mismatchedChallenge = new AuthenticationBatchItem(
+                badChallenge.getAuthenticationRequest(),
+                createAuthenticationParameters(new DefaultChallenge(), badChallenge.getAuthenticationParameters())
+        );
+        AuthenticationRequest original = valid.getAuthenticationRequest();
+        AuthenticationBatchItem malformed = new AuthenticationBatchItem(
+                new AuthenticationRequest(original.getCredentialId(), new byte[]{0x01, 0x02}, original.getClientDataJSON(), original.getClientExtensionsJSON(), original.getSignature()),
+                createBatchItem(new DefaultChallenge()).getAuthenticationParameters()
+        );
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        List<AuthenticationBatchResult> results;
+        try {
+            results = target.validateBatch(Arrays.asList(mismatchedChallenge, valid, malformed), executorService);
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(0).getException()).isInstanceOf(BadChallengeException.class);
+        assertThat(results.get(1).isSuccess()).isTrue();
+        assertThat(results.get(1).getAuthenticationData()).isNotNull();
+        assertThat(results.get(2).isSuccess()).isFalse();
+        assertThat(results.get(2).getException()).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void validateBatch_isolates_rejected_items_test() {
+        AuthenticationBatchItem valid = createBatchItem(new DefaultChallenge());
+        AuthenticationBatchItem rejected = createBatchItem(new DefaultChallenge());
+        AtomicInteger submissions = new AtomicInteger();
+        Executor executor = command -> {
+            if (submissions.incrementAndGet() == 2) {
+                throw new RejectedExecutionException();
+            }
+            command.run();
+        };
+
+        List<AuthenticationBatchResult> results = target.validateBatch(Arrays.asList(valid, rejected), executor);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).getException()).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void validateBatch_propagates_errors_test() {
+        AuthenticationBatchItem erroneous = new AuthenticationBatchItem(
+                createBatchItem(new DefaultChallenge()).getAuthenticationRequest(),
+                mock(AuthenticationParameters.class, invocation -> {
+                    throw new StackOverflowError();
+                })
+        );
+
+        assertThrows(StackOverflowError.class, () -> target.validateBatch(Collections.singletonList(erroneous), Runnable::run));
+    }
+
+    @Test
+    void validateBatch_rejects_null_item_before_submitting_test() {
+        AtomicInteger submissions = new AtomicInteger();
+        Executor executor = command -> {
+            submissions.incrementAndGet();
+            command.run();
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> target.validateBatch(Arrays.asList(createBatchItem(new DefaultChallenge()), null), executor));
+        assertThat(submissions.get()).isZero();
+    }
+
+    private AuthenticationBatchItem createBatchItem(Challenge challenge) {
+        AttestationObject attestationObject = createAttestationObject(challenge);
+
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse authenticatorResponse = credential.getAuthenticatorResponse();
+
+        AuthenticationRequest authenticationRequest = new AuthenticationRequest(
+                credential.getRawId(),
+                authenticatorResponse.getAuthenticatorData(),
+                authenticatorResponse.getClientDataJSON(),
+                (String) null,
+                authenticatorResponse.getSignature()
+        );
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(
+                new ServerProperty(origin, rpId, challenge, null),
+                TestDataUtil.createAuthenticator(attestationObject),
+                null,
+                true
+        );
+        return new AuthenticationBatchItem(authenticationRequest, authenticationParameters);
+    }
+
+    private AuthenticationParameters createAuthenticationParameters(Challenge challenge, AuthenticationParameters base) {
+        return new AuthenticationParameters(
+                new ServerProperty(origin, rpId, challenge, null),
+                base.getAuthenticator(),
+                null,
+                true
+        );
+    }
+
+    private AttestationObject createAttestationObject(Challenge challenge) {
+        AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
+                new AuthenticatorSelectionCriteria(
+                        AuthenticatorAttachment.CROSS_PLATFORM,
+                        true,
+                        UserVerificationRequirement.REQUIRED);
+
+        PublicKeyCredentialParameters publicKeyCredentialParameters = new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256);
+
+        PublicKeyCredentialUserEntity publicKeyCredentialUserEntity = new PublicKeyCredentialUserEntity(new byte[32], "username", "displayName");
+
+        AuthenticationExtensionsClientInputs<RegistrationExtensionClientInput> extensions = new AuthenticationExtensionsClientInputs<>();
+        PublicKeyCredentialCreationOptions credentialCreationOptions
+                = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(rpId, "example.com"),
+                publicKeyCredentialUserEntity,
+                challenge,
+                Collections.singletonList(publicKeyCredentialParameters),
+                null,
+                Collections.emptyList(),
+                authenticatorSelectionCriteria,
+                AttestationConveyancePreference.NONE,
+                extensions
+        );
+
+        AuthenticatorAttestationResponse registrationRequest = clientPlatform.create(credentialCreationOptions).getAuthenticatorResponse();
+        AttestationObjectConverter attestationObjectConverter = new AttestationObjectConverter(objectConverter);
+        return attestationObjectConverter.convert(registrationRequest.getAttestationObject());
+    }
+}
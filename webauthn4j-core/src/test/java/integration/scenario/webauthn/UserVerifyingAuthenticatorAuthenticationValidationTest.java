@@ -42,6 +42,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -113,6 +114,59 @@ class UserVerifyingAuthenticatorAuthenticationValidationTest {
         );
     }
 
+    @Test
+    void validateAsync_test() {
+        String rpId = "example.com";
+        long timeout = 0;
+        Challenge challenge = new DefaultChallenge();
+
+        // create
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+
+        // get
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                timeout,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse authenticationRequest = credential.getAuthenticatorResponse();
+        AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensionResults = credential.getClientExtensionResults();
+        String clientExtensionJSON = authenticationExtensionsClientOutputsConverter.convertToString(clientExtensionResults);
+
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+        Authenticator authenticator = TestDataUtil.createAuthenticator(attestationObject);
+
+        AuthenticationRequest webAuthnAuthenticationRequest =
+                new AuthenticationRequest(
+                        credential.getRawId(),
+                        authenticationRequest.getAuthenticatorData(),
+                        authenticationRequest.getClientDataJSON(),
+                        clientExtensionJSON,
+                        authenticationRequest.getSignature()
+                );
+        List<byte[]> allowCredentials = null;
+        AuthenticationParameters authenticationParameters =
+                new AuthenticationParameters(
+                        serverProperty,
+                        authenticator,
+                        allowCredentials,
+                        true
+                );
+
+        AuthenticationData authenticationData = target.validateAsync(webAuthnAuthenticationRequest, authenticationParameters, ForkJoinPool.commonPool()).toCompletableFuture().join();
+
+        assertAll(
+                () -> assertThat(authenticationData.getCollectedClientData()).isNotNull(),
+                () -> assertThat(authenticationData.getAuthenticatorData()).isNotNull(),
+                () -> assertThat(authenticationData.getClientExtensions()).isNotNull()
+        );
+    }
+
     @Test
     void validate_assertion_with_tokenBinding_test() {
         String rpId = "example.com";
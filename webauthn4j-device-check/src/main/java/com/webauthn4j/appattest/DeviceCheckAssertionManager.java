@@ -34,6 +34,9 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class DeviceCheckAssertionManager {
 
@@ -89,6 +92,32 @@ public class DeviceCheckAssertionManager {
         return validate(dcAssertionData, dcAssertionParameters);
     }
 
+    /**
+     * Parses and validates the assertion request asynchronously on the specified {@link Executor}.
+     * If the request is invalid, the returned {@link CompletionStage} completes exceptionally with the {@link DataConversionException}
+     * or {@link ValidationException} itself; its dependent stages receive it wrapped in a {@link java.util.concurrent.CompletionException}.
+     * Assertion validation only verifies the signature and the counter, so it is CPU bound unless custom authentication
+     * validators do I/O.
+     *
+     * @param dcAssertionRequest assertion request
+     * @param dcAssertionParameters assertion parameters
+     * @param executor executor to run parsing and validation on
+     * @return {@link CompletionStage} of the validated {@link DCAssertionData}
+     */
+    public @NonNull CompletionStage<DCAssertionData> validateAsync(@NonNull DCAssertionRequest dcAssertionRequest, @NonNull DCAssertionParameters dcAssertionParameters, @NonNull Executor executor) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        CompletableFuture<DCAssertionData> future = new CompletableFuture<>();
+        // completed directly, so that the stage itself carries the unwrapped exception
+        executor.execute(() -> {
+            try {
+                future.complete(validate(dcAssertionRequest, dcAssertionParameters));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
     @SuppressWarnings("squid:S1130")
     public @NonNull DCAssertionData validate(@NonNull DCAssertionData dcAssertionData, @NonNull DCAssertionParameters dcAssertionParameters) throws ValidationException {
         getDCAssertionDataValidator().validate(dcAssertionData, dcAssertionParameters);
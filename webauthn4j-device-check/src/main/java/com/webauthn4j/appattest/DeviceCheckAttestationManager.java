@@ -31,6 +31,9 @@ import com.webauthn4j.validator.exception.ValidationException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class DeviceCheckAttestationManager {
 
@@ -78,6 +81,32 @@ public class DeviceCheckAttestationManager {
         return validate(dcAttestationData, dcAttestationParameters);
     }
 
+    /**
+     * Parses and validates the attestation request asynchronously on the specified {@link Executor}.
+     * If the request is invalid, the returned {@link CompletionStage} completes exceptionally with the {@link DataConversionException}
+     * or {@link ValidationException} itself; its dependent stages receive it wrapped in a {@link java.util.concurrent.CompletionException}.
+     * Validating the App Attest certificate path may block on the trust anchors provider of the configured {@link
+     * CertPathTrustworthinessValidator}, so pass an executor suitable for blocking work rather than an event-loop.
+     *
+     * @param dcAttestationRequest attestation request
+     * @param dcAttestationParameters attestation parameters
+     * @param executor executor to run parsing and validation on
+     * @return {@link CompletionStage} of the validated {@link DCAttestationData}
+     */
+    public @NonNull CompletionStage<DCAttestationData> validateAsync(@NonNull DCAttestationRequest dcAttestationRequest, @NonNull DCAttestationParameters dcAttestationParameters, @NonNull Executor executor) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        CompletableFuture<DCAttestationData> future = new CompletableFuture<>();
+        // completed directly, so that the stage itself carries the unwrapped exception
+        executor.execute(() -> {
+            try {
+                future.complete(validate(dcAttestationRequest, dcAttestationParameters));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
     @SuppressWarnings("squid:S1130")
     public @NonNull DCAttestationData validate(@NonNull DCAttestationData dcAttestationData, @NonNull DCAttestationParameters dcAttestationParameters) throws ValidationException {
         getDCAttestationDataValidator().validate(dcAttestationData, dcAttestationParameters);
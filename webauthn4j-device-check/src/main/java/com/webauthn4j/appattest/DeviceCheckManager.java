@@ -33,6 +33,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class DeviceCheckManager {
 
@@ -136,6 +138,10 @@ public class DeviceCheckManager {
         return this.deviceCheckAttestationManager.validate(dcAttestationRequest, dcAttestationParameters);
     }
 
+    public @NonNull CompletionStage<DCAttestationData> validateAsync(@NonNull DCAttestationRequest dcAttestationRequest, @NonNull DCAttestationParameters dcAttestationParameters, @NonNull Executor executor) {
+        return this.deviceCheckAttestationManager.validateAsync(dcAttestationRequest, dcAttestationParameters, executor);
+    }
+
     @SuppressWarnings("squid:S1130")
     public @NonNull DCAttestationData validate(@NonNull DCAttestationData dcAttestationData, @NonNull DCAttestationParameters dcAttestationParameters) throws ValidationException {
         return this.deviceCheckAttestationManager.validate(dcAttestationData, dcAttestationParameters);
@@ -151,6 +157,10 @@ public class DeviceCheckManager {
         return this.deviceCheckAssertionManager.validate(dcAssertionRequest, dcAssertionParameters);
     }
 
+    public @NonNull CompletionStage<DCAssertionData> validateAsync(@NonNull DCAssertionRequest dcAssertionRequest, @NonNull DCAssertionParameters dcAssertionParameters, @NonNull Executor executor) {
+        return this.deviceCheckAssertionManager.validateAsync(dcAssertionRequest, dcAssertionParameters, executor);
+    }
+
     @SuppressWarnings("squid:S1130")
     public @NonNull DCAssertionData validate(@NonNull DCAssertionData dcAssertionData, @NonNull DCAssertionParameters dcAssertionParameters) throws ValidationException {
         return this.deviceCheckAssertionManager.validate(dcAssertionData, dcAssertionParameters);
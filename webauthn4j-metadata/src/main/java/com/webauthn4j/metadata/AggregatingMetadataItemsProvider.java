@@ -14,39 +14,212 @@
  * limitations under the License.
  */
 
+
 package com.webauthn4j.metadata;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.util.AssertUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
+/**
+ * {@link MetadataItemsProvider} which merges the metadata items of several providers.
+ * <p>
+ * Providers are queried on an executor. Once a provider has produced a first result, {@link #provide()} serves its last
+ * good result without waiting, and re-queries it in the background at most once per refresh interval, so that one slow
+ * source does not stall the others nor the calling thread. {@link #provide()} waits up to the provider timeout for
+ * providers which have not produced a first result yet. By default, like {@link AggregatingMetadataStatementsProvider},
+ * a provider which fails or times out before its first result is logged and left out of the merge, so that the other
+ * sources keep working while, for example, the metadata service is unreachable at boot.
+ * With {@link #setRequireAllProviders(boolean)} enabled, {@link #provide()} throws {@link MDSException} instead, rather
+ * than publishing a partial merge which lets authenticators of the missing source pass as having no metadata.
+ */
 public class AggregatingMetadataItemsProvider implements MetadataItemsProvider {
 
+    private static final Duration DEFAULT_PROVIDER_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(1);
+    private static final int MAX_DEFAULT_THREADS = 4;
+
     private final Logger logger = LoggerFactory.getLogger(AggregatingMetadataItemsProvider.class);
 
-    private final List<MetadataItemsProvider> metadataItemsProviders;
+    private final List<Source> sources;
+    private final Executor executor;
+    private Duration providerTimeout = DEFAULT_PROVIDER_TIMEOUT;
+    private Duration refreshInterval = DEFAULT_REFRESH_INTERVAL;
+    private boolean requireAllProviders = false;
+    private final MetadataMapAggregator<MetadataItem> aggregator = new MetadataMapAggregator<>();
 
     public AggregatingMetadataItemsProvider(List<MetadataItemsProvider> metadataItemsProviders) {
-        this.metadataItemsProviders = metadataItemsProviders;
+        this(metadataItemsProviders, createDefaultExecutor(metadataItemsProviders.size()));
+    }
+
+    /**
+     * @param metadataItemsProviders providers to aggregate
+     * @param executor               executor the providers are queried on. At most one query per provider is in flight at a time.
+     */
+    public AggregatingMetadataItemsProvider(List<MetadataItemsProvider> metadataItemsProviders, Executor executor) {
+        AssertUtil.notNull(metadataItemsProviders, "metadataItemsProviders must not be null");
+        AssertUtil.notNull(executor, "executor must not be null");
+        this.sources = metadataItemsProviders.stream().map(Source::new).collect(Collectors.toList());
+        this.executor = executor;
     }
 
+    private static Executor createDefaultExecutor(int providerCount) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "webauthn4j-metadata-aggregation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        int threads = Math.max(1, Math.min(providerCount, MAX_DEFAULT_THREADS));
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return threadPoolExecutor;
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
     @Override
     public Map<AAGUID, Set<MetadataItem>> provide() {
-        Map<AAGUID, Set<MetadataItem>> map = new HashMap<>();
-        metadataItemsProviders.forEach(provider -> {
+        long deadline = System.nanoTime() + providerTimeout.toNanos();
+        // queries are started for every source first, so that sources without a first result are loaded in parallel
+        sources.forEach(Source::refreshIfDue);
+        List<Map<AAGUID, Set<MetadataItem>>> providedMaps = new ArrayList<>(sources.size());
+        for (Source source : sources) {
+            try {
+                providedMaps.add(source.get(deadline));
+            } catch (MDSException e) {
+                if (requireAllProviders) {
+                    throw e;
+                }
+                logger.warn("Failed to load metadata from one of metadataItemsProviders. It is left out of the merge.", e);
+                providedMaps.add(null);
+            }
+        }
+        return aggregator.aggregate(providedMaps);
+    }
+
+    public Duration getProviderTimeout() {
+        return providerTimeout;
+    }
+
+    /**
+     * Sets how long {@link #provide()} waits for providers which have not produced a first result yet.
+     * Past it, the provider is left out of the merge, or {@link #provide()} throws {@link MDSException} if all providers
+     * are required. Either way, the pending query is awaited again by the next call.
+     *
+     * @param providerTimeout provider timeout
+     */
+    public void setProviderTimeout(Duration providerTimeout) {
+        AssertUtil.notNull(providerTimeout, "providerTimeout must not be null");
+        AssertUtil.isTrue(!providerTimeout.isNegative(), "providerTimeout must not be negative");
+        this.providerTimeout = providerTimeout;
+    }
+
+    public boolean isRequireAllProviders() {
+        return requireAllProviders;
+    }
+
+    /**
+     * Sets whether {@link #provide()} fails while a provider has not produced a first result, instead of merging the
+     * results of the other providers. Enable it when an authenticator missing from the merge must not be treated as
+     * having no metadata.
+     *
+     * @param requireAllProviders true to fail closed until every provider has produced a first result
+     */
+    public void setRequireAllProviders(boolean requireAllProviders) {
+        this.requireAllProviders = requireAllProviders;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * Sets the minimum interval between background queries of a provider which has already produced a result.
+     * Changes published by a provider are picked up by {@link #provide()} after up to this interval plus the query time.
+     *
+     * @param refreshInterval refresh interval
+     */
+    public void setRefreshInterval(Duration refreshInterval) {
+        AssertUtil.notNull(refreshInterval, "refreshInterval must not be null");
+        AssertUtil.isTrue(!refreshInterval.isNegative(), "refreshInterval must not be negative");
+        this.refreshInterval = refreshInterval;
+    }
+
+    private class Source {
+
+        private final MetadataItemsProvider provider;
+        // guarded by this
+        private CompletableFuture<Map<AAGUID, Set<MetadataItem>>> pending;
+        private long lastQueryStartedAt;
+        private volatile Map<AAGUID, Set<MetadataItem>> lastGood;
+
+        Source(MetadataItemsProvider provider) {
+            this.provider = provider;
+        }
+
+        synchronized void refreshIfDue() {
+            if (pending != null && !pending.isDone()) {
+                return;
+            }
+            long now = System.nanoTime();
+            if (lastGood != null && now - lastQueryStartedAt < refreshInterval.toNanos()) {
+                return;
+            }
+            lastQueryStartedAt = now;
             try {
-                Map<AAGUID, Set<MetadataItem>> provided = provider.provide();
-                provided.keySet().forEach(aaguid -> {
-                    map.putIfAbsent(aaguid, new HashSet<>());
-                    map.get(aaguid).addAll(provided.get(aaguid));
-                });
-            } catch (RuntimeException e) {
-                logger.warn("Failed to load metadata from one of metadataItemsProviders", e);
-            }
-        });
-        return map;
+                pending = CompletableFuture.supplyAsync(provider::provide, executor);
+            } catch (RejectedExecutionException e) {
+                logger.warn("Failed to query one of metadataItemsProviders", e);
+                return;
+            }
+            pending.whenComplete((provided, throwable) -> {
+                if (throwable != null) {
+                    logger.warn("Failed to load metadata from one of metadataItemsProviders. Its last good result is used.", throwable);
+                }
+                else if (provided != null) {
+                    lastGood = provided;
+                }
+            });
+        }
+
+        Map<AAGUID, Set<MetadataItem>> get(long deadline) {
+            Map<AAGUID, Set<MetadataItem>> current = lastGood;
+            if (current != null) {
+                return current;
+            }
+            CompletableFuture<Map<AAGUID, Set<MetadataItem>>> future;
+            synchronized (this) {
+                future = pending;
+            }
+            if (future == null) {
+                throw new MDSException("One of metadataItemsProviders could not be queried");
+            }
+            try {
+                Map<AAGUID, Set<MetadataItem>> provided = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (provided == null) {
+                    throw new MDSException("One of metadataItemsProviders provided no metadata");
+                }
+                lastGood = provided;
+                return provided;
+            } catch (TimeoutException e) {
+                throw new MDSException(String.format("One of metadataItemsProviders has not provided metadata within %s", providerTimeout), e);
+            } catch (ExecutionException e) {
+                throw new MDSException("Failed to load metadata from one of metadataItemsProviders", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MDSException("Interrupted while waiting for one of metadataItemsProviders", e);
+            }
+        }
     }
 }
@@ -28,6 +28,7 @@ public class AggregatingMetadataStatementsProvider implements MetadataStatements
     private final Logger logger = LoggerFactory.getLogger(AggregatingMetadataStatementsProvider.class);
 
     private final List<MetadataStatementsProvider> metadataStatementsProviders;
+    private final MetadataMapAggregator<MetadataStatement> aggregator = new MetadataMapAggregator<>();
 
     public AggregatingMetadataStatementsProvider(List<MetadataStatementsProvider> metadataStatementsProviders) {
         this.metadataStatementsProviders = metadataStatementsProviders;
@@ -35,18 +36,16 @@ public class AggregatingMetadataStatementsProvider implements MetadataStatements
 
     @Override
     public Map<AAGUID, Set<MetadataStatement>> provide() {
-        Map<AAGUID, Set<MetadataStatement>> map = new HashMap<>();
+        List<Map<AAGUID, Set<MetadataStatement>>> providedMaps = new ArrayList<>(metadataStatementsProviders.size());
         metadataStatementsProviders.forEach(provider -> {
             try {
-                Map<AAGUID, Set<MetadataStatement>> provided = provider.provide();
-                provided.keySet().forEach(aaguid -> {
-                    map.putIfAbsent(aaguid, new HashSet<>());
-                    map.get(aaguid).addAll(provided.get(aaguid));
-                });
+                providedMaps.add(provider.provide());
             } catch (RuntimeException e) {
                 logger.warn("Failed to load metadata from one of metadataStatementsProviders", e);
+                providedMaps.add(null);
             }
         });
-        return map;
+
+        return aggregator.aggregate(providedMaps);
     }
 }
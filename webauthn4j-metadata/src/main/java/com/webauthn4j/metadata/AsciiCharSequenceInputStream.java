@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link InputStream} over an ASCII {@link CharSequence}, such as a compact serialized JWS, which reads the characters
+ * in place instead of copying them into a byte array first.
+ */
+class AsciiCharSequenceInputStream extends InputStream {
+
+    private final CharSequence charSequence;
+    private int position;
+
+    AsciiCharSequenceInputStream(CharSequence charSequence) {
+        this.charSequence = charSequence;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position >= charSequence.length()) {
+            return -1;
+        }
+        return toByte(charSequence.charAt(position++));
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int remaining = charSequence.length() - position;
+        if (remaining <= 0) {
+            return -1;
+        }
+        int length = Math.min(len, remaining);
+        for (int i = 0; i < length; i++) {
+            b[off + i] = (byte) toByte(charSequence.charAt(position++));
+        }
+        return length;
+    }
+
+    @Override
+    public int available() {
+        return Math.max(0, charSequence.length() - position);
+    }
+
+    private static int toByte(char c) throws IOException {
+        if (c > 0x7F) {
+            throw new IOException("non ASCII character is found");
+        }
+        return c;
+    }
+}
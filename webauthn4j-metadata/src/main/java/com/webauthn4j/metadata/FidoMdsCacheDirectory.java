@@ -0,0 +1,165 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.util.HexUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Properties;
+
+/**
+ * Local cache of raw FIDO MDS downloads. The TOC JWS is stored with its HTTP cache validators, and each metadata statement
+ * is stored under the hash the TOC publishes for it. Cached data is not trusted: callers must re-verify signatures and hashes.
+ */
+class FidoMdsCacheDirectory {
+
+    private static final String TOC_FILE = "toc.jws";
+    private static final String TOC_VALIDATORS_FILE = "toc.properties";
+    private static final String STATEMENTS_DIRECTORY = "statements";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "lastModified";
+
+    private final Logger logger = LoggerFactory.getLogger(FidoMdsCacheDirectory.class);
+
+    private final Path directory;
+
+    FidoMdsCacheDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Reads the cached TOC
+     *
+     * @return cached TOC, or null if it is not cached or its validators cannot be read. The TOC itself is read on demand.
+     */
+    CachedTOC readTOC() {
+        Path tocFile = directory.resolve(TOC_FILE);
+        if (!Files.exists(tocFile)) {
+            return null;
+        }
+        try {
+            Properties validators = new Properties();
+            Path validatorsFile = directory.resolve(TOC_VALIDATORS_FILE);
+            if (Files.exists(validatorsFile)) {
+                try (InputStream inputStream = Files.newInputStream(validatorsFile)) {
+                    validators.load(inputStream);
+                }
+            }
+            return new CachedTOC(tocFile, validators.getProperty(ETAG), validators.getProperty(LAST_MODIFIED));
+        } catch (IOException e) {
+            logger.warn("Failed to read cached TOC", e);
+            return null;
+        }
+    }
+
+    void writeTOC(String toc, String eTag, String lastModified) {
+        Properties validators = new Properties();
+        if (eTag != null) {
+            validators.setProperty(ETAG, eTag);
+        }
+        if (lastModified != null) {
+            validators.setProperty(LAST_MODIFIED, lastModified);
+        }
+        try {
+            Files.createDirectories(directory);
+            // validators are written first, so that a crash in between never pairs a new TOC with stale validators
+            Path validatorsTemp = Files.createTempFile(directory, TOC_VALIDATORS_FILE, ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(validatorsTemp)) {
+                validators.store(outputStream, null);
+            }
+            Files.deleteIfExists(directory.resolve(TOC_FILE));
+            Files.move(validatorsTemp, directory.resolve(TOC_VALIDATORS_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            write(directory.resolve(TOC_FILE), toc);
+        } catch (IOException e) {
+            logger.warn("Failed to write TOC to cache directory", e);
+        }
+    }
+
+    /**
+     * Reads the cached metadata statement
+     *
+     * @param hash hash of the metadata statement published in the TOC
+     * @return raw base64url encoded metadata statement, or null if it is not cached or cannot be read
+     */
+    String readStatement(byte[] hash) {
+        Path statementFile = resolveStatementFile(hash);
+        if (!Files.exists(statementFile)) {
+            return null;
+        }
+        try {
+            return new String(Files.readAllBytes(statementFile), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to read cached metadata statement", e);
+            return null;
+        }
+    }
+
+    void writeStatement(byte[] hash, String statement) {
+        try {
+            Files.createDirectories(directory.resolve(STATEMENTS_DIRECTORY));
+            write(resolveStatementFile(hash), statement);
+        } catch (IOException e) {
+            logger.warn("Failed to write metadata statement to cache directory", e);
+        }
+    }
+
+    private Path resolveStatementFile(byte[] hash) {
+        return directory.resolve(STATEMENTS_DIRECTORY).resolve(HexUtil.encodeToString(hash));
+    }
+
+    private void write(Path file, String content) throws IOException {
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static class CachedTOC {
+
+        private final Path tocFile;
+        private final String eTag;
+        private final String lastModified;
+
+        CachedTOC(Path tocFile, String eTag, String lastModified) {
+            this.tocFile = tocFile;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+        }
+
+        InputStream openTOC() throws IOException {
+            return new BufferedInputStream(Files.newInputStream(tocFile));
+        }
+
+        String getETag() {
+            return eTag;
+        }
+
+        String getLastModified() {
+            return lastModified;
+        }
+    }
+}
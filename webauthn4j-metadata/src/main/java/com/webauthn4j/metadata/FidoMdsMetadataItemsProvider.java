@@ -19,8 +19,6 @@ package com.webauthn4j.metadata;
 import com.webauthn4j.converter.util.JsonConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
-import com.webauthn4j.data.jws.JWS;
-import com.webauthn4j.data.jws.JWSFactory;
 import com.webauthn4j.metadata.data.MetadataItem;
 import com.webauthn4j.metadata.data.MetadataItemImpl;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
@@ -28,9 +26,10 @@ import com.webauthn4j.metadata.data.toc.MetadataTOCPayload;
 import com.webauthn4j.metadata.data.toc.MetadataTOCPayloadEntry;
 import com.webauthn4j.metadata.exception.MDSException;
 import com.webauthn4j.metadata.validator.MetadataStatementValidator;
+import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.CertificateUtil;
-import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.CryptoEnginePool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,9 +43,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
@@ -54,19 +60,36 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
     private static final String DEFAULT_FIDO_METADATA_SERVICE_ENDPOINT = "https://mds2.fidoalliance.org/";
     private final Logger logger = LoggerFactory.getLogger(FidoMdsMetadataItemsProvider.class);
     private final JsonConverter jsonConverter;
-    private final JWSFactory jwsFactory;
+    private final MetadataTOCStreamReader metadataTOCStreamReader;
     private final HttpClient httpClient;
     private final TrustAnchor trustAnchor;
     private final MetadataStatementValidator metadataStatementValidator = new MetadataStatementValidator();
+    private final MetadataStatementCompactor metadataStatementCompactor = new MetadataStatementCompactor();
     private final String token;
-    Map<AAGUID, Set<MetadataItem>> cachedMetadataItemMap;
-    OffsetDateTime nextUpdate;
-    OffsetDateTime lastRefresh;
+    private static final Duration DEFAULT_RETRY_INTERVAL = Duration.ofHours(1);
+    // refreshLock makes refresh single-flight, while schedulerLock only guards the scheduler state, so that starting or
+    // stopping the scheduled refresh never waits for a network refresh in progress
+    private final Object refreshLock = new Object();
+    private final Object schedulerLock = new Object();
+    // nextUpdate and lastRefresh are written before cachedMetadataItemMap, so that a reader seeing a new map sees its dates
+    volatile Map<AAGUID, Set<MetadataItem>> cachedMetadataItemMap;
+    volatile OffsetDateTime nextUpdate;
+    volatile OffsetDateTime lastRefresh;
+    // items of the last successful refresh keyed by their TOC entry, used to skip unchanged statements on the next one
+    private volatile Map<MetadataTOCPayloadEntry, MetadataItem> metadataItemsByEntry = Collections.emptyMap();
     private String fidoMetadataServiceEndpoint = DEFAULT_FIDO_METADATA_SERVICE_ENDPOINT;
+    private volatile ScheduledExecutorService scheduler;
+    private volatile ScheduledFuture<?> scheduledRefresh;
+    private Duration refreshJitter = Duration.ZERO;
+    private Duration retryInterval = DEFAULT_RETRY_INTERVAL;
+    private volatile FidoMdsCacheDirectory cacheDirectory;
+    private Duration cachedTOCGracePeriod = Duration.ZERO;
+    private volatile boolean leanMode = false;
+    private volatile Predicate<MetadataTOCPayloadEntry> entryFilter = entry -> true;
 
     public FidoMdsMetadataItemsProvider(ObjectConverter objectConverter, String token, HttpClient httpClient, X509Certificate rootCertificate) {
         this.jsonConverter = objectConverter.getJsonConverter();
-        this.jwsFactory = new JWSFactory(objectConverter);
+        this.metadataTOCStreamReader = new MetadataTOCStreamReader(objectConverter);
         this.token = token;
         this.httpClient = httpClient;
         this.trustAnchor = new TrustAnchor(rootCertificate, null);
@@ -85,7 +108,7 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
     }
 
     public FidoMdsMetadataItemsProvider(ObjectConverter objectConverter, X509Certificate x509Certificate) {
-        this(objectConverter, new SimpleHttpClient(), x509Certificate);
+        this(objectConverter, new KeepAliveHttpClient(), x509Certificate);
     }
 
     private static X509Certificate loadRootCertificateFromPath(Path path) {
@@ -122,12 +145,97 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
 
     @Override
     public Map<AAGUID, Set<MetadataItem>> provide() {
+        Map<AAGUID, Set<MetadataItem>> current = cachedMetadataItemMap;
+        // in scheduled refresh mode, requests are served from the last good snapshot once the first load has finished
+        if (current != null && scheduler != null) {
+            return current;
+        }
         if (needsRefresh()) {
-            refresh();
+            synchronized (refreshLock) {
+                if (needsRefresh()) {
+                    refresh();
+                }
+            }
         }
         return cachedMetadataItemMap;
     }
 
+    /**
+     * Starts refreshing metadata in the background with the specified {@link ScheduledExecutorService}.
+     * Refresh is scheduled ahead of the TOC nextUpdate by a random duration up to the refresh jitter, so that a fleet of servers
+     * doesn't hit the metadata service at once. On failure, the last good snapshot keeps being served and refresh is retried
+     * after the retry interval. Once the first load has finished, {@link #provide()} never blocks nor refreshes on the calling thread.
+     *
+     * @param scheduler {@link ScheduledExecutorService} to run refresh on
+     */
+    public void startScheduledRefresh(ScheduledExecutorService scheduler) {
+        AssertUtil.notNull(scheduler, "scheduler must not be null");
+        synchronized (schedulerLock) {
+            stopScheduledRefresh();
+            this.scheduler = scheduler;
+            if (cachedMetadataItemMap == null) {
+                scheduledRefresh = scheduler.schedule(this::runScheduledRefresh, 0, TimeUnit.MILLISECONDS);
+            }
+            else {
+                scheduleNextRefresh(scheduler);
+            }
+        }
+    }
+
+    /**
+     * Stops the background refresh started by {@link #startScheduledRefresh(ScheduledExecutorService)}.
+     * Metadata is refreshed on the calling thread when it is stale again afterwards.
+     */
+    public void stopScheduledRefresh() {
+        synchronized (schedulerLock) {
+            ScheduledFuture<?> future = scheduledRefresh;
+            if (future != null) {
+                future.cancel(false);
+            }
+            scheduledRefresh = null;
+            scheduler = null;
+        }
+    }
+
+    private void runScheduledRefresh() {
+        ScheduledExecutorService currentScheduler = scheduler;
+        if (currentScheduler == null) {
+            return;
+        }
+        boolean succeeded = false;
+        try {
+            synchronized (refreshLock) {
+                refresh();
+            }
+            succeeded = true;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to refresh metadata. The last good snapshot is kept.", e);
+        } finally {
+            synchronized (schedulerLock) {
+                // don't reschedule if the scheduled refresh is stopped or restarted meanwhile
+                if (scheduler == currentScheduler) {
+                    if (succeeded) {
+                        scheduleNextRefresh(currentScheduler);
+                    }
+                    else {
+                        scheduledRefresh = currentScheduler.schedule(this::runScheduledRefresh, retryInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                }
+            }
+        }
+    }
+
+    private void scheduleNextRefresh(ScheduledExecutorService scheduler) {
+        long jitterMillis = refreshJitter.toMillis();
+        long jitter = jitterMillis == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+        long delay = Duration.between(OffsetDateTime.now(ZoneOffset.UTC), nextUpdate).toMillis() - jitter;
+        if (delay <= 0) {
+            // nextUpdate has already passed, so the metadata service hasn't published a new TOC yet
+            delay = retryInterval.toMillis();
+        }
+        scheduledRefresh = scheduler.schedule(this::runScheduledRefresh, delay, TimeUnit.MILLISECONDS);
+    }
+
     public String getFidoMetadataServiceEndpoint() {
         return fidoMetadataServiceEndpoint;
     }
@@ -136,27 +244,157 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
         this.fidoMetadataServiceEndpoint = fidoMetadataServiceEndpoint;
     }
 
+    public Path getCacheDirectory() {
+        FidoMdsCacheDirectory currentCacheDirectory = cacheDirectory;
+        return currentCacheDirectory == null ? null : currentCacheDirectory.getDirectory();
+    }
+
+    /**
+     * Sets a local directory to cache the raw TOC and metadata statements in.
+     * When set, the TOC is fetched with conditional requests, metadata statements are fetched only when their TOC hash
+     * changed, and the cached TOC is used when the metadata service is unreachable, as long as its nextUpdate plus the
+     * cached TOC grace period has not passed. Cached data is always re-verified with the TOC signature, certificate path
+     * and statement hashes before use. When falling back to the cached TOC, revocation of the TOC signing certificates is
+     * checked in soft-fail mode, so that an offline node can boot from the cache directory even if the CRLs cannot be downloaded.
+     *
+     * @param cacheDirectory cache directory, or null to disable caching
+     */
+    public void setCacheDirectory(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory == null ? null : new FidoMdsCacheDirectory(cacheDirectory);
+    }
+
+    public boolean isLeanMode() {
+        return leanMode;
+    }
+
+    /**
+     * Enables the lean loading profile, as described on {@link JsonFileMetadataStatementsProvider#setLeanMode(boolean)},
+     * for the metadata statements fetched from the metadata service. Statements reused from a previous refresh keep
+     * the profile they were fetched with.
+     *
+     * @param leanMode true to load lean metadata statements
+     */
+    public void setLeanMode(boolean leanMode) {
+        this.leanMode = leanMode;
+    }
+
+    public Predicate<MetadataTOCPayloadEntry> getEntryFilter() {
+        return entryFilter;
+    }
+
+    /**
+     * Sets a filter on TOC entries. Entries are filtered while the TOC is read, before their metadata statements are
+     * fetched, so filtered out entries are neither downloaded, parsed nor held.
+     * Filtered out entries whose status reports reject the authenticator, such as a revocation or a key compromise, are
+     * still kept without their metadata statement, so that {@link FidoMdsMetadataValidator}
+     * rejects the authenticator instead of treating it as having no metadata.
+     * See {@link MetadataTOCPayloadEntryFilters} for common filters.
+     *
+     * @param entryFilter predicate which accepts the entries to load
+     */
+    public void setEntryFilter(Predicate<MetadataTOCPayloadEntry> entryFilter) {
+        AssertUtil.notNull(entryFilter, "entryFilter must not be null");
+        this.entryFilter = entryFilter;
+    }
+
+    public Duration getCachedTOCGracePeriod() {
+        return cachedTOCGracePeriod;
+    }
+
+    /**
+     * Sets how long past its nextUpdate the cached TOC is still used when the metadata service is unreachable.
+     * Once it has passed, the fetch fails rather than serving status reports which may have changed since.
+     *
+     * @param cachedTOCGracePeriod grace period
+     */
+    public void setCachedTOCGracePeriod(Duration cachedTOCGracePeriod) {
+        AssertUtil.notNull(cachedTOCGracePeriod, "cachedTOCGracePeriod must not be null");
+        AssertUtil.isTrue(!cachedTOCGracePeriod.isNegative(), "cachedTOCGracePeriod must not be negative");
+        this.cachedTOCGracePeriod = cachedTOCGracePeriod;
+    }
+
+    public Duration getRefreshJitter() {
+        return refreshJitter;
+    }
+
+    /**
+     * Sets the maximum random duration a scheduled refresh is run ahead of the TOC nextUpdate
+     *
+     * @param refreshJitter maximum jitter
+     */
+    public void setRefreshJitter(Duration refreshJitter) {
+        AssertUtil.notNull(refreshJitter, "refreshJitter must not be null");
+        AssertUtil.isTrue(!refreshJitter.isNegative(), "refreshJitter must not be negative");
+        this.refreshJitter = refreshJitter;
+    }
+
+    public Duration getRetryInterval() {
+        return retryInterval;
+    }
+
+    /**
+     * Sets the delay before a failed scheduled refresh is retried
+     *
+     * @param retryInterval retry interval
+     */
+    public void setRetryInterval(Duration retryInterval) {
+        AssertUtil.notNull(retryInterval, "retryInterval must not be null");
+        AssertUtil.isTrue(!retryInterval.isNegative() && !retryInterval.isZero(), "retryInterval must be positive");
+        this.retryInterval = retryInterval;
+    }
+
     private void refresh() {
         MetadataTOCPayload tocPayload = fetchMetadataTOCPayload(false);
 
-        cachedMetadataItemMap =
-                tocPayload.getEntries().parallelStream().map(entry -> {
-                    try {
-                        return fetchFidoMdsMetadataItem(entry);
-                    } catch (RuntimeException e) {
-                        logger.warn("Failed to fetch MetadataTOCPayLoad", e);
-                        return null;
-                    }
-                })
-                        .filter(Objects::nonNull)
+        // Entries whose statement hash is unchanged since the previous refresh reuse the already verified statement,
+        // so that only added or changed statements are downloaded, hash-checked, parsed and validated.
+        Map<MetadataTOCPayloadEntry, MetadataItem> previousItems = metadataItemsByEntry;
+        Map<String, MetadataStatement> previousStatements = new HashMap<>();
+        for (MetadataItem item : previousItems.values()) {
+            if (item.getMetadataStatement() != null) {
+                previousStatements.put(item.getHash(), item.getMetadataStatement());
+            }
+        }
+        Predicate<MetadataTOCPayloadEntry> currentEntryFilter = entryFilter;
+
+        Map<MetadataTOCPayloadEntry, MetadataItem> metadataItems = new ConcurrentHashMap<>();
+        tocPayload.getEntries().parallelStream().forEach(entry -> {
+            try {
+                metadataItems.put(entry, resolveFidoMdsMetadataItem(entry, currentEntryFilter, previousItems, previousStatements));
+            } catch (RuntimeException e) {
+                logger.warn("Failed to fetch MetadataTOCPayLoad", e);
+            }
+        });
+
+        Map<AAGUID, Set<MetadataItem>> metadataItemMap =
+                metadataItems.values().stream()
                         .distinct()
                         .collect(Collectors.groupingBy(MetadataItem::getAaguid))
                         .entrySet()
                         .stream()
                         .collect(Collectors.toMap(Map.Entry::getKey, entry -> Collections.unmodifiableSet(new HashSet<>(entry.getValue()))));
 
+        metadataItemsByEntry = Collections.unmodifiableMap(new HashMap<>(metadataItems));
         nextUpdate = tocPayload.getNextUpdate().atStartOfDay().atOffset(ZoneOffset.UTC);
         lastRefresh = OffsetDateTime.now(ZoneOffset.UTC);
+        cachedMetadataItemMap = metadataItemMap;
+    }
+
+    private MetadataItem resolveFidoMdsMetadataItem(MetadataTOCPayloadEntry entry, Predicate<MetadataTOCPayloadEntry> entryFilter, Map<MetadataTOCPayloadEntry, MetadataItem> previousItems, Map<String, MetadataStatement> previousStatements) {
+        if (!entryFilter.test(entry) && hasRejectedStatus(entry)) {
+            // kept only for its status reports, which reject the authenticator
+            return createMetadataItem(entry, null);
+        }
+        MetadataItem previousItem = previousItems.get(entry);
+        if (previousItem != null && previousItem.getMetadataStatement() != null) {
+            return previousItem;
+        }
+        MetadataStatement previousStatement = previousStatements.get(entry.getHash());
+        if (previousStatement != null) {
+            // only the status part of the entry has changed
+            return createMetadataItem(entry, previousStatement);
+        }
+        return fetchFidoMdsMetadataItem(entry);
     }
 
     boolean needsRefresh() {
@@ -173,20 +411,86 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
     MetadataTOCPayload fetchMetadataTOCPayload(boolean skipCertPathValidation) {
         String uriWithToken = appendToken(fidoMetadataServiceEndpoint, token);
 
-        String toc = httpClient.fetch(uriWithToken);
+        FidoMdsCacheDirectory currentCacheDirectory = cacheDirectory;
+        if (currentCacheDirectory == null) {
+            String toc = httpClient.fetch(uriWithToken);
+            return verifyMetadataTOC(new AsciiCharSequenceInputStream(toc), skipCertPathValidation, false);
+        }
 
-        JWS<MetadataTOCPayload> jws = jwsFactory.parse(toc, MetadataTOCPayload.class);
-        if (!jws.isValidSignature()) {
-            throw new MDSException("invalid signature");
+        FidoMdsCacheDirectory.CachedTOC cachedTOC = currentCacheDirectory.readTOC();
+        HttpFetchResponse response;
+        try {
+            response = cachedTOC == null ?
+                    httpClient.fetch(uriWithToken, null, null) :
+                    httpClient.fetch(uriWithToken, cachedTOC.getETag(), cachedTOC.getLastModified());
+        } catch (MDSException e) {
+            if (cachedTOC == null) {
+                throw e;
+            }
+            // CRLs of the TOC signing certificates are likely to be unreachable as well while the metadata service is down,
+            // so revocation checking soft-fails here. That is safe because only TOCs which passed a hard-fail revocation
+            // check are written to the cache, and the cached TOC is only served until its nextUpdate plus cachedTOCGracePeriod.
+            MetadataTOCPayload cachedTOCPayload = verifyCachedMetadataTOC(cachedTOC, skipCertPathValidation, true);
+            OffsetDateTime expiry = cachedTOCPayload.getNextUpdate().atStartOfDay().atOffset(ZoneOffset.UTC).plus(cachedTOCGracePeriod);
+            if (OffsetDateTime.now(ZoneOffset.UTC).isAfter(expiry)) {
+                throw new MDSException("Failed to fetch MetadataTOC, and the cached one has expired", e);
+            }
+            logger.warn("Failed to fetch MetadataTOC. Falling back to the cached one.", e);
+            return cachedTOCPayload;
         }
-        if (!skipCertPathValidation) {
-            validateCertPath(jws);
+        if (response.isNotModified()) {
+            if (cachedTOC == null) {
+                throw new MDSException("MetadataTOC is reported as not modified while it is not cached");
+            }
+            return verifyCachedMetadataTOC(cachedTOC, skipCertPathValidation, false);
         }
-        return jws.getPayload();
+        MetadataTOCPayload tocPayload = verifyMetadataTOC(new AsciiCharSequenceInputStream(response.getBody()), skipCertPathValidation, false);
+        // only verified TOCs are cached
+        currentCacheDirectory.writeTOC(response.getBody(), response.getETag(), response.getLastModified());
+        return tocPayload;
+    }
+
+    private MetadataTOCPayload verifyCachedMetadataTOC(FidoMdsCacheDirectory.CachedTOC cachedTOC, boolean skipCertPathValidation, boolean softFailRevocation) {
+        // the cached TOC is streamed from the file, so that it is never held as a whole
+        try (InputStream inputStream = cachedTOC.openTOC()) {
+            return verifyMetadataTOC(inputStream, skipCertPathValidation, softFailRevocation);
+        } catch (IOException e) {
+            throw new MDSException("Failed to read cached MetadataTOC", e);
+        }
+    }
+
+    private MetadataTOCPayload verifyMetadataTOC(InputStream toc, boolean skipCertPathValidation, boolean softFailRevocation) {
+        // The TOC is streamed rather than parsed through JWSFactory, so that neither an encoded copy nor the decoded payload
+        // is held as a whole. Entries only reference statements, so collecting them is cheap compared to the payload itself.
+        List<MetadataTOCPayloadEntry> entries = new ArrayList<>();
+        Predicate<MetadataTOCPayloadEntry> currentEntryFilter = entryFilter;
+        MetadataTOCPayload tocPayload = metadataTOCStreamReader.read(
+                toc,
+                header -> {
+                    if (!skipCertPathValidation) {
+                        validateCertPath(header.getX5c(), softFailRevocation);
+                    }
+                },
+                entry -> {
+                    // a filter must not hide that an authenticator is rejected, such as by a revocation
+                    if (currentEntryFilter.test(entry) || hasRejectedStatus(entry)) {
+                        entries.add(entry);
+                    }
+                });
+        return new MetadataTOCPayload(tocPayload.getLegalHeader(), tocPayload.getNo(), tocPayload.getNextUpdate(), entries);
+    }
+
+    private boolean hasRejectedStatus(MetadataTOCPayloadEntry entry) {
+        return entry.getStatusReports() != null &&
+                entry.getStatusReports().stream().anyMatch(report -> MetadataItemsVerdict.isRejected(report.getStatus()));
     }
 
     private MetadataItem fetchFidoMdsMetadataItem(MetadataTOCPayloadEntry entry) {
         MetadataStatement metadataStatement = fetchMetadataStatement(entry.getUrl().toString(), Base64UrlUtil.decode(entry.getHash()));
+        return createMetadataItem(entry, metadataStatement);
+    }
+
+    private MetadataItem createMetadataItem(MetadataTOCPayloadEntry entry, MetadataStatement metadataStatement) {
         return new MetadataItemImpl(
                 entry.getAaid(),
                 new AAGUID(entry.getAaguid()),
@@ -198,14 +502,17 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
         );
     }
 
-    private void validateCertPath(JWS<MetadataTOCPayload> jws) {
+    private void validateCertPath(CertPath certPath, boolean softFailRevocation) {
         Set<TrustAnchor> trustAnchors = Collections.singleton(trustAnchor);
-        CertPath certPath = jws.getHeader().getX5c();
 
         CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
         PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
         PKIXRevocationChecker pkixRevocationChecker = (PKIXRevocationChecker) certPathValidator.getRevocationChecker();
-        pkixRevocationChecker.setOptions(EnumSet.of(PKIXRevocationChecker.Option.PREFER_CRLS));
+        EnumSet<PKIXRevocationChecker.Option> options = EnumSet.of(PKIXRevocationChecker.Option.PREFER_CRLS);
+        if (softFailRevocation) {
+            options.add(PKIXRevocationChecker.Option.SOFT_FAIL);
+        }
+        pkixRevocationChecker.setOptions(options);
         certPathParameters.addCertPathChecker(pkixRevocationChecker);
 
         try {
@@ -218,17 +525,37 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
     }
 
     MetadataStatement fetchMetadataStatement(String uri, byte[] expectedHash) {
+        FidoMdsCacheDirectory currentCacheDirectory = cacheDirectory;
+        if (currentCacheDirectory != null) {
+            // statements are cached under their TOC hash, so only entries whose hash changed are fetched
+            String cachedStatement = currentCacheDirectory.readStatement(expectedHash);
+            if (cachedStatement != null && hashMatches(cachedStatement, expectedHash)) {
+                return parseMetadataStatement(cachedStatement);
+            }
+        }
         String uriWithToken = appendToken(uri, token);
         String metadataStatementBase64url = httpClient.fetch(uriWithToken);
-        String metadataStatementStr = new String(Base64UrlUtil.decode(metadataStatementBase64url));
-        byte[] hash = MessageDigestUtil.createSHA256().digest(metadataStatementBase64url.getBytes(StandardCharsets.UTF_8));
-        // As hash is known data to statement provider, there is no risk of timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
-        if (!Arrays.equals(hash, expectedHash)) {
+        if (!hashMatches(metadataStatementBase64url, expectedHash)) {
             throw new MDSException("Hash of metadataStatement doesn't match");
         }
+        MetadataStatement metadataStatement = parseMetadataStatement(metadataStatementBase64url);
+        if (currentCacheDirectory != null) {
+            currentCacheDirectory.writeStatement(expectedHash, metadataStatementBase64url);
+        }
+        return metadataStatement;
+    }
+
+    private boolean hashMatches(String metadataStatementBase64url, byte[] expectedHash) {
+        byte[] hash = CryptoEnginePool.getSHA256().digest(metadataStatementBase64url.getBytes(StandardCharsets.UTF_8));
+        // As hash is known data to statement provider, there is no risk of timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
+        return Arrays.equals(hash, expectedHash);
+    }
+
+    private MetadataStatement parseMetadataStatement(String metadataStatementBase64url) {
+        String metadataStatementStr = new String(Base64UrlUtil.decode(metadataStatementBase64url));
         MetadataStatement metadataStatement = jsonConverter.readValue(metadataStatementStr, MetadataStatement.class);
         metadataStatementValidator.validate(metadataStatement);
-        return metadataStatement;
+        return leanMode ? metadataStatementCompactor.compact(metadataStatement) : metadataStatement;
     }
 
 }
@@ -18,10 +18,10 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.statement.AttestationCertificatePath;
 import com.webauthn4j.data.attestation.statement.AttestationStatement;
 import com.webauthn4j.data.attestation.statement.CertificateBaseAttestationStatement;
 import com.webauthn4j.metadata.data.MetadataItem;
-import com.webauthn4j.metadata.data.statement.AttestationType;
 import com.webauthn4j.metadata.exception.BadStatusException;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.CustomRegistrationValidator;
@@ -29,12 +29,11 @@ import com.webauthn4j.validator.RegistrationObject;
 import com.webauthn4j.validator.exception.BadAttestationStatementException;
 
 import java.security.cert.X509Certificate;
-import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class FidoMdsMetadataValidator implements CustomRegistrationValidator {
 
+    private static final AAGUID U2F_AAGUID = AAGUID.ZERO;
 
     private final MetadataItemsResolver metadataItemsResolver;
 
@@ -61,49 +60,35 @@ public class FidoMdsMetadataValidator implements CustomRegistrationValidator {
         AAGUID aaguid = registrationObject.getAttestationObject().getAuthenticatorData().getAttestedCredentialData().getAaguid();
         AttestationStatement attestationStatement = registrationObject.getAttestationObject().getAttestationStatement();
 
-        Set<MetadataItem> metadataItems = metadataItemsResolver.resolve(aaguid);
+        Set<MetadataItem> metadataItems = resolveMetadataItems(aaguid, attestationStatement);
+        // the verdict only depends on the resolved items, and is precomputed per snapshot by MetadataItemsResolverImpl
+        MetadataItemsVerdict verdict = metadataItemsResolver.getVerdict(metadataItems);
 
-        List<AttestationType> attestationTypes = metadataItems.stream()
-                .flatMap(item -> item.getMetadataStatement().getAttestationTypes().stream()).collect(Collectors.toList());
-
-        boolean isSurrogate = !attestationTypes.isEmpty() &&
-                attestationTypes.stream().allMatch(type -> type.equals(AttestationType.BASIC_SURROGATE));
-
-        if (isSurrogate && attestationStatement instanceof CertificateBaseAttestationStatement) {
+        if (verdict.isSurrogateOnly() && attestationStatement instanceof CertificateBaseAttestationStatement) {
             CertificateBaseAttestationStatement certificateBaseAttestationStatement = (CertificateBaseAttestationStatement) attestationStatement;
             if (certificateBaseAttestationStatement.getX5c() != null) {
                 throw new BadAttestationStatementException("Although AAGUID is registered for surrogate attestation in metadata, x5c contains certificates.");
             }
         }
 
-        for (MetadataItem metadataItem : metadataItems) {
-            doAdditionalValidationForFidoMdsMetadataItem(metadataItem);
+        if (!verdict.isAllowed()) {
+            throw new BadStatusException(String.format("FIDO Metadata Service reported `%s` for this authenticator.", verdict.getRejectedStatus()));
         }
     }
 
-    private void doAdditionalValidationForFidoMdsMetadataItem(MetadataItem metadataItem) {
-        metadataItem.getStatusReports().forEach(report -> {
-            switch (report.getStatus()) {
-                case FIDO_CERTIFIED:
-                case FIDO_CERTIFIED_L1:
-                case FIDO_CERTIFIED_L1_PLUS:
-                case FIDO_CERTIFIED_L2:
-                case FIDO_CERTIFIED_L2_PLUS:
-                case FIDO_CERTIFIED_L3:
-                case FIDO_CERTIFIED_L3_PLUS:
-                case UPDATE_AVAILABLE:
-                case NOT_FIDO_CERTIFIED:
-                case SELF_ASSERTION_SUBMITTED:
-                    return;
-                case ATTESTATION_KEY_COMPROMISE:
-                case USER_VERIFICATION_BYPASS:
-                case USER_KEY_REMOTE_COMPROMISE:
-                case USER_KEY_PHYSICAL_COMPROMISE:
-                case REVOKED:
-                default:
-                    throw new BadStatusException(String.format("FIDO Metadata Service reported `%s` for this authenticator.", report.getStatus()));
+    private Set<MetadataItem> resolveMetadataItems(AAGUID aaguid, AttestationStatement attestationStatement) {
+        // U2F authenticators share the zero AAGUID and are identified in metadata by their attestation certificate key identifier
+        if (U2F_AAGUID.equals(aaguid) && attestationStatement instanceof CertificateBaseAttestationStatement) {
+            AttestationCertificatePath x5c = ((CertificateBaseAttestationStatement) attestationStatement).getX5c();
+            if (x5c != null && !x5c.isEmpty()) {
+                Set<MetadataItem> metadataItems = metadataItemsResolver.resolve(x5c.getEndEntityAttestationCertificate().getCertificate());
+                // resolvers without a key identifier index, or without a matching entry, still resolve by the zero AAGUID
+                if (!metadataItems.isEmpty()) {
+                    return metadataItems;
+                }
             }
-        });
+        }
+        return metadataItemsResolver.resolve(aaguid);
     }
 
 }
@@ -25,4 +25,18 @@ public interface HttpClient {
 
     String fetch(String uri) throws MDSException;
 
+    /**
+     * Fetches the uri with conditional request headers ({@code If-None-Match} and {@code If-Modified-Since}).
+     * The default implementation doesn't support conditional requests and always fetches the whole resource.
+     *
+     * @param uri          uri to fetch
+     * @param eTag         ETag of the cached resource, or null
+     * @param lastModified Last-Modified of the cached resource, or null
+     * @return {@link HttpFetchResponse}, which is "not modified" when the cached resource is still valid
+     * @throws MDSException if it fails to fetch
+     */
+    default HttpFetchResponse fetch(String uri, String eTag, String lastModified) throws MDSException {
+        return HttpFetchResponse.ok(fetch(uri), null, null);
+    }
+
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+/**
+ * Response of a conditional fetch by {@link HttpClient}
+ */
+public class HttpFetchResponse {
+
+    private final String body;
+    private final String eTag;
+    private final String lastModified;
+
+    private HttpFetchResponse(String body, String eTag, String lastModified) {
+        this.body = body;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Creates a response carrying a body
+     *
+     * @param body         response body
+     * @param eTag         value of the ETag response header, or null
+     * @param lastModified value of the Last-Modified response header, or null
+     * @return response
+     */
+    public static HttpFetchResponse ok(String body, String eTag, String lastModified) {
+        return new HttpFetchResponse(body, eTag, lastModified);
+    }
+
+    /**
+     * Creates a response telling the resource is not modified since the given validators
+     *
+     * @return response
+     */
+    public static HttpFetchResponse notModified() {
+        return new HttpFetchResponse(null, null, null);
+    }
+
+    public boolean isNotModified() {
+        return body == null;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.webauthn4j.metadata;
 
+import com.webauthn4j.anchor.FileWatchingReloader;
 import com.webauthn4j.converter.util.JsonConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
@@ -27,10 +28,12 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class JsonFileMetadataStatementsProvider implements MetadataStatementsProvider {
@@ -38,7 +41,12 @@ public class JsonFileMetadataStatementsProvider implements MetadataStatementsPro
     private final JsonConverter jsonConverter;
     private final MetadataStatementValidator metadataStatementValidator = new MetadataStatementValidator();
     private final List<Path> paths;
-    private Map<AAGUID, Set<MetadataStatement>> cachedMetadataItems;
+    private final MetadataStatementCompactor metadataStatementCompactor = new MetadataStatementCompactor();
+    private final AtomicLong loadSequence = new AtomicLong();
+    private volatile Map<AAGUID, Set<MetadataStatement>> cachedMetadataItems;
+    // guarded by this
+    private long publishedLoadSequence;
+    private volatile boolean leanMode = false;
 
     public JsonFileMetadataStatementsProvider(ObjectConverter objectConverter, List<Path> paths) {
         this.jsonConverter = objectConverter.getJsonConverter();
@@ -47,17 +55,74 @@ public class JsonFileMetadataStatementsProvider implements MetadataStatementsPro
 
     @Override
     public Map<AAGUID, Set<MetadataStatement>> provide() {
-        if (cachedMetadataItems == null) {
-            cachedMetadataItems =
-                    paths.stream()
-                            .map(this::readJsonFile)
-                            .distinct()
-                            .collect(Collectors.groupingBy(this::extractAAGUID))
-                            .entrySet().stream()
-                            .collect(Collectors.toMap(Map.Entry::getKey, entry -> new HashSet<>(entry.getValue())));
+        Map<AAGUID, Set<MetadataStatement>> current = cachedMetadataItems;
+        if (current == null) {
+            synchronized (this) {
+                current = cachedMetadataItems;
+                if (current == null) {
+                    long sequence = loadSequence.incrementAndGet();
+                    current = loadMetadataStatements();
+                    cachedMetadataItems = current;
+                    publishedLoadSequence = sequence;
+                }
+            }
+        }
+        return current;
+    }
 
+    /**
+     * Reloads the metadata statement json files and publishes them as a new map.
+     * If loading fails, the current map is kept and the exception is propagated. When refreshes overlap, such as with the
+     * watcher thread, a load which started earlier never replaces the map of a load which started later.
+     *
+     * @return the newly published map, or the current map if a later load has already been published
+     */
+    public Map<AAGUID, Set<MetadataStatement>> refresh() {
+        // the sequence is taken before loading, so that overlapping refreshes are published in the order they started
+        long sequence = loadSequence.incrementAndGet();
+        Map<AAGUID, Set<MetadataStatement>> reloaded = loadMetadataStatements();
+        synchronized (this) {
+            if (publishedLoadSequence > sequence) {
+                return cachedMetadataItems;
+            }
+            cachedMetadataItems = reloaded;
+            publishedLoadSequence = sequence;
+            return reloaded;
         }
-        return cachedMetadataItems;
+    }
+
+    /**
+     * Starts watching the metadata statement json files and refreshes in the background when they change
+     *
+     * @param debounce quiet period to wait for after the last change before refreshing
+     * @return {@link FileWatchingReloader}, which exposes reload metrics and must be closed to stop watching
+     */
+    public FileWatchingReloader watch(Duration debounce) {
+        return new FileWatchingReloader(paths, this::refresh, debounce);
+    }
+
+    public boolean isLeanMode() {
+        return leanMode;
+    }
+
+    /**
+     * Enables the lean loading profile. Metadata statements are loaded without the fields the validation path never
+     * reads (icon, tcDisplayPNGCharacteristics and ecdaaTrustAnchors), and attestation root certificates are shared
+     * across statements. It applies to statements loaded after it is set.
+     *
+     * @param leanMode true to load lean metadata statements
+     */
+    public void setLeanMode(boolean leanMode) {
+        this.leanMode = leanMode;
+    }
+
+    private Map<AAGUID, Set<MetadataStatement>> loadMetadataStatements() {
+        return paths.stream()
+                .map(this::readJsonFile)
+                .distinct()
+                .collect(Collectors.groupingBy(this::extractAAGUID))
+                .entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> new HashSet<>(entry.getValue())));
     }
 
     private AAGUID extractAAGUID(MetadataStatement metadataStatement) {
@@ -76,7 +141,7 @@ public class JsonFileMetadataStatementsProvider implements MetadataStatementsPro
         try (InputStream inputStream = Files.newInputStream(path)) {
             MetadataStatement metadataStatement = jsonConverter.readValue(inputStream, MetadataStatement.class);
             metadataStatementValidator.validate(metadataStatement);
-            return metadataStatement;
+            return leanMode ? metadataStatementCompactor.compact(metadataStatement) : metadataStatement;
         } catch (IOException e) {
             throw new UncheckedIOException("Failed to load a metadata statement json file", e);
         }
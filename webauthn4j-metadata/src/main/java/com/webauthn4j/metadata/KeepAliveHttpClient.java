@@ -0,0 +1,211 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.util.AssertUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * {@link HttpClient} implementation for production use, built on {@link HttpURLConnection}.
+ * Response bodies are always read to the end and closed so that the JDK keep-alive cache reuses connections,
+ * and are read with a bulk buffer. It also supports timeouts, retries with exponential backoff, gzip content encoding,
+ * and bounds the number of concurrent requests, which keeps the metadata statement fan-out from flooding the server.
+ */
+public class KeepAliveHttpClient implements HttpClient {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_INITIAL_BUFFER_SIZE = 1024 * 1024;
+
+    private Duration connectTimeout = Duration.ofSeconds(10);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    private int maxRetries = 2;
+    private Duration initialBackoff = Duration.ofMillis(500);
+    private Semaphore concurrencyLimit = new Semaphore(8);
+    private int maxConcurrentRequests = 8;
+
+    @Override
+    public String fetch(String uri) {
+        return fetch(uri, null, null).getBody();
+    }
+
+    @Override
+    public HttpFetchResponse fetch(String uri, String eTag, String lastModified) {
+        Semaphore semaphore = concurrencyLimit;
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MDSException("interrupted while waiting to fetch " + uri, e);
+        }
+        try {
+            return fetchWithRetry(uri, eTag, lastModified);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private HttpFetchResponse fetchWithRetry(String uri, String eTag, String lastModified) {
+        long backoffMillis = initialBackoff.toMillis();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return fetchOnce(uri, eTag, lastModified);
+            } catch (RetryableException e) {
+                if (attempt >= maxRetries) {
+                    throw new MDSException("failed to fetch " + uri, e.getCause() == null ? e : e.getCause());
+                }
+            }
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MDSException("interrupted while retrying to fetch " + uri, e);
+            }
+            backoffMillis *= 2;
+        }
+    }
+
+    private HttpFetchResponse fetchOnce(String uri, String eTag, String lastModified) {
+        HttpURLConnection urlConnection;
+        try {
+            urlConnection = (HttpURLConnection) new URL(uri).openConnection();
+        } catch (IOException e) {
+            throw new MDSException("failed to fetch " + uri, e);
+        }
+        urlConnection.setConnectTimeout((int) connectTimeout.toMillis());
+        urlConnection.setReadTimeout((int) readTimeout.toMillis());
+        urlConnection.setRequestProperty("Accept-Encoding", "gzip");
+        if (eTag != null) {
+            urlConnection.setRequestProperty("If-None-Match", eTag);
+        }
+        if (lastModified != null) {
+            urlConnection.setRequestProperty("If-Modified-Since", lastModified);
+        }
+        try {
+            int status = urlConnection.getResponseCode();
+            if (status == HttpURLConnection.HTTP_OK) {
+                String body = readBody(urlConnection, urlConnection.getInputStream());
+                return HttpFetchResponse.ok(body, urlConnection.getHeaderField("ETag"), urlConnection.getHeaderField("Last-Modified"));
+            }
+            // error bodies are consumed as well, so that the connection can be reused
+            readBody(urlConnection, urlConnection.getErrorStream());
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && (eTag != null || lastModified != null)) {
+                return HttpFetchResponse.notModified();
+            }
+            if (status >= 500 || status == 429) {
+                throw new RetryableException("failed to fetch " + uri + ": status " + status, null);
+            }
+            throw new MDSException("failed to fetch " + uri + ": status " + status);
+        } catch (IOException e) {
+            throw new RetryableException("failed to fetch " + uri, e);
+        }
+    }
+
+    private String readBody(HttpURLConnection urlConnection, InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            return null;
+        }
+        boolean gzip = "gzip".equalsIgnoreCase(urlConnection.getContentEncoding());
+        try (InputStream bodyStream = gzip ? new GZIPInputStream(inputStream, BUFFER_SIZE) : inputStream) {
+            int initialSize = Math.min(Math.max(urlConnection.getContentLength(), BUFFER_SIZE), MAX_INITIAL_BUFFER_SIZE);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(initialSize);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while ((length = bodyStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        AssertUtil.notNull(connectTimeout, "connectTimeout must not be null");
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        AssertUtil.notNull(readTimeout, "readTimeout must not be null");
+        this.readTimeout = readTimeout;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Sets how many times a request failing with an I/O error, a 5xx or a 429 status is retried
+     *
+     * @param maxRetries max retries
+     */
+    public void setMaxRetries(int maxRetries) {
+        AssertUtil.isTrue(maxRetries >= 0, "maxRetries must not be negative");
+        this.maxRetries = maxRetries;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    /**
+     * Sets the delay before the first retry. The delay doubles on every following retry.
+     *
+     * @param initialBackoff initial backoff
+     */
+    public void setInitialBackoff(Duration initialBackoff) {
+        AssertUtil.notNull(initialBackoff, "initialBackoff must not be null");
+        this.initialBackoff = initialBackoff;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Sets the maximum number of requests in flight. Further requests wait for a running one to finish.
+     *
+     * @param maxConcurrentRequests max concurrent requests
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        AssertUtil.isTrue(maxConcurrentRequests > 0, "maxConcurrentRequests must be positive");
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.concurrencyLimit = new Semaphore(maxConcurrentRequests);
+    }
+
+    private static class RetryableException extends RuntimeException {
+
+        RetryableException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
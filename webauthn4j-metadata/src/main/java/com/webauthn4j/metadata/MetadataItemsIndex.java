@@ -0,0 +1,199 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.anchor.AAGUIDIndex;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CryptoEnginePool;
+import com.webauthn4j.util.HexUtil;
+
+import java.security.cert.X509Certificate;
+import java.util.*;
+
+/**
+ * Immutable index of a metadata items snapshot by AAGUID, by AAID and by attestation certificate key identifier.
+ * It is built once per snapshot, and lookups return shared immutable sets, so that a lookup is a single hash probe.
+ */
+public final class MetadataItemsIndex {
+
+    private final Map<AAGUID, Set<MetadataItem>> source;
+    private final AAGUIDIndex<MetadataItem> aaguidIndex;
+    private final Map<String, Set<MetadataItem>> aaidIndex;
+    private final Map<String, Set<MetadataItem>> keyIdentifierIndex;
+    // keyed by the identity of the shared sets handed out by this index
+    private final Map<Set<MetadataItem>, MetadataItemsVerdict> verdicts = new IdentityHashMap<>();
+
+    private MetadataItemsIndex(Map<AAGUID, Set<MetadataItem>> source) {
+        this.source = source;
+        this.aaguidIndex = AAGUIDIndex.create(source);
+
+        Map<String, Set<MetadataItem>> itemsByAaid = new HashMap<>();
+        Map<String, Set<MetadataItem>> itemsByKeyIdentifier = new HashMap<>();
+        for (Set<MetadataItem> items : source.values()) {
+            for (MetadataItem item : items) {
+                if (item.getAaid() != null) {
+                    itemsByAaid.computeIfAbsent(item.getAaid(), key -> new HashSet<>()).add(item);
+                }
+                if (item.getAttestationCertificateKeyIdentifiers() != null) {
+                    for (String keyIdentifier : item.getAttestationCertificateKeyIdentifiers()) {
+                        itemsByKeyIdentifier.computeIfAbsent(normalize(keyIdentifier), key -> new HashSet<>()).add(item);
+                    }
+                }
+            }
+        }
+        this.aaidIndex = freeze(itemsByAaid);
+        this.keyIdentifierIndex = freeze(itemsByKeyIdentifier);
+
+        addVerdict(Collections.emptySet());
+        addVerdict(aaguidIndex.get(AAGUID.NULL));
+        for (AAGUID aaguid : source.keySet()) {
+            if (aaguid != null) {
+                addVerdict(aaguidIndex.get(aaguid));
+            }
+        }
+        aaidIndex.values().forEach(this::addVerdict);
+        keyIdentifierIndex.values().forEach(this::addVerdict);
+    }
+
+    /**
+     * Builds an index from a metadata items snapshot
+     *
+     * @param source snapshot
+     * @return index
+     */
+    public static MetadataItemsIndex create(Map<AAGUID, Set<MetadataItem>> source) {
+        AssertUtil.notNull(source, "source must not be null");
+        return new MetadataItemsIndex(source);
+    }
+
+    /**
+     * Computes the key identifier FIDO metadata lists in attestationCertificateKeyIdentifiers for an attestation
+     * certificate: the lowercase hex encoded SHA-1 hash of its subjectPublicKey, as in method (1) of RFC 5280 4.2.1.2.
+     *
+     * @param attestationCertificate attestation certificate
+     * @return key identifier
+     */
+    public static String getAttestationCertificateKeyIdentifier(X509Certificate attestationCertificate) {
+        AssertUtil.notNull(attestationCertificate, "attestationCertificate must not be null");
+        byte[] subjectPublicKey = getSubjectPublicKey(attestationCertificate.getPublicKey().getEncoded());
+        return normalize(HexUtil.encodeToString(CryptoEnginePool.getMessageDigest("SHA-1").digest(subjectPublicKey)));
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    public Map<AAGUID, Set<MetadataItem>> getSource() {
+        return source;
+    }
+
+    /**
+     * Returns whether this index is still up to date for the map returned by a provider
+     *
+     * @param map map returned by the provider
+     * @return true if this index was built from the map and its size is unchanged
+     * @see AAGUIDIndex#isBuiltFrom(Map)
+     */
+    public boolean isBuiltFrom(Map<AAGUID, Set<MetadataItem>> map) {
+        return aaguidIndex.isBuiltFrom(map);
+    }
+
+    /**
+     * Returns the items registered for the AAGUID, merged with those registered for {@link AAGUID#NULL}
+     *
+     * @param aaguid AAGUID
+     * @return shared immutable set
+     */
+    public Set<MetadataItem> findByAAGUID(AAGUID aaguid) {
+        return aaguidIndex.get(aaguid);
+    }
+
+    public Set<MetadataItem> findByAaid(String aaid) {
+        return aaidIndex.getOrDefault(aaid, Collections.emptySet());
+    }
+
+    public Set<MetadataItem> findByAttestationCertificateKeyIdentifier(String keyIdentifier) {
+        if (keyIdentifier == null) {
+            return Collections.emptySet();
+        }
+        return keyIdentifierIndex.getOrDefault(normalize(keyIdentifier), Collections.emptySet());
+    }
+
+    /**
+     * Returns the verdict for a set of items. Verdicts for the sets returned by this index are precomputed.
+     *
+     * @param metadataItems metadata items
+     * @return verdict
+     */
+    public MetadataItemsVerdict getVerdict(Set<MetadataItem> metadataItems) {
+        MetadataItemsVerdict verdict = verdicts.get(metadataItems);
+        return verdict == null ? MetadataItemsVerdict.of(metadataItems) : verdict;
+    }
+
+    private void addVerdict(Set<MetadataItem> metadataItems) {
+        verdicts.computeIfAbsent(metadataItems, MetadataItemsVerdict::of);
+    }
+
+    private static String normalize(String keyIdentifier) {
+        return keyIdentifier.toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Set<MetadataItem>> freeze(Map<String, Set<MetadataItem>> map) {
+        for (Map.Entry<String, Set<MetadataItem>> entry : map.entrySet()) {
+            entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+        }
+        return map;
+    }
+
+    /**
+     * Extracts the subjectPublicKey bits from a DER encoded SubjectPublicKeyInfo
+     */
+    private static byte[] getSubjectPublicKey(byte[] subjectPublicKeyInfo) {
+        int[] position = {0};
+        // SubjectPublicKeyInfo ::= SEQUENCE { algorithm AlgorithmIdentifier, subjectPublicKey BIT STRING }
+        readHeader(subjectPublicKeyInfo, position, 0x30);
+        int algorithmLength = readHeader(subjectPublicKeyInfo, position, 0x30);
+        position[0] += algorithmLength;
+        int subjectPublicKeyLength = readHeader(subjectPublicKeyInfo, position, 0x03);
+        if (subjectPublicKeyLength < 1 || position[0] + subjectPublicKeyLength > subjectPublicKeyInfo.length) {
+            throw new IllegalArgumentException("Malformed SubjectPublicKeyInfo");
+        }
+        // the first content octet of a BIT STRING is the number of unused bits
+        return Arrays.copyOfRange(subjectPublicKeyInfo, position[0] + 1, position[0] + subjectPublicKeyLength);
+    }
+
+    private static int readHeader(byte[] der, int[] position, int expectedTag) {
+        if (position[0] + 2 > der.length || (der[position[0]] & 0xFF) != expectedTag) {
+            throw new IllegalArgumentException("Malformed SubjectPublicKeyInfo");
+        }
+        int length = der[position[0] + 1] & 0xFF;
+        position[0] += 2;
+        if (length >= 0x80) {
+            int lengthOctets = length & 0x7F;
+            if (lengthOctets == 0 || lengthOctets > 3 || position[0] + lengthOctets > der.length) {
+                throw new IllegalArgumentException("Malformed SubjectPublicKeyInfo");
+            }
+            length = 0;
+            for (int i = 0; i < lengthOctets; i++) {
+                length = (length << 8) | (der[position[0]++] & 0xFF);
+            }
+        }
+        return length;
+    }
+}
@@ -21,12 +21,14 @@ import com.webauthn4j.metadata.data.MetadataItem;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public class MetadataItemsMetadataStatementsProvider implements MetadataStatementsProvider {
 
     private final MetadataItemsProvider metadataItemsProvider;
+    private volatile Derivation derivation;
 
     public MetadataItemsMetadataStatementsProvider(MetadataItemsProvider metadataItemsProvider) {
         this.metadataItemsProvider = metadataItemsProvider;
@@ -34,10 +36,31 @@ public class MetadataItemsMetadataStatementsProvider implements MetadataStatemen
 
     @Override
     public Map<AAGUID, Set<MetadataStatement>> provide() {
-        return metadataItemsProvider.provide().entrySet().stream()
+        Map<AAGUID, Set<MetadataItem>> metadataItems = metadataItemsProvider.provide();
+        // derived map is reused while the provider keeps returning the same snapshot
+        Derivation current = derivation;
+        if (current != null && current.source == metadataItems) {
+            return current.metadataStatements;
+        }
+        // items kept only for their status reports carry no statement
+        Map<AAGUID, Set<MetadataStatement>> metadataStatements = metadataItems.entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
-                        entry -> entry.getValue().stream().map(MetadataItem::getMetadataStatement).collect(Collectors.toSet())
+                        entry -> entry.getValue().stream().map(MetadataItem::getMetadataStatement).filter(Objects::nonNull).collect(Collectors.toSet())
                 ));
+        metadataStatements.values().removeIf(Set::isEmpty);
+        derivation = new Derivation(metadataItems, metadataStatements);
+        return metadataStatements;
+    }
+
+    private static class Derivation {
+
+        private final Map<AAGUID, Set<MetadataItem>> source;
+        private final Map<AAGUID, Set<MetadataStatement>> metadataStatements;
+
+        Derivation(Map<AAGUID, Set<MetadataItem>> source, Map<AAGUID, Set<MetadataStatement>> metadataStatements) {
+            this.source = source;
+            this.metadataStatements = metadataStatements;
+        }
     }
 }
@@ -24,5 +24,13 @@ import java.util.Set;
 
 public interface MetadataItemsProvider {
 
+    /**
+     * Provides {@link AAGUID} key {@link MetadataItem} {@link Set} value {@link Map}.
+     * The returned map and its sets must not be modified afterwards; return a new map to publish changes. Consumers
+     * such as {@link MetadataItemsResolverImpl} detect a new snapshot by the identity of the returned map, and only
+     * rebuild for a map modified in place when its size changes.
+     *
+     * @return {@link AAGUID} key {@link MetadataItem} {@link Set} value {@link Map}
+     */
     Map<AAGUID, Set<MetadataItem>> provide();
 }
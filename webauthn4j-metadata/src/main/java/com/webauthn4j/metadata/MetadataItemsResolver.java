@@ -19,9 +19,55 @@ package com.webauthn4j.metadata;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.data.MetadataItem;
 
+import java.security.cert.X509Certificate;
+import java.util.Collections;
 import java.util.Set;
 
 public interface MetadataItemsResolver {
 
     Set<MetadataItem> resolve(AAGUID aaguid);
+
+    /**
+     * Resolves the items registered for an AAID. Resolvers without an AAID index return an empty set.
+     *
+     * @param aaid AAID
+     * @return metadata items
+     */
+    default Set<MetadataItem> resolveByAaid(String aaid) {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Resolves the items listing the key identifier in attestationCertificateKeyIdentifiers.
+     * Resolvers without a key identifier index return an empty set.
+     *
+     * @param keyIdentifier hex encoded attestation certificate key identifier
+     * @return metadata items
+     */
+    default Set<MetadataItem> resolveByAttestationCertificateKeyIdentifier(String keyIdentifier) {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Resolves the items for an attestation certificate by its key identifier, which is how U2F authenticators,
+     * sharing the zero AAGUID, are identified in metadata. {@link FidoMdsMetadataValidator} falls back to
+     * {@link #resolve(AAGUID)} when this returns an empty set.
+     *
+     * @param attestationCertificate attestation certificate
+     * @return metadata items
+     */
+    default Set<MetadataItem> resolve(X509Certificate attestationCertificate) {
+        return resolveByAttestationCertificateKeyIdentifier(MetadataItemsIndex.getAttestationCertificateKeyIdentifier(attestationCertificate));
+    }
+
+    /**
+     * Returns the verdict for items resolved by this resolver. Resolvers which precompute verdicts per snapshot
+     * return them without evaluating the items again.
+     *
+     * @param metadataItems metadata items returned by this resolver
+     * @return verdict
+     */
+    default MetadataItemsVerdict getVerdict(Set<MetadataItem> metadataItems) {
+        return MetadataItemsVerdict.of(metadataItems);
+    }
 }
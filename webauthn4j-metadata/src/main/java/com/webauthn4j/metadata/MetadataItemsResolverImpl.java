@@ -20,14 +20,18 @@ import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.data.MetadataItem;
 import com.webauthn4j.util.AssertUtil;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * A {@link MetadataItemsResolver} implementation that loads {@link MetadataItem}s with {@link MetadataItemsProvider}.
+ * Lookups and verdicts are indexed per map instance returned by the provider, so a provider must return a new map to
+ * publish changes, as required by {@link MetadataItemsProvider#provide()}.
+ */
 public class MetadataItemsResolverImpl implements MetadataItemsResolver {
 
     private final MetadataItemsProvider metadataItemsProvider;
+    private volatile MetadataItemsIndex metadataItemsIndex;
 
     public MetadataItemsResolverImpl(MetadataItemsProvider metadataItemsProvider) {
         this.metadataItemsProvider = metadataItemsProvider;
@@ -36,12 +40,38 @@ public class MetadataItemsResolverImpl implements MetadataItemsResolver {
     @Override
     public Set<MetadataItem> resolve(AAGUID aaguid) {
         AssertUtil.notNull(aaguid, "aaguid must not be null");
+        return getMetadataItemsIndex().findByAAGUID(aaguid);
+    }
+
+    @Override
+    public Set<MetadataItem> resolveByAaid(String aaid) {
+        AssertUtil.notNull(aaid, "aaid must not be null");
+        return getMetadataItemsIndex().findByAaid(aaid);
+    }
+
+    @Override
+    public Set<MetadataItem> resolveByAttestationCertificateKeyIdentifier(String keyIdentifier) {
+        AssertUtil.notNull(keyIdentifier, "keyIdentifier must not be null");
+        return getMetadataItemsIndex().findByAttestationCertificateKeyIdentifier(keyIdentifier);
+    }
+
+    @Override
+    public MetadataItemsVerdict getVerdict(Set<MetadataItem> metadataItems) {
+        AssertUtil.notNull(metadataItems, "metadataItems must not be null");
+        // the index holding the verdict table is swapped as a whole when a new snapshot is published
+        MetadataItemsIndex index = metadataItemsIndex;
+        return index == null ? MetadataItemsVerdict.of(metadataItems) : index.getVerdict(metadataItems);
+    }
 
+    private MetadataItemsIndex getMetadataItemsIndex() {
         Map<AAGUID, Set<MetadataItem>> metadataItemMap = metadataItemsProvider.provide();
 
-        HashSet<MetadataItem> list = new HashSet<>();
-        list.addAll(metadataItemMap.getOrDefault(AAGUID.NULL, Collections.emptySet()));
-        list.addAll(metadataItemMap.getOrDefault(aaguid, Collections.emptySet()));
-        return list;
+        // indexes are built once per snapshot published by the provider
+        MetadataItemsIndex index = metadataItemsIndex;
+        if (index == null || !index.isBuiltFrom(metadataItemMap)) {
+            index = MetadataItemsIndex.create(metadataItemMap);
+            metadataItemsIndex = index;
+        }
+        return index;
     }
 }
@@ -0,0 +1,499 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.webauthn4j.converter.util.JsonConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.metadata.data.MetadataItemImpl;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.data.toc.StatusReport;
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Compact binary snapshot of a processed {@code Map<AAGUID, Set<MetadataItem>>}, which can be published by one node
+ * and memory-mapped by others instead of rebuilding the metadata from its sources.
+ * <p>
+ * The file consists of a versioned header, an AAGUID index sorted for binary search, one record per AAGUID and a
+ * trailing SHA-256 digest over everything before it. {@link #open(Path, ObjectConverter)} verifies the digest and maps
+ * the file; records are only decoded when their AAGUID is looked up. To detect a tampered snapshot rather than a
+ * corrupted one, distribute the digest returned by {@link #write(Map, Path, ObjectConverter)} through a trusted
+ * channel and pass it to {@link #open(Path, ObjectConverter, byte[])}.
+ */
+public class MetadataItemsSnapshot implements MetadataItemsProvider {
+
+    static final int VERSION = 1;
+
+    private static final byte[] MAGIC = "WMDS".getBytes(StandardCharsets.US_ASCII);
+    private static final int DIGEST_LENGTH = 32;
+    // magic, version, count, offset and length of the AAGUID.NULL record
+    private static final int HEADER_LENGTH = MAGIC.length + 4 + 4 + 4 + 4;
+    // msb, lsb, offset and length
+    private static final int INDEX_ENTRY_LENGTH = 8 + 8 + 4 + 4;
+    private static final int ABSENT = -1;
+    private static final TypeReference<List<StatusReport>> STATUS_REPORTS_TYPE = new TypeReference<List<StatusReport>>() {
+    };
+
+    private final JsonConverter jsonConverter;
+    private final ByteBuffer buffer;
+    private final byte[] digest;
+    private final int count;
+    private final int nullRecordOffset;
+    private final int nullRecordLength;
+    // slot `count` holds the AAGUID.NULL record
+    private final AtomicReferenceArray<Set<MetadataItem>> decoded;
+    private final Map<AAGUID, Set<MetadataItem>> map = new SnapshotMap();
+
+    private MetadataItemsSnapshot(JsonConverter jsonConverter, ByteBuffer buffer, byte[] digest) {
+        this.jsonConverter = jsonConverter;
+        this.buffer = buffer;
+        this.digest = digest;
+        byte[] magic = new byte[MAGIC.length];
+        buffer.duplicate().get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new MDSException("Not a metadata items snapshot");
+        }
+        int version = buffer.getInt(MAGIC.length);
+        if (version != VERSION) {
+            throw new MDSException(String.format("Unsupported metadata items snapshot version: %d", version));
+        }
+        this.count = buffer.getInt(MAGIC.length + 4);
+        this.nullRecordOffset = buffer.getInt(MAGIC.length + 8);
+        this.nullRecordLength = buffer.getInt(MAGIC.length + 12);
+        if (count < 0 || (long) HEADER_LENGTH + (long) count * INDEX_ENTRY_LENGTH > buffer.limit() - DIGEST_LENGTH) {
+            throw new MDSException("Metadata items snapshot is truncated");
+        }
+        this.decoded = new AtomicReferenceArray<>(count + 1);
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Writes a snapshot of the metadata items to the path, replacing any existing file atomically.
+     *
+     * @param metadataItemMap metadata items to write
+     * @param path            destination
+     * @param objectConverter converter whose JSON mapper can serialize {@link MetadataStatement}
+     * @return SHA-256 digest of the written snapshot
+     */
+    public static byte[] write(Map<AAGUID, Set<MetadataItem>> metadataItemMap, Path path, ObjectConverter objectConverter) {
+        AssertUtil.notNull(metadataItemMap, "metadataItemMap must not be null");
+        AssertUtil.notNull(path, "path must not be null");
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        JsonConverter jsonConverter = objectConverter.getJsonConverter();
+
+        List<AAGUID> aaguids = new ArrayList<>();
+        for (AAGUID aaguid : metadataItemMap.keySet()) {
+            if (aaguid != null && aaguid.getValue() != null) {
+                aaguids.add(aaguid);
+            }
+        }
+        aaguids.sort(MetadataItemsSnapshot::compare);
+
+        try {
+            List<byte[]> records = new ArrayList<>();
+            for (AAGUID aaguid : aaguids) {
+                records.add(encodeRecord(metadataItemMap.get(aaguid), jsonConverter));
+            }
+            Set<MetadataItem> nullItems = metadataItemMap.get(AAGUID.NULL);
+            byte[] nullRecord = nullItems == null ? null : encodeRecord(nullItems, jsonConverter);
+
+            Path absolutePath = path.toAbsolutePath();
+            Path temp = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(), ".tmp");
+            MessageDigest messageDigest = MessageDigestUtil.createSHA256();
+            byte[] digest;
+            try (OutputStream fileOutputStream = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                DataOutputStream outputStream = new DataOutputStream(new DigestOutputStream(fileOutputStream, messageDigest));
+                long offset = HEADER_LENGTH + (long) aaguids.size() * INDEX_ENTRY_LENGTH;
+                outputStream.write(MAGIC);
+                outputStream.writeInt(VERSION);
+                outputStream.writeInt(aaguids.size());
+                outputStream.writeInt(nullRecord == null ? ABSENT : toInt(offset + totalLength(records)));
+                outputStream.writeInt(nullRecord == null ? ABSENT : nullRecord.length);
+                for (int i = 0; i < aaguids.size(); i++) {
+                    UUID uuid = aaguids.get(i).getValue();
+                    outputStream.writeLong(uuid.getMostSignificantBits());
+                    outputStream.writeLong(uuid.getLeastSignificantBits());
+                    outputStream.writeInt(toInt(offset));
+                    outputStream.writeInt(records.get(i).length);
+                    offset += records.get(i).length;
+                }
+                for (byte[] record : records) {
+                    outputStream.write(record);
+                }
+                if (nullRecord != null) {
+                    outputStream.write(nullRecord);
+                }
+                outputStream.flush();
+                digest = messageDigest.digest();
+                fileOutputStream.write(digest);
+            }
+            Files.move(temp, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return digest;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Memory-maps a snapshot after verifying its embedded digest.
+     *
+     * @param path            snapshot file
+     * @param objectConverter converter whose JSON mapper can deserialize {@link MetadataStatement}
+     * @return snapshot
+     * @throws MDSException if the file is not a valid snapshot
+     */
+    public static MetadataItemsSnapshot open(Path path, ObjectConverter objectConverter) {
+        return open(path, objectConverter, null);
+    }
+
+    /**
+     * Memory-maps a snapshot after verifying that its digest is the expected one.
+     *
+     * @param path            snapshot file
+     * @param objectConverter converter whose JSON mapper can deserialize {@link MetadataStatement}
+     * @param expectedDigest  digest obtained from a trusted channel, or null to only check the embedded digest
+     * @return snapshot
+     * @throws MDSException if the file is not a valid snapshot or its digest differs from the expected one
+     */
+    public static MetadataItemsSnapshot open(Path path, ObjectConverter objectConverter, byte[] expectedDigest) {
+        AssertUtil.notNull(path, "path must not be null");
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new MDSException("Metadata items snapshot is too large");
+            }
+            if (size < HEADER_LENGTH + DIGEST_LENGTH) {
+                throw new MDSException("Metadata items snapshot is truncated");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ByteBuffer content = buffer.duplicate();
+        content.limit(buffer.limit() - DIGEST_LENGTH);
+        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
+        messageDigest.update(content);
+        byte[] actualDigest = messageDigest.digest();
+        byte[] embeddedDigest = new byte[DIGEST_LENGTH];
+        ByteBuffer trailer = buffer.duplicate();
+        trailer.position(buffer.limit() - DIGEST_LENGTH);
+        trailer.get(embeddedDigest);
+        if (!MessageDigest.isEqual(actualDigest, embeddedDigest)) {
+            throw new MDSException("Digest of metadata items snapshot doesn't match");
+        }
+        if (expectedDigest != null && !MessageDigest.isEqual(actualDigest, expectedDigest)) {
+            throw new MDSException("Digest of metadata items snapshot differs from the expected one");
+        }
+        return new MetadataItemsSnapshot(objectConverter.getJsonConverter(), buffer, actualDigest);
+    }
+
+    /**
+     * Returns a map backed by the snapshot. The same instance is returned on each call, and each record is decoded
+     * on its first lookup. Iterating the map decodes every record.
+     */
+    @Override
+    public Map<AAGUID, Set<MetadataItem>> provide() {
+        return map;
+    }
+
+    public byte[] getDigest() {
+        return digest.clone();
+    }
+
+    private int find(AAGUID aaguid) {
+        UUID uuid = aaguid.getValue();
+        if (uuid == null) {
+            return nullRecordOffset == ABSENT ? -1 : count;
+        }
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int position = HEADER_LENGTH + mid * INDEX_ENTRY_LENGTH;
+            int result = Long.compare(buffer.getLong(position), msb);
+            if (result == 0) {
+                result = Long.compare(buffer.getLong(position + 8), lsb);
+            }
+            if (result < 0) {
+                low = mid + 1;
+            }
+            else if (result > 0) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private AAGUID getAAGUID(int slot) {
+        if (slot == count) {
+            return AAGUID.NULL;
+        }
+        int position = HEADER_LENGTH + slot * INDEX_ENTRY_LENGTH;
+        return new AAGUID(new UUID(buffer.getLong(position), buffer.getLong(position + 8)));
+    }
+
+    private Set<MetadataItem> getItems(int slot) {
+        Set<MetadataItem> items = decoded.get(slot);
+        if (items == null) {
+            items = decodeRecord(slot);
+            // concurrent decoders of the same slot agree on the first published set
+            if (!decoded.compareAndSet(slot, null, items)) {
+                items = decoded.get(slot);
+            }
+        }
+        return items;
+    }
+
+    private Set<MetadataItem> decodeRecord(int slot) {
+        int offset;
+        int length;
+        if (slot == count) {
+            offset = nullRecordOffset;
+            length = nullRecordLength;
+        }
+        else {
+            int position = HEADER_LENGTH + slot * INDEX_ENTRY_LENGTH;
+            offset = buffer.getInt(position + 16);
+            length = buffer.getInt(position + 20);
+        }
+        if (offset < 0 || length < 0 || (long) offset + length > buffer.limit() - DIGEST_LENGTH) {
+            throw new MDSException("Metadata items snapshot record is out of bounds");
+        }
+        byte[] record = new byte[length];
+        ByteBuffer recordBuffer = buffer.duplicate();
+        recordBuffer.position(offset);
+        recordBuffer.get(record);
+
+        AAGUID aaguid = getAAGUID(slot);
+        try (DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(record))) {
+            int itemCount = inputStream.readInt();
+            Set<MetadataItem> items = new HashSet<>();
+            for (int i = 0; i < itemCount; i++) {
+                String aaid = readString(inputStream);
+                List<String> attestationCertificateKeyIdentifiers = readStrings(inputStream);
+                String hash = readString(inputStream);
+                byte[] statusReports = readBytes(inputStream);
+                LocalDate timeOfLastStatusChange = inputStream.readBoolean() ? LocalDate.ofEpochDay(inputStream.readLong()) : null;
+                byte[] metadataStatement = readBytes(inputStream);
+                items.add(new MetadataItemImpl(
+                        aaid,
+                        aaguid,
+                        attestationCertificateKeyIdentifiers,
+                        hash,
+                        statusReports == null ? null : jsonConverter.readValue(statusReports, STATUS_REPORTS_TYPE),
+                        timeOfLastStatusChange,
+                        metadataStatement == null ? null : jsonConverter.readValue(metadataStatement, MetadataStatement.class)
+                ));
+            }
+            return Collections.unmodifiableSet(items);
+        } catch (IOException e) {
+            throw new MDSException("Metadata items snapshot record is malformed", e);
+        }
+    }
+
+    private static byte[] encodeRecord(Set<MetadataItem> items, JsonConverter jsonConverter) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        DataOutputStream outputStream = new DataOutputStream(byteArrayOutputStream);
+        Set<MetadataItem> nonNullItems = items == null ? Collections.emptySet() : items;
+        outputStream.writeInt(nonNullItems.size());
+        for (MetadataItem item : nonNullItems) {
+            writeString(outputStream, item.getAaid());
+            writeStrings(outputStream, item.getAttestationCertificateKeyIdentifiers());
+            writeString(outputStream, item.getHash());
+            writeBytes(outputStream, item.getStatusReports() == null ? null : jsonConverter.writeValueAsBytes(item.getStatusReports()));
+            outputStream.writeBoolean(item.getTimeOfLastStatusChange() != null);
+            if (item.getTimeOfLastStatusChange() != null) {
+                outputStream.writeLong(item.getTimeOfLastStatusChange().toEpochDay());
+            }
+            writeBytes(outputStream, item.getMetadataStatement() == null ? null : jsonConverter.writeValueAsBytes(item.getMetadataStatement()));
+        }
+        outputStream.flush();
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream outputStream, String value) throws IOException {
+        writeBytes(outputStream, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream inputStream) throws IOException {
+        byte[] bytes = readBytes(inputStream);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream outputStream, List<String> values) throws IOException {
+        if (values == null) {
+            outputStream.writeInt(ABSENT);
+            return;
+        }
+        outputStream.writeInt(values.size());
+        for (String value : values) {
+            writeString(outputStream, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream inputStream) throws IOException {
+        int size = inputStream.readInt();
+        if (size == ABSENT) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(inputStream));
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    private static void writeBytes(DataOutputStream outputStream, byte[] value) throws IOException {
+        if (value == null) {
+            outputStream.writeInt(ABSENT);
+            return;
+        }
+        outputStream.writeInt(value.length);
+        outputStream.write(value);
+    }
+
+    private static byte[] readBytes(DataInputStream inputStream) throws IOException {
+        int length = inputStream.readInt();
+        if (length == ABSENT) {
+            return null;
+        }
+        if (length < 0 || length > inputStream.available()) {
+            throw new IOException("invalid length");
+        }
+        byte[] value = new byte[length];
+        inputStream.readFully(value);
+        return value;
+    }
+
+    private static long totalLength(List<byte[]> records) {
+        long length = 0;
+        for (byte[] record : records) {
+            length += record.length;
+        }
+        return length;
+    }
+
+    private static int toInt(long offset) {
+        if (offset > Integer.MAX_VALUE) {
+            throw new MDSException("Metadata items snapshot is too large");
+        }
+        return (int) offset;
+    }
+
+    private static int compare(AAGUID a, AAGUID b) {
+        UUID uuidA = a.getValue();
+        UUID uuidB = b.getValue();
+        // UUID#compareTo is not used as its ordering differs among Java versions
+        int result = Long.compare(uuidA.getMostSignificantBits(), uuidB.getMostSignificantBits());
+        return result != 0 ? result : Long.compare(uuidA.getLeastSignificantBits(), uuidB.getLeastSignificantBits());
+    }
+
+    private class SnapshotMap extends AbstractMap<AAGUID, Set<MetadataItem>> {
+
+        private final Set<Entry<AAGUID, Set<MetadataItem>>> entrySet = new AbstractSet<Entry<AAGUID, Set<MetadataItem>>>() {
+            @Override
+            public Iterator<Entry<AAGUID, Set<MetadataItem>>> iterator() {
+                return new Iterator<Entry<AAGUID, Set<MetadataItem>>>() {
+                    private int slot = nextSlot(-1);
+
+                    @Override
+                    public boolean hasNext() {
+                        return slot <= count;
+                    }
+
+                    @Override
+                    public Entry<AAGUID, Set<MetadataItem>> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<AAGUID, Set<MetadataItem>> entry = new SimpleImmutableEntry<>(getAAGUID(slot), getItems(slot));
+                        slot = nextSlot(slot);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return SnapshotMap.this.size();
+            }
+        };
+
+        @Override
+        public Set<MetadataItem> get(Object key) {
+            if (!(key instanceof AAGUID)) {
+                return null;
+            }
+            int slot = find((AAGUID) key);
+            return slot == -1 ? null : getItems(slot);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof AAGUID && find((AAGUID) key) != -1;
+        }
+
+        @Override
+        public int size() {
+            return nullRecordOffset == ABSENT ? count : count + 1;
+        }
+
+        @Override
+        public Set<Entry<AAGUID, Set<MetadataItem>>> entrySet() {
+            return entrySet;
+        }
+
+        private int nextSlot(int slot) {
+            int next = slot + 1;
+            if (next == count && nullRecordOffset == ABSENT) {
+                next++;
+            }
+            return next;
+        }
+    }
+
+}
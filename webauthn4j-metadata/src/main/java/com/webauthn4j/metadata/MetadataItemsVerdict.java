@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.metadata.data.statement.AttestationType;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.data.toc.AuthenticatorStatus;
+import com.webauthn4j.metadata.data.toc.StatusReport;
+import com.webauthn4j.util.AssertUtil;
+
+import java.util.Set;
+
+/**
+ * Outcome of the metadata checks {@link FidoMdsMetadataValidator} applies to the metadata items resolved for an
+ * authenticator. It only depends on the items, so {@link MetadataItemsIndex} precomputes it once per snapshot.
+ */
+public final class MetadataItemsVerdict {
+
+    private static final MetadataItemsVerdict NO_METADATA = new MetadataItemsVerdict(false, false, null);
+
+    private final boolean metadataAvailable;
+    private final boolean surrogateOnly;
+    private final AuthenticatorStatus rejectedStatus;
+
+    private MetadataItemsVerdict(boolean metadataAvailable, boolean surrogateOnly, AuthenticatorStatus rejectedStatus) {
+        this.metadataAvailable = metadataAvailable;
+        this.surrogateOnly = surrogateOnly;
+        this.rejectedStatus = rejectedStatus;
+    }
+
+    /**
+     * Evaluates metadata items
+     *
+     * @param metadataItems metadata items resolved for an authenticator
+     * @return verdict
+     */
+    public static MetadataItemsVerdict of(Set<MetadataItem> metadataItems) {
+        AssertUtil.notNull(metadataItems, "metadataItems must not be null");
+        if (metadataItems.isEmpty()) {
+            return NO_METADATA;
+        }
+        boolean hasAttestationType = false;
+        boolean surrogateOnly = true;
+        AuthenticatorStatus rejectedStatus = null;
+        for (MetadataItem metadataItem : metadataItems) {
+            MetadataStatement metadataStatement = metadataItem.getMetadataStatement();
+            if (metadataStatement != null && metadataStatement.getAttestationTypes() != null) {
+                for (AttestationType attestationType : metadataStatement.getAttestationTypes()) {
+                    hasAttestationType = true;
+                    surrogateOnly &= attestationType.equals(AttestationType.BASIC_SURROGATE);
+                }
+            }
+            if (rejectedStatus == null && metadataItem.getStatusReports() != null) {
+                for (StatusReport report : metadataItem.getStatusReports()) {
+                    if (isRejected(report.getStatus())) {
+                        rejectedStatus = report.getStatus();
+                        break;
+                    }
+                }
+            }
+        }
+        return new MetadataItemsVerdict(true, hasAttestationType && surrogateOnly, rejectedStatus);
+    }
+
+    static boolean isRejected(AuthenticatorStatus status) {
+        switch (status) {
+            case FIDO_CERTIFIED:
+            case FIDO_CERTIFIED_L1:
+            case FIDO_CERTIFIED_L1_PLUS:
+            case FIDO_CERTIFIED_L2:
+            case FIDO_CERTIFIED_L2_PLUS:
+            case FIDO_CERTIFIED_L3:
+            case FIDO_CERTIFIED_L3_PLUS:
+            case UPDATE_AVAILABLE:
+            case NOT_FIDO_CERTIFIED:
+            case SELF_ASSERTION_SUBMITTED:
+                return false;
+            case ATTESTATION_KEY_COMPROMISE:
+            case USER_VERIFICATION_BYPASS:
+            case USER_KEY_REMOTE_COMPROMISE:
+            case USER_KEY_PHYSICAL_COMPROMISE:
+            case REVOKED:
+            default:
+                return true;
+        }
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * @return false if no metadata item is registered for the authenticator
+     */
+    public boolean isMetadataAvailable() {
+        return metadataAvailable;
+    }
+
+    /**
+     * @return true if the authenticator is only registered for surrogate basic attestation
+     */
+    public boolean isSurrogateOnly() {
+        return surrogateOnly;
+    }
+
+    /**
+     * @return the status which rejects the authenticator, such as a revocation or a key compromise, or null if none is reported
+     */
+    public AuthenticatorStatus getRejectedStatus() {
+        return rejectedStatus;
+    }
+
+    public boolean isAllowed() {
+        return rejectedStatus == null;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+
+import java.util.*;
+
+/**
+ * Merges the maps returned by the delegates of an aggregating provider.
+ * The merged map is reused while every delegate keeps returning the same map instance,
+ * so that resolvers can detect unchanged snapshots by identity.
+ *
+ * @param <T> element type
+ */
+class MetadataMapAggregator<T> {
+
+    private volatile Aggregation<T> aggregation;
+
+    /**
+     * Merges the provided maps
+     *
+     * @param providedMaps maps returned by the delegates in order. A null element stands for a delegate which provided nothing.
+     * @return immutable merged map
+     */
+    Map<AAGUID, Set<T>> aggregate(List<Map<AAGUID, Set<T>>> providedMaps) {
+        Aggregation<T> current = aggregation;
+        if (current != null && current.isAggregationOf(providedMaps)) {
+            return current.merged;
+        }
+        Map<AAGUID, Set<T>> map = new HashMap<>();
+        providedMaps.stream().filter(Objects::nonNull).forEach(provided ->
+                provided.forEach((aaguid, elements) -> map.computeIfAbsent(aaguid, key -> new HashSet<>()).addAll(elements))
+        );
+        map.replaceAll((aaguid, elements) -> Collections.unmodifiableSet(elements));
+        Map<AAGUID, Set<T>> merged = Collections.unmodifiableMap(map);
+        aggregation = new Aggregation<>(new ArrayList<>(providedMaps), merged);
+        return merged;
+    }
+
+    private static class Aggregation<T> {
+
+        private final List<Map<AAGUID, Set<T>>> sources;
+        private final Map<AAGUID, Set<T>> merged;
+
+        Aggregation(List<Map<AAGUID, Set<T>>> sources, Map<AAGUID, Set<T>> merged) {
+            this.sources = sources;
+            this.merged = merged;
+        }
+
+        boolean isAggregationOf(List<Map<AAGUID, Set<T>>> providedMaps) {
+            if (sources.size() != providedMaps.size()) {
+                return false;
+            }
+            for (int i = 0; i < sources.size(); i++) {
+                if (sources.get(i) != providedMaps.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.util.exception.UnexpectedCheckedException;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Shrinks the resident footprint of {@link MetadataStatement}s held by providers in lean mode.
+ * Fields the validation path never reads (icon, tcDisplayPNGCharacteristics, ecdaaTrustAnchors) are dropped, and
+ * attestation root certificates which are shared by many statements are interned to a single instance.
+ * Interned certificates are only weakly referenced, so that certificates of statements dropped by a refresh are released.
+ */
+class MetadataStatementCompactor {
+
+    private final Map<ByteBuffer, CertificateReference> certificates = new ConcurrentHashMap<>();
+    private final ReferenceQueue<X509Certificate> releasedCertificates = new ReferenceQueue<>();
+
+    MetadataStatement compact(MetadataStatement metadataStatement) {
+        return new MetadataStatement(
+                metadataStatement.getLegalHeader(),
+                metadataStatement.getAaid(),
+                metadataStatement.getAaguid(),
+                metadataStatement.getAttestationCertificateKeyIdentifiers(),
+                metadataStatement.getDescription(),
+                metadataStatement.getAlternativeDescriptions(),
+                metadataStatement.getAuthenticatorVersion(),
+                metadataStatement.getProtocolFamily(),
+                metadataStatement.getUpv(),
+                metadataStatement.getAssertionScheme(),
+                metadataStatement.getAuthenticationAlgorithm(),
+                metadataStatement.getAuthenticationAlgorithms(),
+                metadataStatement.getPublicKeyAlgAndEncoding(),
+                metadataStatement.getPublicKeyAlgAndEncodings(),
+                metadataStatement.getAttestationTypes(),
+                metadataStatement.getUserVerificationDetails(),
+                metadataStatement.getKeyProtection(),
+                metadataStatement.getKeyRestricted(),
+                metadataStatement.getFreshUserVerificationRequired(),
+                metadataStatement.getMatcherProtection(),
+                metadataStatement.getCryptoStrength(),
+                metadataStatement.getOperationEnv(),
+                metadataStatement.getAttachmentHint(),
+                metadataStatement.getSecondFactorOnly(),
+                metadataStatement.getTcDisplay(),
+                metadataStatement.getTcDisplayContentType(),
+                null,
+                intern(metadataStatement.getAttestationRootCertificates()),
+                null,
+                null,
+                metadataStatement.getSupportedExtensions()
+        );
+    }
+
+    private List<X509Certificate> intern(List<X509Certificate> attestationRootCertificates) {
+        if (attestationRootCertificates == null) {
+            return null;
+        }
+        return attestationRootCertificates.stream().map(this::intern).collect(Collectors.toList());
+    }
+
+    private X509Certificate intern(X509Certificate certificate) {
+        expungeReleasedCertificates();
+        ByteBuffer encoded;
+        try {
+            encoded = ByteBuffer.wrap(certificate.getEncoded());
+        } catch (CertificateEncodingException e) {
+            throw new UnexpectedCheckedException(e);
+        }
+        CertificateReference reference = certificates.compute(encoded, (key, existing) ->
+                existing != null && existing.get() != null ? existing : new CertificateReference(key, certificate, releasedCertificates));
+        X509Certificate interned = reference.get();
+        // the interned certificate may have been released right after it was looked up
+        return interned == null ? certificate : interned;
+    }
+
+    private void expungeReleasedCertificates() {
+        Reference<? extends X509Certificate> reference;
+        while ((reference = releasedCertificates.poll()) != null) {
+            CertificateReference certificateReference = (CertificateReference) reference;
+            certificates.remove(certificateReference.key, certificateReference);
+        }
+    }
+
+    private static class CertificateReference extends WeakReference<X509Certificate> {
+
+        private final ByteBuffer key;
+
+        CertificateReference(ByteBuffer key, X509Certificate certificate, ReferenceQueue<X509Certificate> queue) {
+            super(certificate, queue);
+            this.key = key;
+        }
+    }
+}
@@ -18,15 +18,21 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.anchor.TrustAnchorsProvider;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
 
 import java.security.cert.TrustAnchor;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.security.cert.X509Certificate;
+import java.util.*;
 
+/**
+ * Derives {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map} from the attestation root certificates of
+ * metadata statements. The map is derived once per snapshot of the underlying {@link MetadataStatementsProvider},
+ * detected by identity of the map it returns, and one {@link TrustAnchor} instance is shared per unique root certificate.
+ */
 public class MetadataStatementsTrustAnchorsProvider implements TrustAnchorsProvider {
 
     private final MetadataStatementsProvider metadataStatementsProvider;
+    private volatile Derivation derivation;
 
     public MetadataStatementsTrustAnchorsProvider(MetadataStatementsProvider metadataStatementsProvider) {
         this.metadataStatementsProvider = metadataStatementsProvider;
@@ -34,13 +40,42 @@ public class MetadataStatementsTrustAnchorsProvider implements TrustAnchorsProvi
 
     @Override
     public Map<AAGUID, Set<TrustAnchor>> provide() {
-        return metadataStatementsProvider.provide().entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().stream().flatMap(metadataStatement ->
-                                metadataStatement.getAttestationRootCertificates().stream()
-                                        .map(certificate -> new TrustAnchor(certificate, null))
-                        ).collect(Collectors.toSet())
-                ));
+        Map<AAGUID, Set<MetadataStatement>> metadataStatements = metadataStatementsProvider.provide();
+        Derivation current = derivation;
+        if (current != null && current.source == metadataStatements) {
+            return current.trustAnchors;
+        }
+        Derivation next = new Derivation(metadataStatements, current == null ? Collections.emptyMap() : current.trustAnchorCache);
+        derivation = next;
+        return next.trustAnchors;
+    }
+
+    private static class Derivation {
+
+        private final Map<AAGUID, Set<MetadataStatement>> source;
+        private final Map<X509Certificate, TrustAnchor> trustAnchorCache = new HashMap<>();
+        private final Map<AAGUID, Set<TrustAnchor>> trustAnchors;
+
+        /**
+         * @param previousTrustAnchorCache {@link TrustAnchor}s derived from the previous snapshot, reused for unchanged
+         *                                 certificates so that caches keyed on {@link TrustAnchor} identity stay valid
+         */
+        Derivation(Map<AAGUID, Set<MetadataStatement>> source, Map<X509Certificate, TrustAnchor> previousTrustAnchorCache) {
+            this.source = source;
+            Map<AAGUID, Set<TrustAnchor>> map = new HashMap<>();
+            source.forEach((aaguid, statements) -> {
+                Set<TrustAnchor> set = new HashSet<>();
+                for (MetadataStatement metadataStatement : statements) {
+                    for (X509Certificate certificate : metadataStatement.getAttestationRootCertificates()) {
+                        set.add(trustAnchorCache.computeIfAbsent(certificate, key -> {
+                            TrustAnchor previous = previousTrustAnchorCache.get(key);
+                            return previous != null ? previous : new TrustAnchor(key, null);
+                        }));
+                    }
+                }
+                map.put(aaguid, Collections.unmodifiableSet(set));
+            });
+            this.trustAnchors = Collections.unmodifiableMap(map);
+        }
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.toc.AuthenticatorStatus;
+import com.webauthn4j.metadata.data.toc.MetadataTOCPayloadEntry;
+import com.webauthn4j.metadata.data.toc.StatusReport;
+import com.webauthn4j.util.AssertUtil;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Factory methods for filters passed to {@link FidoMdsMetadataItemsProvider#setEntryFilter(Predicate)}.
+ * Filters can be combined with {@link Predicate#and(Predicate)}, {@link Predicate#or(Predicate)} and {@link Predicate#negate()}.
+ * Filtered out entries are treated as having no metadata, except for entries whose status reports reject the authenticator,
+ * such as a revocation, which are kept regardless of the filter.
+ */
+public final class MetadataTOCPayloadEntryFilters {
+
+    private MetadataTOCPayloadEntryFilters() {
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Accepts entries of the specified protocol families. As TOC entries don't carry the protocol family, it is derived
+     * from the identifier of the entry: "fido2" for AAGUID, "uaf" for AAID and "u2f" for attestation certificate key identifiers.
+     * Authenticators of other protocol families are treated as having no metadata, unless their entries are rejected by
+     * their status reports.
+     *
+     * @param protocolFamilies "fido2", "uaf" or "u2f"
+     * @return filter
+     */
+    public static Predicate<MetadataTOCPayloadEntry> protocolFamily(String... protocolFamilies) {
+        Set<String> accepted = new HashSet<>(Arrays.asList(protocolFamilies));
+        return entry -> accepted.contains(getProtocolFamily(entry));
+    }
+
+    /**
+     * Accepts entries whose AAGUID is in the specified list
+     *
+     * @param aaguids allowed AAGUIDs
+     * @return filter
+     */
+    public static Predicate<MetadataTOCPayloadEntry> aaguidIn(Collection<AAGUID> aaguids) {
+        Set<String> accepted = toAAGUIDStrings(aaguids);
+        return entry -> entry.getAaguid() != null && accepted.contains(entry.getAaguid().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Accepts entries whose AAGUID is not in the specified list. Entries without AAGUID are accepted.
+     *
+     * @param aaguids denied AAGUIDs
+     * @return filter
+     */
+    public static Predicate<MetadataTOCPayloadEntry> aaguidNotIn(Collection<AAGUID> aaguids) {
+        Set<String> denied = toAAGUIDStrings(aaguids);
+        return entry -> entry.getAaguid() == null || !denied.contains(entry.getAaguid().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Accepts entries whose latest status report, by effective date, matches the predicate.
+     * Entries rejected by their status reports, such as revoked ones, are kept even if the predicate doesn't accept them.
+     *
+     * @param predicate predicate on the latest status
+     * @return filter
+     */
+    public static Predicate<MetadataTOCPayloadEntry> latestStatus(Predicate<AuthenticatorStatus> predicate) {
+        AssertUtil.notNull(predicate, "predicate must not be null");
+        return entry -> {
+            StatusReport latest = getLatestStatusReport(entry);
+            return latest != null && predicate.test(latest.getStatus());
+        };
+    }
+
+    /**
+     * Accepts entries whose latest status report is one of the specified statuses, such as certification levels
+     *
+     * @param statuses accepted statuses
+     * @return filter
+     */
+    public static Predicate<MetadataTOCPayloadEntry> latestStatusIn(AuthenticatorStatus... statuses) {
+        Set<AuthenticatorStatus> accepted = EnumSet.noneOf(AuthenticatorStatus.class);
+        accepted.addAll(Arrays.asList(statuses));
+        return latestStatus(accepted::contains);
+    }
+
+    /**
+     * Accepts entries which have at least one status report matching the predicate
+     *
+     * @param predicate predicate on status reports
+     * @return filter
+     */
+    public static Predicate<MetadataTOCPayloadEntry> anyStatusReport(Predicate<StatusReport> predicate) {
+        AssertUtil.notNull(predicate, "predicate must not be null");
+        return entry -> entry.getStatusReports() != null && entry.getStatusReports().stream().anyMatch(predicate);
+    }
+
+    private static String getProtocolFamily(MetadataTOCPayloadEntry entry) {
+        if (entry.getAaguid() != null) {
+            return "fido2";
+        }
+        if (entry.getAaid() != null) {
+            return "uaf";
+        }
+        if (entry.getAttestationCertificateKeyIdentifiers() != null && !entry.getAttestationCertificateKeyIdentifiers().isEmpty()) {
+            return "u2f";
+        }
+        return null;
+    }
+
+    private static StatusReport getLatestStatusReport(MetadataTOCPayloadEntry entry) {
+        if (entry.getStatusReports() == null) {
+            return null;
+        }
+        StatusReport latest = null;
+        for (StatusReport report : entry.getStatusReports()) {
+            // reports are listed oldest first, so a later report wins when effective dates are equal or missing
+            if (latest == null || !isBefore(report.getEffectiveDate(), latest.getEffectiveDate())) {
+                latest = report;
+            }
+        }
+        return latest;
+    }
+
+    private static boolean isBefore(LocalDate date, LocalDate other) {
+        return date != null && other != null && date.isBefore(other);
+    }
+
+    private static Set<String> toAAGUIDStrings(Collection<AAGUID> aaguids) {
+        AssertUtil.notNull(aaguids, "aaguids must not be null");
+        return aaguids.stream().map(aaguid -> aaguid.toString().toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+    }
+}
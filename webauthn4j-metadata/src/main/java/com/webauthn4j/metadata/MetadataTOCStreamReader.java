@@ -0,0 +1,312 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.JsonConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.jws.JWSHeader;
+import com.webauthn4j.data.jws.JWSSignatureUtil;
+import com.webauthn4j.metadata.data.toc.MetadataTOCPayload;
+import com.webauthn4j.metadata.data.toc.MetadataTOCPayloadEntry;
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.Base64UrlUtil;
+import com.webauthn4j.util.SignatureUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.InvalidKeyException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.cert.CertPath;
+import java.security.interfaces.ECPublicKey;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.function.Consumer;
+
+/**
+ * Reads a MetadataTOC JWS from a stream without materializing the encoded or decoded payload.
+ * <p>
+ * The signature is verified incrementally over the encoded bytes as they are read, and the payload is decoded through
+ * a streaming base64url to JSON pipeline that hands each {@link MetadataTOCPayloadEntry} to the caller as soon as it is
+ * parsed. As the JWS signature follows the payload, entries are handed over before the signature is verified: callers
+ * must discard whatever they built from the entries if {@link #read(InputStream, Consumer, Consumer)} throws.
+ */
+public class MetadataTOCStreamReader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final String INVALID_SIGNATURE = "invalid signature";
+
+    private final JsonConverter jsonConverter;
+
+    public MetadataTOCStreamReader(ObjectConverter objectConverter) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.jsonConverter = objectConverter.getJsonConverter();
+    }
+
+    /**
+     * Reads a MetadataTOC JWS.
+     *
+     * @param inputStream     compact serialized JWS. It is not closed by this method.
+     * @param headerValidator called with the JWS header before the payload is read, e.g. to validate the cert path
+     * @param entryConsumer   called with each entry of the payload in order
+     * @return the payload members other than the entries, with an empty entry list
+     * @throws MDSException if the JWS is malformed or its signature is invalid
+     */
+    public MetadataTOCPayload read(InputStream inputStream, Consumer<JWSHeader> headerValidator, Consumer<MetadataTOCPayloadEntry> entryConsumer) {
+        AssertUtil.notNull(inputStream, "inputStream must not be null");
+        AssertUtil.notNull(headerValidator, "headerValidator must not be null");
+        AssertUtil.notNull(entryConsumer, "entryConsumer must not be null");
+        try {
+            SegmentInputStream segmentInputStream = new SegmentInputStream(inputStream);
+
+            byte[] encodedHeader = readSegment(segmentInputStream);
+            JWSHeader header = jsonConverter.readValue(Base64UrlUtil.decode(encodedHeader), JWSHeader.class);
+            CertPath x5c = header == null ? null : header.getX5c();
+            if (header == null || header.getAlg() == null || x5c == null || x5c.getCertificates().isEmpty()) {
+                throw new MDSException(INVALID_SIGNATURE);
+            }
+            headerValidator.accept(header);
+
+            PublicKey publicKey = x5c.getCertificates().get(0).getPublicKey();
+            // a dedicated instance is used as the consumer may borrow pooled engines on this thread while the payload is read
+            Signature signature = SignatureUtil.createSignature(header.getAlg().getJcaName());
+            signature.initVerify(publicKey);
+            signature.update(encodedHeader);
+            signature.update((byte) '.');
+
+            segmentInputStream.nextSegment(signature);
+            MetadataTOCPayload payload = readPayload(Base64.getUrlDecoder().wrap(segmentInputStream), entryConsumer);
+            readSegment(segmentInputStream);
+
+            segmentInputStream.nextSegment(null);
+            byte[] jwsSignature = Base64UrlUtil.decode(readSegment(segmentInputStream));
+            if (!segmentInputStream.isEndOfStream()) {
+                throw new MDSException("JWS value is not divided by two period.");
+            }
+            byte[] sig = publicKey instanceof ECPublicKey ? JWSSignatureUtil.convertJwsSignatureToDerSignature(jwsSignature) : jwsSignature;
+            if (!signature.verify(sig)) {
+                throw new MDSException(INVALID_SIGNATURE);
+            }
+            return payload;
+        } catch (InvalidKeyException | SignatureException e) {
+            throw new MDSException(INVALID_SIGNATURE, e);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException("Input data does not match expected form", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MetadataTOCPayload readPayload(InputStream decodedPayload, Consumer<MetadataTOCPayloadEntry> entryConsumer) throws IOException {
+        String legalHeader = null;
+        Integer no = null;
+        LocalDate nextUpdate = null;
+        try (JsonParser parser = jsonConverter.createParser(decodedPayload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new MDSException("MetadataTOCPayload must be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (valueToken == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (fieldName) {
+                    case "legalHeader":
+                        legalHeader = parser.getValueAsString();
+                        break;
+                    case "no":
+                        no = parser.getIntValue();
+                        break;
+                    case "nextUpdate":
+                        nextUpdate = readLocalDate(parser);
+                        break;
+                    case "entries":
+                        if (valueToken != JsonToken.START_ARRAY) {
+                            throw new MDSException("entries must be a JSON array");
+                        }
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            entryConsumer.accept(parser.readValueAs(MetadataTOCPayloadEntry.class));
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+        }
+        return new MetadataTOCPayload(legalHeader, no, nextUpdate, Collections.emptyList());
+    }
+
+    /**
+     * Reads a date in the forms accepted by the {@code LocalDateDeserializer} MetadataTOCPayload binds nextUpdate with:
+     * an ISO 8601 string, or a [year, month, day] array.
+     */
+    private static LocalDate readLocalDate(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_ARRAY) {
+            int[] values = new int[3];
+            for (int i = 0; i < values.length; i++) {
+                if (parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+                    throw new MDSException("nextUpdate must be a date");
+                }
+                values[i] = parser.getIntValue();
+            }
+            if (parser.nextToken() != JsonToken.END_ARRAY) {
+                throw new MDSException("nextUpdate must be a date");
+            }
+            return LocalDate.of(values[0], values[1], values[2]);
+        }
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw new MDSException("nextUpdate must be a date");
+        }
+        try {
+            return LocalDate.parse(parser.getText());
+        } catch (DateTimeParseException e) {
+            throw new MDSException("nextUpdate must be a date", e);
+        }
+    }
+
+    private static byte[] readSegment(SegmentInputStream segmentInputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length;
+        while ((length = segmentInputStream.read(buffer, 0, buffer.length)) != -1) {
+            outputStream.write(buffer, 0, length);
+        }
+        if (segmentInputStream.isEndOfStream() && segmentInputStream.getSegmentIndex() < 2) {
+            throw new MDSException("JWS value is not divided by two period.");
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Exposes one period separated segment of a compact JWS at a time, feeding the bytes read to a {@link Signature}.
+     */
+    private static class SegmentInputStream extends InputStream {
+
+        private final InputStream inputStream;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private int segmentIndex;
+        private boolean endOfSegment;
+        private boolean endOfStream;
+        private Signature signature;
+
+        SegmentInputStream(InputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        void nextSegment(Signature signature) {
+            if (!endOfSegment || endOfStream) {
+                throw new IllegalStateException("current segment is not fully read");
+            }
+            this.signature = signature;
+            this.endOfSegment = false;
+            this.segmentIndex++;
+        }
+
+        int getSegmentIndex() {
+            return segmentIndex;
+        }
+
+        boolean isEndOfStream() {
+            return endOfStream;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (endOfSegment) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            if (position == limit && !fill()) {
+                endOfSegment = true;
+                endOfStream = true;
+                return -1;
+            }
+            int end = Math.min(limit, position + len);
+            int delimiter = position;
+            while (delimiter < end && buffer[delimiter] != '.') {
+                delimiter++;
+            }
+            int length = delimiter - position;
+            if (delimiter < end) {
+                endOfSegment = true;
+            }
+            if (length == 0) {
+                position++;
+                return -1;
+            }
+            System.arraycopy(buffer, position, b, off, length);
+            update(position, length);
+            position += endOfSegment ? length + 1 : length;
+            return length;
+        }
+
+        @Override
+        public void close() {
+            // the underlying stream is owned by the caller
+        }
+
+        private boolean fill() throws IOException {
+            int length;
+            do {
+                length = inputStream.read(buffer, 0, buffer.length);
+            } while (length == 0);
+            if (length == -1) {
+                return false;
+            }
+            position = 0;
+            limit = length;
+            return true;
+        }
+
+        private void update(int offset, int length) throws IOException {
+            if (signature == null) {
+                return;
+            }
+            try {
+                signature.update(buffer, offset, length);
+            } catch (SignatureException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+}
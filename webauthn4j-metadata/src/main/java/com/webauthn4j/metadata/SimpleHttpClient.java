@@ -33,14 +33,28 @@ public class SimpleHttpClient implements HttpClient {
 
     @Override
     public String fetch(String url) {
+        return fetch(url, null, null).getBody();
+    }
+
+    @Override
+    public HttpFetchResponse fetch(String url, String eTag, String lastModified) {
         try {
             URL fetchUrl = new URL(url);
             HttpURLConnection urlConnection = (HttpURLConnection) fetchUrl.openConnection();
             urlConnection.setRequestMethod("GET");
+            if (eTag != null) {
+                urlConnection.setRequestProperty("If-None-Match", eTag);
+            }
+            if (lastModified != null) {
+                urlConnection.setRequestProperty("If-Modified-Since", lastModified);
+            }
             urlConnection.connect();
 
             int status = urlConnection.getResponseCode();
 
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && (eTag != null || lastModified != null)) {
+                return HttpFetchResponse.notModified();
+            }
             if (status == HttpURLConnection.HTTP_OK) {
                 InputStream inputStream = urlConnection.getInputStream();
                 BufferedInputStream bis = new BufferedInputStream(inputStream);
@@ -51,7 +65,7 @@ public class SimpleHttpClient implements HttpClient {
                     result = bis.read();
                 }
                 bis.close();
-                return buf.toString("UTF-8");
+                return HttpFetchResponse.ok(buf.toString("UTF-8"), urlConnection.getHeaderField("ETag"), urlConnection.getHeaderField("Last-Modified"));
             }
             throw new MDSException("failed to fetch " + url);
         } catch (IOException e) {
@@ -21,6 +21,8 @@ import com.webauthn4j.metadata.converter.jackson.deserializer.AttachmentHintsDes
 import com.webauthn4j.metadata.converter.jackson.deserializer.KeyProtectionsDeserializer;
 import com.webauthn4j.metadata.converter.jackson.deserializer.MatcherProtectionsDeserializer;
 import com.webauthn4j.metadata.converter.jackson.deserializer.TransactionConfirmationDisplaysDeserializer;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.converter.jackson.serializer.AAGUIDSerializer;
 import com.webauthn4j.metadata.converter.jackson.serializer.AttachmentHintsSerializer;
 import com.webauthn4j.metadata.converter.jackson.serializer.KeyProtectionsSerializer;
 import com.webauthn4j.metadata.converter.jackson.serializer.MatcherProtectionsSerializer;
@@ -40,6 +42,7 @@ public class WebAuthnMetadataJSONModule extends SimpleModule {
         this.addDeserializer(MatcherProtections.class, new MatcherProtectionsDeserializer());
         this.addDeserializer(TransactionConfirmationDisplays.class, new TransactionConfirmationDisplaysDeserializer());
 
+        this.addSerializer(AAGUID.class, new AAGUIDSerializer());
         this.addSerializer(AttachmentHints.class, new AttachmentHintsSerializer());
         this.addSerializer(KeyProtections.class, new KeyProtectionsSerializer());
         this.addSerializer(MatcherProtections.class, new MatcherProtectionsSerializer());
@@ -38,6 +38,13 @@ public interface MetadataItem extends Serializable {
 
     LocalDate getTimeOfLastStatusChange();
 
+    /**
+     * Returns the metadata statement of the authenticator
+     *
+     * @return the metadata statement, or null if the item only carries status reports, such as an entry which
+     * {@link com.webauthn4j.metadata.FidoMdsMetadataItemsProvider#setEntryFilter(java.util.function.Predicate)} filtered
+     * out but kept because its status reports reject the authenticator
+     */
     MetadataStatement getMetadataStatement();
 
 }
@@ -196,10 +196,12 @@ public class MetadataStatement implements Serializable {
         return keyProtection;
     }
 
+    @JsonProperty("isKeyRestricted")
     public Boolean getKeyRestricted() {
         return isKeyRestricted;
     }
 
+    @JsonProperty("isFreshUserVerificationRequired")
     public Boolean getFreshUserVerificationRequired() {
         return isFreshUserVerificationRequired;
     }
@@ -220,6 +222,7 @@ public class MetadataStatement implements Serializable {
         return attachmentHint;
     }
 
+    @JsonProperty("isSecondFactorOnly")
     public Boolean getSecondFactorOnly() {
         return isSecondFactorOnly;
     }
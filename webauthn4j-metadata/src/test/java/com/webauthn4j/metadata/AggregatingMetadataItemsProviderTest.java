@@ -18,13 +18,18 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.metadata.exception.MDSException;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.*;
 
 class AggregatingMetadataItemsProviderTest {
 
@@ -49,4 +54,106 @@ class AggregatingMetadataItemsProviderTest {
         assertThat(target.provide().get(new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812"))).containsExactlyInAnyOrder(metadataItemA, metadataItemB);
     }
 
-}
\ No newline at end of file
+    @Test
+    void provide_test_reuses_merged_map_while_providers_return_same_snapshot() {
+        MetadataItem metadataItem = mock(MetadataItem.class);
+        AAGUID aaguid = new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812");
+
+        MetadataItemsProvider provider = mock(MetadataItemsProvider.class);
+        Map<AAGUID, Set<MetadataItem>> map = Collections.singletonMap(aaguid, Collections.singleton(metadataItem));
+        when(provider.provide()).thenReturn(map);
+
+        // queries run on the calling thread, so that a published snapshot is picked up by the call which queries it
+        AggregatingMetadataItemsProvider target = new AggregatingMetadataItemsProvider(Collections.singletonList(provider), Runnable::run);
+        target.setRefreshInterval(Duration.ZERO);
+        Map<AAGUID, Set<MetadataItem>> merged = target.provide();
+        assertThat(target.provide()).isSameAs(merged);
+        assertThatThrownBy(() -> merged.put(aaguid, Collections.emptySet())).isInstanceOf(UnsupportedOperationException.class);
+
+        when(provider.provide()).thenReturn(new HashMap<>(map));
+        assertThat(target.provide()).isNotSameAs(merged).isEqualTo(merged);
+    }
+
+    @Test
+    void provide_test_does_not_query_providers_within_refresh_interval() {
+        MetadataItemsProvider provider = mock(MetadataItemsProvider.class);
+        when(provider.provide()).thenReturn(Collections.emptyMap());
+
+        AggregatingMetadataItemsProvider target = new AggregatingMetadataItemsProvider(Collections.singletonList(provider), Runnable::run);
+        target.setRefreshInterval(Duration.ofHours(1));
+        target.provide();
+        target.provide();
+        verify(provider, times(1)).provide();
+    }
+
+    @Test
+    void provide_test_serves_last_good_result_of_slow_or_failing_provider() throws InterruptedException {
+        AAGUID aaguidA = new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812");
+        AAGUID aaguidB = new AAGUID("a4e9fc6d-4cbe-4758-b8ba-37598bb5bbaa");
+        CountDownLatch release = new CountDownLatch(1);
+
+        MetadataItemsProvider slowProvider = mock(MetadataItemsProvider.class);
+        Map<AAGUID, Set<MetadataItem>> mapA = Collections.singletonMap(aaguidA, Collections.singleton(mock(MetadataItem.class)));
+        when(slowProvider.provide()).thenReturn(mapA).thenAnswer(invocation -> {
+            release.await();
+            return mapA;
+        });
+        MetadataItemsProvider failingProvider = mock(MetadataItemsProvider.class);
+        Map<AAGUID, Set<MetadataItem>> mapB = Collections.singletonMap(aaguidB, Collections.singleton(mock(MetadataItem.class)));
+        when(failingProvider.provide()).thenReturn(mapB).thenThrow(new IllegalStateException("unavailable"));
+
+        AggregatingMetadataItemsProvider target = new AggregatingMetadataItemsProvider(Arrays.asList(slowProvider, failingProvider));
+        target.setRefreshInterval(Duration.ZERO);
+        Map<AAGUID, Set<MetadataItem>> merged = target.provide();
+        assertThat(merged.keySet()).containsExactlyInAnyOrder(aaguidA, aaguidB);
+        try {
+            // the slow provider is queried in the background, so provide() doesn't wait for it
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                assertThat(target.provide()).isSameAs(merged);
+                assertThat(target.provide()).isSameAs(merged);
+            });
+            // the pending query of the slow provider is not repeated
+            verify(slowProvider, timeout(5000).times(2)).provide();
+            verify(slowProvider, times(2)).provide();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void provide_test_merges_other_providers_while_one_has_no_first_result() {
+        AAGUID aaguid = new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812");
+        MetadataItemsProvider failingProvider = mock(MetadataItemsProvider.class);
+        when(failingProvider.provide()).thenThrow(new IllegalStateException("unavailable"));
+        MetadataItemsProvider provider = mock(MetadataItemsProvider.class);
+        when(provider.provide()).thenReturn(Collections.singletonMap(aaguid, Collections.singleton(mock(MetadataItem.class))));
+
+        AggregatingMetadataItemsProvider target = new AggregatingMetadataItemsProvider(Arrays.asList(failingProvider, provider));
+        assertThat(target.provide()).containsOnlyKeys(aaguid);
+    }
+
+    @Test
+    void provide_test_throws_until_every_provider_produced_first_result() {
+        CountDownLatch release = new CountDownLatch(1);
+        MetadataItemsProvider slowProvider = mock(MetadataItemsProvider.class);
+        when(slowProvider.provide()).thenAnswer(invocation -> {
+            release.await();
+            return Collections.emptyMap();
+        });
+        MetadataItemsProvider provider = mock(MetadataItemsProvider.class);
+        when(provider.provide()).thenReturn(Collections.emptyMap());
+
+        AggregatingMetadataItemsProvider target = new AggregatingMetadataItemsProvider(Arrays.asList(slowProvider, provider));
+        target.setRequireAllProviders(true);
+        target.setProviderTimeout(Duration.ofMillis(100));
+        try {
+            assertThrows(MDSException.class, target::provide);
+        } finally {
+            release.countDown();
+        }
+        target.setProviderTimeout(Duration.ofSeconds(5));
+        assertThat(target.provide()).isEmpty();
+        verify(slowProvider, times(1)).provide();
+    }
+
+}
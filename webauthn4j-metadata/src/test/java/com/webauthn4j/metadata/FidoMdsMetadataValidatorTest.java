@@ -16,15 +16,27 @@
 
 package com.webauthn4j.metadata;
 
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.metadata.data.MetadataItemImpl;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.data.toc.AuthenticatorStatus;
+import com.webauthn4j.metadata.data.toc.StatusReport;
+import com.webauthn4j.metadata.exception.BadStatusException;
+import com.webauthn4j.test.TestAttestationUtil;
 import com.webauthn4j.test.TestDataUtil;
 import com.webauthn4j.validator.RegistrationObject;
 import org.junit.jupiter.api.Test;
 
-import static org.mockito.Mockito.mock;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 class FidoMdsMetadataValidatorTest {
 
-    private final MetadataItemsResolver metadataItemsResolver = mock(MetadataItemsResolver.class);
+    private final MetadataItemsResolver metadataItemsResolver = mock(MetadataItemsResolver.class, CALLS_REAL_METHODS);
     private final FidoMdsMetadataValidator target = new FidoMdsMetadataValidator(metadataItemsResolver);
 
     @Test
@@ -32,4 +44,28 @@ class FidoMdsMetadataValidatorTest {
         RegistrationObject registrationObject = TestDataUtil.createRegistrationObjectWithPackedAttestation();
         target.validate(registrationObject);
     }
+
+    @Test
+    void validate_test_with_u2f_attestation_resolves_by_attestation_certificate() {
+        // the test authenticator data carries the zero AAGUID, as U2F authenticators do
+        RegistrationObject registrationObject = TestDataUtil.createRegistrationObject(clientDataHash -> TestDataUtil.createAttestationObjectWithFIDOU2FAttestationStatement());
+        MetadataItem revoked = new MetadataItemImpl(null, AAGUID.NULL, Collections.singletonList("dummy"), "AAAA",
+                Collections.singletonList(new StatusReport(AuthenticatorStatus.REVOKED, null, null, null)), null, mock(MetadataStatement.class));
+        when(metadataItemsResolver.resolve(TestAttestationUtil.load2tierTestAuthenticatorAttestationCertificate())).thenReturn(Collections.singleton(revoked));
+
+        assertThrows(BadStatusException.class, () -> target.validate(registrationObject));
+        verify(metadataItemsResolver, never()).resolve(any(AAGUID.class));
+    }
+
+    @Test
+    void validate_test_with_u2f_attestation_falls_back_to_zero_aaguid() {
+        RegistrationObject registrationObject = TestDataUtil.createRegistrationObject(clientDataHash -> TestDataUtil.createAttestationObjectWithFIDOU2FAttestationStatement());
+        MetadataItem revoked = new MetadataItemImpl(null, AAGUID.ZERO, null, "AAAA",
+                Collections.singletonList(new StatusReport(AuthenticatorStatus.REVOKED, null, null, null)), null, mock(MetadataStatement.class));
+        // a resolver which only implements resolve(AAGUID), and therefore has no key identifier index
+        MetadataItemsResolver aaguidOnlyResolver = aaguid -> AAGUID.ZERO.equals(aaguid) ? Collections.singleton(revoked) : Collections.emptySet();
+
+        FidoMdsMetadataValidator validator = new FidoMdsMetadataValidator(aaguidOnlyResolver);
+        assertThrows(BadStatusException.class, () -> validator.validate(registrationObject));
+    }
 }
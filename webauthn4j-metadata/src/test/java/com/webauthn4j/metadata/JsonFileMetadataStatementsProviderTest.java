@@ -30,9 +30,16 @@ import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
 
 class JsonFileMetadataStatementsProviderTest {
 
@@ -60,6 +67,51 @@ class JsonFileMetadataStatementsProviderTest {
         assertThat(itemMap).isSameAs(itemMapInFirstCall);
     }
 
+    @Test
+    void fetchMetadata_with_lean_mode() throws URISyntaxException {
+        List<Path> paths = Collections.singletonList(Paths.get(ClassLoader.getSystemResource("com/webauthn4j/metadata/JsonMetadataItem_fido2.json").toURI()));
+        JsonFileMetadataStatementsProvider provider = new JsonFileMetadataStatementsProvider(objectConverter, paths);
+        provider.setLeanMode(true);
+        MetadataStatement metadataStatement = provider.provide().values().iterator().next().iterator().next();
+        assertThat(metadataStatement.getIcon()).isNull();
+        assertThat(metadataStatement.getTcDisplayPNGCharacteristics()).isNull();
+        assertThat(metadataStatement.getEcdaaTrustAnchors()).isNull();
+        assertThat(metadataStatement.getDescription()).isNotNull();
+        assertThat(metadataStatement.getAttestationRootCertificates()).isNotEmpty();
+
+        // attestation root certificates are shared with statements loaded later
+        MetadataStatement reloaded = provider.refresh().values().iterator().next().iterator().next();
+        assertThat(reloaded).isNotSameAs(metadataStatement);
+        assertThat(reloaded.getAttestationRootCertificates().get(0)).isSameAs(metadataStatement.getAttestationRootCertificates().get(0));
+    }
+
+    @Test
+    void refresh_discards_result_of_load_started_earlier_test() throws Exception {
+        List<Path> paths = Collections.singletonList(Paths.get(ClassLoader.getSystemResource("com/webauthn4j/metadata/JsonMetadataItem_fido2.json").toURI()));
+        JsonFileMetadataStatementsProvider provider = spy(new JsonFileMetadataStatementsProvider(objectConverter, paths));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(provider).readJsonFile(any());
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<Map<AAGUID, Set<MetadataStatement>>> earlier = executorService.submit(provider::refresh);
+            loading.await();
+            Map<AAGUID, Set<MetadataStatement>> later = provider.refresh();
+            release.countDown();
+
+            assertThat(earlier.get()).isSameAs(later);
+            assertThat(provider.provide()).isSameAs(later);
+        } finally {
+            release.countDown();
+            executorService.shutdown();
+        }
+    }
+
     @Test
     void fetchMetadataFromUnknownProtocolFamilyMetadataStatementFile() throws URISyntaxException {
         List<Path> paths = new ArrayList<>(4);
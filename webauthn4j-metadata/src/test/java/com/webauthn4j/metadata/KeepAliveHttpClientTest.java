@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.webauthn4j.metadata.exception.MDSException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeepAliveHttpClientTest {
+
+    private final KeepAliveHttpClient target = new KeepAliveHttpClient();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        target.setInitialBackoff(Duration.ofMillis(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void fetch_test() {
+        server.createContext("/toc", exchange -> {
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            respond(exchange, 200, "payload".getBytes(StandardCharsets.UTF_8));
+        });
+
+        HttpFetchResponse response = target.fetch(baseUrl + "/toc", null, null);
+        assertThat(response.isNotModified()).isFalse();
+        assertThat(response.getBody()).isEqualTo("payload");
+        assertThat(response.getETag()).isEqualTo("\"v1\"");
+    }
+
+    @Test
+    void fetch_gzip_test() {
+        server.createContext("/toc", exchange -> {
+            assertThat(exchange.getRequestHeaders().getFirst("Accept-Encoding")).isEqualTo("gzip");
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+                gzipOutputStream.write("compressed payload".getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            respond(exchange, 200, compressed.toByteArray());
+        });
+
+        assertThat(target.fetch(baseUrl + "/toc")).isEqualTo("compressed payload");
+    }
+
+    @Test
+    void fetch_not_modified_test() {
+        server.createContext("/toc", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+            }
+            else {
+                respond(exchange, 200, "payload".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+
+        assertThat(target.fetch(baseUrl + "/toc", "\"v1\"", null).isNotModified()).isTrue();
+        assertThat(target.fetch(baseUrl + "/toc", "\"v0\"", null).getBody()).isEqualTo("payload");
+    }
+
+    @Test
+    void fetch_retries_server_error_test() {
+        AtomicInteger requests = new AtomicInteger();
+        server.createContext("/toc", exchange -> {
+            if (requests.incrementAndGet() < 3) {
+                respond(exchange, 503, "unavailable".getBytes(StandardCharsets.UTF_8));
+            }
+            else {
+                respond(exchange, 200, "payload".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+
+        assertThat(target.fetch(baseUrl + "/toc")).isEqualTo("payload");
+        assertThat(requests.get()).isEqualTo(3);
+    }
+
+    @Test
+    void fetch_gives_up_after_max_retries_test() {
+        AtomicInteger requests = new AtomicInteger();
+        server.createContext("/toc", exchange -> {
+            requests.incrementAndGet();
+            respond(exchange, 500, "error".getBytes(StandardCharsets.UTF_8));
+        });
+        target.setMaxRetries(1);
+
+        assertThatThrownBy(() -> target.fetch(baseUrl + "/toc")).isInstanceOf(MDSException.class);
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void fetch_does_not_retry_client_error_test() {
+        AtomicInteger requests = new AtomicInteger();
+        server.createContext("/toc", exchange -> {
+            requests.incrementAndGet();
+            respond(exchange, 404, "not found".getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertThatThrownBy(() -> target.fetch(baseUrl + "/toc")).isInstanceOf(MDSException.class);
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void getter_setter_test() {
+        target.setConnectTimeout(Duration.ofSeconds(1));
+        target.setReadTimeout(Duration.ofSeconds(2));
+        target.setMaxRetries(3);
+        target.setMaxConcurrentRequests(4);
+        assertThat(target.getConnectTimeout()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(target.getReadTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(target.getMaxRetries()).isEqualTo(3);
+        assertThat(target.getInitialBackoff()).isEqualTo(Duration.ofMillis(1));
+        assertThat(target.getMaxConcurrentRequests()).isEqualTo(4);
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.metadata.data.MetadataItemImpl;
+import com.webauthn4j.metadata.data.toc.AuthenticatorStatus;
+import com.webauthn4j.metadata.data.toc.StatusReport;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.HexUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.X509Certificate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetadataItemsIndexTest {
+
+    private static final AAGUID AAGUID_A = new AAGUID("00000000-0000-0000-0000-000000000001");
+
+    private final MetadataItem fido2Item = new MetadataItemImpl(null, AAGUID_A, null, "AAAA", Collections.emptyList(), null, null);
+    private final MetadataItem uafItem = new MetadataItemImpl("4e4e#4005", AAGUID.NULL, null, "BBBB", Collections.emptyList(), null, null);
+    private final MetadataItem u2fItem = new MetadataItemImpl(null, AAGUID.NULL, Collections.singletonList("7C0903708B87115B0B422DEF3138C3C864E44573"), "CCCC", Collections.emptyList(), null, null);
+
+    @Test
+    void find_test() {
+        Map<AAGUID, Set<MetadataItem>> source = new HashMap<>();
+        source.put(AAGUID_A, Collections.singleton(fido2Item));
+        source.put(AAGUID.NULL, new HashSet<>(Arrays.asList(uafItem, u2fItem)));
+        MetadataItemsIndex target = MetadataItemsIndex.create(source);
+
+        assertThat(target.getSource()).isSameAs(source);
+        assertThat(target.findByAAGUID(AAGUID_A)).containsExactlyInAnyOrder(fido2Item, uafItem, u2fItem);
+        assertThat(target.findByAaid("4e4e#4005")).containsExactly(uafItem).isSameAs(target.findByAaid("4e4e#4005"));
+        assertThat(target.findByAaid("4e4e#4006")).isEmpty();
+        assertThat(target.findByAttestationCertificateKeyIdentifier("7c0903708b87115b0b422def3138c3c864e44573")).containsExactly(u2fItem);
+        assertThat(target.findByAttestationCertificateKeyIdentifier("0000000000000000000000000000000000000000")).isEmpty();
+    }
+
+    @Test
+    void getVerdict_test() {
+        MetadataItem revokedItem = new MetadataItemImpl(null, AAGUID_A, null, "DDDD",
+                Collections.singletonList(new StatusReport(AuthenticatorStatus.REVOKED, null, null, null)), null, null);
+        Map<AAGUID, Set<MetadataItem>> source = new HashMap<>();
+        source.put(AAGUID_A, Collections.singleton(revokedItem));
+        source.put(AAGUID.NULL, Collections.singleton(uafItem));
+        MetadataItemsIndex target = MetadataItemsIndex.create(source);
+
+        Set<MetadataItem> items = target.findByAAGUID(AAGUID_A);
+        assertThat(target.getVerdict(items)).isSameAs(target.getVerdict(target.findByAAGUID(AAGUID_A)));
+        assertThat(target.getVerdict(items).getRejectedStatus()).isEqualTo(AuthenticatorStatus.REVOKED);
+        assertThat(target.getVerdict(target.findByAaid("4e4e#4005")).isAllowed()).isTrue();
+        assertThat(target.getVerdict(target.findByAaid("4e4e#4006")).isMetadataAvailable()).isFalse();
+        // sets not handed out by the index are evaluated on demand
+        assertThat(target.getVerdict(new HashSet<>(items)).getRejectedStatus()).isEqualTo(AuthenticatorStatus.REVOKED);
+    }
+
+    @Test
+    void getAttestationCertificateKeyIdentifier_test() {
+        X509Certificate certificate = TestAttestationUtil.load2tierTestAuthenticatorAttestationCertificate();
+        // the test certificate carries a subject key identifier extension computed by method (1) of RFC 5280 4.2.1.2
+        byte[] extensionValue = certificate.getExtensionValue("2.5.29.14");
+        String expected = HexUtil.encodeToString(Arrays.copyOfRange(extensionValue, 4, extensionValue.length)).toLowerCase(Locale.ROOT);
+
+        assertThat(MetadataItemsIndex.getAttestationCertificateKeyIdentifier(certificate)).isEqualTo(expected);
+    }
+}
@@ -19,32 +19,68 @@ package com.webauthn4j.metadata;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.data.toc.AuthenticatorStatus;
+import com.webauthn4j.metadata.data.toc.MetadataTOCPayload;
+import com.webauthn4j.metadata.data.toc.MetadataTOCPayloadEntry;
+import com.webauthn4j.metadata.data.toc.StatusReport;
 import com.webauthn4j.metadata.converter.jackson.WebAuthnMetadataJSONModule;
 import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.test.TestDataUtil;
 import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.Base64Util;
 import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.util.HexUtil;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.TrustAnchor;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.*;
 
 class MetadataItemsProviderTest {
 
+    private static final String FAKE_TOC = "eyJ0eXAiOiJKV1QiLCJhbGciOiJFUzI1NiIsIng1YyI6WyJNSUlDeWpDQ0FtK2dBd0lCQWdJUEJGRzA4cmwrU0ZiVElURDRKaXc3TUFvR0NDcUdTTTQ5QkFNQ01HY3hDekFKQmdOVkJBWVRBbFZUTVJZd0ZBWURWUVFLREExR1NVUlBJRUZzYkdsaGJtTmxNU2N3SlFZRFZRUUxEQjVHUVV0RklFMWxkR0ZrWVhSaElGUlBReUJUYVdkdWFXNW5JRVpCUzBVeEZ6QVZCZ05WQkFNTURrWkJTMFVnUTBFdE1TQkdRVXRGTUI0WERURTNNREl3TVRBd01EQXdNRm9YRFRNd01ERXpNVEl6TlRrMU9Wb3dlREVMTUFrR0ExVUVCaE1DVlZNeEZqQVVCZ05WQkFvTURVWkpSRThnUVd4c2FXRnVZMlV4SnpBbEJnTlZCQXNNSGtaQlMwVWdUV1YwWVdSaGRHRWdWRTlESUZOcFoyNXBibWNnUmtGTFJURW9NQ1lHQTFVRUF3d2ZSa0ZMUlNCTlpYUmhaR0YwWVNCVVQwTWdVMmxuYm1WeUlEUWdSa0ZMUlRCWk1CTUdCeXFHU000OUFnRUdDQ3FHU000OUF3RUhBMElBQkhrUUV6NVBnbk1hM0xYb2ZCYWlPc1lsTWNabmNBNlh1TXBCRkNvVEU0eE0vYWJTRGpjUVREcW1DRVdTdms0eHJqL3BZajNUdzdkSXd2ZkpLUWlNVmFpamdld3dnZWt3Q3dZRFZSMFBCQVFEQWdiQU1Bd0dBMVVkRXdFQi93UUNNQUF3R3dZRFZSME9CQlM4QURMWHg1RklINWNPcHNxRDVNR05NVWgrNWpBYkJnTlZIU01FRkZCYVVieG85aEtVOU1TUEFYT3lBZHp1akQ4eU1EOEdBMVVkSHdRNE1EWXdOS0F5b0RDR0xtaDBkSEJ6T2k4dlptbGtiMkZzYkdsaGJtTmxMbU52TG01NkwyMWtjeTlqY213dlRVUlRRMEV0TVM1amNtd3dVUVlEVlIwZ0JFb3dTREJHQmdzckJnRUVBWUxsSEFFREFUQTNNRFVHQ0NzR0FRVUZCd0lCRmlsb2RIUndjem92TDJacFpHOWhiR3hwWVc1alpTNWpieTV1ZWk5dFpITXZjbVZ3YjNOcGRHOXllVEFLQmdncWhrak9QUVFEQWdOSkFEQkdBaUVBeDM0VnZSRDN1dWZuKy9uZ2VwNk95cnFrZG9GalQ3Y2Urcks5dEZpVFlid0NJUUMwRkg0Y1ZhdVErWXMzSFZvRjllTFpOenN2K1d2QjJvbjBlUVQzaThrVWRBPT0iLCJNSUlDMnpDQ0FtR2dBd0lCQWdJUEJOT1FXRWp0NlFuT0tGNVRQRUFQTUFvR0NDcUdTTTQ5QkFNRE1HY3hDekFKQmdOVkJBWVRBbFZUTVJZd0ZBWURWUVFLREExR1NVUlBJRUZzYkdsaGJtTmxNU2N3SlFZRFZRUUxEQjVHUVV0RklFMWxkR0ZrWVhSaElGUlBReUJUYVdkdWFXNW5JRVpCUzBVeEZ6QVZCZ05WQkFNTURrWkJTMFVnVW05dmRDQkdRVXRGTUI0WERURTNNREl3TVRBd01EQXdNRm9YRFRRd01ERXpNVEl6TlRrMU9Wb3daekVMTUFrR0ExVUVCaE1DVlZNeEZqQVVCZ05WQkFvTURVWkpSRThnUVd4c2FXRnVZMlV4SnpBbEJnTlZCQXNNSGtaQlMwVWdUV1YwWVdSaGRHRWdWRTlESUZOcFoyNXBibWNnUmtGTFJURVhNQlVHQTFVRUF3d09Sa0ZMUlNCRFFTMHhJRVpCUzBVd1dUQVRCZ2NxaGtqT1BRSUJCZ2dxaGtqT1BRTUJCd05DQUFUTGZmL0tvcXpOc1AybmYrTzlCUVpaamhuWTk0UFc2Rlo2UUJLN3E1NDMxcmFvWURRRU0rNVpybVRmYXBYUDFDdzhVNmdQQ3hIUnFTQWgvV0xqRU1UUm80SHZNSUhzTUFzR0ExVWREd1FFQXdJQkJqQVBCZ05WSFJNQkFmOEVCVEFEQVFIL01Cc0dBMVVkRGdRVVVGcFJ2R2oyRXBUMHhJOEJjN0lCM082TVB6SXdHd1lEVlIwakJCVGQ5NXJJSE8vaFg5T2g2OXN6WHpEMGFobVpXVEEvQmdOVkhSOEVPREEyTURTZ01xQXdoaTVvZEhSd2N6b3ZMMlpwWkc5aGJHeHBZVzVqWlM1amJ5NXVlaTl0WkhNdlkzSnNMMDFFVTFKUFQxUXVZM0pzTUZFR0ExVWRJQVJLTUVnd1JnWUxLd1lCQkFHQzVSd0JBd0V3TnpBMUJnZ3JCZ0VGQlFjQ0FSWXBhSFIwY0hNNkx5OW1hV1J2WVd4c2FXRnVZMlV1WTI4dWJub3ZiV1J6TDNKbGNHOXphWFJ2Y25rd0NnWUlLb1pJemowRUF3TURhQUF3WlFJeEFMQU52Q1NzS3FUb2tuNm8zcmc5aStJeTFwWTJoYlhOOGlvQjhjN2s0VFcwQm4ydjNQSEhHTkY0UE1qVWo5bTZIUUl3QlB1d3d3b1hBaVRsZHdWallSY3BuSHdxVTF4QjMxTWVmSWdzbTNFNi9YNjFicGVRbGhPeHVCemtJcmRnR3NlMiJdfQ.eyJsZWdhbEhlYWRlciI6IkJ5IHVzaW5nIHRoaXMgbWV0YWRhdGEgc2VydmljZSwgeW91IGFyZSBzb2xlbWx5IHN3ZWFyIG5vdCB0byBkbyBldmlsISIsIm5vIjo0MiwibmV4dFVwZGF0ZSI6IjIwMjAtMDEtMDQiLCJlbnRyaWVzIjpbeyJhYWd1aWQiOiI3YjY3MmVmNi1mODkxLTQ3OTctYWJhZC1lMDA3ZjM3ZDkxZmUiLCJoYXNoIjoiQWh0S1gya1pycVl3NjIybmIwOEI0Z0NCSzBnaE5UMXB6ZS1yemoxaFNmYyIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS83YjY3MmVmNi1mODkxLTQ3OTctYWJhZC1lMDA3ZjM3ZDkxZmUuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wxcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTA2LTAyIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMi0wNyJ9LHsiYWFndWlkIjoiM2Y0NDcyOGEtNjcyYy00YWM4LTljMTAtZGYyMmI4ZjZkNDAwIiwiaGFzaCI6InhiTUZCUFFubTFlZ2RVWlpWSHFiaXRJTXZ3eWViamU1cVRnTVBMbk9aZWciLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvM2Y0NDcyOGEtNjcyYy00YWM4LTljMTAtZGYyMmI4ZjZkNDAwLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMXBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wMy0yNiJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTEtMDEifSx7ImFhZ3VpZCI6IjcwYWM5MjA0LTVlYTAtNDVmMS1hYzBkLTA0MjQxY2JhMzAzNiIsImhhc2giOiJWb0tIWlN2S1h3OERaMkhTeXU0M0I4cXpFMVNCbWlYVnZWWmNVOHB6OFhnIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzcwYWM5MjA0LTVlYTAtNDVmMS1hYzBkLTA0MjQxY2JhMzAzNi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiU0VMRl9BU1NFUlRJT05fU1VCTUlUVEVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMTItMDUifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA2LTEyIn0seyJhYWd1aWQiOiI4YjYwYTM5Ny1jZmQwLTRiZjYtOGE4Yi0yNDEwOTg3NDc1YzUiLCJoYXNoIjoiT3BHdUdrRGg3Z1JuWW1vS3dJeHo4WFJlU1BxUWkyNWFZUTJDV2lIMmNpOCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS84YjYwYTM5Ny1jZmQwLTRiZjYtOGE4Yi0yNDEwOTg3NDc1YzUuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDgtMjMifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAyLTE1In0seyJhYWd1aWQiOiJiOGUzNzgzZC0zMDEzLTQ1YzQtOTljMC0xMjY2OWRhNTQ2N2QiLCJoYXNoIjoibEEzZk93M284ZVZOU0ZxM3dHNENPUVI1X2hZbHRGcnhDT21FbG51S2MtMCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9iOGUzNzgzZC0zMDEzLTQ1YzQtOTljMC0xMjY2OWRhNTQ2N2QuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wzcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTA3LTI0In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMi0xNyJ9LHsiYWFndWlkIjoiYmM0Y2U2YzEtZWJjZi00N2JkLWE0NmEtYjA0NTRkMzhmYzI0IiwiaGFzaCI6Im1NanA0aGk3UjJDRDZIVjRmdTNLQVZUbGRodTVyREc2T3BMTVJ0RFhSR0UiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvYmM0Y2U2YzEtZWJjZi00N2JkLWE0NmEtYjA0NTRkMzhmYzI0Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTA3LTIzIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMS0wMSJ9LHsiYWFndWlkIjoiN2FjZDIwOTctOGJiMi00MWNjLWIzZjYtNmEwM2JmZTQ0OTAyIiwiaGFzaCI6InY1cUgyUU15WVIxZGMxVE52bEctWGRiVVQtbzlpTVhoQ2VLMWpZY050aWMiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvN2FjZDIwOTctOGJiMi00MWNjLWIzZjYtNmEwM2JmZTQ0OTAyLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTAxLTI3In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNy0yOCJ9LHsiYWFndWlkIjoiNWIyMjE4MjEtMWRiNS00NmNiLWI4ZTAtNGE1MzUxOWMzYmVjIiwiaGFzaCI6IjdrQzVoelNQbGZVLXdmZWpKTXZZMWszUUZuWnZyRkhaUHdXd3llWmRUV2siLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNWIyMjE4MjEtMWRiNS00NmNiLWI4ZTAtNGE1MzUxOWMzYmVjLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MM3BsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wMy0yMCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDMtMjAifSx7ImFhZ3VpZCI6IjkzYzc0NTlmLTgwZDUtNDE4ZS04MTJjLTNkMWYyMDBlYmY5NiIsImhhc2giOiJGRmdrYVhNTDBRUllMT1RqVTV5NHJWY2EySGJsY0dHaDVEZGNYc3JEMHBJIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzkzYzc0NTlmLTgwZDUtNDE4ZS04MTJjLTNkMWYyMDBlYmY5Ni5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDIiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNi0xMSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDYtMjMifSx7ImFhZ3VpZCI6IjNiY2Y0NDZkLTI2MTUtNDA1Ny1hNmY5LWM3MTc5MTFlNzMzYSIsImhhc2giOiJ6Wm44a3dSaU5kMmZ2bnJuTlljZmlMNVVyUWJVanlLRE4xM3RIcnVEXzFzIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzNiY2Y0NDZkLTI2MTUtNDA1Ny1hNmY5LWM3MTc5MTFlNzMzYS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDJwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMTEtMTUifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA1LTI0In0seyJhYWd1aWQiOiJhOTgzMWIwOS0wMzkxLTRiZmMtYTRkNS0yNzBlMGVhMGVmMjIiLCJoYXNoIjoiSEx4ZFhUVVZzZXd1akxNNkV3anNoR3R2Vm0tRXQ2Y3UzX3FMeWdYTWRYQSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9hOTgzMWIwOS0wMzkxLTRiZmMtYTRkNS0yNzBlMGVhMGVmMjIuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlNFTEZfQVNTRVJUSU9OX1NVQk1JVFRFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTAxLTIxIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMi0xMSJ9LHsiYWFndWlkIjoiNGRjYjkwN2QtNjRkMi00NGQwLWE1ZDQtOTU1NmZhNjgzMjExIiwiaGFzaCI6IlVHVDB4Y0taeHY5dDllYWxzUW5BSlZ4aGo4ckNCZ1ZhTHFEWTg5cjdodGsiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNGRjYjkwN2QtNjRkMi00NGQwLWE1ZDQtOTU1NmZhNjgzMjExLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTAxLTE0In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNi0xOCJ9LHsiYWFndWlkIjoiZTM4MTY1NTktYjcxYy00YTYzLTgwNTMtZTA3MTk2MDBjYTMyIiwiaGFzaCI6IkxjckNLZGJIczBnMGlZTkRqSTUzdWhjS0RROHZNcEtvSHBxQ3NrM29VMHciLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZTM4MTY1NTktYjcxYy00YTYzLTgwNTMtZTA3MTk2MDBjYTMyLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMSIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTA4LTAyIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNS0xNiJ9LHsiYWFndWlkIjoiYWQwM2E3ZDgtOTk1Yy00MGJhLWFiMzUtYTNkMzY1NGM3YmM0IiwiaGFzaCI6ImhOUi1pOG5kUWVIbVBveWo0dkdydmtweFlESHhxQm52aVlpMy1OVkpvdkkiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvYWQwM2E3ZDgtOTk1Yy00MGJhLWFiMzUtYTNkMzY1NGM3YmM0Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMnBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0xMC0wNSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDYtMTUifSx7ImFhZ3VpZCI6Ijc3ZDhkNGJlLWJjZTAtNDM4ZC1hYWNmLTMxZWJiODYwYTA5ZCIsImhhc2giOiJZSUQxSzNiV25zVFFlaF9xaklFdkc0WWxmaXFkR01oaFRvMmYxT2thaWJ3IiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzc3ZDhkNGJlLWJjZTAtNDM4ZC1hYWNmLTMxZWJiODYwYTA5ZC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNy0wNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDYtMTkifSx7ImFhZ3VpZCI6IjAyNDk2YzI2LTFkOTctNGFjMy1hY2QyLWI4MjAxYzFhMWNjYyIsImhhc2giOiJZZnNuOUxuYWYyR0V3VG5UZEg0aWJBajNIU3lHVWxmU2tsRkF0bElFRUtvIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzAyNDk2YzI2LTFkOTctNGFjMy1hY2QyLWI4MjAxYzFhMWNjYy5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiVVNFUl9LRVlfUkVNT1RFX0NPTVBST01JU0UiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0xMi0xOCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMTUifSx7ImFhZ3VpZCI6IjU0OTg5MzRiLWQ3NjUtNGI5Zi05NzBjLTQwZjBkYjVkYzE3ZiIsImhhc2giOiJTNmNBeF9lREEyQUNnZ2JHenBhZllPbWZCWGtWbHlHZ19pMTAxQzY2WElzIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzU0OTg5MzRiLWQ3NjUtNGI5Zi05NzBjLTQwZjBkYjVkYzE3Zi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDItMDUifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA2LTAyIn0seyJhYWd1aWQiOiIyZTM2YzNmYS0zOTdjLTQxYjQtYmFhMS1kNmEzYmRhZWU2YzkiLCJoYXNoIjoiTEQ2b184eGhXbXBGME1HRE9KSTYtS00xR3FEYTlBSVVMcS1FUjFOUWlPUSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS8yZTM2YzNmYS0zOTdjLTQxYjQtYmFhMS1kNmEzYmRhZWU2YzkuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wyIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMTEtMDkifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA1LTI3In0seyJhYWd1aWQiOiI3YmJmMDIwMS05NTk0LTQ2MTMtODZiMy0wNDBkZTI3M2MwODAiLCJoYXNoIjoiX0FZNExKdC1IX01wRlVyd2FFd1NONURaSExLdkYySzh0bnU0WTBPZ0s2SSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS83YmJmMDIwMS05NTk0LTQ2MTMtODZiMy0wNDBkZTI3M2MwODAuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wxcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTExLTE2In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNC0wMyJ9LHsiYWFndWlkIjoiOGYzYzNmODgtNzBjYy00YTRkLTgxMzEtZTQ2MDIyYTkwOTJkIiwiaGFzaCI6InBlRzFKbGJKLUJsY0ZsTERKY1dDU0c5VWZ2RGtVaGpIdHdFT0I0b2cxUkUiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvOGYzYzNmODgtNzBjYy00YTRkLTgxMzEtZTQ2MDIyYTkwOTJkLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTAzLTA5In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMC0yNSJ9LHsiYWFndWlkIjoiMGY0YzBhZTItZjA4My00ODhhLTg2Y2MtYmY4YzAwYmJkYWRkIiwiaGFzaCI6Il8tbk1saXFaRVZ3alFpSlN2OU83ZmtsMDB6aEFFU3liejRab2laMDJnbjAiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMGY0YzBhZTItZjA4My00ODhhLTg2Y2MtYmY4YzAwYmJkYWRkLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJBVFRFU1RBVElPTl9LRVlfQ09NUFJPTUlTRSIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTEwLTE5In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMS0yMyJ9LHsiYWFndWlkIjoiYWQ5NzY2OGMtNjQ0MC00OTExLTk1MTQtNzkzZDFmZGMyY2U3IiwiaGFzaCI6IkktdjM1ekliLWNHTVk3MW5nbXBOVmhtRGIxeFQ0SDRNaTN3NGxEa242dGMiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvYWQ5NzY2OGMtNjQ0MC00OTExLTk1MTQtNzkzZDFmZGMyY2U3Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJTRUxGX0FTU0VSVElPTl9TVUJNSVRURUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wNy0yMiJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTItMTUifSx7ImFhZ3VpZCI6IjRkYTQyNzFhLWMyN2ItNDk5Yi05M2NiLTM4OTBkMTM5MGIzOCIsImhhc2giOiJ2XzhRTjdKdzNVWDN1UVpVTmJZeUVDUG5uaWw4N3kyOVNNN0tEbVZLODNBIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzRkYTQyNzFhLWMyN2ItNDk5Yi05M2NiLTM4OTBkMTM5MGIzOC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wNy0yNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDktMTAifSx7ImFhZ3VpZCI6IjYyN2M0OTJkLTEzNjgtNGRlOS1iNjYxLWFiYmRkMDU5NmQwYSIsImhhc2giOiJtX1B6cGhXYWY0MzJjckNsakplbERUbGYtSEFwamlsYXlGRGZwTnVWOEdBIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzYyN2M0OTJkLTEzNjgtNGRlOS1iNjYxLWFiYmRkMDU5NmQwYS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDIiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wMi0wNCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDEtMDgifSx7ImFhZ3VpZCI6ImUwYzBhMDQyLTJiZWQtNGExOS04Yjk4LWJmNWI0OGI5NjRhNyIsImhhc2giOiJNbG54WHZEQWppdFRYVEFHQzVxdGI2cDJjVC1BeTJaanRzeC1VRzJUNjdRIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2UwYzBhMDQyLTJiZWQtNGExOS04Yjk4LWJmNWI0OGI5NjRhNy5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNy0yMSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDYtMDYifSx7ImFhZ3VpZCI6IjM0MGVhMWM3LWJiYWEtNDUzYi04NzQ4LTQwMzUxMDgyMzU5NiIsImhhc2giOiJQODZQMFZ6T3E0SXRpYjNvaElwdEZfZDhBYlBkSWJfSFo0by1wRmlRMlBVIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzM0MGVhMWM3LWJiYWEtNDUzYi04NzQ4LTQwMzUxMDgyMzU5Ni5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wOS0wNSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTItMDcifSx7ImFhZ3VpZCI6ImEyM2I5YzNkLWUxNWMtNGNjMC1iOTQ5LWNhOGE3OWYzY2NhNiIsImhhc2giOiJqa3VoUnU0MHcxR2tVa2VHbkMxa3hjVXc5T05jNlpVODEzc185Tm51cWE0IiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2EyM2I5YzNkLWUxNWMtNGNjMC1iOTQ5LWNhOGE3OWYzY2NhNi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDIiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNi0xNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDMtMDMifSx7ImFhZ3VpZCI6ImQ4NDM2ZjE0LWI1N2EtNDBhYS05ZGY1LTZmNTIxMWIzYmIyNyIsImhhc2giOiJOQ05OMURhWVNJckd1d2Y2aHczWWx6U0EwUWhXZTQzRzlKaGowWnNOb3FzIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2Q4NDM2ZjE0LWI1N2EtNDBhYS05ZGY1LTZmNTIxMWIzYmIyNy5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDJwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMTAtMjgifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA4LTE2In0seyJhYWd1aWQiOiJmMjIzMjRlZi04MmMyLTQ1YWItYjg0Zi0zMWVmN2E4NzVjNzQiLCJoYXNoIjoidFFrLVdMekhlN1NsVkhDdVJDelhZWjFpV3Q2eVA2NUhIUHU4czdTR252NCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9mMjIzMjRlZi04MmMyLTQ1YWItYjg0Zi0zMWVmN2E4NzVjNzQuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlVTRVJfVkVSSUZJQ0FUSU9OX0JZUEFTUyIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTAyLTIwIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMC0yMSJ9LHsiYWFndWlkIjoiZjkxMGY0MDMtMjhlOC00N2U0LTgwYjEtY2QyZGQyMWMzMWE2IiwiaGFzaCI6Iks0d2ktZDF2TDB3Yk5BRzAwLXN1YzJZNzBRNlBEajVXY0pFWU0zTVJkR1UiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZjkxMGY0MDMtMjhlOC00N2U0LTgwYjEtY2QyZGQyMWMzMWE2Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTA5LTIzIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNy0wMiJ9LHsiYWFndWlkIjoiZjIzYjM3NTItNjM4My00NDY0LWI2ZDAtOGJiYTFhODJmMDdjIiwiaGFzaCI6IklLQlhwSV9KNW0zLS1VQnNkNTZESkdTS1Vpb0NHYTRFNEFrbm90eGdXVk0iLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZjIzYjM3NTItNjM4My00NDY0LWI2ZDAtOGJiYTFhODJmMDdjLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJTRUxGX0FTU0VSVElPTl9TVUJNSVRURUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNi0wNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDYtMDUifSx7ImFhZ3VpZCI6ImUxOWQ2NGQwLWE3ZGMtNDUxNC1iYWY3LTYwYTAwNjliYTJiMCIsImhhc2giOiJKeEFvNDF3T2syY3gtdWVnVmtZbW9mbWZYeEtJZEg2eEdrZHRXb19CODZjIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2UxOWQ2NGQwLWE3ZGMtNDUxNC1iYWY3LTYwYTAwNjliYTJiMC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDIiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wMS0wMSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTItMTcifSx7ImFhZ3VpZCI6ImQxOGU2MWE0LWNkOTEtNDA4OC04YTNiLTFhMGQzODFkNTlmNyIsImhhc2giOiJfb2F3elZNaURMSVgyNlYtLWRJQ3lMYzN5T2FEZHRfbDZFeV9MU2hLT3VjIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2QxOGU2MWE0LWNkOTEtNDA4OC04YTNiLTFhMGQzODFkNTlmNy5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMTItMDkifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA2LTExIn0seyJhYWd1aWQiOiI2ZmQwM2NhZi01ZDk1LTRjMWQtODYyMC1lNGUxZTk4ODgzYmIiLCJoYXNoIjoiWlFLZzBGNHZIRHhJcy1xak0yRUNEbFMteUVaT0l5SFF6NUxiNGRPdFduQSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS82ZmQwM2NhZi01ZDk1LTRjMWQtODYyMC1lNGUxZTk4ODgzYmIuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wzcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTA3LTI2In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMC0yMiJ9LHsiYWFndWlkIjoiZWM4NWU1MGQtMDVhMC00NmMwLTlkZTctNDVmZmQxYTFmNGRlIiwiaGFzaCI6ImZfcVFpdzVLRmxkUXlQYkJWM1c3d2hCRXYxdnlLLXd4SmVTeVlFS2V1THMiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZWM4NWU1MGQtMDVhMC00NmMwLTlkZTctNDVmZmQxYTFmNGRlLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMnBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wMi0xOCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTAtMTEifSx7ImFhZ3VpZCI6IjI0MDUwN2NkLTBiYWItNGE0NS05YWQwLWJiODc2MDIzNzFmMyIsImhhc2giOiJRcU5VUzQwemc3b1lqY05VcVMzSnpJWml1RFFCdE9FWmdTZ0EyWG1LNHg4IiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzI0MDUwN2NkLTBiYWItNGE0NS05YWQwLWJiODc2MDIzNzFmMy5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiTk9UX0ZJRE9fQ0VSVElGSUVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMDUtMjQifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTEwLTI1In0seyJhYWd1aWQiOiI4Mzk5MjgzOS1jNWUwLTQ3NzEtYmQzNC0yM2ExMDEzOWQzNTQiLCJoYXNoIjoiN2tMalVtTDZ1WFdpaXc4S29hdm01VUdRQzVRWHN0ZVVGdWhvdjhqdzlYRSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS84Mzk5MjgzOS1jNWUwLTQ3NzEtYmQzNC0yM2ExMDEzOWQzNTQuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlVTRVJfS0VZX1BIWVNJQ0FMX0NPTVBST01JU0UiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wNC0xOSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMDIifSx7ImFhZ3VpZCI6ImMxNDgxZWUxLTZiYjctNDE4OS1iODNkLTE3MTgzMmE1MTAwNCIsImhhc2giOiJDMnVuY3hQSXVBcy03Y2ZteXo1S0ZvZ1hKMjAyVXdfMWVQMXdNRXJBNmdBIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2MxNDgxZWUxLTZiYjctNDE4OS1iODNkLTE3MTgzMmE1MTAwNC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiQVRURVNUQVRJT05fS0VZX0NPTVBST01JU0UiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNy0yMyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDEtMjgifSx7ImFhZ3VpZCI6ImU1NmYzOWVhLWNiNmMtNDM4Ni1hOGJjLWU5ODUxMzM4ZWEzMSIsImhhc2giOiJkOW1Xell3S1pyMm5ZeDZ2V1llcThjR0lpZmJ3QW9EQ2VMZGUwQzgta0tJIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2U1NmYzOWVhLWNiNmMtNDM4Ni1hOGJjLWU5ODUxMzM4ZWEzMS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDgtMjQifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAyLTEzIn0seyJhYWd1aWQiOiI5ZDU2ODI1OC04YzJiLTQyY2EtYTNlMi05NmE2ZDM2NGU0YWUiLCJoYXNoIjoiX3dQVmFmS2JmRFRLaVlNaDZjTGdfVHN1cXp0eHljY0VnVzNJQzQtUG5zcyIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS85ZDU2ODI1OC04YzJiLTQyY2EtYTNlMi05NmE2ZDM2NGU0YWUuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wzcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTAzLTIwIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOC0xMiJ9LHsiYWFndWlkIjoiODhiMTgxNzUtMDVkZC00MDM3LWE0YWMtY2ZiNDhjNTNlYjY3IiwiaGFzaCI6IjJCeWYtNll1aDBseXlRblVsbWJUdWJlRTZBbFFFZGx2a2wtRTJuYnlNbkEiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvODhiMTgxNzUtMDVkZC00MDM3LWE0YWMtY2ZiNDhjNTNlYjY3Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MM3BsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wNC0yMCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMTEifSx7ImFhZ3VpZCI6IjAxYjA5N2QwLWMxODEtNDIyOC05ZTljLTAzYWM4Zjc4ZDY3MSIsImhhc2giOiJRNERhaUVrNC10MU04bGczMVpzZ0JrVWRkb1F3azZtU25tYmFEUXRNQnVVIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzAxYjA5N2QwLWMxODEtNDIyOC05ZTljLTAzYWM4Zjc4ZDY3MS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiVVNFUl9LRVlfUEhZU0lDQUxfQ09NUFJPTUlTRSIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTA5LTI4In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOC0yMiJ9LHsiYWFndWlkIjoiZTU3ZjcxNmUtZWY3YS00ZDkyLWExYTAtZWEwYTUzYTg2MGJjIiwiaGFzaCI6ImFYOWdzVTg1czBhSlFkTkhIRHk0cDFNb1N0RnFudVF5WHpoaUxvTUt2c1kiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZTU3ZjcxNmUtZWY3YS00ZDkyLWExYTAtZWEwYTUzYTg2MGJjLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMXBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0xMC0yNCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDctMDQifSx7ImFhZ3VpZCI6ImNkMjViYjNkLTJkZDUtNDE1OC04ZGE3LWZlMDNhYzkwYzIyMiIsImhhc2giOiJ4T2FxSWZYRWVxRjZpd2h6SkNCSTl6bEpyM0NyQjZNdjI4MGtVSHNEcTJZIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2NkMjViYjNkLTJkZDUtNDE1OC04ZGE3LWZlMDNhYzkwYzIyMi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDktMjYifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA3LTEyIn0seyJhYWd1aWQiOiIwMWIxNTgwNi1kMjIzLTQyZmItYjcwNy1hZjE3YTZlOTVjOTQiLCJoYXNoIjoiRDlfdXJuR2oycmtHUmRmWVpBTXZ1bDcxZzl0eXlTNjhfSEJlMk51YzI4USIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS8wMWIxNTgwNi1kMjIzLTQyZmItYjcwNy1hZjE3YTZlOTVjOTQuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMDMtMjQifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAyLTAyIn0seyJhYWd1aWQiOiIzYjQ3ZjVhNS1jNDRjLTQ3MzMtYWE0OS1mZjdiZDk1NzRhMmMiLCJoYXNoIjoiQWd3Y2tsQTVtTnlRaXI5Nk1KejJhbXNFYWFaZ2ZMRUladmc3bEw0U2RVSSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS8zYjQ3ZjVhNS1jNDRjLTQ3MzMtYWE0OS1mZjdiZDk1NzRhMmMuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlNFTEZfQVNTRVJUSU9OX1NVQk1JVFRFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTA5LTI1In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNC0yNCJ9LHsiYWFndWlkIjoiZjU5NDcxNDctZmI0OS00MTM4LWI0ZWItZjE1ZGYxZDBhOTZmIiwiaGFzaCI6Ikg1UjlhM2JrVGgxZFRjOFNyT2phMURYYUItSTg0ejc4SU44TTBHbGdUdTQiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZjU5NDcxNDctZmI0OS00MTM4LWI0ZWItZjE1ZGYxZDBhOTZmLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMyIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTAzLTIxIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMi0xMyJ9LHsiYWFndWlkIjoiMzY1OTViZTEtMmU3Mi00NTNkLTgxYTQtYTIyNmQwYzIwYzc4IiwiaGFzaCI6IjJNN2hQSERSMWxJSmo5cGU3bTBYY1ZWUkxhcnE3dFFGZmdrTGM2czdYcFEiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMzY1OTViZTEtMmU3Mi00NTNkLTgxYTQtYTIyNmQwYzIwYzc4Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMXBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wOC0wNCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDItMjEifSx7ImFhZ3VpZCI6IjZjNjBlYzIxLTc5NGYtNGQ3Yy04MGZlLWMyZjNkODI4MTE3MiIsImhhc2giOiJhQ3lzU2JYdFF2VzRQYVVyTS0tRWZqcS1nSTZDNXlnVGRuMjRPUV9FWVZNIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzZjNjBlYzIxLTc5NGYtNGQ3Yy04MGZlLWMyZjNkODI4MTE3Mi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiU0VMRl9BU1NFUlRJT05fU1VCTUlUVEVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDktMTcifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA1LTA2In0seyJhYWd1aWQiOiIwNDIwNDQzZi0xOGUxLTQ4NTYtYTc4NS1hODZmY2U0MzhlNDIiLCJoYXNoIjoiV3RlRmRpRnk3Y05iTE5VdkNOUDY4RHR6dWduNDJhQ2tpU2VwMkZYVmQyQSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS8wNDIwNDQzZi0xOGUxLTQ4NTYtYTc4NS1hODZmY2U0MzhlNDIuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlNFTEZfQVNTRVJUSU9OX1NVQk1JVFRFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTEyLTI4In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOS0wNSJ9LHsiYWFndWlkIjoiNWIxYzJmOTQtMDkxNi00ZjU2LTgxMGQtM2RjZTI5ZjU2MWQwIiwiaGFzaCI6InBKOFQ0MWNjaWltUldyeWJGYmN3bTFxaEs3NW9vV1N3OW1lV3QzcWlDS28iLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNWIxYzJmOTQtMDkxNi00ZjU2LTgxMGQtM2RjZTI5ZjU2MWQwLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTEwLTI1In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMi0xOSJ9LHsiYWFndWlkIjoiOWI5MGUwMTQtOWU1ZC00MTU5LWI4ZmItNmNlZDdmNmYwM2RiIiwiaGFzaCI6ImVOOE1GUHBabTV2OEp2Y2tKOU84MWd1OXh1N0RTM2tTbEZSOWdQeW1JV1kiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvOWI5MGUwMTQtOWU1ZC00MTU5LWI4ZmItNmNlZDdmNmYwM2RiLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTA3LTA5In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMy0wOSJ9LHsiYWFndWlkIjoiOGMzM2ViYjctNjIyMy00NTdkLTk1NmUtNjFhMDUwZmFhNTdkIiwiaGFzaCI6IkV2cV9ETnBXaVk1alJGNzZwNTRfRXFqS2lXRnVnUGFKMHBwUkluUmhkNTQiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvOGMzM2ViYjctNjIyMy00NTdkLTk1NmUtNjFhMDUwZmFhNTdkLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTAxLTA4In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMS0wOCJ9LHsiYWFndWlkIjoiMzZlM2UzN2MtNjNhYy00N2Y1LWIyNTQtMjBjYWVkNDMwYzJlIiwiaGFzaCI6Ik1IWVAwMmxiRTBUX053dm5XdVRyTy1rcVVHMjF5RktHN3dyWGhpazhFWE0iLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMzZlM2UzN2MtNjNhYy00N2Y1LWIyNTQtMjBjYWVkNDMwYzJlLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMnBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0xMS0wMiJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMDkifSx7ImFhZ3VpZCI6ImRhZWFiNGY3LTJlMDAtNGNkMi1iMzM1LWM0ZjE5NTYyYTg5YiIsImhhc2giOiJIbFQ5MHo4MEhRUUV0bGFONWNQcnVLRUdfWWh4cGw4Smk5RktwdjFZejFvIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2RhZWFiNGY3LTJlMDAtNGNkMi1iMzM1LWM0ZjE5NTYyYTg5Yi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wMS0xNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTItMTQifSx7ImFhZ3VpZCI6ImE5MjFhN2RkLThhN2UtNDMwYi04NGYyLThiY2E0YzFhOTJhZCIsImhhc2giOiJfcTdkaDB5T3NYdi1mUmw2Z3FlSHBqVHhVUFZYUThGV1FoVDZtWnhRaDdFIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2E5MjFhN2RkLThhN2UtNDMwYi04NGYyLThiY2E0YzFhOTJhZC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDUtMDkifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAxLTA0In0seyJhYWd1aWQiOiJhYWQ5NmI1Yy0yNmViLTQ3ZmYtYTFkZC0yYjEzNDY0NzIzMmYiLCJoYXNoIjoiT2hDRDFEQmJ1NUxDbDk1VnZxdFlXaVhNbTJsV0lBQ0NYdEROd1E0emhuMCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9hYWQ5NmI1Yy0yNmViLTQ3ZmYtYTFkZC0yYjEzNDY0NzIzMmYuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDMtMDgifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAxLTE2In0seyJhYWd1aWQiOiI3Njg4ZjZlYi04ZDRmLTQ3YjgtYmRjMC1mOWE0OGI4YzVmNmUiLCJoYXNoIjoicnl5V1FvWWZ0Vlg4VWYxNkU0aVdoa29aYlJBV25aQndVU2F5WVlYd05ySSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS83Njg4ZjZlYi04ZDRmLTQ3YjgtYmRjMC1mOWE0OGI4YzVmNmUuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDgtMDgifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA3LTA3In0seyJhYWd1aWQiOiI1YjQwYzMxMS1kYjE4LTQxNTItOTY0ZS04YjJmM2YzM2Q3NzQiLCJoYXNoIjoiU2ZwWERHMW1BeDJTTzhWSTJsSkI0TmRrU3hQZEFScHgxMHZnOXFWVUJEbyIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS81YjQwYzMxMS1kYjE4LTQxNTItOTY0ZS04YjJmM2YzM2Q3NzQuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wycGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTA5LTI1In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNy0wNyJ9LHsiYWFndWlkIjoiYjllMjkzY2UtYzkyYS00YzBiLTkyOTEtNDI2NWRmNDNjNDIwIiwiaGFzaCI6IlZ2OTlicGFBR3hpUG9WbzFzMGZUN1NIWFBmTElkbEQtV05xVzE1YkVKLTgiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvYjllMjkzY2UtYzkyYS00YzBiLTkyOTEtNDI2NWRmNDNjNDIwLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTA1LTI3In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMS0yNiJ9LHsiYWFndWlkIjoiYThjNjg5YWMtYjIyOS00ODg0LTk2ODMtYTQ3OGQwNTAyMTgwIiwiaGFzaCI6InB3d2xxdHZ0MWM4QWdTRWRDeXpaTjFhRGxMMTFGMnpMbUVzR2dWSHQyNzgiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvYThjNjg5YWMtYjIyOS00ODg0LTk2ODMtYTQ3OGQwNTAyMTgwLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJOT1RfRklET19DRVJUSUZJRUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNy0xNCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTAtMjUifSx7ImFhZ3VpZCI6ImNhOWQ4YjFlLWM3YzYtNGJjOS1iYjgyLTRmYmZmZDc4MzllMCIsImhhc2giOiJxbVZsV1prM2xneFotRUpfTGEwdi1GWkU2MldRRmZzdmNLRDd6VHVYRDlVIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2NhOWQ4YjFlLWM3YzYtNGJjOS1iYjgyLTRmYmZmZDc4MzllMC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDJwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDMtMDkifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA1LTI4In0seyJhYWd1aWQiOiI3ZmM2MDAzMi0zMGM3LTQxYzMtYTE5Yy0yNjAyODVjZTNhOTQiLCJoYXNoIjoiWDJibFRHbEZ6cFota05hR0xZbkM0MEVETlVaZHlud0gtcy10MFRheEpzTSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS83ZmM2MDAzMi0zMGM3LTQxYzMtYTE5Yy0yNjAyODVjZTNhOTQuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wxcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTAxLTEwIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOC0yMyJ9LHsiYWFndWlkIjoiOWY5NWYxMWMtMGI2Zi00MGNiLWFlYjMtN2IwYTA2NGY1NDMyIiwiaGFzaCI6InlhYzNuSlBNYS1OT2htd0NOSmdkX1hLYjB3dm03WUtzSG84V2t1LXpBbTQiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvOWY5NWYxMWMtMGI2Zi00MGNiLWFlYjMtN2IwYTA2NGY1NDMyLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMnBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wMy0yNiJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTItMjAifSx7ImFhZ3VpZCI6IjRlMmRhYTgwLTc0NDktNDE4MC1iYWMyLTYyMjhmNWE1Njg0OSIsImhhc2giOiJvTnh4X1NqRjlCQlFmSFRmc2paVWdDNTUxcFNBMnZmaDdIeTlyODFFa1A0IiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzRlMmRhYTgwLTc0NDktNDE4MC1iYWMyLTYyMjhmNWE1Njg0OS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDJwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMDQtMTkifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA5LTExIn0seyJhYWd1aWQiOiJmODBlODY4YS0xNjIzLTQ4OGYtODJlNi1mZGEwMzk0NjkxNGQiLCJoYXNoIjoiaFE4aU9oWFRHMVJEX1RQZW9OcHRWbEJmLWc2SFJoTUMyZzRxUFlvMFU0VSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9mODBlODY4YS0xNjIzLTQ4OGYtODJlNi1mZGEwMzk0NjkxNGQuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wycGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTAxLTAxIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOS0wNiJ9LHsiYWFndWlkIjoiN2I4YjAyMDEtN2U5NC00ZWExLWIyNjgtZWZmMTAyYzQwZDM0IiwiaGFzaCI6IkJoN2s0cDRzQ0d0dVhhVjY5dXNqaFNNRmVoR0hZM3ZObXlGNk1ZaE5yQmsiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvN2I4YjAyMDEtN2U5NC00ZWExLWIyNjgtZWZmMTAyYzQwZDM0Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMXBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wMS0yMSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDctMTIifSx7ImFhZ3VpZCI6IjA3NDBiMTYyLThiNDMtNGRmOS04OTE5LTViNDFlZDA1OTNkOCIsImhhc2giOiJxaXV5MHhsaktRTjc5ZFFWNTltdGFCa0tmc3NkaHRrektuUFdYZGczd2ZjIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzA3NDBiMTYyLThiNDMtNGRmOS04OTE5LTViNDFlZDA1OTNkOC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0xMC0wNiJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDgtMDcifSx7ImFhZ3VpZCI6IjA4NTY5MjA1LThjYmMtNGQ1Yi05ZTllLTAzMGRmZDcxNjU0ZiIsImhhc2giOiI4QmlnY045TlBzMEFkZkMzUzdsOFdtS29TdVBrcEwtT2R2ejBEaXY4MDNNIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzA4NTY5MjA1LThjYmMtNGQ1Yi05ZTllLTAzMGRmZDcxNjU0Zi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiU0VMRl9BU1NFUlRJT05fU1VCTUlUVEVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDUtMTEifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA2LTEyIn0seyJhYWd1aWQiOiJhYzc4MTUzNS1lOWEyLTRlZTEtOTcxNS04NzJhNzIyZGI3NDgiLCJoYXNoIjoiRVhPd0RiZmNYbXA5QnZmNGZtckRtNWVxTndIeUY0anFUQkxRdzNxN0EzUSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9hYzc4MTUzNS1lOWEyLTRlZTEtOTcxNS04NzJhNzIyZGI3NDguanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDYtMTIifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA3LTA5In0seyJhYWd1aWQiOiIzNTZjNGY5ZS1jYzFjLTQ2YmUtYmFmMy1lMzE3NjNiNjQ1Y2MiLCJoYXNoIjoickFGRXM0T08zMHF2NW9seEl3QTh1S1JNUTlObFRCN2NxV0w5Smhjei1KQSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS8zNTZjNGY5ZS1jYzFjLTQ2YmUtYmFmMy1lMzE3NjNiNjQ1Y2MuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wxIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMDEtMTcifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAyLTE5In0seyJhYWd1aWQiOiJkMWM4Yjk5Yy00NWI5LTRlNjMtODA1ZS02M2Y2N2RiM2ZkZDUiLCJoYXNoIjoiSnR5eVEtcmI5Z1RoenBvRmVqV29LOXNNd0hTa3FST2FsakxFdEs1SThydyIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9kMWM4Yjk5Yy00NWI5LTRlNjMtODA1ZS02M2Y2N2RiM2ZkZDUuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlNFTEZfQVNTRVJUSU9OX1NVQk1JVFRFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTA2LTE2In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMS0yOCJ9LHsiYWFndWlkIjoiNjczZjBlZWQtZWI5Yi00NjEwLTk2OWQtMGMzNmY3ODgyMzYwIiwiaGFzaCI6Ik5ONWVqdThxWjBOa3VMVXVCUE1haVRTYS1GS1VRM2QzSHRUeTUxV1ZkMmciLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNjczZjBlZWQtZWI5Yi00NjEwLTk2OWQtMGMzNmY3ODgyMzYwLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTAxLTE0In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOS0yNyJ9LHsiYWFndWlkIjoiMTZiMDFiZjEtZDI0Zi00MzI5LWIwZWQtNDFjYWE1MTI0NGM3IiwiaGFzaCI6IlFiOHVCaXlCSnJYVW80RjYyRjEteUstUlphUU9kVzcybVotZURvYmlqYU0iLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMTZiMDFiZjEtZDI0Zi00MzI5LWIwZWQtNDFjYWE1MTI0NGM3Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJVU0VSX0tFWV9SRU1PVEVfQ09NUFJPTUlTRSIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTA1LTE2In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOS0yMCJ9LHsiYWFndWlkIjoiMTMxNWJkNDMtZDZiMi00YTE1LWExNWYtMjVkYmFkMWFiNTQ4IiwiaGFzaCI6IlZoNUdneFV5SDhUeV95WFFoc2htX05xSnV6cTU1Rmo2SFQ2VFRKSFB2ZEkiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMTMxNWJkNDMtZDZiMi00YTE1LWExNWYtMjVkYmFkMWFiNTQ4Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTExLTE0In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMS0xNiJ9LHsiYWFndWlkIjoiMjc5NTA4YjMtOWY1Ny00ODU3LTlmYTItNmVlNjkzZWYwMmJkIiwiaGFzaCI6Im1NUV81YU44anJCNVJTeW5tSTRQWE1LLUNycHBDeTVPZ2dVbUcxcDN4ZHciLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMjc5NTA4YjMtOWY1Ny00ODU3LTlmYTItNmVlNjkzZWYwMmJkLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJOT1RfRklET19DRVJUSUZJRUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wMi0wOCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDYtMjgifSx7ImFhZ3VpZCI6IjIxN2RlYmM0LWRkYjItNDI4Mi1hNTFiLTEzYmVhZDI1YmE5MCIsImhhc2giOiJPN1B1YXU2OWI5eHhDMEFWYWNtbkRxdjBla2hiUXI1d0t6TjdEdTFTV180IiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzIxN2RlYmM0LWRkYjItNDI4Mi1hNTFiLTEzYmVhZDI1YmE5MC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0xMi0xMyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMDYifSx7ImFhZ3VpZCI6IjZiNjc0MTVkLTY2OGUtNDQwMS1hZGU3LTgzZGU5OWFlNGM5YSIsImhhc2giOiIwcG1iNUtnaTZNNmd5Z0VHN0gxOWZMM0xyRFUySUZ4cjQxX2pUdmg3X1pjIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzZiNjc0MTVkLTY2OGUtNDQwMS1hZGU3LTgzZGU5OWFlNGM5YS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiU0VMRl9BU1NFUlRJT05fU1VCTUlUVEVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDItMjcifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAyLTA5In0seyJhYWd1aWQiOiI3OTAwODBmNy04ZDY4LTQxMzgtYmU3ZC0zZTBlZTRjZDE1ZjUiLCJoYXNoIjoieXNxTmhUSWZoR2dUV01DeGtydTRrZTVvUWtyLVhfRkhGNGUyV2FTS0pNMCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS83OTAwODBmNy04ZDY4LTQxMzgtYmU3ZC0zZTBlZTRjZDE1ZjUuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6Ik5PVF9GSURPX0NFUlRJRklFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTA0LTI3In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMS0yMCJ9LHsiYWFndWlkIjoiNzZkOTQ2MGItZGI1Mi00OTNjLWE4MzQtMmM0YmIwMDVjMWI0IiwiaGFzaCI6IkNvMVNxNVE4UGhWQmx0UWtjOG8yOTRsX2NDSVk0Z0djcTB6S2RrLUZPTGciLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNzZkOTQ2MGItZGI1Mi00OTNjLWE4MzQtMmM0YmIwMDVjMWI0Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJTRUxGX0FTU0VSVElPTl9TVUJNSVRURUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wNy0xNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTAtMDUifSx7ImFhZ3VpZCI6IjJmZTM4YjgyLWI1NTgtNGQ0NC1hZDcxLWY5NWRhNzE2NzhkOCIsImhhc2giOiIyYXRIbFlReGZIdVpuMy1YWm9LWEpTcTRTSDVjR3BDZE1zWEZ3Yk03RkNZIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzJmZTM4YjgyLWI1NTgtNGQ0NC1hZDcxLWY5NWRhNzE2NzhkOC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDEiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wNS0xMCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMTAifSx7ImFhZ3VpZCI6IjkyMTAxMmY4LTFhNzMtNGIwZi1hYTgxLWNkMjFjNmI5YmY3NSIsImhhc2giOiJUU0EtbzV6Rk9WUXltc1FNZkNMZnk5SERyanJPd1RZV2ZJTnF5ZUVDajJnIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzkyMTAxMmY4LTFhNzMtNGIwZi1hYTgxLWNkMjFjNmI5YmY3NS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiTk9UX0ZJRE9fQ0VSVElGSUVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMDEtMjYifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA3LTA2In0seyJhYWd1aWQiOiI0YjQ2ZWJlMi05ODY2LTQyN2UtYjdhNC1hYjkyNmIyYWExMmYiLCJoYXNoIjoiUUF4ZUlaYWljRk9hZGl3NFZrVlAzTmtrRXBVMmpVQUhsUmh3dzlQdkQxNCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS80YjQ2ZWJlMi05ODY2LTQyN2UtYjdhNC1hYjkyNmIyYWExMmYuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wxcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTAyLTExIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOC0xNiJ9LHsiYWFndWlkIjoiNzJjMzkwZWEtZDFkMi00OGU2LWEzNTctZDYzYWY0OTc4MjhjIiwiaGFzaCI6InU3RUxBWTktdVhseGdNaDNxTUhtNHpYOUVUWExZRjZabzZXOGpZQUw1VmciLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNzJjMzkwZWEtZDFkMi00OGU2LWEzNTctZDYzYWY0OTc4MjhjLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJVU0VSX1ZFUklGSUNBVElPTl9CWVBBU1MiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wMy0yNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDctMjMifSx7ImFhZ3VpZCI6IjQzYTgzMjgzLTJkZmMtNDYxMy1iOThiLTQ4YzhkNjc5ZGI5OSIsImhhc2giOiJxUm1zMEZIaU1NTVFWcUI2b2VCRjlMWWF3NW1NYzdRSjNWZ0NXZ0Y3ZkNVIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzQzYTgzMjgzLTJkZmMtNDYxMy1iOThiLTQ4YzhkNjc5ZGI5OS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMTAtMDIifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAxLTE0In0seyJhYWd1aWQiOiIxMWRmOGFhMC1mNTU2LTRkMjMtODU2Yi1iNTgxMDRjN2FhODkiLCJoYXNoIjoidnZzT1F2elJMVk9CNWQ0WDdOWk1nREFIalRnaUE2RF9rVFg5MFpJRXNOZyIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS8xMWRmOGFhMC1mNTU2LTRkMjMtODU2Yi1iNTgxMDRjN2FhODkuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlNFTEZfQVNTRVJUSU9OX1NVQk1JVFRFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTAzLTEzIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNi0wNSJ9LHsiYWFndWlkIjoiNjNmZTc4ODItZWU3YS00MTVkLTk2MDgtNDkwOWI2ZTQyNmUxIiwiaGFzaCI6ImVXRGJMVVhGZGN3ZzFGc0dqMGlGZHJLQzlqdzVLX0h6VnJ5N2wxNEVBQ0EiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNjNmZTc4ODItZWU3YS00MTVkLTk2MDgtNDkwOWI2ZTQyNmUxLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MM3BsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0xMS0xMSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMjUifSx7ImFhZ3VpZCI6IjI4OTI2M2Y2LTJiNWUtNGE2OC04Njg4LTkwZDgxMjBjMzMzNiIsImhhc2giOiJCX3lvZFgyZTRkVlNpQTk3TUFtTUZKZHMwb2FWcjZDSG5rbDVqMFROT21BIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzI4OTI2M2Y2LTJiNWUtNGE2OC04Njg4LTkwZDgxMjBjMzMzNi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDEiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wMy0xNiJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTItMDUifSx7ImFhZ3VpZCI6IjQyMjY0NmQ4LTNiZGYtNDFkOS1iMDk0LWQwNjQ2MGI3ODdkMSIsImhhc2giOiJKYUdLYmdrTDNrNTJreHN3bENQYThJa3NPZl9pUXUyajJHOThOU01wcFNzIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzQyMjY0NmQ4LTNiZGYtNDFkOS1iMDk0LWQwNjQ2MGI3ODdkMS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDMtMjYifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTExLTEzIn0seyJhYWd1aWQiOiJhYjA4MzBjYi01MDhhLTQyNTctYmRlYS0xZDBlY2VhNDIwYTAiLCJoYXNoIjoiRTlIUEU1TDhQVndyc19PYlB2am9PcnB1dXpOY3dsc0dzazB3WkFOWmV1NCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9hYjA4MzBjYi01MDhhLTQyNTctYmRlYS0xZDBlY2VhNDIwYTAuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wzcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTA0LTE2In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMi0xNCJ9LHsiYWFndWlkIjoiMTUzM2NkODctNTliOC00NDAyLTllYWQtODk3NGRkNzJjZDZiIiwiaGFzaCI6Ii1BVFRuRXpSOExSd0R3eXBJb1daR1BkeXkzaWkteWY1c0xvckQ0V2E1U0EiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMTUzM2NkODctNTliOC00NDAyLTllYWQtODk3NGRkNzJjZDZiLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTAyLTE1In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNi0wMyJ9LHsiYWFndWlkIjoiZGNlZGZmY2ItMzc3NS00NDQ0LThlOWQtMDhlNjcwYzFkY2RmIiwiaGFzaCI6InZMN1JwTTUwRjhtOUFHZl9IbVp5Q3draVdPZ0g1bWtRTzVxUjZxWWtUVUUiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZGNlZGZmY2ItMzc3NS00NDQ0LThlOWQtMDhlNjcwYzFkY2RmLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMSIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTA5LTA2In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOS0wNCJ9LHsiYWFndWlkIjoiYjY2MGQyOWMtYmMwOS00NGVkLTllMTYtMTAwMmRkMzY5MjhjIiwiaGFzaCI6IkpNS1NId1QxM2JkekNUR0dsNXhTZTFyTFFBQ3JtUF9nM1FWMTd4d0xBZEUiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvYjY2MGQyOWMtYmMwOS00NGVkLTllMTYtMTAwMmRkMzY5MjhjLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMXBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wMi0wNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDgtMDUifSx7ImFhZ3VpZCI6ImU4YjY2ODQ1LTZjZjgtNDA1YS1iOGE5LWE0MjZiZDZlNDNmYSIsImhhc2giOiJ0TkNWNTUyR1JRWkVXdUJNRjk5bHFacUMzNnAzMDRMdkR5b2ZoYWk0bzNVIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2U4YjY2ODQ1LTZjZjgtNDA1YS1iOGE5LWE0MjZiZDZlNDNmYS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDIiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wOC0yMCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTAtMDEifSx7ImFhZ3VpZCI6IjVkOGJjYzdhLWNlYTYtNGZjMi05ZDBmLWQzOWNiNWEyNzMwMCIsImhhc2giOiI5eTdtQi10U2hpcDBXY0xfMEhhYlJ2ZmVHaUpmS01lOGNjUE5SY3VSUjFzIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzVkOGJjYzdhLWNlYTYtNGZjMi05ZDBmLWQzOWNiNWEyNzMwMC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiU0VMRl9BU1NFUlRJT05fU1VCTUlUVEVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDYtMjMifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA2LTE5In0seyJhYWd1aWQiOiI4NjBlMTdkZC1hMmU3LTRhNTMtODQ1Zi01MDE4YTQzMmFjYzAiLCJoYXNoIjoiVHZBVm1JV2pWb1htVUFaQmVOM3FTRjEyRjBvdlJ2a2RNWlhfTmFGTXdQSSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS84NjBlMTdkZC1hMmU3LTRhNTMtODQ1Zi01MDE4YTQzMmFjYzAuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlNFTEZfQVNTRVJUSU9OX1NVQk1JVFRFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTAxLTAzIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMS0xNyJ9LHsiYWFndWlkIjoiNDBjMmMxNTktY2E4NS00YTI2LTk5Y2MtOTdjMTc3ZTU4MzQ1IiwiaGFzaCI6IjFJMEo0dFVqeTFIS1ZSNjVrS1J2bWdKbktJc3pOQmhBLVBaNzJvc0ZRRjQiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNDBjMmMxNTktY2E4NS00YTI2LTk5Y2MtOTdjMTc3ZTU4MzQ1Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJTRUxGX0FTU0VSVElPTl9TVUJNSVRURUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wMi0yMCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMTcifSx7ImFhZ3VpZCI6IjdlZGE1MTdlLWQ2ODItNDI2NC1hYjU0LTc1MTRiMzU0MjI0MSIsImhhc2giOiJOTkVOUmh1RC1WX1cybmhwZ3lnbXNFekgwNlZIdXRFaTZ4MDQ5YmZkLUlFIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzdlZGE1MTdlLWQ2ODItNDI2NC1hYjU0LTc1MTRiMzU0MjI0MS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0xMS0yMCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMTkifSx7ImFhZ3VpZCI6ImE0ZGY2OWU0LTg4M2EtNDExZi1hYTkyLTEzYmVmODU1YzcxNSIsImhhc2giOiJoWGZSejM2c0UwMlppemRkNGlaUl9DWW9TVDk0ZnlMTGVFN3pQTDZ1bndFIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2E0ZGY2OWU0LTg4M2EtNDExZi1hYTkyLTEzYmVmODU1YzcxNS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDEiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0xMi0wNSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDItMjgifSx7ImFhZ3VpZCI6IjA0MWY3YmZjLTE1MzctNDAxZS1hMWZlLWQ3MTFmODRlYTU3YiIsImhhc2giOiJzU1RoTXpDaC14MFMtZlZpbWtDd0RVallWQ0RmYTQtSmNNQnFoU1hvZEtrIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzA0MWY3YmZjLTE1MzctNDAxZS1hMWZlLWQ3MTFmODRlYTU3Yi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDFwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDQtMDIifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAxLTEzIn1dfQ.x5qJFVFIibyqCd3Xwdx6aN0iJR0TEW5JjZkV3wQ6KB9ehWSnmfhFA18HDW9Taj5NnzKJE4dubQGJvIo_2WL3UQ";
+
+    private static final String METADATA_STATEMENT = "ewogICAgImFhZ3VpZCI6ICI4MTMwM2MxYS0yNWNmLTRmNDMtYmUwNC0wNDYwZGY1YjZjNjgiLAogICAgImFsdGVybmF0aXZlRGVzY3JpcHRpb25zIjogewogICAgICAgICJydS1SVSI6ICLQktC40YDRgtGD0LDQu9GM0L3Ri9C5IFNlY3AyNTZSMSBDVEFQMiDQsNGD0YLQtdC90YLQuNGE0LjQutCw0YLQvtGAINC00LvRjyDRgtC10YHRgtC40YDQvtCy0LDQvdC40LUg0YHQtdGA0LLQtdGA0L7QsiDQvdCwINGB0L7QvtGC0LLQtdGC0YHQstC40LUg0YHQv9C10YbQuNGE0LjQutCw0YbQuNC4IEZJRE8yIDgxMzAzYzFhLTI1Y2YtNGY0My1iZTA0LTA0NjBkZjViNmM2OCIKICAgIH0sCiAgICAiYXNzZXJ0aW9uU2NoZW1lIjogIkZJRE9WMiIsCiAgICAiYXR0YWNobWVudEhpbnQiOiAyLAogICAgImF0dGVzdGF0aW9uUm9vdENlcnRpZmljYXRlcyI6IFsKICAgICAgICAiTUlJRndEQ0NBNmdDQ1FDTm0xdTU2b1J3WFRBTkJna3Foa2lHOXcwQkFRc0ZBRENCb1RFWU1CWUdBMVVFQXd3UFJrbEVUeklnVkVWVFZDQlNUMDlVTVRFd0x3WUpLb1pJaHZjTkFRa0JGaUpqYjI1bWIzSnRZVzVqWlMxMGIyOXNjMEJtYVdSdllXeHNhV0Z1WTJVdWIzSm5NUll3RkFZRFZRUUtEQTFHU1VSUElFRnNiR2xoYm1ObE1Rd3dDZ1lEVlFRTERBTkRWMGN4Q3pBSkJnTlZCQVlUQWxWVE1Rc3dDUVlEVlFRSURBSk5XVEVTTUJBR0ExVUVCd3dKVjJGclpXWnBaV3hrTUI0WERURTRNRE14TmpFME16VXlOMW9YRFRRMU1EZ3dNVEUwTXpVeU4xb3dnYUV4R0RBV0JnTlZCQU1NRDBaSlJFOHlJRlJGVTFRZ1VrOVBWREV4TUM4R0NTcUdTSWIzRFFFSkFSWWlZMjl1Wm05eWJXRnVZMlV0ZEc5dmJITkFabWxrYjJGc2JHbGhibU5sTG05eVp6RVdNQlFHQTFVRUNnd05Sa2xFVHlCQmJHeHBZVzVqWlRFTU1Bb0dBMVVFQ3d3RFExZEhNUXN3Q1FZRFZRUUdFd0pWVXpFTE1Ba0dBMVVFQ0F3Q1RWa3hFakFRQmdOVkJBY01DVmRoYTJWbWFXVnNaRENDQWlJd0RRWUpLb1pJaHZjTkFRRUJCUUFEZ2dJUEFEQ0NBZ29DZ2dJQkFMMTFVNXlBSVZMTXJMM3hTOHU4eXNNU2RPa0Rlb1RPK1JjQXkrdVhYcDZrNFNDK2pPeTM3Z0lDRXRZSStNS1FWMUVNZU1NZjNyTTF1ZVpBTzNpUEZhME5FZGkvb1E3bnBuR2pCTkk4d016RDhGZk5lNnJXdHprRGFIcHNaVy8vL013V0RwR3lKUitYeWpjcTZVNHZTOWJTNnpaN2pzbHcwT2N6eDRVc1lnT3NJVVhTU0JhR09yUmJ4Si9KQzVnbkRZRVl2dE5NK1BEUGN6TE5LQXloZHZCWldOV0hyN01aMFA1VGVKUWNYc0FvU2hSWDJZOFU4ZlJOSm03U2VpRktEUDBObi9RS3hPU3Q3ekdQNHh0OW5NYXNFMXEyWlRkYXIyK1cxM0NSejM3UkkwWldwcS8rWXF1b0ViWjdVajdObUJUY3FoYjI2MG5tREVSMkZwd3dZd1BTYXJrOTJJWmJhbW96QjhkN09FSTFqSmdzcmpKaEthbjBFbVJhV1ZCcEhUNHhZS2RFdTdyMDlTMEpoS3lVKzUyV0RtbVZRVE1wWUxybTRYbDdoUnh5UHlCWWthbHJvenNHbVBzOHZsaE5xM1ZzVmJ5QlNNU3BFbVVhZUFhN0xMRTkvVmgwYWdKTFZGSGgxZWhZS0pwekhubW1CWFVxeDBGejNhZm1EbTFOWDBzcjNPLzZ4SXgxVlNUVmlUM0tOeEJZcFZIMXFqSEFUTHp1eGNXbW0rNzVmY0pNaVBZUFNNWFZtUmIzUTFsOTFBTTRCQmVXaGxQM0ZiYzdnRHkwcitzN20wc0dTNlBUMkoyckdvZzJyVXhuSit6Q00xMU03RGVPMFhNMm5ueTR1UllQUGs5dzJFWHpmdnRkdmllWVUvNVJCNFJEbTVUR3hIaEdYVlpVZ2FjNUFnTUJBQUV3RFFZSktvWklodmNOQVFFTEJRQURnZ0lCQUZ0MlhHZDNrNUdwYk8xRVVtM3U2MHpUMWZFNnU2cE9zY3AxNTZrNVZuc0hnYUhSSGRJQVBOTGVMTm1SN3k1T25yWGJoMTNDckd3VTFxODRqakpYcHYrdjE0eFVDYzVpMDF5b3BGVFFGTHI0QTdOSHAybk5ZZk5oaElWU0ZBZ1c0M0VmbEpmbGJMRWVsQ0p6eExsV2I1Qm9Ec1plZU5tRVFzWElNMW1KMjZSM3IwZHpzSEJiMHV5KzhMTlIxZ2RWcWRqaEM4Qkx5M2doNCtCV3VpZHlaTnQwN0x2ZURzU0ZXNXJjajV3UnJTeDloWFBJeVZwalFTbGpOdlk3TVZUb3VxSnpOQUFRTXNUS2tYUGtUWGxkQ29wOVFvOVVQa0hSUm0wbDdMTHRkYU9vWHJjdDBZbW9jZjh6eGY5YkZOaXc5ZjRXUllRTTZzTWh6dDgrcy9vRGlsbzRRaGNVZ2VKRWlFUEVTaTZ5bllUVjYyU0hBNGVNdW5VSjVkbENhUm5GaVI5RFRJbUZhNUlSemllMzI2L25XL1NQQ2FLYy95ckZJaWhNTWpKb1NBUGhwVGIvSzZ5SE9VRzhyK0tpUXV0N056cUdWMzAxcFE5dTYyZEdMNU9pMVZYbUNGbEUycmFtWnMxNUJOT1V5QW8yQ0JiUkpnM2pLY2R1LzhRQzZvampEdlE4NjMrN0xQdG43NHdKQzVScFVKc1MwR2hRV2dxNXBBWE8zd0E2MVVvYnhpNk1rT3BDQzB6Qld4L2Q0Q3FwUzRqNGhGZ3hXQlRYWDQ4aWhQdStoSXhJRi9BeGJxdFB2cUxNRXhXL3haSVRuNkFycFd5UTllNFNVVnIzbjNGMzNhcDFYZER5WjB2d0ZjbTE4SlFBdHN2WFQ2cUNMcldPWG5IVWdmbi8rVml1IgogICAgXSwKICAgICJhdHRlc3RhdGlvblR5cGVzIjogWwogICAgICAgIDE1ODc5LAogICAgICAgIDE1ODgwCiAgICBdLAogICAgImF1dGhlbnRpY2F0aW9uQWxnb3JpdGhtIjogMSwKICAgICJhdXRoZW50aWNhdG9yVmVyc2lvbiI6IDIsCiAgICAiY3J5cHRvU3RyZW5ndGgiOiAxMjgsCiAgICAiZGVzY3JpcHRpb24iOiAiVmlydHVhbCBTZWNwMjU2UjEgRklETzIgQ29uZm9ybWFuY2UgVGVzdGluZyBDVEFQMiBBdXRoZW50aWNhdG9yIDgxMzAzYzFhLTI1Y2YtNGY0My1iZTA0LTA0NjBkZjViNmM2OCIsCiAgICAiaWNvbiI6ICJkYXRhOmltYWdlL3BuZztiYXNlNjQsaVZCT1J3MEtHZ29BQUFBTlNVaEVVZ0FBQUNBQUFBQWdDQUlBQUFEOEdPMmpBQUFBQ1hCSVdYTUFBQzRqQUFBdUl3RjRwVDkyQUFBS1QybERRMUJRYUc5MGIzTm9iM0FnU1VORElIQnliMlpwYkdVQUFIamFuVk5uVkZQcEZqMzMzdlJDUzRpQWxFdHZVaFVJSUZKQ2k0QVVrU1lxSVFrUVNvZ2hvZGtWVWNFUlJVVUVHOGlnaUFPT2pvQ01GVkVzRElvSzJBZmtJYUtPZzZPSWlzcjc0WHVqYTlhODkrYk4vclhYUHVlczg1Mnp6d2ZBQ0F5V1NETlJOWUFNcVVJZUVlQ0R4OFRHNGVRdVFJRUtKSEFBRUFpelpDRnovU01CQVBoK1BEd3JJc0FIdmdBQmVOTUxDQURBVFp2QU1CeUgvdy9xUXBsY0FZQ0VBY0Iwa1RoTENJQVVBRUI2amtLbUFFQkdBWUNkbUNaVEFLQUVBR0RMWTJMakFGQXRBR0FuZitiVEFJQ2QrSmw3QVFCYmxDRVZBYUNSQUNBVFpZaEVBR2c3QUt6UFZvcEZBRmd3QUJSbVM4UTVBTmd0QURCSlYyWklBTEMzQU1ET0VBdXlBQWdNQURCUmlJVXBBQVI3QUdESUl5TjRBSVNaQUJSRzhsYzg4U3V1RU9jcUFBQjRtYkk4dVNRNVJZRmJDQzF4QjFkWExoNG96a2tYS3hRMllRSmhta0F1d25tWkdUS0JOQS9nODh3QUFLQ1JGUkhnZy9QOWVNNE9yczdPTm82MkRsOHQ2cjhHL3lKaVl1UCs1YytyY0VBQUFPRjBmdEgrTEMrekdvQTdCb0J0L3FJbDdnUm9YZ3VnZGZlTFpySVBRTFVBb09uYVYvTncrSDQ4UEVXaGtMbloyZVhrNU5oS3hFSmJZY3BYZmY1bndsL0FWLzFzK1g0OC9QZjE0TDdpSklFeVhZRkhCUGpnd3N6MFRLVWN6NUlKaEdMYzVvOUgvTGNMLy93ZDB5TEVTV0s1V0NvVTQxRVNjWTVFbW96ek1xVWlpVUtTS2NVbDB2OWs0dDhzK3dNKzN6VUFzR28rQVh1UkxhaGRZd1AyU3ljUVdIVEE0dmNBQVBLN2I4SFVLQWdEZ0dpRDRjOTMvKzgvL1VlZ0pRQ0Faa21TY1FBQVhrUWtMbFRLc3ovSENBQUFSS0NCS3JCQkcvVEJHQ3pBQmh6QkJkekJDL3hnTm9SQ0pNVENRaEJDQ21TQUhISmdLYXlDUWlpR3piQWRLbUF2MUVBZE5NQlJhSWFUY0E0dXdsVzREajF3RC9waENKN0JLTHlCQ1FSQnlBZ1RZU0hhaUFGaWlsZ2pqZ2dYbVlYNEljRklCQktMSkNESmlCUlJJa3VSTlVneFVvcFVJRlZJSGZJOWNnSTVoMXhHdXBFN3lBQXlndnlHdkVjeGxJR3lVVDNVRExWRHVhZzNHb1JHb2d2UVpIUXhtbzhXb0p2UWNyUWFQWXcyb2VmUXEyZ1AybzgrUThjd3dPZ1lCelBFYkRBdXhzTkNzVGdzQ1pOank3RWlyQXlyeGhxd1Zxd0R1NG4xWTgreGR3UVNnVVhBQ1RZRWQwSWdZUjVCU0ZoTVdFN1lTS2dnSENRMEVkb0pOd2tEaEZIQ0p5S1RxRXUwSnJvUitjUVlZakl4aDFoSUxDUFdFbzhUTHhCN2lFUEVOeVFTaVVNeUo3bVFBa214cEZUU0V0SkcwbTVTSStrc3FaczBTQm9qazhuYVpHdXlCem1VTENBcnlJWGtuZVRENURQa0crUWg4bHNLbldKQWNhVDRVK0lvVXNwcVNobmxFT1UwNVFabG1ESkJWYU9hVXQyb29WUVJOWTlhUXEyaHRsS3ZVWWVvRXpSMW1qbk5neFpKUzZXdG9wWFRHbWdYYVBkcHIraDB1aEhkbFI1T2w5Qlgwc3ZwUitpWDZBUDBkd3dOaGhXRHg0aG5LQm1iR0FjWVp4bDNHSytZVEtZWjA0c1p4MVF3TnpIcm1PZVpENWx2VlZncXRpcDhGWkhLQ3BWS2xTYVZHeW92VkttcXBxcmVxZ3RWODFYTFZJK3BYbE45cmtaVk0xUGpxUW5VbHF0VnFwMVE2MU1iVTJlcE82aUhxbWVvYjFRL3BINVovWWtHV2NOTXcwOURwRkdnc1YvanZNWWdDMk1aczNnc0lXc05xNFoxZ1RYRUpySE4yWHgyS3J1WS9SMjdpejJxcWFFNVF6TktNMWV6VXZPVVpqOEg0NWh4K0p4MFRnbm5LS2VYODM2SzNoVHZLZUlwRzZZMFRMa3haVnhycXBhWGxsaXJTS3RScTBmcnZUYXU3YWVkcHIxRnUxbjdnUTVCeDBvblhDZEhaNC9PQlozblU5bFQzYWNLcHhaTlBUcjFyaTZxYTZVYm9idEVkNzl1cCs2WW5yNWVnSjVNYjZmZWViM24raHg5TC8xVS9XMzZwL1ZIREZnR3N3d2tCdHNNemhnOHhUVnhiendkTDhmYjhWRkRYY05BUTZWaGxXR1g0WVNSdWRFOG85VkdqVVlQakduR1hPTWs0MjNHYmNhakpnWW1JU1pMVGVwTjdwcFNUYm1tS2FZN1REdE14ODNNemFMTjFwazFtejB4MXpMbm0rZWIxNXZmdDJCYWVGb3N0cWkydUdWSnN1UmFwbG51dHJ4dWhWbzVXYVZZVlZwZHMwYXRuYTBsMXJ1dHU2Y1JwN2xPazA2cm50Wm53N0R4dHNtMnFiY1pzT1hZQnR1dXRtMjJmV0ZuWWhkbnQ4V3V3KzZUdlpOOXVuMk4vVDBIRFlmWkRxc2RXaDErYzdSeUZEcFdPdDZhenB6dVAzM0Y5SmJwTDJkWXp4RFAyRFBqdGhQTEtjUnBuVk9iMDBkbkYyZTVjNFB6aUl1SlM0TExMcGMrTHBzYnh0M0l2ZVJLZFBWeFhlRjYwdldkbTdPYnd1Mm8yNi91TnU1cDdvZmNuOHcwbnltZVdUTnowTVBJUStCUjVkRS9DNStWTUd2ZnJINVBRMCtCWjdYbkl5OWpMNUZYcmRld3Q2VjNxdmRoN3hjKzlqNXluK00rNHp3MzNqTGVXVi9NTjhDM3lMZkxUOE52bmwrRjMwTi9JLzlrLzNyLzBRQ25nQ1VCWndPSmdVR0JXd0w3K0hwOEliK09QenJiWmZheTJlMUJqS0M1UVJWQmo0S3RndVhCclNGb3lPeVFyU0gzNTVqT2tjNXBEb1ZRZnVqVzBBZGg1bUdMdzM0TUo0V0hoVmVHUDQ1d2lGZ2EwVEdYTlhmUjNFTnozMFQ2UkpaRTNwdG5NVTg1cnkxS05TbytxaTVxUE5vM3VqUzZQOFl1WmxuTTFWaWRXRWxzU3h3NUxpcXVObTVzdnQvODdmT0g0cDNpQytON0Y1Z3Z5RjF3ZWFIT3d2U0ZweGFwTGhJc09wWkFUSWhPT0pUd1FSQXFxQmFNSmZJVGR5V09Dbm5DSGNKbklpL1JOdEdJMkVOY0toNU84a2dxVFhxUzdKRzhOWGtreFRPbExPVzVoQ2Vwa0x4TURVemRtenFlRnBwMklHMHlQVHE5TVlPU2taQnhRcW9oVFpPMlorcG41bVoyeTZ4bGhiTCt4VzZMdHk4ZWxRZkphN09RckFWWkxRcTJRcWJvVkZvbzF5b0hzbWRsVjJhL3pZbktPWmFybml2TjdjeXp5dHVRTjV6dm4vL3RFc0lTNFpLMnBZWkxWeTBkV09hOXJHbzVzanh4ZWRzSzR4VUZLNFpXQnF3OHVJcTJLbTNWVDZ2dFY1ZXVmcjBtZWsxcmdWN0J5b0xCdFFGcjZ3dFZDdVdGZmV2YzErMWRUMWd2V2QrMVlmcUduUnMrRlltS3JoVGJGNWNWZjlnbzNIamxHNGR2eXIrWjNKUzBxYXZFdVdUUFp0Sm02ZWJlTFo1YkRwYXFsK2FYRG00TjJkcTBEZDlXdE8zMTlrWGJMNWZOS051N2c3WkR1YU8vUExpOFphZkp6czA3UDFTa1ZQUlUrbFEyN3RMZHRXSFgrRzdSN2h0N3ZQWTA3TlhiVzd6My9UN0p2dHRWQVZWTjFXYlZaZnRKKzdQM1A2NkpxdW40bHZ0dFhhMU9iWEh0eHdQU0EvMEhJdzYyMTduVTFSM1NQVlJTajlZcjYwY094eCsrL3AzdmR5ME5OZzFWalp6RzRpTndSSG5rNmZjSjMvY2VEVHJhZG94N3JPRUgweDkySFdjZEwycENtdkthUnB0VG12dGJZbHU2VDh3KzBkYnEzbnI4UjlzZkQ1dzBQRmw1U3ZOVXlXbmE2WUxUazJmeXo0eWRsWjE5Zmk3NTNHRGJvclo3NTJQTzMyb1BiKys2RUhUaDBrWC9pK2M3dkR2T1hQSzRkUEt5MitVVFY3aFhtcTg2WDIzcWRPbzgvcFBUVDhlN25MdWFycmxjYTdudWVyMjFlMmIzNlJ1ZU44N2Q5TDE1OFJiLzF0V2VPVDNkdmZONmIvZkY5L1hmRnQxK2NpZjl6c3U3MlhjbjdxMjhUN3hmOUVEdFFkbEQzWWZWUDF2KzNOanYzSDlxd0hlZzg5SGNSL2NHaFlQUC9wSDFqdzlEQlkrWmo4dUdEWWJybmpnK09UbmlQM0w5NmZ5blE4OWt6eWFlRi82aS9zdXVGeFl2ZnZqVjY5Zk8wWmpSb1pmeWw1Ty9iWHlsL2VyQTZ4bXYyOGJDeGg2K3lYZ3pNVjcwVnZ2dHdYZmNkeDN2bzk4UFQrUjhJSDhvLzJqNXNmVlQwS2Y3a3htVGsvOEVBNWp6L0dNekxkc0FBQUFnWTBoU1RRQUFlaVVBQUlDREFBRDUvd0FBZ09rQUFIVXdBQURxWUFBQU9wZ0FBQmR2a2wvRlJnQUFBdGhKUkVGVWVOcnNsdDlMazFFWXg3L3ZOdGUwdlhPazd5UzdxeVdCWXZuaklrdEdVMHZEQ3drdFY0S1hwdjN3Qi80QkJpSWEvUUMxd2prVlV4TnNVdXV1emQxazZpQkxDeElGemNEWE9UWndZOHIyc3IxcnA0dVhadW9nZ3J5SmZTOGVlTDZjNTN3NDUrRTVISW9RZ29PVUNBZXNHQ0FHaUFFQXlYNkxaZG4xOVhXR1lkUnE5VDhna04xcWEyMFZEbFZaY1pVUVlwdVpLUzB0SFRjYTl5d3o2SHVycTZzL3pzNlNQMmtYd0dJMkF6aktxSFE2M2Z0M2s0U1Fwb1lHQU1XRlJYdktMbW9MQUF3T0RQd2RvTGRIRDJCa2FPaDM4NDNKNUhLNTlwVFYxZHdFOEdwOGZQK09TNHRMNXJmbUg2R1FrTzcwb0x1emMyand1U29wMmRCck9DeW5rNUtPOVBYM1oyWmtNQ2twcXl2ZkdJWUJjTCs5dzJxZEtDb3FDZ1FDQUhpZUYyb2ZQM3hrTXIxVzBJcmF1bHB0UVlIUDd3TkY3ZTJCTmw4RElPMzRDUUFOZCt1N3U3b0FTRUFCcUt1cEpZUlU2YTREb0dYeHFhb1VwWndXQTlhSkNVSkk0UVV0Z0ZQcWt3blNRd0Q2OVByb1Z4UU1CdHZiMmlpS2V0RFJ3Zk44S0JUaU9PN1prNmNBK25vTkxNc0N5TW84emZuOUhNZmxuTWtDc0xTNE9EMDFEVUIzOVJvaHhPbDB5aE1TNGlpUjNXNlBiTHN6QjNGeGNiUkNRUWhSSkNaS0pCS3hXQ3lUeWVSeUdvQlVLdjB5L3htQVRsY3BpNCtYeVdRYWpRYUF6K2VibXB3RVVGNVJEa0NsVWhWcUMzZ1NucCtiaXo0SG5OOFB3Ty8zUjV4QWdNdk56azVta2tXVUNNRHE2bmZCZHpnMkJEQ3RVQUJ3T2wyL2ZJZEFpZzRJQm9PUktJam5lUVZOYjNtM2lpK1hpRUhwK3d6cEdlbHV0L3VsMFFnZ0VBaVVYU203ZGVmMnZaYVd0TFMwaFlXdkgrWSs1Wi9OeThuTmpmNVVTQ1NTU0l3NDRYRFk0ZGhRS3BYRHc4TmlpcXB2YkJ3ZGVWRjFvd29BdTdhV21uck0wS1BmM3Q2K1ZGTGMxTng4UHUvYzZOaVlTQ1NLUHNrZXQyZDVlZG5qOFVRY3I5ZHJYN2U3M1p0Q3lySnJWcXMxSEE0VFFwWlhWcnhlcitDN045MFdpOFZtcyswZkN5cjJxNGdCWW9EL0FQQnpBSTZWTnFHUVBVcW5BQUFBQUVsRlRrU3VRbUNDIiwKICAgICJpc1NlY29uZEZhY3Rvck9ubHkiOiBmYWxzZSwKICAgICJrZXlQcm90ZWN0aW9uIjogMTAsCiAgICAibWF0Y2hlclByb3RlY3Rpb24iOiA0LAogICAgIm9wZXJhdGluZ0VudiI6ICJTZWN1cmUgRWxlbWVudCAoU0UpIiwKICAgICJwcm90b2NvbEZhbWlseSI6ICJmaWRvMiIsCiAgICAicHVibGljS2V5QWxnQW5kRW5jb2RpbmciOiAyNjAsCiAgICAidGNEaXNwbGF5IjogMCwKICAgICJ1cHYiOiBbCiAgICAgICAgewogICAgICAgICAgICAibWFqb3IiOiAxLAogICAgICAgICAgICAibWlub3IiOiAwCiAgICAgICAgfQogICAgXSwKICAgICJ1c2VyVmVyaWZpY2F0aW9uRGV0YWlscyI6IFsKICAgICAgICBbCiAgICAgICAgICAgIHsKICAgICAgICAgICAgICAgICJ1c2VyVmVyaWZpY2F0aW9uIjogMQogICAgICAgICAgICB9CiAgICAgICAgXQogICAgXQp9";
+
     private final ObjectConverter objectConverter;
 
     private final HttpClient fidoMDSClient = mock(HttpClient.class);
     private final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
     private FidoMdsMetadataItemsProvider target;
 
+    @TempDir
+    Path tempDir;
+
     MetadataItemsProviderTest() {
         ObjectMapper jsonMapper = new ObjectMapper();
         jsonMapper.registerModule(new WebAuthnMetadataJSONModule());
@@ -86,12 +122,189 @@ class MetadataItemsProviderTest {
         assertThat(target.needsRefresh()).isTrue();
     }
 
+    @Test
+    void provide_test_with_scheduled_refresh_and_stale_snapshot() {
+        Map<AAGUID, Set<MetadataItem>> snapshot = new HashMap<>();
+        target.cachedMetadataItemMap = snapshot;
+        target.nextUpdate = now.minusDays(1);
+        target.lastRefresh = now.minusWeeks(1);
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+        target.startScheduledRefresh(scheduler);
+
+        assertThat(target.provide()).isSameAs(snapshot);
+        verify(fidoMDSClient, never()).fetch(any());
+        verify(scheduler).schedule(any(Runnable.class), eq(Duration.ofHours(1).toMillis()), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void scheduled_refresh_failure_test() {
+        Map<AAGUID, Set<MetadataItem>> snapshot = new HashMap<>();
+        target.cachedMetadataItemMap = snapshot;
+        target.nextUpdate = now.plusDays(1);
+        target.lastRefresh = now;
+        target.setRefreshJitter(Duration.ofMinutes(10));
+        target.setRetryInterval(Duration.ofMinutes(5));
+        when(fidoMDSClient.fetch(any())).thenThrow(new MDSException("unavailable"));
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+
+        target.startScheduledRefresh(scheduler);
+        verify(scheduler).schedule(captor.capture(), longThat(delay -> delay <= Duration.ofDays(1).toMillis() && delay >= Duration.ofDays(1).minusMinutes(11).toMillis()), eq(TimeUnit.MILLISECONDS));
+        captor.getValue().run();
+
+        assertThat(target.provide()).isSameAs(snapshot);
+        verify(scheduler).schedule(any(Runnable.class), eq(Duration.ofMinutes(5).toMillis()), eq(TimeUnit.MILLISECONDS));
+
+        target.stopScheduledRefresh();
+    }
+
+    @Test
+    void stopScheduledRefresh_test_does_not_wait_for_refresh_in_progress() throws InterruptedException {
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(fidoMDSClient.fetch(any())).thenAnswer(invocation -> {
+            fetching.countDown();
+            release.await();
+            throw new MDSException("unavailable");
+        });
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        target.startScheduledRefresh(scheduler);
+        verify(scheduler).schedule(captor.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+
+        Thread refreshThread = new Thread(captor.getValue());
+        refreshThread.start();
+        try {
+            assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+            assertTimeoutPreemptively(Duration.ofSeconds(5), target::stopScheduledRefresh);
+        } finally {
+            release.countDown();
+            refreshThread.join();
+        }
+        // the refresh finished after it was stopped, so it is not rescheduled
+        verify(scheduler, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void refresh_test_only_fetches_added_or_changed_statements() {
+        AAGUID unchangedAAGUID = new AAGUID("00000000-0000-0000-0000-000000000001");
+        AAGUID statusChangedAAGUID = new AAGUID("00000000-0000-0000-0000-000000000002");
+        AAGUID statementChangedAAGUID = new AAGUID("00000000-0000-0000-0000-000000000003");
+        AAGUID addedAAGUID = new AAGUID("00000000-0000-0000-0000-000000000004");
+        MetadataTOCPayloadEntry unchanged = createTOCPayloadEntry(unchangedAAGUID, "AAAA", LocalDate.of(2020, 1, 1));
+        FidoMdsMetadataItemsProvider spied = spy(target);
+        doReturn(mock(MetadataStatement.class)).when(spied).fetchMetadataStatement(anyString(), any());
+        doReturn(new MetadataTOCPayload(null, 1, now.toLocalDate().minusDays(1), Arrays.asList(
+                unchanged,
+                createTOCPayloadEntry(statusChangedAAGUID, "BBBB", LocalDate.of(2020, 1, 1)),
+                createTOCPayloadEntry(statementChangedAAGUID, "CCCC", LocalDate.of(2020, 1, 1))
+        ))).when(spied).fetchMetadataTOCPayload(false);
+        Map<AAGUID, Set<MetadataItem>> first = spied.provide();
+        verify(spied, times(3)).fetchMetadataStatement(anyString(), any());
+
+        doReturn(new MetadataTOCPayload(null, 2, now.toLocalDate().minusDays(1), Arrays.asList(
+                unchanged,
+                createTOCPayloadEntry(statusChangedAAGUID, "BBBB", LocalDate.of(2021, 1, 1)),
+                createTOCPayloadEntry(statementChangedAAGUID, "DDDD", LocalDate.of(2021, 1, 1)),
+                createTOCPayloadEntry(addedAAGUID, "EEEE", LocalDate.of(2021, 1, 1))
+        ))).when(spied).fetchMetadataTOCPayload(false);
+        spied.lastRefresh = now.minusDays(1);
+        Map<AAGUID, Set<MetadataItem>> second = spied.provide();
+
+        assertThat(second).isNotSameAs(first).hasSize(4);
+        verify(spied, times(5)).fetchMetadataStatement(anyString(), any());
+        assertThat(second.get(unchangedAAGUID).iterator().next()).isSameAs(first.get(unchangedAAGUID).iterator().next());
+        MetadataItem statusChanged = second.get(statusChangedAAGUID).iterator().next();
+        assertThat(statusChanged.getTimeOfLastStatusChange()).isEqualTo(LocalDate.of(2021, 1, 1));
+        assertThat(statusChanged.getMetadataStatement()).isSameAs(first.get(statusChangedAAGUID).iterator().next().getMetadataStatement());
+    }
+
+    private static MetadataTOCPayloadEntry createTOCPayloadEntry(AAGUID aaguid, String hash, LocalDate timeOfLastStatusChange) {
+        return new MetadataTOCPayloadEntry(null, aaguid.toString(), null, hash, URI.create("https://example.com/" + aaguid),
+                null, Collections.emptyList(), timeOfLastStatusChange, null, null);
+    }
+
     @Test
     void fetchMetadataTOCPayload_test() {
-        String toc = "eyJ0eXAiOiJKV1QiLCJhbGciOiJFUzI1NiIsIng1YyI6WyJNSUlDeWpDQ0FtK2dBd0lCQWdJUEJGRzA4cmwrU0ZiVElURDRKaXc3TUFvR0NDcUdTTTQ5QkFNQ01HY3hDekFKQmdOVkJBWVRBbFZUTVJZd0ZBWURWUVFLREExR1NVUlBJRUZzYkdsaGJtTmxNU2N3SlFZRFZRUUxEQjVHUVV0RklFMWxkR0ZrWVhSaElGUlBReUJUYVdkdWFXNW5JRVpCUzBVeEZ6QVZCZ05WQkFNTURrWkJTMFVnUTBFdE1TQkdRVXRGTUI0WERURTNNREl3TVRBd01EQXdNRm9YRFRNd01ERXpNVEl6TlRrMU9Wb3dlREVMTUFrR0ExVUVCaE1DVlZNeEZqQVVCZ05WQkFvTURVWkpSRThnUVd4c2FXRnVZMlV4SnpBbEJnTlZCQXNNSGtaQlMwVWdUV1YwWVdSaGRHRWdWRTlESUZOcFoyNXBibWNnUmtGTFJURW9NQ1lHQTFVRUF3d2ZSa0ZMUlNCTlpYUmhaR0YwWVNCVVQwTWdVMmxuYm1WeUlEUWdSa0ZMUlRCWk1CTUdCeXFHU000OUFnRUdDQ3FHU000OUF3RUhBMElBQkhrUUV6NVBnbk1hM0xYb2ZCYWlPc1lsTWNabmNBNlh1TXBCRkNvVEU0eE0vYWJTRGpjUVREcW1DRVdTdms0eHJqL3BZajNUdzdkSXd2ZkpLUWlNVmFpamdld3dnZWt3Q3dZRFZSMFBCQVFEQWdiQU1Bd0dBMVVkRXdFQi93UUNNQUF3R3dZRFZSME9CQlM4QURMWHg1RklINWNPcHNxRDVNR05NVWgrNWpBYkJnTlZIU01FRkZCYVVieG85aEtVOU1TUEFYT3lBZHp1akQ4eU1EOEdBMVVkSHdRNE1EWXdOS0F5b0RDR0xtaDBkSEJ6T2k4dlptbGtiMkZzYkdsaGJtTmxMbU52TG01NkwyMWtjeTlqY213dlRVUlRRMEV0TVM1amNtd3dVUVlEVlIwZ0JFb3dTREJHQmdzckJnRUVBWUxsSEFFREFUQTNNRFVHQ0NzR0FRVUZCd0lCRmlsb2RIUndjem92TDJacFpHOWhiR3hwWVc1alpTNWpieTV1ZWk5dFpITXZjbVZ3YjNOcGRHOXllVEFLQmdncWhrak9QUVFEQWdOSkFEQkdBaUVBeDM0VnZSRDN1dWZuKy9uZ2VwNk95cnFrZG9GalQ3Y2Urcks5dEZpVFlid0NJUUMwRkg0Y1ZhdVErWXMzSFZvRjllTFpOenN2K1d2QjJvbjBlUVQzaThrVWRBPT0iLCJNSUlDMnpDQ0FtR2dBd0lCQWdJUEJOT1FXRWp0NlFuT0tGNVRQRUFQTUFvR0NDcUdTTTQ5QkFNRE1HY3hDekFKQmdOVkJBWVRBbFZUTVJZd0ZBWURWUVFLREExR1NVUlBJRUZzYkdsaGJtTmxNU2N3SlFZRFZRUUxEQjVHUVV0RklFMWxkR0ZrWVhSaElGUlBReUJUYVdkdWFXNW5JRVpCUzBVeEZ6QVZCZ05WQkFNTURrWkJTMFVnVW05dmRDQkdRVXRGTUI0WERURTNNREl3TVRBd01EQXdNRm9YRFRRd01ERXpNVEl6TlRrMU9Wb3daekVMTUFrR0ExVUVCaE1DVlZNeEZqQVVCZ05WQkFvTURVWkpSRThnUVd4c2FXRnVZMlV4SnpBbEJnTlZCQXNNSGtaQlMwVWdUV1YwWVdSaGRHRWdWRTlESUZOcFoyNXBibWNnUmtGTFJURVhNQlVHQTFVRUF3d09Sa0ZMUlNCRFFTMHhJRVpCUzBVd1dUQVRCZ2NxaGtqT1BRSUJCZ2dxaGtqT1BRTUJCd05DQUFUTGZmL0tvcXpOc1AybmYrTzlCUVpaamhuWTk0UFc2Rlo2UUJLN3E1NDMxcmFvWURRRU0rNVpybVRmYXBYUDFDdzhVNmdQQ3hIUnFTQWgvV0xqRU1UUm80SHZNSUhzTUFzR0ExVWREd1FFQXdJQkJqQVBCZ05WSFJNQkFmOEVCVEFEQVFIL01Cc0dBMVVkRGdRVVVGcFJ2R2oyRXBUMHhJOEJjN0lCM082TVB6SXdHd1lEVlIwakJCVGQ5NXJJSE8vaFg5T2g2OXN6WHpEMGFobVpXVEEvQmdOVkhSOEVPREEyTURTZ01xQXdoaTVvZEhSd2N6b3ZMMlpwWkc5aGJHeHBZVzVqWlM1amJ5NXVlaTl0WkhNdlkzSnNMMDFFVTFKUFQxUXVZM0pzTUZFR0ExVWRJQVJLTUVnd1JnWUxLd1lCQkFHQzVSd0JBd0V3TnpBMUJnZ3JCZ0VGQlFjQ0FSWXBhSFIwY0hNNkx5OW1hV1J2WVd4c2FXRnVZMlV1WTI4dWJub3ZiV1J6TDNKbGNHOXphWFJ2Y25rd0NnWUlLb1pJemowRUF3TURhQUF3WlFJeEFMQU52Q1NzS3FUb2tuNm8zcmc5aStJeTFwWTJoYlhOOGlvQjhjN2s0VFcwQm4ydjNQSEhHTkY0UE1qVWo5bTZIUUl3QlB1d3d3b1hBaVRsZHdWallSY3BuSHdxVTF4QjMxTWVmSWdzbTNFNi9YNjFicGVRbGhPeHVCemtJcmRnR3NlMiJdfQ.eyJsZWdhbEhlYWRlciI6IkJ5IHVzaW5nIHRoaXMgbWV0YWRhdGEgc2VydmljZSwgeW91IGFyZSBzb2xlbWx5IHN3ZWFyIG5vdCB0byBkbyBldmlsISIsIm5vIjo0MiwibmV4dFVwZGF0ZSI6IjIwMjAtMDEtMDQiLCJlbnRyaWVzIjpbeyJhYWd1aWQiOiI3YjY3MmVmNi1mODkxLTQ3OTctYWJhZC1lMDA3ZjM3ZDkxZmUiLCJoYXNoIjoiQWh0S1gya1pycVl3NjIybmIwOEI0Z0NCSzBnaE5UMXB6ZS1yemoxaFNmYyIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS83YjY3MmVmNi1mODkxLTQ3OTctYWJhZC1lMDA3ZjM3ZDkxZmUuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wxcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTA2LTAyIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMi0wNyJ9LHsiYWFndWlkIjoiM2Y0NDcyOGEtNjcyYy00YWM4LTljMTAtZGYyMmI4ZjZkNDAwIiwiaGFzaCI6InhiTUZCUFFubTFlZ2RVWlpWSHFiaXRJTXZ3eWViamU1cVRnTVBMbk9aZWciLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvM2Y0NDcyOGEtNjcyYy00YWM4LTljMTAtZGYyMmI4ZjZkNDAwLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMXBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wMy0yNiJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTEtMDEifSx7ImFhZ3VpZCI6IjcwYWM5MjA0LTVlYTAtNDVmMS1hYzBkLTA0MjQxY2JhMzAzNiIsImhhc2giOiJWb0tIWlN2S1h3OERaMkhTeXU0M0I4cXpFMVNCbWlYVnZWWmNVOHB6OFhnIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzcwYWM5MjA0LTVlYTAtNDVmMS1hYzBkLTA0MjQxY2JhMzAzNi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiU0VMRl9BU1NFUlRJT05fU1VCTUlUVEVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMTItMDUifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA2LTEyIn0seyJhYWd1aWQiOiI4YjYwYTM5Ny1jZmQwLTRiZjYtOGE4Yi0yNDEwOTg3NDc1YzUiLCJoYXNoIjoiT3BHdUdrRGg3Z1JuWW1vS3dJeHo4WFJlU1BxUWkyNWFZUTJDV2lIMmNpOCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS84YjYwYTM5Ny1jZmQwLTRiZjYtOGE4Yi0yNDEwOTg3NDc1YzUuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDgtMjMifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAyLTE1In0seyJhYWd1aWQiOiJiOGUzNzgzZC0zMDEzLTQ1YzQtOTljMC0xMjY2OWRhNTQ2N2QiLCJoYXNoIjoibEEzZk93M284ZVZOU0ZxM3dHNENPUVI1X2hZbHRGcnhDT21FbG51S2MtMCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9iOGUzNzgzZC0zMDEzLTQ1YzQtOTljMC0xMjY2OWRhNTQ2N2QuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wzcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTA3LTI0In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMi0xNyJ9LHsiYWFndWlkIjoiYmM0Y2U2YzEtZWJjZi00N2JkLWE0NmEtYjA0NTRkMzhmYzI0IiwiaGFzaCI6Im1NanA0aGk3UjJDRDZIVjRmdTNLQVZUbGRodTVyREc2T3BMTVJ0RFhSR0UiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvYmM0Y2U2YzEtZWJjZi00N2JkLWE0NmEtYjA0NTRkMzhmYzI0Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTA3LTIzIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMS0wMSJ9LHsiYWFndWlkIjoiN2FjZDIwOTctOGJiMi00MWNjLWIzZjYtNmEwM2JmZTQ0OTAyIiwiaGFzaCI6InY1cUgyUU15WVIxZGMxVE52bEctWGRiVVQtbzlpTVhoQ2VLMWpZY050aWMiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvN2FjZDIwOTctOGJiMi00MWNjLWIzZjYtNmEwM2JmZTQ0OTAyLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTAxLTI3In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNy0yOCJ9LHsiYWFndWlkIjoiNWIyMjE4MjEtMWRiNS00NmNiLWI4ZTAtNGE1MzUxOWMzYmVjIiwiaGFzaCI6IjdrQzVoelNQbGZVLXdmZWpKTXZZMWszUUZuWnZyRkhaUHdXd3llWmRUV2siLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNWIyMjE4MjEtMWRiNS00NmNiLWI4ZTAtNGE1MzUxOWMzYmVjLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MM3BsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wMy0yMCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDMtMjAifSx7ImFhZ3VpZCI6IjkzYzc0NTlmLTgwZDUtNDE4ZS04MTJjLTNkMWYyMDBlYmY5NiIsImhhc2giOiJGRmdrYVhNTDBRUllMT1RqVTV5NHJWY2EySGJsY0dHaDVEZGNYc3JEMHBJIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzkzYzc0NTlmLTgwZDUtNDE4ZS04MTJjLTNkMWYyMDBlYmY5Ni5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDIiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNi0xMSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDYtMjMifSx7ImFhZ3VpZCI6IjNiY2Y0NDZkLTI2MTUtNDA1Ny1hNmY5LWM3MTc5MTFlNzMzYSIsImhhc2giOiJ6Wm44a3dSaU5kMmZ2bnJuTlljZmlMNVVyUWJVanlLRE4xM3RIcnVEXzFzIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzNiY2Y0NDZkLTI2MTUtNDA1Ny1hNmY5LWM3MTc5MTFlNzMzYS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDJwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMTEtMTUifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA1LTI0In0seyJhYWd1aWQiOiJhOTgzMWIwOS0wMzkxLTRiZmMtYTRkNS0yNzBlMGVhMGVmMjIiLCJoYXNoIjoiSEx4ZFhUVVZzZXd1akxNNkV3anNoR3R2Vm0tRXQ2Y3UzX3FMeWdYTWRYQSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9hOTgzMWIwOS0wMzkxLTRiZmMtYTRkNS0yNzBlMGVhMGVmMjIuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlNFTEZfQVNTRVJUSU9OX1NVQk1JVFRFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTAxLTIxIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMi0xMSJ9LHsiYWFndWlkIjoiNGRjYjkwN2QtNjRkMi00NGQwLWE1ZDQtOTU1NmZhNjgzMjExIiwiaGFzaCI6IlVHVDB4Y0taeHY5dDllYWxzUW5BSlZ4aGo4ckNCZ1ZhTHFEWTg5cjdodGsiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNGRjYjkwN2QtNjRkMi00NGQwLWE1ZDQtOTU1NmZhNjgzMjExLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTAxLTE0In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNi0xOCJ9LHsiYWFndWlkIjoiZTM4MTY1NTktYjcxYy00YTYzLTgwNTMtZTA3MTk2MDBjYTMyIiwiaGFzaCI6IkxjckNLZGJIczBnMGlZTkRqSTUzdWhjS0RROHZNcEtvSHBxQ3NrM29VMHciLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZTM4MTY1NTktYjcxYy00YTYzLTgwNTMtZTA3MTk2MDBjYTMyLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMSIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTA4LTAyIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNS0xNiJ9LHsiYWFndWlkIjoiYWQwM2E3ZDgtOTk1Yy00MGJhLWFiMzUtYTNkMzY1NGM3YmM0IiwiaGFzaCI6ImhOUi1pOG5kUWVIbVBveWo0dkdydmtweFlESHhxQm52aVlpMy1OVkpvdkkiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvYWQwM2E3ZDgtOTk1Yy00MGJhLWFiMzUtYTNkMzY1NGM3YmM0Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMnBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0xMC0wNSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDYtMTUifSx7ImFhZ3VpZCI6Ijc3ZDhkNGJlLWJjZTAtNDM4ZC1hYWNmLTMxZWJiODYwYTA5ZCIsImhhc2giOiJZSUQxSzNiV25zVFFlaF9xaklFdkc0WWxmaXFkR01oaFRvMmYxT2thaWJ3IiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzc3ZDhkNGJlLWJjZTAtNDM4ZC1hYWNmLTMxZWJiODYwYTA5ZC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNy0wNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDYtMTkifSx7ImFhZ3VpZCI6IjAyNDk2YzI2LTFkOTctNGFjMy1hY2QyLWI4MjAxYzFhMWNjYyIsImhhc2giOiJZZnNuOUxuYWYyR0V3VG5UZEg0aWJBajNIU3lHVWxmU2tsRkF0bElFRUtvIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzAyNDk2YzI2LTFkOTctNGFjMy1hY2QyLWI4MjAxYzFhMWNjYy5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiVVNFUl9LRVlfUkVNT1RFX0NPTVBST01JU0UiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0xMi0xOCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMTUifSx7ImFhZ3VpZCI6IjU0OTg5MzRiLWQ3NjUtNGI5Zi05NzBjLTQwZjBkYjVkYzE3ZiIsImhhc2giOiJTNmNBeF9lREEyQUNnZ2JHenBhZllPbWZCWGtWbHlHZ19pMTAxQzY2WElzIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzU0OTg5MzRiLWQ3NjUtNGI5Zi05NzBjLTQwZjBkYjVkYzE3Zi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDItMDUifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA2LTAyIn0seyJhYWd1aWQiOiIyZTM2YzNmYS0zOTdjLTQxYjQtYmFhMS1kNmEzYmRhZWU2YzkiLCJoYXNoIjoiTEQ2b184eGhXbXBGME1HRE9KSTYtS00xR3FEYTlBSVVMcS1FUjFOUWlPUSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS8yZTM2YzNmYS0zOTdjLTQxYjQtYmFhMS1kNmEzYmRhZWU2YzkuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wyIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMTEtMDkifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA1LTI3In0seyJhYWd1aWQiOiI3YmJmMDIwMS05NTk0LTQ2MTMtODZiMy0wNDBkZTI3M2MwODAiLCJoYXNoIjoiX0FZNExKdC1IX01wRlVyd2FFd1NONURaSExLdkYySzh0bnU0WTBPZ0s2SSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS83YmJmMDIwMS05NTk0LTQ2MTMtODZiMy0wNDBkZTI3M2MwODAuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wxcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTExLTE2In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNC0wMyJ9LHsiYWFndWlkIjoiOGYzYzNmODgtNzBjYy00YTRkLTgxMzEtZTQ2MDIyYTkwOTJkIiwiaGFzaCI6InBlRzFKbGJKLUJsY0ZsTERKY1dDU0c5VWZ2RGtVaGpIdHdFT0I0b2cxUkUiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvOGYzYzNmODgtNzBjYy00YTRkLTgxMzEtZTQ2MDIyYTkwOTJkLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTAzLTA5In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMC0yNSJ9LHsiYWFndWlkIjoiMGY0YzBhZTItZjA4My00ODhhLTg2Y2MtYmY4YzAwYmJkYWRkIiwiaGFzaCI6Il8tbk1saXFaRVZ3alFpSlN2OU83ZmtsMDB6aEFFU3liejRab2laMDJnbjAiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMGY0YzBhZTItZjA4My00ODhhLTg2Y2MtYmY4YzAwYmJkYWRkLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJBVFRFU1RBVElPTl9LRVlfQ09NUFJPTUlTRSIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTEwLTE5In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMS0yMyJ9LHsiYWFndWlkIjoiYWQ5NzY2OGMtNjQ0MC00OTExLTk1MTQtNzkzZDFmZGMyY2U3IiwiaGFzaCI6IkktdjM1ekliLWNHTVk3MW5nbXBOVmhtRGIxeFQ0SDRNaTN3NGxEa242dGMiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvYWQ5NzY2OGMtNjQ0MC00OTExLTk1MTQtNzkzZDFmZGMyY2U3Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJTRUxGX0FTU0VSVElPTl9TVUJNSVRURUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wNy0yMiJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTItMTUifSx7ImFhZ3VpZCI6IjRkYTQyNzFhLWMyN2ItNDk5Yi05M2NiLTM4OTBkMTM5MGIzOCIsImhhc2giOiJ2XzhRTjdKdzNVWDN1UVpVTmJZeUVDUG5uaWw4N3kyOVNNN0tEbVZLODNBIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzRkYTQyNzFhLWMyN2ItNDk5Yi05M2NiLTM4OTBkMTM5MGIzOC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wNy0yNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDktMTAifSx7ImFhZ3VpZCI6IjYyN2M0OTJkLTEzNjgtNGRlOS1iNjYxLWFiYmRkMDU5NmQwYSIsImhhc2giOiJtX1B6cGhXYWY0MzJjckNsakplbERUbGYtSEFwamlsYXlGRGZwTnVWOEdBIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzYyN2M0OTJkLTEzNjgtNGRlOS1iNjYxLWFiYmRkMDU5NmQwYS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDIiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wMi0wNCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDEtMDgifSx7ImFhZ3VpZCI6ImUwYzBhMDQyLTJiZWQtNGExOS04Yjk4LWJmNWI0OGI5NjRhNyIsImhhc2giOiJNbG54WHZEQWppdFRYVEFHQzVxdGI2cDJjVC1BeTJaanRzeC1VRzJUNjdRIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2UwYzBhMDQyLTJiZWQtNGExOS04Yjk4LWJmNWI0OGI5NjRhNy5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNy0yMSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDYtMDYifSx7ImFhZ3VpZCI6IjM0MGVhMWM3LWJiYWEtNDUzYi04NzQ4LTQwMzUxMDgyMzU5NiIsImhhc2giOiJQODZQMFZ6T3E0SXRpYjNvaElwdEZfZDhBYlBkSWJfSFo0by1wRmlRMlBVIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzM0MGVhMWM3LWJiYWEtNDUzYi04NzQ4LTQwMzUxMDgyMzU5Ni5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wOS0wNSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTItMDcifSx7ImFhZ3VpZCI6ImEyM2I5YzNkLWUxNWMtNGNjMC1iOTQ5LWNhOGE3OWYzY2NhNiIsImhhc2giOiJqa3VoUnU0MHcxR2tVa2VHbkMxa3hjVXc5T05jNlpVODEzc185Tm51cWE0IiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2EyM2I5YzNkLWUxNWMtNGNjMC1iOTQ5LWNhOGE3OWYzY2NhNi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDIiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNi0xNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDMtMDMifSx7ImFhZ3VpZCI6ImQ4NDM2ZjE0LWI1N2EtNDBhYS05ZGY1LTZmNTIxMWIzYmIyNyIsImhhc2giOiJOQ05OMURhWVNJckd1d2Y2aHczWWx6U0EwUWhXZTQzRzlKaGowWnNOb3FzIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2Q4NDM2ZjE0LWI1N2EtNDBhYS05ZGY1LTZmNTIxMWIzYmIyNy5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDJwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMTAtMjgifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA4LTE2In0seyJhYWd1aWQiOiJmMjIzMjRlZi04MmMyLTQ1YWItYjg0Zi0zMWVmN2E4NzVjNzQiLCJoYXNoIjoidFFrLVdMekhlN1NsVkhDdVJDelhZWjFpV3Q2eVA2NUhIUHU4czdTR252NCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9mMjIzMjRlZi04MmMyLTQ1YWItYjg0Zi0zMWVmN2E4NzVjNzQuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlVTRVJfVkVSSUZJQ0FUSU9OX0JZUEFTUyIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTAyLTIwIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMC0yMSJ9LHsiYWFndWlkIjoiZjkxMGY0MDMtMjhlOC00N2U0LTgwYjEtY2QyZGQyMWMzMWE2IiwiaGFzaCI6Iks0d2ktZDF2TDB3Yk5BRzAwLXN1YzJZNzBRNlBEajVXY0pFWU0zTVJkR1UiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZjkxMGY0MDMtMjhlOC00N2U0LTgwYjEtY2QyZGQyMWMzMWE2Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTA5LTIzIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNy0wMiJ9LHsiYWFndWlkIjoiZjIzYjM3NTItNjM4My00NDY0LWI2ZDAtOGJiYTFhODJmMDdjIiwiaGFzaCI6IklLQlhwSV9KNW0zLS1VQnNkNTZESkdTS1Vpb0NHYTRFNEFrbm90eGdXVk0iLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZjIzYjM3NTItNjM4My00NDY0LWI2ZDAtOGJiYTFhODJmMDdjLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJTRUxGX0FTU0VSVElPTl9TVUJNSVRURUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNi0wNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDYtMDUifSx7ImFhZ3VpZCI6ImUxOWQ2NGQwLWE3ZGMtNDUxNC1iYWY3LTYwYTAwNjliYTJiMCIsImhhc2giOiJKeEFvNDF3T2syY3gtdWVnVmtZbW9mbWZYeEtJZEg2eEdrZHRXb19CODZjIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2UxOWQ2NGQwLWE3ZGMtNDUxNC1iYWY3LTYwYTAwNjliYTJiMC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDIiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wMS0wMSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTItMTcifSx7ImFhZ3VpZCI6ImQxOGU2MWE0LWNkOTEtNDA4OC04YTNiLTFhMGQzODFkNTlmNyIsImhhc2giOiJfb2F3elZNaURMSVgyNlYtLWRJQ3lMYzN5T2FEZHRfbDZFeV9MU2hLT3VjIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2QxOGU2MWE0LWNkOTEtNDA4OC04YTNiLTFhMGQzODFkNTlmNy5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMTItMDkifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA2LTExIn0seyJhYWd1aWQiOiI2ZmQwM2NhZi01ZDk1LTRjMWQtODYyMC1lNGUxZTk4ODgzYmIiLCJoYXNoIjoiWlFLZzBGNHZIRHhJcy1xak0yRUNEbFMteUVaT0l5SFF6NUxiNGRPdFduQSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS82ZmQwM2NhZi01ZDk1LTRjMWQtODYyMC1lNGUxZTk4ODgzYmIuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wzcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTA3LTI2In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMC0yMiJ9LHsiYWFndWlkIjoiZWM4NWU1MGQtMDVhMC00NmMwLTlkZTctNDVmZmQxYTFmNGRlIiwiaGFzaCI6ImZfcVFpdzVLRmxkUXlQYkJWM1c3d2hCRXYxdnlLLXd4SmVTeVlFS2V1THMiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZWM4NWU1MGQtMDVhMC00NmMwLTlkZTctNDVmZmQxYTFmNGRlLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMnBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wMi0xOCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTAtMTEifSx7ImFhZ3VpZCI6IjI0MDUwN2NkLTBiYWItNGE0NS05YWQwLWJiODc2MDIzNzFmMyIsImhhc2giOiJRcU5VUzQwemc3b1lqY05VcVMzSnpJWml1RFFCdE9FWmdTZ0EyWG1LNHg4IiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzI0MDUwN2NkLTBiYWItNGE0NS05YWQwLWJiODc2MDIzNzFmMy5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiTk9UX0ZJRE9fQ0VSVElGSUVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMDUtMjQifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTEwLTI1In0seyJhYWd1aWQiOiI4Mzk5MjgzOS1jNWUwLTQ3NzEtYmQzNC0yM2ExMDEzOWQzNTQiLCJoYXNoIjoiN2tMalVtTDZ1WFdpaXc4S29hdm01VUdRQzVRWHN0ZVVGdWhvdjhqdzlYRSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS84Mzk5MjgzOS1jNWUwLTQ3NzEtYmQzNC0yM2ExMDEzOWQzNTQuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlVTRVJfS0VZX1BIWVNJQ0FMX0NPTVBST01JU0UiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wNC0xOSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMDIifSx7ImFhZ3VpZCI6ImMxNDgxZWUxLTZiYjctNDE4OS1iODNkLTE3MTgzMmE1MTAwNCIsImhhc2giOiJDMnVuY3hQSXVBcy03Y2ZteXo1S0ZvZ1hKMjAyVXdfMWVQMXdNRXJBNmdBIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2MxNDgxZWUxLTZiYjctNDE4OS1iODNkLTE3MTgzMmE1MTAwNC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiQVRURVNUQVRJT05fS0VZX0NPTVBST01JU0UiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNy0yMyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDEtMjgifSx7ImFhZ3VpZCI6ImU1NmYzOWVhLWNiNmMtNDM4Ni1hOGJjLWU5ODUxMzM4ZWEzMSIsImhhc2giOiJkOW1Xell3S1pyMm5ZeDZ2V1llcThjR0lpZmJ3QW9EQ2VMZGUwQzgta0tJIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2U1NmYzOWVhLWNiNmMtNDM4Ni1hOGJjLWU5ODUxMzM4ZWEzMS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDgtMjQifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAyLTEzIn0seyJhYWd1aWQiOiI5ZDU2ODI1OC04YzJiLTQyY2EtYTNlMi05NmE2ZDM2NGU0YWUiLCJoYXNoIjoiX3dQVmFmS2JmRFRLaVlNaDZjTGdfVHN1cXp0eHljY0VnVzNJQzQtUG5zcyIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS85ZDU2ODI1OC04YzJiLTQyY2EtYTNlMi05NmE2ZDM2NGU0YWUuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wzcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTAzLTIwIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOC0xMiJ9LHsiYWFndWlkIjoiODhiMTgxNzUtMDVkZC00MDM3LWE0YWMtY2ZiNDhjNTNlYjY3IiwiaGFzaCI6IjJCeWYtNll1aDBseXlRblVsbWJUdWJlRTZBbFFFZGx2a2wtRTJuYnlNbkEiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvODhiMTgxNzUtMDVkZC00MDM3LWE0YWMtY2ZiNDhjNTNlYjY3Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MM3BsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wNC0yMCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMTEifSx7ImFhZ3VpZCI6IjAxYjA5N2QwLWMxODEtNDIyOC05ZTljLTAzYWM4Zjc4ZDY3MSIsImhhc2giOiJRNERhaUVrNC10MU04bGczMVpzZ0JrVWRkb1F3azZtU25tYmFEUXRNQnVVIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzAxYjA5N2QwLWMxODEtNDIyOC05ZTljLTAzYWM4Zjc4ZDY3MS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiVVNFUl9LRVlfUEhZU0lDQUxfQ09NUFJPTUlTRSIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTA5LTI4In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOC0yMiJ9LHsiYWFndWlkIjoiZTU3ZjcxNmUtZWY3YS00ZDkyLWExYTAtZWEwYTUzYTg2MGJjIiwiaGFzaCI6ImFYOWdzVTg1czBhSlFkTkhIRHk0cDFNb1N0RnFudVF5WHpoaUxvTUt2c1kiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZTU3ZjcxNmUtZWY3YS00ZDkyLWExYTAtZWEwYTUzYTg2MGJjLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMXBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0xMC0yNCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDctMDQifSx7ImFhZ3VpZCI6ImNkMjViYjNkLTJkZDUtNDE1OC04ZGE3LWZlMDNhYzkwYzIyMiIsImhhc2giOiJ4T2FxSWZYRWVxRjZpd2h6SkNCSTl6bEpyM0NyQjZNdjI4MGtVSHNEcTJZIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2NkMjViYjNkLTJkZDUtNDE1OC04ZGE3LWZlMDNhYzkwYzIyMi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDktMjYifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA3LTEyIn0seyJhYWd1aWQiOiIwMWIxNTgwNi1kMjIzLTQyZmItYjcwNy1hZjE3YTZlOTVjOTQiLCJoYXNoIjoiRDlfdXJuR2oycmtHUmRmWVpBTXZ1bDcxZzl0eXlTNjhfSEJlMk51YzI4USIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS8wMWIxNTgwNi1kMjIzLTQyZmItYjcwNy1hZjE3YTZlOTVjOTQuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMDMtMjQifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAyLTAyIn0seyJhYWd1aWQiOiIzYjQ3ZjVhNS1jNDRjLTQ3MzMtYWE0OS1mZjdiZDk1NzRhMmMiLCJoYXNoIjoiQWd3Y2tsQTVtTnlRaXI5Nk1KejJhbXNFYWFaZ2ZMRUladmc3bEw0U2RVSSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS8zYjQ3ZjVhNS1jNDRjLTQ3MzMtYWE0OS1mZjdiZDk1NzRhMmMuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlNFTEZfQVNTRVJUSU9OX1NVQk1JVFRFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTA5LTI1In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNC0yNCJ9LHsiYWFndWlkIjoiZjU5NDcxNDctZmI0OS00MTM4LWI0ZWItZjE1ZGYxZDBhOTZmIiwiaGFzaCI6Ikg1UjlhM2JrVGgxZFRjOFNyT2phMURYYUItSTg0ejc4SU44TTBHbGdUdTQiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZjU5NDcxNDctZmI0OS00MTM4LWI0ZWItZjE1ZGYxZDBhOTZmLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMyIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTAzLTIxIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMi0xMyJ9LHsiYWFndWlkIjoiMzY1OTViZTEtMmU3Mi00NTNkLTgxYTQtYTIyNmQwYzIwYzc4IiwiaGFzaCI6IjJNN2hQSERSMWxJSmo5cGU3bTBYY1ZWUkxhcnE3dFFGZmdrTGM2czdYcFEiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMzY1OTViZTEtMmU3Mi00NTNkLTgxYTQtYTIyNmQwYzIwYzc4Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMXBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wOC0wNCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDItMjEifSx7ImFhZ3VpZCI6IjZjNjBlYzIxLTc5NGYtNGQ3Yy04MGZlLWMyZjNkODI4MTE3MiIsImhhc2giOiJhQ3lzU2JYdFF2VzRQYVVyTS0tRWZqcS1nSTZDNXlnVGRuMjRPUV9FWVZNIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzZjNjBlYzIxLTc5NGYtNGQ3Yy04MGZlLWMyZjNkODI4MTE3Mi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiU0VMRl9BU1NFUlRJT05fU1VCTUlUVEVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDktMTcifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA1LTA2In0seyJhYWd1aWQiOiIwNDIwNDQzZi0xOGUxLTQ4NTYtYTc4NS1hODZmY2U0MzhlNDIiLCJoYXNoIjoiV3RlRmRpRnk3Y05iTE5VdkNOUDY4RHR6dWduNDJhQ2tpU2VwMkZYVmQyQSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS8wNDIwNDQzZi0xOGUxLTQ4NTYtYTc4NS1hODZmY2U0MzhlNDIuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlNFTEZfQVNTRVJUSU9OX1NVQk1JVFRFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTEyLTI4In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOS0wNSJ9LHsiYWFndWlkIjoiNWIxYzJmOTQtMDkxNi00ZjU2LTgxMGQtM2RjZTI5ZjU2MWQwIiwiaGFzaCI6InBKOFQ0MWNjaWltUldyeWJGYmN3bTFxaEs3NW9vV1N3OW1lV3QzcWlDS28iLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNWIxYzJmOTQtMDkxNi00ZjU2LTgxMGQtM2RjZTI5ZjU2MWQwLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTEwLTI1In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMi0xOSJ9LHsiYWFndWlkIjoiOWI5MGUwMTQtOWU1ZC00MTU5LWI4ZmItNmNlZDdmNmYwM2RiIiwiaGFzaCI6ImVOOE1GUHBabTV2OEp2Y2tKOU84MWd1OXh1N0RTM2tTbEZSOWdQeW1JV1kiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvOWI5MGUwMTQtOWU1ZC00MTU5LWI4ZmItNmNlZDdmNmYwM2RiLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTA3LTA5In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMy0wOSJ9LHsiYWFndWlkIjoiOGMzM2ViYjctNjIyMy00NTdkLTk1NmUtNjFhMDUwZmFhNTdkIiwiaGFzaCI6IkV2cV9ETnBXaVk1alJGNzZwNTRfRXFqS2lXRnVnUGFKMHBwUkluUmhkNTQiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvOGMzM2ViYjctNjIyMy00NTdkLTk1NmUtNjFhMDUwZmFhNTdkLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE2LTAxLTA4In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMS0wOCJ9LHsiYWFndWlkIjoiMzZlM2UzN2MtNjNhYy00N2Y1LWIyNTQtMjBjYWVkNDMwYzJlIiwiaGFzaCI6Ik1IWVAwMmxiRTBUX053dm5XdVRyTy1rcVVHMjF5RktHN3dyWGhpazhFWE0iLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMzZlM2UzN2MtNjNhYy00N2Y1LWIyNTQtMjBjYWVkNDMwYzJlLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMnBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0xMS0wMiJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMDkifSx7ImFhZ3VpZCI6ImRhZWFiNGY3LTJlMDAtNGNkMi1iMzM1LWM0ZjE5NTYyYTg5YiIsImhhc2giOiJIbFQ5MHo4MEhRUUV0bGFONWNQcnVLRUdfWWh4cGw4Smk5RktwdjFZejFvIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2RhZWFiNGY3LTJlMDAtNGNkMi1iMzM1LWM0ZjE5NTYyYTg5Yi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wMS0xNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTItMTQifSx7ImFhZ3VpZCI6ImE5MjFhN2RkLThhN2UtNDMwYi04NGYyLThiY2E0YzFhOTJhZCIsImhhc2giOiJfcTdkaDB5T3NYdi1mUmw2Z3FlSHBqVHhVUFZYUThGV1FoVDZtWnhRaDdFIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2E5MjFhN2RkLThhN2UtNDMwYi04NGYyLThiY2E0YzFhOTJhZC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDUtMDkifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAxLTA0In0seyJhYWd1aWQiOiJhYWQ5NmI1Yy0yNmViLTQ3ZmYtYTFkZC0yYjEzNDY0NzIzMmYiLCJoYXNoIjoiT2hDRDFEQmJ1NUxDbDk1VnZxdFlXaVhNbTJsV0lBQ0NYdEROd1E0emhuMCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9hYWQ5NmI1Yy0yNmViLTQ3ZmYtYTFkZC0yYjEzNDY0NzIzMmYuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDMtMDgifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAxLTE2In0seyJhYWd1aWQiOiI3Njg4ZjZlYi04ZDRmLTQ3YjgtYmRjMC1mOWE0OGI4YzVmNmUiLCJoYXNoIjoicnl5V1FvWWZ0Vlg4VWYxNkU0aVdoa29aYlJBV25aQndVU2F5WVlYd05ySSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS83Njg4ZjZlYi04ZDRmLTQ3YjgtYmRjMC1mOWE0OGI4YzVmNmUuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDgtMDgifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA3LTA3In0seyJhYWd1aWQiOiI1YjQwYzMxMS1kYjE4LTQxNTItOTY0ZS04YjJmM2YzM2Q3NzQiLCJoYXNoIjoiU2ZwWERHMW1BeDJTTzhWSTJsSkI0TmRrU3hQZEFScHgxMHZnOXFWVUJEbyIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS81YjQwYzMxMS1kYjE4LTQxNTItOTY0ZS04YjJmM2YzM2Q3NzQuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wycGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTA5LTI1In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNy0wNyJ9LHsiYWFndWlkIjoiYjllMjkzY2UtYzkyYS00YzBiLTkyOTEtNDI2NWRmNDNjNDIwIiwiaGFzaCI6IlZ2OTlicGFBR3hpUG9WbzFzMGZUN1NIWFBmTElkbEQtV05xVzE1YkVKLTgiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvYjllMjkzY2UtYzkyYS00YzBiLTkyOTEtNDI2NWRmNDNjNDIwLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTA1LTI3In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMS0yNiJ9LHsiYWFndWlkIjoiYThjNjg5YWMtYjIyOS00ODg0LTk2ODMtYTQ3OGQwNTAyMTgwIiwiaGFzaCI6InB3d2xxdHZ0MWM4QWdTRWRDeXpaTjFhRGxMMTFGMnpMbUVzR2dWSHQyNzgiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvYThjNjg5YWMtYjIyOS00ODg0LTk2ODMtYTQ3OGQwNTAyMTgwLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJOT1RfRklET19DRVJUSUZJRUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wNy0xNCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTAtMjUifSx7ImFhZ3VpZCI6ImNhOWQ4YjFlLWM3YzYtNGJjOS1iYjgyLTRmYmZmZDc4MzllMCIsImhhc2giOiJxbVZsV1prM2xneFotRUpfTGEwdi1GWkU2MldRRmZzdmNLRDd6VHVYRDlVIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2NhOWQ4YjFlLWM3YzYtNGJjOS1iYjgyLTRmYmZmZDc4MzllMC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDJwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDMtMDkifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA1LTI4In0seyJhYWd1aWQiOiI3ZmM2MDAzMi0zMGM3LTQxYzMtYTE5Yy0yNjAyODVjZTNhOTQiLCJoYXNoIjoiWDJibFRHbEZ6cFota05hR0xZbkM0MEVETlVaZHlud0gtcy10MFRheEpzTSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS83ZmM2MDAzMi0zMGM3LTQxYzMtYTE5Yy0yNjAyODVjZTNhOTQuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wxcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTAxLTEwIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOC0yMyJ9LHsiYWFndWlkIjoiOWY5NWYxMWMtMGI2Zi00MGNiLWFlYjMtN2IwYTA2NGY1NDMyIiwiaGFzaCI6InlhYzNuSlBNYS1OT2htd0NOSmdkX1hLYjB3dm03WUtzSG84V2t1LXpBbTQiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvOWY5NWYxMWMtMGI2Zi00MGNiLWFlYjMtN2IwYTA2NGY1NDMyLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMnBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wMy0yNiJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTItMjAifSx7ImFhZ3VpZCI6IjRlMmRhYTgwLTc0NDktNDE4MC1iYWMyLTYyMjhmNWE1Njg0OSIsImhhc2giOiJvTnh4X1NqRjlCQlFmSFRmc2paVWdDNTUxcFNBMnZmaDdIeTlyODFFa1A0IiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzRlMmRhYTgwLTc0NDktNDE4MC1iYWMyLTYyMjhmNWE1Njg0OS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDJwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMDQtMTkifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA5LTExIn0seyJhYWd1aWQiOiJmODBlODY4YS0xNjIzLTQ4OGYtODJlNi1mZGEwMzk0NjkxNGQiLCJoYXNoIjoiaFE4aU9oWFRHMVJEX1RQZW9OcHRWbEJmLWc2SFJoTUMyZzRxUFlvMFU0VSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9mODBlODY4YS0xNjIzLTQ4OGYtODJlNi1mZGEwMzk0NjkxNGQuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wycGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTAxLTAxIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOS0wNiJ9LHsiYWFndWlkIjoiN2I4YjAyMDEtN2U5NC00ZWExLWIyNjgtZWZmMTAyYzQwZDM0IiwiaGFzaCI6IkJoN2s0cDRzQ0d0dVhhVjY5dXNqaFNNRmVoR0hZM3ZObXlGNk1ZaE5yQmsiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvN2I4YjAyMDEtN2U5NC00ZWExLWIyNjgtZWZmMTAyYzQwZDM0Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMXBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wMS0yMSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDctMTIifSx7ImFhZ3VpZCI6IjA3NDBiMTYyLThiNDMtNGRmOS04OTE5LTViNDFlZDA1OTNkOCIsImhhc2giOiJxaXV5MHhsaktRTjc5ZFFWNTltdGFCa0tmc3NkaHRrektuUFdYZGczd2ZjIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzA3NDBiMTYyLThiNDMtNGRmOS04OTE5LTViNDFlZDA1OTNkOC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0xMC0wNiJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDgtMDcifSx7ImFhZ3VpZCI6IjA4NTY5MjA1LThjYmMtNGQ1Yi05ZTllLTAzMGRmZDcxNjU0ZiIsImhhc2giOiI4QmlnY045TlBzMEFkZkMzUzdsOFdtS29TdVBrcEwtT2R2ejBEaXY4MDNNIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzA4NTY5MjA1LThjYmMtNGQ1Yi05ZTllLTAzMGRmZDcxNjU0Zi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiU0VMRl9BU1NFUlRJT05fU1VCTUlUVEVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDUtMTEifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA2LTEyIn0seyJhYWd1aWQiOiJhYzc4MTUzNS1lOWEyLTRlZTEtOTcxNS04NzJhNzIyZGI3NDgiLCJoYXNoIjoiRVhPd0RiZmNYbXA5QnZmNGZtckRtNWVxTndIeUY0anFUQkxRdzNxN0EzUSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9hYzc4MTUzNS1lOWEyLTRlZTEtOTcxNS04NzJhNzIyZGI3NDguanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTQtMDYtMTIifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA3LTA5In0seyJhYWd1aWQiOiIzNTZjNGY5ZS1jYzFjLTQ2YmUtYmFmMy1lMzE3NjNiNjQ1Y2MiLCJoYXNoIjoickFGRXM0T08zMHF2NW9seEl3QTh1S1JNUTlObFRCN2NxV0w5Smhjei1KQSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS8zNTZjNGY5ZS1jYzFjLTQ2YmUtYmFmMy1lMzE3NjNiNjQ1Y2MuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wxIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMDEtMTcifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAyLTE5In0seyJhYWd1aWQiOiJkMWM4Yjk5Yy00NWI5LTRlNjMtODA1ZS02M2Y2N2RiM2ZkZDUiLCJoYXNoIjoiSnR5eVEtcmI5Z1RoenBvRmVqV29LOXNNd0hTa3FST2FsakxFdEs1SThydyIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9kMWM4Yjk5Yy00NWI5LTRlNjMtODA1ZS02M2Y2N2RiM2ZkZDUuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlNFTEZfQVNTRVJUSU9OX1NVQk1JVFRFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTA2LTE2In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMS0yOCJ9LHsiYWFndWlkIjoiNjczZjBlZWQtZWI5Yi00NjEwLTk2OWQtMGMzNmY3ODgyMzYwIiwiaGFzaCI6Ik5ONWVqdThxWjBOa3VMVXVCUE1haVRTYS1GS1VRM2QzSHRUeTUxV1ZkMmciLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNjczZjBlZWQtZWI5Yi00NjEwLTk2OWQtMGMzNmY3ODgyMzYwLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTAxLTE0In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOS0yNyJ9LHsiYWFndWlkIjoiMTZiMDFiZjEtZDI0Zi00MzI5LWIwZWQtNDFjYWE1MTI0NGM3IiwiaGFzaCI6IlFiOHVCaXlCSnJYVW80RjYyRjEteUstUlphUU9kVzcybVotZURvYmlqYU0iLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMTZiMDFiZjEtZDI0Zi00MzI5LWIwZWQtNDFjYWE1MTI0NGM3Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJVU0VSX0tFWV9SRU1PVEVfQ09NUFJPTUlTRSIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTA1LTE2In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOS0yMCJ9LHsiYWFndWlkIjoiMTMxNWJkNDMtZDZiMi00YTE1LWExNWYtMjVkYmFkMWFiNTQ4IiwiaGFzaCI6IlZoNUdneFV5SDhUeV95WFFoc2htX05xSnV6cTU1Rmo2SFQ2VFRKSFB2ZEkiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMTMxNWJkNDMtZDZiMi00YTE1LWExNWYtMjVkYmFkMWFiNTQ4Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTExLTE0In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMS0xNiJ9LHsiYWFndWlkIjoiMjc5NTA4YjMtOWY1Ny00ODU3LTlmYTItNmVlNjkzZWYwMmJkIiwiaGFzaCI6Im1NUV81YU44anJCNVJTeW5tSTRQWE1LLUNycHBDeTVPZ2dVbUcxcDN4ZHciLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMjc5NTA4YjMtOWY1Ny00ODU3LTlmYTItNmVlNjkzZWYwMmJkLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJOT1RfRklET19DRVJUSUZJRUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wMi0wOCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDYtMjgifSx7ImFhZ3VpZCI6IjIxN2RlYmM0LWRkYjItNDI4Mi1hNTFiLTEzYmVhZDI1YmE5MCIsImhhc2giOiJPN1B1YXU2OWI5eHhDMEFWYWNtbkRxdjBla2hiUXI1d0t6TjdEdTFTV180IiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzIxN2RlYmM0LWRkYjItNDI4Mi1hNTFiLTEzYmVhZDI1YmE5MC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0xMi0xMyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMDYifSx7ImFhZ3VpZCI6IjZiNjc0MTVkLTY2OGUtNDQwMS1hZGU3LTgzZGU5OWFlNGM5YSIsImhhc2giOiIwcG1iNUtnaTZNNmd5Z0VHN0gxOWZMM0xyRFUySUZ4cjQxX2pUdmg3X1pjIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzZiNjc0MTVkLTY2OGUtNDQwMS1hZGU3LTgzZGU5OWFlNGM5YS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiU0VMRl9BU1NFUlRJT05fU1VCTUlUVEVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDItMjcifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAyLTA5In0seyJhYWd1aWQiOiI3OTAwODBmNy04ZDY4LTQxMzgtYmU3ZC0zZTBlZTRjZDE1ZjUiLCJoYXNoIjoieXNxTmhUSWZoR2dUV01DeGtydTRrZTVvUWtyLVhfRkhGNGUyV2FTS0pNMCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS83OTAwODBmNy04ZDY4LTQxMzgtYmU3ZC0zZTBlZTRjZDE1ZjUuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6Ik5PVF9GSURPX0NFUlRJRklFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTA0LTI3In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMS0yMCJ9LHsiYWFndWlkIjoiNzZkOTQ2MGItZGI1Mi00OTNjLWE4MzQtMmM0YmIwMDVjMWI0IiwiaGFzaCI6IkNvMVNxNVE4UGhWQmx0UWtjOG8yOTRsX2NDSVk0Z0djcTB6S2RrLUZPTGciLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNzZkOTQ2MGItZGI1Mi00OTNjLWE4MzQtMmM0YmIwMDVjMWI0Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJTRUxGX0FTU0VSVElPTl9TVUJNSVRURUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wNy0xNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTAtMDUifSx7ImFhZ3VpZCI6IjJmZTM4YjgyLWI1NTgtNGQ0NC1hZDcxLWY5NWRhNzE2NzhkOCIsImhhc2giOiIyYXRIbFlReGZIdVpuMy1YWm9LWEpTcTRTSDVjR3BDZE1zWEZ3Yk03RkNZIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzJmZTM4YjgyLWI1NTgtNGQ0NC1hZDcxLWY5NWRhNzE2NzhkOC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDEiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wNS0xMCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMTAifSx7ImFhZ3VpZCI6IjkyMTAxMmY4LTFhNzMtNGIwZi1hYTgxLWNkMjFjNmI5YmY3NSIsImhhc2giOiJUU0EtbzV6Rk9WUXltc1FNZkNMZnk5SERyanJPd1RZV2ZJTnF5ZUVDajJnIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzkyMTAxMmY4LTFhNzMtNGIwZi1hYTgxLWNkMjFjNmI5YmY3NS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiTk9UX0ZJRE9fQ0VSVElGSUVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTYtMDEtMjYifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA3LTA2In0seyJhYWd1aWQiOiI0YjQ2ZWJlMi05ODY2LTQyN2UtYjdhNC1hYjkyNmIyYWExMmYiLCJoYXNoIjoiUUF4ZUlaYWljRk9hZGl3NFZrVlAzTmtrRXBVMmpVQUhsUmh3dzlQdkQxNCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS80YjQ2ZWJlMi05ODY2LTQyN2UtYjdhNC1hYjkyNmIyYWExMmYuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wxcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTAyLTExIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOC0xNiJ9LHsiYWFndWlkIjoiNzJjMzkwZWEtZDFkMi00OGU2LWEzNTctZDYzYWY0OTc4MjhjIiwiaGFzaCI6InU3RUxBWTktdVhseGdNaDNxTUhtNHpYOUVUWExZRjZabzZXOGpZQUw1VmciLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNzJjMzkwZWEtZDFkMi00OGU2LWEzNTctZDYzYWY0OTc4MjhjLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJVU0VSX1ZFUklGSUNBVElPTl9CWVBBU1MiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wMy0yNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDctMjMifSx7ImFhZ3VpZCI6IjQzYTgzMjgzLTJkZmMtNDYxMy1iOThiLTQ4YzhkNjc5ZGI5OSIsImhhc2giOiJxUm1zMEZIaU1NTVFWcUI2b2VCRjlMWWF3NW1NYzdRSjNWZ0NXZ0Y3ZkNVIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzQzYTgzMjgzLTJkZmMtNDYxMy1iOThiLTQ4YzhkNjc5ZGI5OS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMTAtMDIifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAxLTE0In0seyJhYWd1aWQiOiIxMWRmOGFhMC1mNTU2LTRkMjMtODU2Yi1iNTgxMDRjN2FhODkiLCJoYXNoIjoidnZzT1F2elJMVk9CNWQ0WDdOWk1nREFIalRnaUE2RF9rVFg5MFpJRXNOZyIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS8xMWRmOGFhMC1mNTU2LTRkMjMtODU2Yi1iNTgxMDRjN2FhODkuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlNFTEZfQVNTRVJUSU9OX1NVQk1JVFRFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTAzLTEzIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNi0wNSJ9LHsiYWFndWlkIjoiNjNmZTc4ODItZWU3YS00MTVkLTk2MDgtNDkwOWI2ZTQyNmUxIiwiaGFzaCI6ImVXRGJMVVhGZGN3ZzFGc0dqMGlGZHJLQzlqdzVLX0h6VnJ5N2wxNEVBQ0EiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNjNmZTc4ODItZWU3YS00MTVkLTk2MDgtNDkwOWI2ZTQyNmUxLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MM3BsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0xMS0xMSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMjUifSx7ImFhZ3VpZCI6IjI4OTI2M2Y2LTJiNWUtNGE2OC04Njg4LTkwZDgxMjBjMzMzNiIsImhhc2giOiJCX3lvZFgyZTRkVlNpQTk3TUFtTUZKZHMwb2FWcjZDSG5rbDVqMFROT21BIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzI4OTI2M2Y2LTJiNWUtNGE2OC04Njg4LTkwZDgxMjBjMzMzNi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDEiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNi0wMy0xNiJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTItMDUifSx7ImFhZ3VpZCI6IjQyMjY0NmQ4LTNiZGYtNDFkOS1iMDk0LWQwNjQ2MGI3ODdkMSIsImhhc2giOiJKYUdLYmdrTDNrNTJreHN3bENQYThJa3NPZl9pUXUyajJHOThOU01wcFNzIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzQyMjY0NmQ4LTNiZGYtNDFkOS1iMDk0LWQwNjQ2MGI3ODdkMS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDNwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDMtMjYifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTExLTEzIn0seyJhYWd1aWQiOiJhYjA4MzBjYi01MDhhLTQyNTctYmRlYS0xZDBlY2VhNDIwYTAiLCJoYXNoIjoiRTlIUEU1TDhQVndyc19PYlB2am9PcnB1dXpOY3dsc0dzazB3WkFOWmV1NCIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS9hYjA4MzBjYi01MDhhLTQyNTctYmRlYS0xZDBlY2VhNDIwYTAuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IkZJRE9fQ0VSVElGSUVEX0wzcGx1cyIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTA0LTE2In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0xMi0xNCJ9LHsiYWFndWlkIjoiMTUzM2NkODctNTliOC00NDAyLTllYWQtODk3NGRkNzJjZDZiIiwiaGFzaCI6Ii1BVFRuRXpSOExSd0R3eXBJb1daR1BkeXkzaWkteWY1c0xvckQ0V2E1U0EiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvMTUzM2NkODctNTliOC00NDAyLTllYWQtODk3NGRkNzJjZDZiLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMiIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTAyLTE1In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wNi0wMyJ9LHsiYWFndWlkIjoiZGNlZGZmY2ItMzc3NS00NDQ0LThlOWQtMDhlNjcwYzFkY2RmIiwiaGFzaCI6InZMN1JwTTUwRjhtOUFHZl9IbVp5Q3draVdPZ0g1bWtRTzVxUjZxWWtUVUUiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvZGNlZGZmY2ItMzc3NS00NDQ0LThlOWQtMDhlNjcwYzFkY2RmLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMSIsImVmZmVjdGl2ZURhdGUiOiIyMDE0LTA5LTA2In1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wOS0wNCJ9LHsiYWFndWlkIjoiYjY2MGQyOWMtYmMwOS00NGVkLTllMTYtMTAwMmRkMzY5MjhjIiwiaGFzaCI6IkpNS1NId1QxM2JkekNUR0dsNXhTZTFyTFFBQ3JtUF9nM1FWMTd4d0xBZEUiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvYjY2MGQyOWMtYmMwOS00NGVkLTllMTYtMTAwMmRkMzY5MjhjLmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJGSURPX0NFUlRJRklFRF9MMXBsdXMiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0wMi0wNyJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDgtMDUifSx7ImFhZ3VpZCI6ImU4YjY2ODQ1LTZjZjgtNDA1YS1iOGE5LWE0MjZiZDZlNDNmYSIsImhhc2giOiJ0TkNWNTUyR1JRWkVXdUJNRjk5bHFacUMzNnAzMDRMdkR5b2ZoYWk0bzNVIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2U4YjY2ODQ1LTZjZjgtNDA1YS1iOGE5LWE0MjZiZDZlNDNmYS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDIiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wOC0yMCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMTAtMDEifSx7ImFhZ3VpZCI6IjVkOGJjYzdhLWNlYTYtNGZjMi05ZDBmLWQzOWNiNWEyNzMwMCIsImhhc2giOiI5eTdtQi10U2hpcDBXY0xfMEhhYlJ2ZmVHaUpmS01lOGNjUE5SY3VSUjFzIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzVkOGJjYzdhLWNlYTYtNGZjMi05ZDBmLWQzOWNiNWEyNzMwMC5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiU0VMRl9BU1NFUlRJT05fU1VCTUlUVEVEIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDYtMjMifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTA2LTE5In0seyJhYWd1aWQiOiI4NjBlMTdkZC1hMmU3LTRhNTMtODQ1Zi01MDE4YTQzMmFjYzAiLCJoYXNoIjoiVHZBVm1JV2pWb1htVUFaQmVOM3FTRjEyRjBvdlJ2a2RNWlhfTmFGTXdQSSIsInVybCI6Imh0dHBzOi8vZmlkb2FsbGlhbmNlLmNvLm56L21kcy9tZXRhZGF0YS84NjBlMTdkZC1hMmU3LTRhNTMtODQ1Zi01MDE4YTQzMmFjYzAuanNvbiIsInN0YXR1c1JlcG9ydHMiOlt7InN0YXR1cyI6IlNFTEZfQVNTRVJUSU9OX1NVQk1JVFRFRCIsImVmZmVjdGl2ZURhdGUiOiIyMDE1LTAxLTAzIn1dLCJ0aW1lT2ZMYXN0U3RhdHVzQ2hhbmdlIjoiMjAxNy0wMS0xNyJ9LHsiYWFndWlkIjoiNDBjMmMxNTktY2E4NS00YTI2LTk5Y2MtOTdjMTc3ZTU4MzQ1IiwiaGFzaCI6IjFJMEo0dFVqeTFIS1ZSNjVrS1J2bWdKbktJc3pOQmhBLVBaNzJvc0ZRRjQiLCJ1cmwiOiJodHRwczovL2ZpZG9hbGxpYW5jZS5jby5uei9tZHMvbWV0YWRhdGEvNDBjMmMxNTktY2E4NS00YTI2LTk5Y2MtOTdjMTc3ZTU4MzQ1Lmpzb24iLCJzdGF0dXNSZXBvcnRzIjpbeyJzdGF0dXMiOiJTRUxGX0FTU0VSVElPTl9TVUJNSVRURUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNC0wMi0yMCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMTcifSx7ImFhZ3VpZCI6IjdlZGE1MTdlLWQ2ODItNDI2NC1hYjU0LTc1MTRiMzU0MjI0MSIsImhhc2giOiJOTkVOUmh1RC1WX1cybmhwZ3lnbXNFekgwNlZIdXRFaTZ4MDQ5YmZkLUlFIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzdlZGE1MTdlLWQ2ODItNDI2NC1hYjU0LTc1MTRiMzU0MjI0MS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRUQiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0xMS0yMCJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDQtMTkifSx7ImFhZ3VpZCI6ImE0ZGY2OWU0LTg4M2EtNDExZi1hYTkyLTEzYmVmODU1YzcxNSIsImhhc2giOiJoWGZSejM2c0UwMlppemRkNGlaUl9DWW9TVDk0ZnlMTGVFN3pQTDZ1bndFIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhL2E0ZGY2OWU0LTg4M2EtNDExZi1hYTkyLTEzYmVmODU1YzcxNS5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDEiLCJlZmZlY3RpdmVEYXRlIjoiMjAxNS0xMi0wNSJ9XSwidGltZU9mTGFzdFN0YXR1c0NoYW5nZSI6IjIwMTctMDItMjgifSx7ImFhZ3VpZCI6IjA0MWY3YmZjLTE1MzctNDAxZS1hMWZlLWQ3MTFmODRlYTU3YiIsImhhc2giOiJzU1RoTXpDaC14MFMtZlZpbWtDd0RVallWQ0RmYTQtSmNNQnFoU1hvZEtrIiwidXJsIjoiaHR0cHM6Ly9maWRvYWxsaWFuY2UuY28ubnovbWRzL21ldGFkYXRhLzA0MWY3YmZjLTE1MzctNDAxZS1hMWZlLWQ3MTFmODRlYTU3Yi5qc29uIiwic3RhdHVzUmVwb3J0cyI6W3sic3RhdHVzIjoiRklET19DRVJUSUZJRURfTDFwbHVzIiwiZWZmZWN0aXZlRGF0ZSI6IjIwMTUtMDQtMDIifV0sInRpbWVPZkxhc3RTdGF0dXNDaGFuZ2UiOiIyMDE3LTAxLTEzIn1dfQ.x5qJFVFIibyqCd3Xwdx6aN0iJR0TEW5JjZkV3wQ6KB9ehWSnmfhFA18HDW9Taj5NnzKJE4dubQGJvIo_2WL3UQ";
-        when(fidoMDSClient.fetch(any())).thenReturn(toc);
+        when(fidoMDSClient.fetch(any())).thenReturn(FAKE_TOC);
 
-        X509Certificate rootCert = CertificateUtil.generateX509Certificate(Base64Util.decode(
+        target = new FidoMdsMetadataItemsProvider(objectConverter, fidoMDSClient, loadFakeRootCertificate());
+        target.fetchMetadataTOCPayload(true); // skip cert path validation as it downloads CRL from the internet and it breaks unit test stability.
+    }
+
+    @Test
+    void fetchMetadataTOCPayload_with_entry_filter_test() {
+        when(fidoMDSClient.fetch(any())).thenReturn(FAKE_TOC);
+        target = new FidoMdsMetadataItemsProvider(objectConverter, fidoMDSClient, loadFakeRootCertificate());
+
+        MetadataTOCPayload all = target.fetchMetadataTOCPayload(true);
+        AAGUID aaguid = new AAGUID(all.getEntries().get(0).getAaguid());
+        target.setEntryFilter(MetadataTOCPayloadEntryFilters.aaguidIn(Collections.singleton(aaguid)));
+        MetadataTOCPayload filtered = target.fetchMetadataTOCPayload(true);
+
+        assertThat(all.getEntries()).hasSizeGreaterThan(1);
+        // entries rejected by their status reports are kept regardless of the filter
+        long rejected = all.getEntries().stream().filter(entry -> !new AAGUID(entry.getAaguid()).equals(aaguid) && hasRejectedStatus(entry)).count();
+        assertThat(rejected).isPositive();
+        assertThat(filtered.getEntries()).hasSize(1 + (int) rejected)
+                .allMatch(entry -> new AAGUID(entry.getAaguid()).equals(aaguid) || hasRejectedStatus(entry));
+    }
+
+    @Test
+    void refresh_test_keeps_filtered_out_entries_rejected_by_status_without_statement() {
+        AAGUID acceptedAAGUID = new AAGUID("00000000-0000-0000-0000-000000000001");
+        AAGUID revokedAAGUID = new AAGUID("00000000-0000-0000-0000-000000000002");
+        MetadataTOCPayloadEntry revoked = new MetadataTOCPayloadEntry(null, revokedAAGUID.toString(), null, "BBBB", URI.create("https://example.com/" + revokedAAGUID),
+                null, Collections.singletonList(new StatusReport(AuthenticatorStatus.REVOKED, null, null, null)), LocalDate.of(2020, 1, 1), null, null);
+        FidoMdsMetadataItemsProvider spied = spy(target);
+        spied.setEntryFilter(MetadataTOCPayloadEntryFilters.aaguidIn(Collections.singleton(acceptedAAGUID)));
+        doReturn(TestDataUtil.createMetadataStatement()).when(spied).fetchMetadataStatement(anyString(), any());
+        doReturn(new MetadataTOCPayload(null, 1, now.toLocalDate().minusDays(1), Arrays.asList(
+                createTOCPayloadEntry(acceptedAAGUID, "AAAA", LocalDate.of(2020, 1, 1)),
+                revoked
+        ))).when(spied).fetchMetadataTOCPayload(false);
+
+        Map<AAGUID, Set<MetadataItem>> metadataItems = spied.provide();
+
+        verify(spied, times(1)).fetchMetadataStatement(anyString(), any());
+        assertThat(metadataItems.get(revokedAAGUID)).hasSize(1).allMatch(item -> item.getMetadataStatement() == null);
+        assertThat(MetadataItemsVerdict.of(metadataItems.get(revokedAAGUID)).getRejectedStatus()).isEqualTo(AuthenticatorStatus.REVOKED);
+
+        // statement-less items are skipped when trust anchors are derived from the metadata statements
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = new MetadataStatementsTrustAnchorsProvider(new MetadataItemsMetadataStatementsProvider(spied)).provide();
+        assertThat(trustAnchors).containsOnlyKeys(acceptedAAGUID);
+        assertThat(trustAnchors.get(acceptedAAGUID)).isNotEmpty();
+    }
+
+    private static boolean hasRejectedStatus(MetadataTOCPayloadEntry entry) {
+        return entry.getStatusReports() != null && entry.getStatusReports().stream().anyMatch(report -> MetadataItemsVerdict.isRejected(report.getStatus()));
+    }
+
+    @Test
+    void fetchMetadataTOCPayload_with_cache_directory_test() {
+        Path cacheDirectory = tempDir.resolve("mds-cache");
+        when(fidoMDSClient.fetch(any(), isNull(), isNull())).thenReturn(HttpFetchResponse.ok(FAKE_TOC, "\"etag\"", null));
+        target = new FidoMdsMetadataItemsProvider(objectConverter, fidoMDSClient, loadFakeRootCertificate());
+        target.setCacheDirectory(cacheDirectory);
+        MetadataTOCPayload fetched = target.fetchMetadataTOCPayload(true);
+
+        // conditional request is answered with 304 Not Modified
+        when(fidoMDSClient.fetch(any(), eq("\"etag\""), isNull())).thenReturn(HttpFetchResponse.notModified());
+        assertThat(target.fetchMetadataTOCPayload(true)).isEqualTo(fetched);
+
+        // metadata service is unreachable, and the cached TOC is past its nextUpdate
+        when(fidoMDSClient.fetch(any(), eq("\"etag\""), isNull())).thenThrow(new MDSException("unreachable"));
+        assertThrows(MDSException.class, () -> target.fetchMetadataTOCPayload(true));
+
+        // the cached TOC is used within the grace period
+        target.setCachedTOCGracePeriod(Duration.ofDays(Duration.between(fetched.getNextUpdate().atStartOfDay(), now.toLocalDateTime()).toDays() + 1));
+        assertThat(target.fetchMetadataTOCPayload(true)).isEqualTo(fetched);
+        verify(fidoMDSClient, never()).fetch(any());
+    }
+
+    private static X509Certificate loadFakeRootCertificate() {
+        return CertificateUtil.generateX509Certificate(Base64Util.decode(
                 "MIICYjCCAeigAwIBAgIPBIdvCXPXJiuD7VW0mgRQMAoGCCqGSM49BAMDMGcxCzAJ" +
                         "BgNVBAYTAlVTMRYwFAYDVQQKDA1GSURPIEFsbGlhbmNlMScwJQYDVQQLDB5GQUtF" +
                         "IE1ldGFkYXRhIFRPQyBTaWduaW5nIEZBS0UxFzAVBgNVBAMMDkZBS0UgUm9vdCBG" +
@@ -105,8 +318,6 @@ class MetadataItemsProviderTest {
                         "HO/hX9Oh69szXzD0ahmZWTAKBggqhkjOPQQDAwNoADBlAjAfT9m8LabIuGS6tXiJ" +
                         "mRB91SjJ49dk+sPsn+AKx1/PS3wbHEGnGxDIIcQplYDFcXICMQDi33M/oUlb7RDA" +
                         "mapRBjJxKK+oh7hlSZv4djmZV3YV0JnF1Ed5E4I0f3C04eP0bjw="));
-        target = new FidoMdsMetadataItemsProvider(objectConverter, fidoMDSClient, rootCert);
-        target.fetchMetadataTOCPayload(true); // skip cert path validation as it downloads CRL from the internet and it breaks unit test stability.
     }
 
     @Test
@@ -163,8 +374,32 @@ class MetadataItemsProviderTest {
     void fetchMetadataStatement() {
 
         HttpClient httpClient = mock(HttpClient.class);
-        when(httpClient.fetch(any())).thenReturn("ewogICAgImFhZ3VpZCI6ICI4MTMwM2MxYS0yNWNmLTRmNDMtYmUwNC0wNDYwZGY1YjZjNjgiLAogICAgImFsdGVybmF0aXZlRGVzY3JpcHRpb25zIjogewogICAgICAgICJydS1SVSI6ICLQktC40YDRgtGD0LDQu9GM0L3Ri9C5IFNlY3AyNTZSMSBDVEFQMiDQsNGD0YLQtdC90YLQuNGE0LjQutCw0YLQvtGAINC00LvRjyDRgtC10YHRgtC40YDQvtCy0LDQvdC40LUg0YHQtdGA0LLQtdGA0L7QsiDQvdCwINGB0L7QvtGC0LLQtdGC0YHQstC40LUg0YHQv9C10YbQuNGE0LjQutCw0YbQuNC4IEZJRE8yIDgxMzAzYzFhLTI1Y2YtNGY0My1iZTA0LTA0NjBkZjViNmM2OCIKICAgIH0sCiAgICAiYXNzZXJ0aW9uU2NoZW1lIjogIkZJRE9WMiIsCiAgICAiYXR0YWNobWVudEhpbnQiOiAyLAogICAgImF0dGVzdGF0aW9uUm9vdENlcnRpZmljYXRlcyI6IFsKICAgICAgICAiTUlJRndEQ0NBNmdDQ1FDTm0xdTU2b1J3WFRBTkJna3Foa2lHOXcwQkFRc0ZBRENCb1RFWU1CWUdBMVVFQXd3UFJrbEVUeklnVkVWVFZDQlNUMDlVTVRFd0x3WUpLb1pJaHZjTkFRa0JGaUpqYjI1bWIzSnRZVzVqWlMxMGIyOXNjMEJtYVdSdllXeHNhV0Z1WTJVdWIzSm5NUll3RkFZRFZRUUtEQTFHU1VSUElFRnNiR2xoYm1ObE1Rd3dDZ1lEVlFRTERBTkRWMGN4Q3pBSkJnTlZCQVlUQWxWVE1Rc3dDUVlEVlFRSURBSk5XVEVTTUJBR0ExVUVCd3dKVjJGclpXWnBaV3hrTUI0WERURTRNRE14TmpFME16VXlOMW9YRFRRMU1EZ3dNVEUwTXpVeU4xb3dnYUV4R0RBV0JnTlZCQU1NRDBaSlJFOHlJRlJGVTFRZ1VrOVBWREV4TUM4R0NTcUdTSWIzRFFFSkFSWWlZMjl1Wm05eWJXRnVZMlV0ZEc5dmJITkFabWxrYjJGc2JHbGhibU5sTG05eVp6RVdNQlFHQTFVRUNnd05Sa2xFVHlCQmJHeHBZVzVqWlRFTU1Bb0dBMVVFQ3d3RFExZEhNUXN3Q1FZRFZRUUdFd0pWVXpFTE1Ba0dBMVVFQ0F3Q1RWa3hFakFRQmdOVkJBY01DVmRoYTJWbWFXVnNaRENDQWlJd0RRWUpLb1pJaHZjTkFRRUJCUUFEZ2dJUEFEQ0NBZ29DZ2dJQkFMMTFVNXlBSVZMTXJMM3hTOHU4eXNNU2RPa0Rlb1RPK1JjQXkrdVhYcDZrNFNDK2pPeTM3Z0lDRXRZSStNS1FWMUVNZU1NZjNyTTF1ZVpBTzNpUEZhME5FZGkvb1E3bnBuR2pCTkk4d016RDhGZk5lNnJXdHprRGFIcHNaVy8vL013V0RwR3lKUitYeWpjcTZVNHZTOWJTNnpaN2pzbHcwT2N6eDRVc1lnT3NJVVhTU0JhR09yUmJ4Si9KQzVnbkRZRVl2dE5NK1BEUGN6TE5LQXloZHZCWldOV0hyN01aMFA1VGVKUWNYc0FvU2hSWDJZOFU4ZlJOSm03U2VpRktEUDBObi9RS3hPU3Q3ekdQNHh0OW5NYXNFMXEyWlRkYXIyK1cxM0NSejM3UkkwWldwcS8rWXF1b0ViWjdVajdObUJUY3FoYjI2MG5tREVSMkZwd3dZd1BTYXJrOTJJWmJhbW96QjhkN09FSTFqSmdzcmpKaEthbjBFbVJhV1ZCcEhUNHhZS2RFdTdyMDlTMEpoS3lVKzUyV0RtbVZRVE1wWUxybTRYbDdoUnh5UHlCWWthbHJvenNHbVBzOHZsaE5xM1ZzVmJ5QlNNU3BFbVVhZUFhN0xMRTkvVmgwYWdKTFZGSGgxZWhZS0pwekhubW1CWFVxeDBGejNhZm1EbTFOWDBzcjNPLzZ4SXgxVlNUVmlUM0tOeEJZcFZIMXFqSEFUTHp1eGNXbW0rNzVmY0pNaVBZUFNNWFZtUmIzUTFsOTFBTTRCQmVXaGxQM0ZiYzdnRHkwcitzN20wc0dTNlBUMkoyckdvZzJyVXhuSit6Q00xMU03RGVPMFhNMm5ueTR1UllQUGs5dzJFWHpmdnRkdmllWVUvNVJCNFJEbTVUR3hIaEdYVlpVZ2FjNUFnTUJBQUV3RFFZSktvWklodmNOQVFFTEJRQURnZ0lCQUZ0MlhHZDNrNUdwYk8xRVVtM3U2MHpUMWZFNnU2cE9zY3AxNTZrNVZuc0hnYUhSSGRJQVBOTGVMTm1SN3k1T25yWGJoMTNDckd3VTFxODRqakpYcHYrdjE0eFVDYzVpMDF5b3BGVFFGTHI0QTdOSHAybk5ZZk5oaElWU0ZBZ1c0M0VmbEpmbGJMRWVsQ0p6eExsV2I1Qm9Ec1plZU5tRVFzWElNMW1KMjZSM3IwZHpzSEJiMHV5KzhMTlIxZ2RWcWRqaEM4Qkx5M2doNCtCV3VpZHlaTnQwN0x2ZURzU0ZXNXJjajV3UnJTeDloWFBJeVZwalFTbGpOdlk3TVZUb3VxSnpOQUFRTXNUS2tYUGtUWGxkQ29wOVFvOVVQa0hSUm0wbDdMTHRkYU9vWHJjdDBZbW9jZjh6eGY5YkZOaXc5ZjRXUllRTTZzTWh6dDgrcy9vRGlsbzRRaGNVZ2VKRWlFUEVTaTZ5bllUVjYyU0hBNGVNdW5VSjVkbENhUm5GaVI5RFRJbUZhNUlSemllMzI2L25XL1NQQ2FLYy95ckZJaWhNTWpKb1NBUGhwVGIvSzZ5SE9VRzhyK0tpUXV0N056cUdWMzAxcFE5dTYyZEdMNU9pMVZYbUNGbEUycmFtWnMxNUJOT1V5QW8yQ0JiUkpnM2pLY2R1LzhRQzZvampEdlE4NjMrN0xQdG43NHdKQzVScFVKc1MwR2hRV2dxNXBBWE8zd0E2MVVvYnhpNk1rT3BDQzB6Qld4L2Q0Q3FwUzRqNGhGZ3hXQlRYWDQ4aWhQdStoSXhJRi9BeGJxdFB2cUxNRXhXL3haSVRuNkFycFd5UTllNFNVVnIzbjNGMzNhcDFYZER5WjB2d0ZjbTE4SlFBdHN2WFQ2cUNMcldPWG5IVWdmbi8rVml1IgogICAgXSwKICAgICJhdHRlc3RhdGlvblR5cGVzIjogWwogICAgICAgIDE1ODc5LAogICAgICAgIDE1ODgwCiAgICBdLAogICAgImF1dGhlbnRpY2F0aW9uQWxnb3JpdGhtIjogMSwKICAgICJhdXRoZW50aWNhdG9yVmVyc2lvbiI6IDIsCiAgICAiY3J5cHRvU3RyZW5ndGgiOiAxMjgsCiAgICAiZGVzY3JpcHRpb24iOiAiVmlydHVhbCBTZWNwMjU2UjEgRklETzIgQ29uZm9ybWFuY2UgVGVzdGluZyBDVEFQMiBBdXRoZW50aWNhdG9yIDgxMzAzYzFhLTI1Y2YtNGY0My1iZTA0LTA0NjBkZjViNmM2OCIsCiAgICAiaWNvbiI6ICJkYXRhOmltYWdlL3BuZztiYXNlNjQsaVZCT1J3MEtHZ29BQUFBTlNVaEVVZ0FBQUNBQUFBQWdDQUlBQUFEOEdPMmpBQUFBQ1hCSVdYTUFBQzRqQUFBdUl3RjRwVDkyQUFBS1QybERRMUJRYUc5MGIzTm9iM0FnU1VORElIQnliMlpwYkdVQUFIamFuVk5uVkZQcEZqMzMzdlJDUzRpQWxFdHZVaFVJSUZKQ2k0QVVrU1lxSVFrUVNvZ2hvZGtWVWNFUlJVVUVHOGlnaUFPT2pvQ01GVkVzRElvSzJBZmtJYUtPZzZPSWlzcjc0WHVqYTlhODkrYk4vclhYUHVlczg1Mnp6d2ZBQ0F5V1NETlJOWUFNcVVJZUVlQ0R4OFRHNGVRdVFJRUtKSEFBRUFpelpDRnovU01CQVBoK1BEd3JJc0FIdmdBQmVOTUxDQURBVFp2QU1CeUgvdy9xUXBsY0FZQ0VBY0Iwa1RoTENJQVVBRUI2amtLbUFFQkdBWUNkbUNaVEFLQUVBR0RMWTJMakFGQXRBR0FuZitiVEFJQ2QrSmw3QVFCYmxDRVZBYUNSQUNBVFpZaEVBR2c3QUt6UFZvcEZBRmd3QUJSbVM4UTVBTmd0QURCSlYyWklBTEMzQU1ET0VBdXlBQWdNQURCUmlJVXBBQVI3QUdESUl5TjRBSVNaQUJSRzhsYzg4U3V1RU9jcUFBQjRtYkk4dVNRNVJZRmJDQzF4QjFkWExoNG96a2tYS3hRMllRSmhta0F1d25tWkdUS0JOQS9nODh3QUFLQ1JGUkhnZy9QOWVNNE9yczdPTm82MkRsOHQ2cjhHL3lKaVl1UCs1YytyY0VBQUFPRjBmdEgrTEMrekdvQTdCb0J0L3FJbDdnUm9YZ3VnZGZlTFpySVBRTFVBb09uYVYvTncrSDQ4UEVXaGtMbloyZVhrNU5oS3hFSmJZY3BYZmY1bndsL0FWLzFzK1g0OC9QZjE0TDdpSklFeVhZRkhCUGpnd3N6MFRLVWN6NUlKaEdMYzVvOUgvTGNMLy93ZDB5TEVTV0s1V0NvVTQxRVNjWTVFbW96ek1xVWlpVUtTS2NVbDB2OWs0dDhzK3dNKzN6VUFzR28rQVh1UkxhaGRZd1AyU3ljUVdIVEE0dmNBQVBLN2I4SFVLQWdEZ0dpRDRjOTMvKzgvL1VlZ0pRQ0Faa21TY1FBQVhrUWtMbFRLc3ovSENBQUFSS0NCS3JCQkcvVEJHQ3pBQmh6QkJkekJDL3hnTm9SQ0pNVENRaEJDQ21TQUhISmdLYXlDUWlpR3piQWRLbUF2MUVBZE5NQlJhSWFUY0E0dXdsVzREajF3RC9waENKN0JLTHlCQ1FSQnlBZ1RZU0hhaUFGaWlsZ2pqZ2dYbVlYNEljRklCQktMSkNESmlCUlJJa3VSTlVneFVvcFVJRlZJSGZJOWNnSTVoMXhHdXBFN3lBQXlndnlHdkVjeGxJR3lVVDNVRExWRHVhZzNHb1JHb2d2UVpIUXhtbzhXb0p2UWNyUWFQWXcyb2VmUXEyZ1AybzgrUThjd3dPZ1lCelBFYkRBdXhzTkNzVGdzQ1pOank3RWlyQXlyeGhxd1Zxd0R1NG4xWTgreGR3UVNnVVhBQ1RZRWQwSWdZUjVCU0ZoTVdFN1lTS2dnSENRMEVkb0pOd2tEaEZIQ0p5S1RxRXUwSnJvUitjUVlZakl4aDFoSUxDUFdFbzhUTHhCN2lFUEVOeVFTaVVNeUo3bVFBa214cEZUU0V0SkcwbTVTSStrc3FaczBTQm9qazhuYVpHdXlCem1VTENBcnlJWGtuZVRENURQa0crUWg4bHNLbldKQWNhVDRVK0lvVXNwcVNobmxFT1UwNVFabG1ESkJWYU9hVXQyb29WUVJOWTlhUXEyaHRsS3ZVWWVvRXpSMW1qbk5neFpKUzZXdG9wWFRHbWdYYVBkcHIraDB1aEhkbFI1T2w5Qlgwc3ZwUitpWDZBUDBkd3dOaGhXRHg0aG5LQm1iR0FjWVp4bDNHSytZVEtZWjA0c1p4MVF3TnpIcm1PZVpENWx2VlZncXRpcDhGWkhLQ3BWS2xTYVZHeW92VkttcXBxcmVxZ3RWODFYTFZJK3BYbE45cmtaVk0xUGpxUW5VbHF0VnFwMVE2MU1iVTJlcE82aUhxbWVvYjFRL3BINVovWWtHV2NOTXcwOURwRkdnc1YvanZNWWdDMk1aczNnc0lXc05xNFoxZ1RYRUpySE4yWHgyS3J1WS9SMjdpejJxcWFFNVF6TktNMWV6VXZPVVpqOEg0NWh4K0p4MFRnbm5LS2VYODM2SzNoVHZLZUlwRzZZMFRMa3haVnhycXBhWGxsaXJTS3RScTBmcnZUYXU3YWVkcHIxRnUxbjdnUTVCeDBvblhDZEhaNC9PQlozblU5bFQzYWNLcHhaTlBUcjFyaTZxYTZVYm9idEVkNzl1cCs2WW5yNWVnSjVNYjZmZWViM24raHg5TC8xVS9XMzZwL1ZIREZnR3N3d2tCdHNNemhnOHhUVnhiendkTDhmYjhWRkRYY05BUTZWaGxXR1g0WVNSdWRFOG85VkdqVVlQakduR1hPTWs0MjNHYmNhakpnWW1JU1pMVGVwTjdwcFNUYm1tS2FZN1REdE14ODNNemFMTjFwazFtejB4MXpMbm0rZWIxNXZmdDJCYWVGb3N0cWkydUdWSnN1UmFwbG51dHJ4dWhWbzVXYVZZVlZwZHMwYXRuYTBsMXJ1dHU2Y1JwN2xPazA2cm50Wm53N0R4dHNtMnFiY1pzT1hZQnR1dXRtMjJmV0ZuWWhkbnQ4V3V3KzZUdlpOOXVuMk4vVDBIRFlmWkRxc2RXaDErYzdSeUZEcFdPdDZhenB6dVAzM0Y5SmJwTDJkWXp4RFAyRFBqdGhQTEtjUnBuVk9iMDBkbkYyZTVjNFB6aUl1SlM0TExMcGMrTHBzYnh0M0l2ZVJLZFBWeFhlRjYwdldkbTdPYnd1Mm8yNi91TnU1cDdvZmNuOHcwbnltZVdUTnowTVBJUStCUjVkRS9DNStWTUd2ZnJINVBRMCtCWjdYbkl5OWpMNUZYcmRld3Q2VjNxdmRoN3hjKzlqNXluK00rNHp3MzNqTGVXVi9NTjhDM3lMZkxUOE52bmwrRjMwTi9JLzlrLzNyLzBRQ25nQ1VCWndPSmdVR0JXd0w3K0hwOEliK09QenJiWmZheTJlMUJqS0M1UVJWQmo0S3RndVhCclNGb3lPeVFyU0gzNTVqT2tjNXBEb1ZRZnVqVzBBZGg1bUdMdzM0TUo0V0hoVmVHUDQ1d2lGZ2EwVEdYTlhmUjNFTnozMFQ2UkpaRTNwdG5NVTg1cnkxS05TbytxaTVxUE5vM3VqUzZQOFl1WmxuTTFWaWRXRWxzU3h3NUxpcXVObTVzdnQvODdmT0g0cDNpQytON0Y1Z3Z5RjF3ZWFIT3d2U0ZweGFwTGhJc09wWkFUSWhPT0pUd1FSQXFxQmFNSmZJVGR5V09Dbm5DSGNKbklpL1JOdEdJMkVOY0toNU84a2dxVFhxUzdKRzhOWGtreFRPbExPVzVoQ2Vwa0x4TURVemRtenFlRnBwMklHMHlQVHE5TVlPU2taQnhRcW9oVFpPMlorcG41bVoyeTZ4bGhiTCt4VzZMdHk4ZWxRZkphN09RckFWWkxRcTJRcWJvVkZvbzF5b0hzbWRsVjJhL3pZbktPWmFybml2TjdjeXp5dHVRTjV6dm4vL3RFc0lTNFpLMnBZWkxWeTBkV09hOXJHbzVzanh4ZWRzSzR4VUZLNFpXQnF3OHVJcTJLbTNWVDZ2dFY1ZXVmcjBtZWsxcmdWN0J5b0xCdFFGcjZ3dFZDdVdGZmV2YzErMWRUMWd2V2QrMVlmcUduUnMrRlltS3JoVGJGNWNWZjlnbzNIamxHNGR2eXIrWjNKUzBxYXZFdVdUUFp0Sm02ZWJlTFo1YkRwYXFsK2FYRG00TjJkcTBEZDlXdE8zMTlrWGJMNWZOS051N2c3WkR1YU8vUExpOFphZkp6czA3UDFTa1ZQUlUrbFEyN3RMZHRXSFgrRzdSN2h0N3ZQWTA3TlhiVzd6My9UN0p2dHRWQVZWTjFXYlZaZnRKKzdQM1A2NkpxdW40bHZ0dFhhMU9iWEh0eHdQU0EvMEhJdzYyMTduVTFSM1NQVlJTajlZcjYwY094eCsrL3AzdmR5ME5OZzFWalp6RzRpTndSSG5rNmZjSjMvY2VEVHJhZG94N3JPRUgweDkySFdjZEwycENtdkthUnB0VG12dGJZbHU2VDh3KzBkYnEzbnI4UjlzZkQ1dzBQRmw1U3ZOVXlXbmE2WUxUazJmeXo0eWRsWjE5Zmk3NTNHRGJvclo3NTJQTzMyb1BiKys2RUhUaDBrWC9pK2M3dkR2T1hQSzRkUEt5MitVVFY3aFhtcTg2WDIzcWRPbzgvcFBUVDhlN25MdWFycmxjYTdudWVyMjFlMmIzNlJ1ZU44N2Q5TDE1OFJiLzF0V2VPVDNkdmZONmIvZkY5L1hmRnQxK2NpZjl6c3U3MlhjbjdxMjhUN3hmOUVEdFFkbEQzWWZWUDF2KzNOanYzSDlxd0hlZzg5SGNSL2NHaFlQUC9wSDFqdzlEQlkrWmo4dUdEWWJybmpnK09UbmlQM0w5NmZ5blE4OWt6eWFlRi82aS9zdXVGeFl2ZnZqVjY5Zk8wWmpSb1pmeWw1Ty9iWHlsL2VyQTZ4bXYyOGJDeGg2K3lYZ3pNVjcwVnZ2dHdYZmNkeDN2bzk4UFQrUjhJSDhvLzJqNXNmVlQwS2Y3a3htVGsvOEVBNWp6L0dNekxkc0FBQUFnWTBoU1RRQUFlaVVBQUlDREFBRDUvd0FBZ09rQUFIVXdBQURxWUFBQU9wZ0FBQmR2a2wvRlJnQUFBdGhKUkVGVWVOcnNsdDlMazFFWXg3L3ZOdGUwdlhPazd5UzdxeVdCWXZuaklrdEdVMHZEQ3drdFY0S1hwdjN3Qi80QkJpSWEvUUMxd2prVlV4TnNVdXV1emQxazZpQkxDeElGemNEWE9UWndZOHIyc3IxcnA0dVhadW9nZ3J5SmZTOGVlTDZjNTN3NDUrRTVISW9RZ29PVUNBZXNHQ0FHaUFFQXlYNkxaZG4xOVhXR1lkUnE5VDhna04xcWEyMFZEbFZaY1pVUVlwdVpLUzB0SFRjYTl5d3o2SHVycTZzL3pzNlNQMmtYd0dJMkF6aktxSFE2M2Z0M2s0U1Fwb1lHQU1XRlJYdktMbW9MQUF3T0RQd2RvTGRIRDJCa2FPaDM4NDNKNUhLNTlwVFYxZHdFOEdwOGZQK09TNHRMNXJmbUg2R1FrTzcwb0x1emMyand1U29wMmRCck9DeW5rNUtPOVBYM1oyWmtNQ2twcXl2ZkdJWUJjTCs5dzJxZEtDb3FDZ1FDQUhpZUYyb2ZQM3hrTXIxVzBJcmF1bHB0UVlIUDd3TkY3ZTJCTmw4RElPMzRDUUFOZCt1N3U3b0FTRUFCcUt1cEpZUlU2YTREb0dYeHFhb1VwWndXQTlhSkNVSkk0UVV0Z0ZQcWt3blNRd0Q2OVByb1Z4UU1CdHZiMmlpS2V0RFJ3Zk44S0JUaU9PN1prNmNBK25vTkxNc0N5TW84emZuOUhNZmxuTWtDc0xTNE9EMDFEVUIzOVJvaHhPbDB5aE1TNGlpUjNXNlBiTHN6QjNGeGNiUkNRUWhSSkNaS0pCS3hXQ3lUeWVSeUdvQlVLdjB5L3htQVRsY3BpNCtYeVdRYWpRYUF6K2VibXB3RVVGNVJEa0NsVWhWcUMzZ1NucCtiaXo0SG5OOFB3Ty8zUjV4QWdNdk56azVta2tXVUNNRHE2bmZCZHpnMkJEQ3RVQUJ3T2wyL2ZJZEFpZzRJQm9PUktJam5lUVZOYjNtM2lpK1hpRUhwK3d6cEdlbHV0L3VsMFFnZ0VBaVVYU203ZGVmMnZaYVd0TFMwaFlXdkgrWSs1Wi9OeThuTmpmNVVTQ1NTU0l3NDRYRFk0ZGhRS3BYRHc4TmlpcXB2YkJ3ZGVWRjFvd29BdTdhV21uck0wS1BmM3Q2K1ZGTGMxTng4UHUvYzZOaVlTQ1NLUHNrZXQyZDVlZG5qOFVRY3I5ZHJYN2U3M1p0Q3lySnJWcXMxSEE0VFFwWlhWcnhlcitDN045MFdpOFZtcyswZkN5cjJxNGdCWW9EL0FQQnpBSTZWTnFHUVBVcW5BQUFBQUVsRlRrU3VRbUNDIiwKICAgICJpc1NlY29uZEZhY3Rvck9ubHkiOiBmYWxzZSwKICAgICJrZXlQcm90ZWN0aW9uIjogMTAsCiAgICAibWF0Y2hlclByb3RlY3Rpb24iOiA0LAogICAgIm9wZXJhdGluZ0VudiI6ICJTZWN1cmUgRWxlbWVudCAoU0UpIiwKICAgICJwcm90b2NvbEZhbWlseSI6ICJmaWRvMiIsCiAgICAicHVibGljS2V5QWxnQW5kRW5jb2RpbmciOiAyNjAsCiAgICAidGNEaXNwbGF5IjogMCwKICAgICJ1cHYiOiBbCiAgICAgICAgewogICAgICAgICAgICAibWFqb3IiOiAxLAogICAgICAgICAgICAibWlub3IiOiAwCiAgICAgICAgfQogICAgXSwKICAgICJ1c2VyVmVyaWZpY2F0aW9uRGV0YWlscyI6IFsKICAgICAgICBbCiAgICAgICAgICAgIHsKICAgICAgICAgICAgICAgICJ1c2VyVmVyaWZpY2F0aW9uIjogMQogICAgICAgICAgICB9CiAgICAgICAgXQogICAgXQp9");
+        when(httpClient.fetch(any())).thenReturn(METADATA_STATEMENT);
         FidoMdsMetadataItemsProvider target = new FidoMdsMetadataItemsProvider(objectConverter, httpClient, mock(X509Certificate.class));
         target.fetchMetadataStatement("dummy", Base64UrlUtil.decode("Sl1MsjaaSHLy2fy6AkhADanzZ6FBA89plTu8rrOAzlc"));
     }
+
+    @Test
+    void fetchMetadataStatement_with_cache_directory_test() throws Exception {
+        Path cacheDirectory = tempDir.resolve("mds-cache");
+        byte[] hash = Base64UrlUtil.decode("Sl1MsjaaSHLy2fy6AkhADanzZ6FBA89plTu8rrOAzlc");
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetch(any())).thenReturn(METADATA_STATEMENT);
+        FidoMdsMetadataItemsProvider target = new FidoMdsMetadataItemsProvider(objectConverter, httpClient, mock(X509Certificate.class));
+        target.setCacheDirectory(cacheDirectory);
+        MetadataStatement fetched = target.fetchMetadataStatement("dummy", hash);
+
+        // another process boots from the cache directory without fetching
+        HttpClient unreachableHttpClient = mock(HttpClient.class);
+        when(unreachableHttpClient.fetch(any())).thenThrow(new MDSException("unreachable"));
+        FidoMdsMetadataItemsProvider restarted = new FidoMdsMetadataItemsProvider(objectConverter, unreachableHttpClient, mock(X509Certificate.class));
+        restarted.setCacheDirectory(cacheDirectory);
+        assertThat(restarted.fetchMetadataStatement("dummy", hash)).usingRecursiveComparison().isEqualTo(fetched);
+        verify(unreachableHttpClient, never()).fetch(any());
+
+        // corrupted cache entry is refetched
+        Files.write(cacheDirectory.resolve("statements").resolve(HexUtil.encodeToString(hash)), "corrupted".getBytes(StandardCharsets.UTF_8));
+        assertThat(target.fetchMetadataStatement("dummy", hash)).usingRecursiveComparison().isEqualTo(fetched);
+        verify(httpClient, times(2)).fetch(any());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.converter.jackson.WebAuthnMetadataJSONModule;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.metadata.data.MetadataItemImpl;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.data.toc.AuthenticatorStatus;
+import com.webauthn4j.metadata.data.toc.StatusReport;
+import com.webauthn4j.metadata.exception.MDSException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetadataItemsSnapshotTest {
+
+    private static final AAGUID AAGUID_A = new AAGUID("00000000-0000-0000-0000-000000000001");
+    private static final AAGUID AAGUID_B = new AAGUID("ffffffff-0000-0000-0000-000000000002");
+
+    private final ObjectConverter objectConverter;
+
+    @TempDir
+    Path tempDir;
+
+    MetadataItemsSnapshotTest() {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        jsonMapper.registerModule(new WebAuthnMetadataJSONModule());
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        objectConverter = new ObjectConverter(jsonMapper, cborMapper);
+    }
+
+    @Test
+    void write_and_open_test() throws IOException {
+        Map<AAGUID, Set<MetadataItem>> metadataItemMap = createMetadataItemMap();
+        Path path = tempDir.resolve("metadata.snapshot");
+
+        byte[] digest = MetadataItemsSnapshot.write(metadataItemMap, path, objectConverter);
+        MetadataItemsSnapshot snapshot = MetadataItemsSnapshot.open(path, objectConverter, digest);
+        Map<AAGUID, Set<MetadataItem>> provided = snapshot.provide();
+
+        assertThat(snapshot.getDigest()).isEqualTo(digest);
+        assertThat(provided).isSameAs(snapshot.provide()).hasSize(3);
+        assertThat(provided.get(new AAGUID("00000000-0000-0000-0000-000000000009"))).isNull();
+        assertThat(provided.get(AAGUID_A)).isSameAs(provided.get(AAGUID_A));
+        assertThat(provided.keySet()).containsExactlyInAnyOrder(AAGUID_A, AAGUID_B, AAGUID.NULL);
+        for (AAGUID aaguid : metadataItemMap.keySet()) {
+            assertThat(provided.get(aaguid)).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(metadataItemMap.get(aaguid));
+        }
+    }
+
+    @Test
+    void open_test_with_corrupted_file() throws IOException {
+        Path path = tempDir.resolve("metadata.snapshot");
+        MetadataItemsSnapshot.write(createMetadataItemMap(), path, objectConverter);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(path, bytes);
+
+        assertThrows(MDSException.class, () -> MetadataItemsSnapshot.open(path, objectConverter));
+    }
+
+    @Test
+    void open_test_with_unexpected_digest() {
+        Path path = tempDir.resolve("metadata.snapshot");
+        MetadataItemsSnapshot.write(createMetadataItemMap(), path, objectConverter);
+
+        assertThrows(MDSException.class, () -> MetadataItemsSnapshot.open(path, objectConverter, new byte[32]));
+    }
+
+    private Map<AAGUID, Set<MetadataItem>> createMetadataItemMap() {
+        MetadataStatement metadataStatement;
+        try (InputStream inputStream = ClassLoader.getSystemResourceAsStream("com/webauthn4j/metadata/JsonMetadataItem_fido2.json")) {
+            metadataStatement = objectConverter.getJsonConverter().readValue(inputStream, MetadataStatement.class);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        List<StatusReport> statusReports = Collections.singletonList(new StatusReport(AuthenticatorStatus.FIDO_CERTIFIED, LocalDate.of(2020, 1, 1), null, null));
+        Map<AAGUID, Set<MetadataItem>> metadataItemMap = new HashMap<>();
+        metadataItemMap.put(AAGUID_A, Collections.singleton(new MetadataItemImpl(null, AAGUID_A, null, "AAAA", statusReports, LocalDate.of(2020, 1, 1), metadataStatement)));
+        metadataItemMap.put(AAGUID_B, Collections.singleton(new MetadataItemImpl(null, AAGUID_B, null, "BBBB", statusReports, null, metadataStatement)));
+        metadataItemMap.put(AAGUID.NULL, new HashSet<>(Arrays.asList(
+                new MetadataItemImpl("4e4e#4005", AAGUID.NULL, null, "CCCC", Collections.emptyList(), null, null),
+                new MetadataItemImpl(null, AAGUID.NULL, Collections.singletonList("7c0903708b87115b0b422def3138c3c864e44573"), "DDDD", null, null, null)
+        )));
+        return metadataItemMap;
+    }
+}
@@ -17,12 +17,14 @@
 package com.webauthn4j.metadata;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
 import com.webauthn4j.test.TestAttestationUtil;
 import com.webauthn4j.test.TestDataUtil;
 import org.junit.jupiter.api.Test;
 
 import java.security.cert.TrustAnchor;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -42,4 +44,26 @@ class MetadataStatementsTrustAnchorsProviderTest {
         assertThat(result.get(aaguid).stream().map(TrustAnchor::getTrustedCert)).contains(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate());
     }
 
-}
\ No newline at end of file
+    @Test
+    void provide_derives_map_once_per_snapshot_test() {
+        MetadataStatementsProvider metadataStatementsProvider = mock(MetadataStatementsProvider.class);
+        AAGUID aaguidA = new AAGUID("49e25c43-a6d1-49f0-bcfa-23e23a7c0e52");
+        AAGUID aaguidB = new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812");
+        MetadataStatement metadataStatement = TestDataUtil.createMetadataStatement();
+        Map<AAGUID, Set<MetadataStatement>> snapshot = new HashMap<>();
+        snapshot.put(aaguidA, Collections.singleton(metadataStatement));
+        snapshot.put(aaguidB, Collections.singleton(metadataStatement));
+        when(metadataStatementsProvider.provide()).thenReturn(snapshot);
+        MetadataStatementsTrustAnchorsProvider target = new MetadataStatementsTrustAnchorsProvider(metadataStatementsProvider);
+
+        Map<AAGUID, Set<TrustAnchor>> result = target.provide();
+        assertThat(target.provide()).isSameAs(result);
+        assertThat(result.get(aaguidA).iterator().next()).isSameAs(result.get(aaguidB).iterator().next());
+
+        when(metadataStatementsProvider.provide()).thenReturn(new HashMap<>(snapshot));
+        Map<AAGUID, Set<TrustAnchor>> refreshed = target.provide();
+        assertThat(refreshed).isNotSameAs(result);
+        assertThat(refreshed.get(aaguidA).iterator().next()).isSameAs(result.get(aaguidA).iterator().next());
+    }
+
+}
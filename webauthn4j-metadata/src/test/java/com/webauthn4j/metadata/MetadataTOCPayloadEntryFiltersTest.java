@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.toc.AuthenticatorStatus;
+import com.webauthn4j.metadata.data.toc.MetadataTOCPayloadEntry;
+import com.webauthn4j.metadata.data.toc.StatusReport;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetadataTOCPayloadEntryFiltersTest {
+
+    private static final AAGUID AAGUID_A = new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812");
+    private static final AAGUID AAGUID_B = new AAGUID("a4e9fc6d-4cbe-4758-b8ba-37598bb5bbaa");
+
+    private final MetadataTOCPayloadEntry fido2Entry = createEntry(null, AAGUID_A.toString().toUpperCase(), null, Arrays.asList(
+            new StatusReport(AuthenticatorStatus.FIDO_CERTIFIED_L1, LocalDate.of(2019, 1, 1), null, null),
+            new StatusReport(AuthenticatorStatus.FIDO_CERTIFIED_L2, LocalDate.of(2020, 1, 1), null, null)));
+    private final MetadataTOCPayloadEntry uafEntry = createEntry("4e4e#4005", null, null, Collections.emptyList());
+    private final MetadataTOCPayloadEntry u2fEntry = createEntry(null, null, Collections.singletonList("7c0903708b87115b0b422def3138c3c864e44573"), Collections.emptyList());
+
+    @Test
+    void protocolFamily_test() {
+        Predicate<MetadataTOCPayloadEntry> target = MetadataTOCPayloadEntryFilters.protocolFamily("fido2", "u2f");
+        assertThat(target).accepts(fido2Entry, u2fEntry).rejects(uafEntry);
+    }
+
+    @Test
+    void aaguid_test() {
+        assertThat(MetadataTOCPayloadEntryFilters.aaguidIn(Collections.singleton(AAGUID_A))).accepts(fido2Entry).rejects(uafEntry);
+        assertThat(MetadataTOCPayloadEntryFilters.aaguidIn(Collections.singleton(AAGUID_B))).rejects(fido2Entry);
+        assertThat(MetadataTOCPayloadEntryFilters.aaguidNotIn(Collections.singleton(AAGUID_A))).rejects(fido2Entry).accepts(uafEntry);
+    }
+
+    @Test
+    void status_test() {
+        assertThat(MetadataTOCPayloadEntryFilters.latestStatusIn(AuthenticatorStatus.FIDO_CERTIFIED_L2)).accepts(fido2Entry).rejects(uafEntry);
+        assertThat(MetadataTOCPayloadEntryFilters.latestStatusIn(AuthenticatorStatus.FIDO_CERTIFIED_L1)).rejects(fido2Entry);
+        assertThat(MetadataTOCPayloadEntryFilters.anyStatusReport(report -> report.getStatus() == AuthenticatorStatus.FIDO_CERTIFIED_L1)).accepts(fido2Entry).rejects(u2fEntry);
+    }
+
+    private static MetadataTOCPayloadEntry createEntry(String aaid, String aaguid, List<String> keyIdentifiers, List<StatusReport> statusReports) {
+        return new MetadataTOCPayloadEntry(aaid, aaguid, keyIdentifiers, "AAAA", null, null, statusReports, null, null, null);
+    }
+}
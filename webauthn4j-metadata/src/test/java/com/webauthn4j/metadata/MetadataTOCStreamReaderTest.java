@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.metadata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.jws.JWAIdentifier;
+import com.webauthn4j.data.jws.JWS;
+import com.webauthn4j.data.jws.JWSFactory;
+import com.webauthn4j.data.jws.JWSHeader;
+import com.webauthn4j.metadata.converter.jackson.WebAuthnMetadataJSONModule;
+import com.webauthn4j.metadata.data.toc.MetadataTOCPayload;
+import com.webauthn4j.metadata.data.toc.MetadataTOCPayloadEntry;
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.CertificateUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetadataTOCStreamReaderTest {
+
+    private final ObjectConverter objectConverter;
+    private final MetadataTOCStreamReader target;
+
+    MetadataTOCStreamReaderTest() {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        jsonMapper.registerModule(new WebAuthnMetadataJSONModule());
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        objectConverter = new ObjectConverter(jsonMapper, cborMapper);
+        target = new MetadataTOCStreamReader(objectConverter);
+    }
+
+    @Test
+    void read_test() {
+        MetadataTOCPayload payload = createPayload();
+        JWS<MetadataTOCPayload> jws = createJWS(payload);
+        List<JWSHeader> headers = new ArrayList<>();
+        List<MetadataTOCPayloadEntry> entries = new ArrayList<>();
+
+        MetadataTOCPayload result = target.read(toInputStream(jws.toString()), headers::add, entry -> {
+            assertThat(headers).hasSize(1);
+            entries.add(entry);
+        });
+
+        assertThat(headers).containsExactly(jws.getHeader());
+        assertThat(entries).usingRecursiveFieldByFieldElementComparator().isEqualTo(payload.getEntries());
+        assertThat(result.getNo()).isEqualTo(payload.getNo());
+        assertThat(result.getNextUpdate()).isEqualTo(payload.getNextUpdate());
+        assertThat(result.getLegalHeader()).isEqualTo(payload.getLegalHeader());
+        assertThat(result.getEntries()).isEmpty();
+    }
+
+    @Test
+    void read_test_with_tampered_payload() {
+        JWS<MetadataTOCPayload> jws = createJWS(createPayload());
+        JWS<MetadataTOCPayload> otherJWS = createJWS(new MetadataTOCPayload("legal header", 2, LocalDate.of(2021, 2, 1), Collections.emptyList()));
+        String[] segments = jws.toString().split("\\.");
+        String tampered = segments[0] + "." + otherJWS.toString().split("\\.")[1] + "." + segments[2];
+
+        assertThrows(MDSException.class, () -> target.read(toInputStream(tampered), header -> {
+        }, entry -> {
+        }));
+    }
+
+    @Test
+    void read_test_with_missing_signature_segment() {
+        String[] segments = createJWS(createPayload()).toString().split("\\.");
+        String truncated = segments[0] + "." + segments[1];
+
+        assertThrows(MDSException.class, () -> target.read(toInputStream(truncated), header -> {
+        }, entry -> {
+        }));
+    }
+
+    @Test
+    void read_test_with_rejecting_header_validator() {
+        JWS<MetadataTOCPayload> jws = createJWS(createPayload());
+        List<MetadataTOCPayloadEntry> entries = new ArrayList<>();
+
+        assertThrows(MDSException.class, () -> target.read(toInputStream(jws.toString()), header -> {
+            throw new MDSException("invalid cert path");
+        }, entries::add));
+        assertThat(entries).isEmpty();
+    }
+
+    private JWS<MetadataTOCPayload> createJWS(MetadataTOCPayload payload) {
+        JWSHeader header = new JWSHeader(JWAIdentifier.ES256, CertificateUtil.generateCertPath(Collections.singletonList(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())));
+        return new JWSFactory(objectConverter).create(header, payload, TestAttestationUtil.load3tierTestAuthenticatorAttestationPrivateKey());
+    }
+
+    private static MetadataTOCPayload createPayload() {
+        return new MetadataTOCPayload("legal header", 1, LocalDate.of(2021, 1, 1), Arrays.asList(
+                new MetadataTOCPayloadEntry(null, "00000000-0000-0000-0000-000000000001", null, "AAAA", URI.create("https://example.com/1"),
+                        null, Collections.emptyList(), LocalDate.of(2020, 1, 1), null, null),
+                new MetadataTOCPayloadEntry(null, "00000000-0000-0000-0000-000000000002", null, "BBBB", URI.create("https://example.com/2"),
+                        null, Collections.emptyList(), LocalDate.of(2020, 2, 1), null, null)
+        ));
+    }
+
+    private static InputStream toInputStream(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.US_ASCII));
+    }
+}
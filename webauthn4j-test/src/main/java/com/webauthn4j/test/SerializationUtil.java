@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.test;
+
+import com.webauthn4j.util.exception.UnexpectedCheckedException;
+
+import java.io.*;
+
+public class SerializationUtil {
+
+    private SerializationUtil() {
+    }
+
+    /**
+     * Serializes and deserializes the object with Java serialization
+     *
+     * @param object object to round-trip
+     * @param <T>    object type
+     * @return deserialized copy
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Serializable> T roundTrip(T object) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+                objectOutputStream.writeObject(object);
+            }
+            try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+                return (T) objectInputStream.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new UnexpectedCheckedException(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-thread pool of {@link Signature} and {@link MessageDigest} engines, keyed by algorithm name.
+ * <p>
+ * {@link Signature#getInstance(String)} and {@link MessageDigest#getInstance(String)} walk the installed JCA providers
+ * on every call. This pool keeps one engine per algorithm per thread so the provider lookup happens only once.
+ * Borrowed engines must be used within a single verification step and must not be held or shared across threads:
+ * a {@link Signature} must be initialized through {@code initVerify} before use, and a {@link MessageDigest} is
+ * returned in reset state.
+ * <p>
+ * Pooling is enabled by default. It can be disabled by setting the {@code com.webauthn4j.util.cryptoEnginePool.disabled}
+ * system property to {@code true}, or through {@link #setEnabled(boolean)}, for JCA providers (e.g. FIPS or HSM backed
+ * providers) that forbid reusing engine instances. When disabled, a fresh engine is created on each call.
+ */
+public class CryptoEnginePool {
+
+    public static final String DISABLED_PROPERTY_NAME = "com.webauthn4j.util.cryptoEnginePool.disabled";
+
+    private static final ThreadLocal<Map<String, Signature>> signatures = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, MessageDigest>> messageDigests = ThreadLocal.withInitial(HashMap::new);
+
+    private static volatile boolean enabled = !Boolean.getBoolean(DISABLED_PROPERTY_NAME);
+
+    private CryptoEnginePool() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        CryptoEnginePool.enabled = enabled;
+    }
+
+    /**
+     * Returns a {@link Signature} for the specified algorithm, reusing the instance bound to the current thread if pooling is enabled.
+     * The returned instance must be initialized through {@link Signature#initVerify} before use.
+     *
+     * @param algorithm JCA signature algorithm name
+     * @return {@link Signature} instance
+     */
+    public static @NonNull Signature getSignature(@NonNull String algorithm) {
+        AssertUtil.notNull(algorithm, "algorithm is required; it must not be null");
+        if (!enabled) {
+            return SignatureUtil.createSignature(algorithm);
+        }
+        return signatures.get().computeIfAbsent(algorithm, SignatureUtil::createSignature);
+    }
+
+    /**
+     * Returns a {@link MessageDigest} for the specified algorithm in reset state, reusing the instance bound to the current thread if pooling is enabled.
+     *
+     * @param hashAlgorithm hash algorithm name accepted by {@link MessageDigestUtil#createMessageDigest(String)}
+     * @return {@link MessageDigest} instance
+     */
+    public static @NonNull MessageDigest getMessageDigest(@NonNull String hashAlgorithm) {
+        AssertUtil.notNull(hashAlgorithm, "hashAlgorithm is required; it must not be null");
+        if (!enabled) {
+            return MessageDigestUtil.createMessageDigest(hashAlgorithm);
+        }
+        MessageDigest messageDigest = messageDigests.get().computeIfAbsent(hashAlgorithm, MessageDigestUtil::createMessageDigest);
+        // a previous caller may have left partially updated state behind if it failed midway
+        messageDigest.reset();
+        return messageDigest;
+    }
+
+    public static @NonNull MessageDigest getSHA256() {
+        return getMessageDigest("SHA-256");
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for CryptoEnginePool
+ */
+class CryptoEnginePoolTest {
+
+    @AfterEach
+    void tearDown() {
+        CryptoEnginePool.setEnabled(true);
+    }
+
+    @Test
+    void getSignature_returns_same_instance_within_thread_test() {
+        Signature signature = CryptoEnginePool.getSignature("SHA256withECDSA");
+        assertThat(CryptoEnginePool.getSignature("SHA256withECDSA")).isSameAs(signature);
+        assertThat(CryptoEnginePool.getSignature("SHA256withRSA")).isNotSameAs(signature);
+    }
+
+    @Test
+    void getSignature_returns_different_instance_across_threads_test() {
+        Signature signature = CryptoEnginePool.getSignature("SHA256withECDSA");
+        Signature other = CompletableFuture.supplyAsync(() -> CryptoEnginePool.getSignature("SHA256withECDSA")).join();
+        assertThat(other).isNotSameAs(signature);
+    }
+
+    @Test
+    void getSignature_can_be_reused_for_verification_test() throws Exception {
+        KeyPair keyPair = ECUtil.createKeyPair();
+        byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+        Signature signer = SignatureUtil.createES256();
+        signer.initSign(keyPair.getPrivate());
+        signer.update(data);
+        byte[] signature = signer.sign();
+
+        for (int i = 0; i < 2; i++) {
+            Signature verifier = CryptoEnginePool.getSignature("SHA256withECDSA");
+            verifier.initVerify(keyPair.getPublic());
+            verifier.update(data);
+            assertThat(verifier.verify(signature)).isTrue();
+        }
+    }
+
+    @Test
+    void getMessageDigest_returns_reset_instance_test() {
+        byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+        MessageDigest messageDigest = CryptoEnginePool.getSHA256();
+        messageDigest.update("garbage".getBytes(StandardCharsets.UTF_8));
+
+        MessageDigest pooled = CryptoEnginePool.getSHA256();
+        assertThat(pooled).isSameAs(messageDigest);
+        assertThat(pooled.digest(data)).isEqualTo(MessageDigestUtil.createSHA256().digest(data));
+    }
+
+    @Test
+    void getMessageDigest_with_alias_test() {
+        assertThat(CryptoEnginePool.getMessageDigest("S384").getAlgorithm()).isEqualTo("SHA-384");
+    }
+
+    @Test
+    void disabled_test() {
+        CryptoEnginePool.setEnabled(false);
+        assertThat(CryptoEnginePool.isEnabled()).isFalse();
+        assertThat(CryptoEnginePool.getSignature("SHA256withECDSA")).isNotSameAs(CryptoEnginePool.getSignature("SHA256withECDSA"));
+        assertThat(CryptoEnginePool.getSHA256()).isNotSameAs(CryptoEnginePool.getSHA256());
+    }
+
+    @Test
+    void getSignature_with_wrong_arg_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CryptoEnginePool.getSignature("wrong-arg")
+        );
+    }
+}